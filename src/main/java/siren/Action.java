@@ -134,12 +134,13 @@ public class Action {
          */
         @Override
         public void clear() {
-            this.klass = null;
+            if(this.klass != null) this.klass.clear();
             this.title = null;
             this.name = null;
-            this.fields = null;
+            if(this.fields != null) this.fields.clear();
             this.method = null;
             this.href = null;
+            this.type = null;
         }
 
         /**
@@ -155,9 +156,9 @@ public class Action {
                 this.title,
                 this.method,
                 this.href,
-                this.fields,
+                Storage.list(this.fields),
                 this.type,
-                this.klass
+                Storage.list(this.klass)
             );
         }
     }
@@ -228,6 +229,7 @@ public class Action {
      */
     @Override
     public boolean equals(Object obj){
+        if(this == obj) return true;
         if (obj == null || obj.getClass() != this.getClass()) return false;
 
         Action action = (Action)obj;
@@ -314,6 +316,13 @@ public class Action {
         return klassCopy;
     }
 
+    /**
+     * Retrieves the class of the action as stored, without copying it. It cannot be modified.
+     */
+    List<String> klass(){
+        return this.klass;
+    }
+
     /**
      * Retrieves the name of the action. The name identifies the action to be performed.
      * @return The name of the action.
@@ -367,4 +376,11 @@ public class Action {
         return fieldsCopy;
     }
 
+    /**
+     * Retrieves the fields of the action as stored, without copying them. They cannot be modified.
+     */
+    List<Field> fields(){
+        return this.fields;
+    }
+
 }
@@ -192,8 +192,8 @@ public class EmbeddedLinkSubEntity extends EntityBase {
         public void clear() {
             this.type = null;
             this.href = null;
-            this.rel = null;
-            this.klass = null;
+            if(this.rel != null) this.rel.clear();
+            if(this.klass != null) this.klass.clear();
             this.title = null;
         }
 
@@ -205,7 +205,7 @@ public class EmbeddedLinkSubEntity extends EntityBase {
          */
         @Override
         public EmbeddedLinkSubEntity build() {
-            return new EmbeddedLinkSubEntity(this.klass, this.title, this.rel, this.href, this.type);
+            return new EmbeddedLinkSubEntity(Storage.list(this.klass), this.title, Storage.list(this.rel), this.href, this.type);
         }
     }
 
@@ -323,6 +323,13 @@ public class EmbeddedLinkSubEntity extends EntityBase {
         return relCopy;
     }
 
+    /**
+     * Retrieves the relationship of the sub-entity to its parent as stored, without copying it. It cannot be modified.
+     */
+    List<Relation> rel(){
+        return this.rel;
+    }
+
     /**
      * Retrieves the URI of the linked sub-entity.
      * @return The URI of the linked sub-entity.
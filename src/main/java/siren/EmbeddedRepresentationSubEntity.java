@@ -283,13 +283,13 @@ public class EmbeddedRepresentationSubEntity extends Entity {
          */
         @Override
         public void clear() {
-            this.klass = null;
-            this.properties = null;
-            this.actions = null;
-            this.links = null;
+            if(this.klass != null) this.klass.clear();
+            if(this.properties != null) this.properties.clear();
+            if(this.actions != null) this.actions.clear();
+            if(this.links != null) this.links.clear();
             this.title = null;
-            this.rel = null;
-            this.subEntities = null;
+            if(this.rel != null) this.rel.clear();
+            if(this.subEntities != null) this.subEntities.clear();
         }
 
         /**
@@ -301,13 +301,13 @@ public class EmbeddedRepresentationSubEntity extends Entity {
         @Override
         public EmbeddedRepresentationSubEntity build() {
             return new EmbeddedRepresentationSubEntity(
-                this.klass,
-                this.properties,
-                this.actions,
-                this.links,
+                Storage.list(this.klass),
+                Storage.map(this.properties),
+                Storage.list(this.actions),
+                Storage.list(this.links),
                 this.title,
-                this.rel,
-                this.subEntities
+                Storage.list(this.rel),
+                Storage.list(this.subEntities)
             );
         }
     }
@@ -401,4 +401,11 @@ public class EmbeddedRepresentationSubEntity extends Entity {
         relCopy.addAll(this.rel);
         return relCopy;
     }
+
+    /**
+     * Retrieves the relationship of the sub-entity to its parent as stored, without copying it. It cannot be modified.
+     */
+    List<Relation> rel(){
+        return this.rel;
+    }
 }
@@ -179,12 +179,12 @@ public class Entity extends EntityBase{
          */
         @Override
         public void clear() {
-            this.klass = null;
-            this.properties = null;
-            this.actions = null;
-            this.links = null;
+            if(this.klass != null) this.klass.clear();
+            if(this.properties != null) this.properties.clear();
+            if(this.actions != null) this.actions.clear();
+            if(this.links != null) this.links.clear();
             this.title = null;
-            this.subEntities = null;
+            if(this.subEntities != null) this.subEntities.clear();
         }
 
         /**
@@ -195,7 +195,14 @@ public class Entity extends EntityBase{
          */
         @Override
         public Entity build() {
-            return new Entity(this.klass, this.properties, this.actions, this.links, this.title, this.subEntities);
+            return new Entity(
+                Storage.list(this.klass),
+                Storage.map(this.properties),
+                Storage.list(this.actions),
+                Storage.list(this.links),
+                this.title,
+                Storage.list(this.subEntities)
+            );
         }
     }
 
@@ -299,6 +306,34 @@ public class Entity extends EntityBase{
         return subEntitiesCopy;
     }
 
+    /**
+     * Retrieves the properties as stored, without copying them. They cannot be modified.
+     */
+    Map<String, Object> properties(){
+        return this.properties;
+    }
+
+    /**
+     * Retrieves the actions as stored, without copying them. They cannot be modified.
+     */
+    List<Action> actions(){
+        return this.actions;
+    }
+
+    /**
+     * Retrieves the links as stored, without copying them. They cannot be modified.
+     */
+    List<Link> links(){
+        return this.links;
+    }
+
+    /**
+     * Retrieves the sub-entities as stored, without copying them. They cannot be modified.
+     */
+    List<EntityBase> entities(){
+        return this.subEntities;
+    }
+
     /**
      * Determines if the instance of {@link Object} provided is
      * equal to the calling {@link Entity} instance.
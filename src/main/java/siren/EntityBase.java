@@ -51,6 +51,13 @@ public abstract class EntityBase {
         return classesCopy;
     }
 
+    /**
+     * Retrieves the class of the entity as stored, without copying it.
+     */
+    List<String> klass(){
+        return this.klass;
+    }
+
     /**
      * Retrieves the title of the entity.
      * @return The title of the entity.
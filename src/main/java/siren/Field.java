@@ -167,6 +167,7 @@ public class Field<T> {
     @Override
     public boolean equals(Object obj){
 
+        if(this == obj) return true;
         if(obj == null || obj.getClass() != this.getClass()) return false;
 
         Field<T> field = (Field<T>)obj;
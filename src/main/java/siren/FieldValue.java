@@ -146,6 +146,7 @@ public class FieldValue<T> {
     @Override
     public boolean equals(Object obj){
 
+        if(this == obj) return true;
         if(obj == null || obj.getClass() != this.getClass()) return false;
 
         FieldValue<T> fieldValue = (FieldValue<T>)obj;
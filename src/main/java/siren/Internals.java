@@ -0,0 +1,118 @@
+package siren;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the members of instances of the model without copying them, for the serializers of this library.
+ *
+ * The getters of the model return copies of its collections, so that callers may modify them; this
+ * class returns the collections the instances hold instead, which serializers only iterate. The
+ * collections returned must not be modified or retained. Applications should use the getters.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class Internals {
+
+    private Internals(){}
+
+    /**
+     * Retrieves the class of the entity provided, without copying it.
+     * @param entity The entity.
+     * @return The class of the entity, or {@code null} if it has none.
+     */
+    public static List<String> klass(EntityBase entity){
+        return entity.klass();
+    }
+
+    /**
+     * Retrieves the properties of the entity provided, without copying them.
+     * @param entity The entity.
+     * @return The properties of the entity, or {@code null} if it has none.
+     */
+    public static Map<String, Object> properties(Entity entity){
+        return entity.properties();
+    }
+
+    /**
+     * Retrieves the actions of the entity provided, without copying them.
+     * @param entity The entity.
+     * @return The actions of the entity, or {@code null} if it has none.
+     */
+    public static List<Action> actions(Entity entity){
+        return entity.actions();
+    }
+
+    /**
+     * Retrieves the links of the entity provided, without copying them.
+     * @param entity The entity.
+     * @return The links of the entity, or {@code null} if it has none.
+     */
+    public static List<Link> links(Entity entity){
+        return entity.links();
+    }
+
+    /**
+     * Retrieves the sub-entities of the entity provided, without copying them.
+     * @param entity The entity.
+     * @return The sub-entities of the entity, or {@code null} if it has none.
+     */
+    public static List<EntityBase> entities(Entity entity){
+        return entity.entities();
+    }
+
+    /**
+     * Retrieves the relationship of the embedded link provided to its parent, without copying it.
+     * @param subEntity The embedded link sub-entity.
+     * @return The relationship of the sub-entity to its parent.
+     */
+    public static List<Relation> rel(EmbeddedLinkSubEntity subEntity){
+        return subEntity.rel();
+    }
+
+    /**
+     * Retrieves the relationship of the embedded representation provided to its parent, without copying it.
+     * @param subEntity The embedded representation sub-entity.
+     * @return The relationship of the sub-entity to its parent.
+     */
+    public static List<Relation> rel(EmbeddedRepresentationSubEntity subEntity){
+        return subEntity.rel();
+    }
+
+    /**
+     * Retrieves the relationship of the link provided to its entity, without copying it.
+     * @param link The link.
+     * @return The relationship of the link to its entity.
+     */
+    public static List<Relation> rel(Link link){
+        return link.rel();
+    }
+
+    /**
+     * Retrieves the class of the link provided, without copying it.
+     * @param link The link.
+     * @return The class of the link, or {@code null} if it has none.
+     */
+    public static List<String> klass(Link link){
+        return link.klass();
+    }
+
+    /**
+     * Retrieves the class of the action provided, without copying it.
+     * @param action The action.
+     * @return The class of the action, or {@code null} if it has none.
+     */
+    public static List<String> klass(Action action){
+        return action.klass();
+    }
+
+    /**
+     * Retrieves the fields of the action provided, without copying them.
+     * @param action The action.
+     * @return The fields of the action, or {@code null} if it has none.
+     */
+    public static List<Field> fields(Action action){
+        return action.fields();
+    }
+}
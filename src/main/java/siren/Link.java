@@ -227,10 +227,10 @@ public class Link {
          */
         @Override
         public void clear() {
-            this.klass = null;
+            if(this.klass != null) this.klass.clear();
             this.title = null;
             this.type = null;
-            this.rel = null;
+            if(this.rel != null) this.rel.clear();
             this.href = null;
         }
 
@@ -241,7 +241,7 @@ public class Link {
          */
         @Override
         public Link build() {
-            return new Link(this.rel, this.href, this.title, this.type, this.klass);
+            return new Link(Storage.list(this.rel), this.href, this.title, this.type, Storage.list(this.klass));
         }
     }
 
@@ -331,6 +331,7 @@ public class Link {
     @Override
     public boolean equals(Object obj){
 
+        if(this == obj) return true;
         if(obj == null || obj.getClass() != this.getClass()) return false;
 
         Link link = (Link)obj;
@@ -402,6 +403,13 @@ public class Link {
         return relCopy;
     }
 
+    /**
+     * Retrieves the relationship of the link to its entity as stored, without copying it. It cannot be modified.
+     */
+    List<Relation> rel(){
+        return this.rel;
+    }
+
     /**
      * Retrieves the class for the link.
      * @return List of strings describing aspects of the link based
@@ -416,6 +424,13 @@ public class Link {
         return classesCopy;
     }
 
+    /**
+     * Retrieves the class of the link as stored, without copying it. It cannot be modified.
+     */
+    List<String> klass(){
+        return this.klass;
+    }
+
     /**
      * Retrieves the title of the link.
      * @return String describing the nature of a link.
@@ -0,0 +1,498 @@
+package siren;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates links from a URI template, per URI Template (RFC6570) level 1.
+ *
+ * The template is parsed once, when the template is built, into the literal text between its
+ * expressions and the variables of its expressions. Expanding the template appends the literals
+ * and the percent-encoded values of the variables to a buffer sized for the expansion; nothing is
+ * parsed again. Level 1 expansion percent-encodes every character of a value that is not unreserved,
+ * so outside of the scheme a value cannot change how the expansion parses. Templates with an
+ * expression in the scheme, such as {@code {scheme}:guests/{id}}, are rejected when built; every
+ * other template is verified once, with a value for each variable and with none, when it is built,
+ * after which each of its expansions is a valid URI.
+ *
+ * Links can be written straight to a {@link JsonGenerator} as {@link siren.serializers.SirenWriter}
+ * writes them, so that large collections of links are serialized without ever constructing a
+ * {@link URI} or a {@link Link}. Link templates are immutable and may be shared by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ * @see <a href="https://tools.ietf.org/html/rfc6570">RFC6570</a>
+ */
+public class LinkTemplate {
+
+    /**
+     * Constructs instances of {@link LinkTemplate}.
+     */
+    public static class Builder implements siren.Builder<LinkTemplate> {
+
+        private String template;
+        private String[] literals;
+        private int[] expressions;
+        private String[] variables;
+        private List<Relation> rel;
+        private String title;
+        private String type;
+        private List<String> klass;
+
+        /**
+         * Constructs an instance of {@link LinkTemplate.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Sets the current state of the builder to have the template provided.
+         * @param template The URI template of the linked resources, such as {@code /api/guests/{id}}.
+         * Only simple string expansion, the expressions of level 1 templates, is supported.
+         * @return The builder this method is called on.
+         * @throws URISyntaxException Thrown if expanding the template does not produce a valid URI,
+         * or if an expression of the template is in the scheme of the URI.
+         */
+        public Builder template(String template) throws URISyntaxException {
+            if(template == null){
+                throw new IllegalArgumentException("'template' cannot be null.");
+            }
+            List<String> literals = new ArrayList<>();
+            List<Integer> expressions = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
+            int start = 0;
+            int open;
+            while((open = template.indexOf('{', start)) >= 0){
+                int close = template.indexOf('}', open);
+                if(close < 0){
+                    throw new IllegalArgumentException("'template' has an unterminated expression at " + open + ".");
+                }
+                String name = template.substring(open + 1, close);
+                if(!isVariableName(name)){
+                    throw new IllegalArgumentException(
+                        "'template' has the expression '{" + name + "}' which is not a level 1 expression."
+                    );
+                }
+                int variable = variables.indexOf(name);
+                if(variable < 0){
+                    variable = variables.size();
+                    variables.add(name);
+                }
+                literals.add(template.substring(start, open));
+                expressions.add(variable);
+                start = close + 1;
+            }
+            String trailing = template.substring(start);
+            if(trailing.indexOf('}') >= 0){
+                throw new IllegalArgumentException("'template' has an unmatched '}'.");
+            }
+            literals.add(trailing);
+
+            String[] literalArray = literals.toArray(new String[literals.size()]);
+            int[] expressionArray = new int[expressions.size()];
+            for(int i = 0; i < expressionArray.length; i++) expressionArray[i] = expressions.get(i);
+            int scheme = schemeEnd(literalArray);
+            if(scheme >= 0){
+                throw new URISyntaxException(template, "Expression in the scheme", scheme);
+            }
+            String[] sample = new String[variables.size()];
+            new URI(append(new StringBuilder(), literalArray, expressionArray, sample).toString());
+            for(int i = 0; i < sample.length; i++) sample[i] = "x";
+            new URI(append(new StringBuilder(), literalArray, expressionArray, sample).toString());
+
+            this.template = template;
+            this.literals = literalArray;
+            this.expressions = expressionArray;
+            this.variables = variables.toArray(new String[variables.size()]);
+            return this;
+        }
+
+        /**
+         * Adds the relation provided to the current state of the builder.
+         * @param rel Defines the relationship of the links to their
+         *            entity, per Web Linking (RFC5988) and Link Relations.
+         * @return The builder this method is called on.
+         */
+        public Builder rel(Relation rel){
+            if(rel == null){
+                throw new IllegalArgumentException("'rel' cannot be null.");
+            }
+            if(this.rel == null){
+                this.rel = new ArrayList<>();
+            }
+            this.rel.add(rel);
+            return this;
+        }
+
+        /**
+         * Adds the relations provided to the current state of the builder.
+         * @param rels Defines the relationships of the links to their
+         *             entity, per Web Linking (RFC5988) and Link Relations.
+         * @return The builder this method is called on.
+         */
+        public Builder rels(Relation... rels){
+            for(Relation rel : rels){
+                this.rel(rel);
+            }
+            return this;
+        }
+
+        /**
+         * Sets current state of the builder to have the title provided.
+         * @param title Text describing the nature of the links.
+         * @return The builder this method is called on.
+         */
+        public Builder title(String title){
+            this.title = title;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the type provided.
+         * @param type Defines media type of the linked resources, per Web Linking (RFC5988).
+         * @return The builder this method is called on.
+         */
+        public Builder type(String type){
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * Adds the class provided to the current state of the builder.
+         * @param klass Describes aspects of the links based on the current representation.
+         * @return The builder this method is called on.
+         */
+        public Builder klass(String klass){
+            if(klass == null){
+                throw new IllegalArgumentException("'klass' cannot be null.");
+            }
+            if(this.klass == null){
+                this.klass = new ArrayList<>();
+            }
+            this.klass.add(klass);
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.template = null;
+            this.literals = null;
+            this.expressions = null;
+            this.variables = null;
+            this.rel = null;
+            this.title = null;
+            this.type = null;
+            this.klass = null;
+        }
+
+        /**
+         * Constructs a {@link LinkTemplate} instance with the current state of the builder.
+         * @return Instance of {@link LinkTemplate} with the current state of the builder.
+         */
+        @Override
+        public LinkTemplate build() {
+            return new LinkTemplate(this);
+        }
+
+        /**
+         * Finds the ':' ending a scheme that an expression precedes, since the scheme is the only part
+         * of a URI that percent-encoded values cannot appear in.
+         * @return The index of the ':' in the template, or -1 if no expression precedes the scheme.
+         */
+        private static int schemeEnd(String[] literals){
+            int offset = 0;
+            for(int i = 0; i < literals.length; i++){
+                String literal = literals[i];
+                for(int j = 0; j < literal.length(); j++){
+                    char c = literal.charAt(j);
+                    if(c == ':') return i > 0 ? offset + j : -1;
+                    if(c == '/' || c == '?' || c == '#') return -1;
+                }
+                offset += literal.length();
+            }
+            return -1;
+        }
+
+        private static boolean isVariableName(String name){
+            if(name.isEmpty() || name.charAt(0) == '.' || name.charAt(name.length() - 1) == '.') return false;
+            for(int i = 0; i < name.length(); i++){
+                char c = name.charAt(i);
+                if(c == '%'){
+                    if(i + 2 >= name.length() || Character.digit(name.charAt(i + 1), 16) < 0
+                        || Character.digit(name.charAt(i + 2), 16) < 0) return false;
+                    i += 2;
+                }else if(!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.')){
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final Object[] UNDEFINED = new Object[1];
+
+    private final String template;
+    private final String[] literals;
+    private final int[] expressions;
+    private final String[] variables;
+    private final int literalLength;
+    private final Relation[] rel;
+    private final String[] relations;
+    private final String title;
+    private final String type;
+    private final String[] klass;
+
+    private LinkTemplate(Builder builder){
+        if(builder.template == null){
+            throw new IllegalArgumentException("'template' cannot be null as it is required.");
+        }
+        if(builder.rel == null){
+            throw new IllegalArgumentException("'rel' cannot be null as it is required.");
+        }
+        this.template = builder.template;
+        this.literals = builder.literals;
+        this.expressions = builder.expressions;
+        this.variables = builder.variables;
+        int literalLength = 0;
+        for(String literal : this.literals) literalLength += literal.length();
+        this.literalLength = literalLength;
+        this.rel = builder.rel.toArray(new Relation[builder.rel.size()]);
+        this.relations = new String[this.rel.length];
+        for(int i = 0; i < this.relations.length; i++) this.relations[i] = this.rel[i].toString();
+        this.title = builder.title;
+        this.type = builder.type;
+        this.klass = builder.klass == null ? null : builder.klass.toArray(new String[builder.klass.size()]);
+    }
+
+    /**
+     * Retrieves the URI template of the linked resources.
+     * @return The URI template of the linked resources.
+     */
+    public String getTemplate(){
+        return this.template;
+    }
+
+    /**
+     * Retrieves the names of the variables of the template, in the order they first appear.
+     * @return The names of the variables of the template.
+     */
+    public List<String> getVariables(){
+        return Collections.unmodifiableList(Arrays.asList(this.variables));
+    }
+
+    /**
+     * Expands the template with the values provided.
+     * @param values The values of the variables, in the order of {@link #getVariables()}.
+     *               {@code null} values are undefined and expand to nothing.
+     * @return The expanded URI reference.
+     */
+    public String expand(Object... values){
+        return this.expandTo(new StringBuilder(this.literalLength + 16 * this.variables.length), values).toString();
+    }
+
+    /**
+     * Expands the template with the values provided.
+     * @param values The values of the variables, keyed by variable name.
+     *               Variables without a value are undefined and expand to nothing.
+     * @return The expanded URI reference.
+     */
+    public String expand(Map<String, ?> values){
+        if(values == null){
+            throw new IllegalArgumentException("'values' cannot be null.");
+        }
+        Object[] ordered = new Object[this.variables.length];
+        for(int i = 0; i < ordered.length; i++) ordered[i] = values.get(this.variables[i]);
+        return this.expand(ordered);
+    }
+
+    /**
+     * Appends the expansion of the template with the values provided to the builder provided.
+     * @param builder The builder to append the expansion to.
+     * @param values The values of the variables, in the order of {@link #getVariables()}.
+     *               {@code null} values are undefined and expand to nothing. For a template with a
+     *               single variable, {@code null} in place of the array, as in {@code expand(null)},
+     *               is a single undefined value.
+     * @return The builder provided.
+     */
+    public StringBuilder expandTo(StringBuilder builder, Object... values){
+        if(builder == null){
+            throw new IllegalArgumentException("'builder' cannot be null.");
+        }
+        if(values == null && this.variables.length == 1){
+            values = UNDEFINED;
+        }
+        if(values == null || values.length != this.variables.length){
+            throw new IllegalArgumentException(
+                "'values' must provide a value for each of the " + this.variables.length + " variables."
+            );
+        }
+        return append(builder, this.literals, this.expressions, values);
+    }
+
+    /**
+     * Constructs the link for the values provided. The expansion is known to be a valid URI, so
+     * constructing the href cannot fail, but {@link URI} still parses it, which costs about as much
+     * as building the link from a concatenated href; prefer {@link #writeLink(JsonGenerator, Object...)}
+     * when the link is only to be serialized.
+     * @param values The values of the variables, in the order of {@link #getVariables()}.
+     * @return The link for the values provided.
+     */
+    public Link toLink(Object... values){
+        return this.link(this.expand(values));
+    }
+
+    /**
+     * Constructs the link for the value provided, for a template with a single variable.
+     * @param value The value of the variable. {@code null} is undefined and expands to nothing;
+     *              {@code toLink(null)} resolves to {@link #toLink(Object...)}, which expands it the same way.
+     * @return The link for the value provided.
+     * @see #toLink(Object...)
+     */
+    public Link toLink(Object value){
+        StringBuilder builder = this.singleVariableBuilder();
+        for(int i = 0; i < this.expressions.length; i++){
+            builder.append(this.literals[i]);
+            appendValue(builder, value);
+        }
+        return this.link(builder.append(this.literals[this.expressions.length]).toString());
+    }
+
+    /**
+     * Constructs the link for the value provided, for a template with a single variable.
+     * @param value The value of the variable.
+     * @return The link for the value provided.
+     * @see #toLink(Object...)
+     */
+    public Link toLink(long value){
+        StringBuilder builder = this.singleVariableBuilder();
+        for(int i = 0; i < this.expressions.length; i++){
+            builder.append(this.literals[i]).append(value);
+        }
+        return this.link(builder.append(this.literals[this.expressions.length]).toString());
+    }
+
+    /**
+     * Writes the link for the values provided to the generator provided, exactly as
+     * {@link siren.serializers.SirenWriter} writes the equivalent {@link Link}.
+     * @param generator The generator to write the link to, positioned where a value may be written.
+     * @param values The values of the variables, in the order of {@link #getVariables()}.
+     * @throws IOException Thrown if the link cannot be written.
+     */
+    public void writeLink(JsonGenerator generator, Object... values) throws IOException {
+        if(generator == null){
+            throw new IllegalArgumentException("'generator' cannot be null.");
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("rel");
+        generator.writeStartArray();
+        for(String relation : this.relations){
+            generator.writeString(relation);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("href", this.expand(values));
+        generator.writeStringField("title", this.title);
+        generator.writeStringField("type", this.type);
+        generator.writeFieldName("class");
+        if(this.klass == null){
+            generator.writeNull();
+        }else{
+            generator.writeStartArray();
+            for(String klass : this.klass){
+                generator.writeString(klass);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public String toString(){
+        return this.template;
+    }
+
+    private StringBuilder singleVariableBuilder(){
+        if(this.variables.length != 1){
+            throw new IllegalArgumentException(
+                "'value' cannot be the only value, as the template has " + this.variables.length + " variables."
+            );
+        }
+        return new StringBuilder(this.literalLength + 20 * this.expressions.length);
+    }
+
+    private Link link(String href){
+        Link.Builder builder = new Link.Builder()
+            .rels(this.rel)
+            .href(URI.create(href))
+            .title(this.title)
+            .type(this.type);
+        if(this.klass != null){
+            builder.klasses(this.klass);
+        }
+        return builder.build();
+    }
+
+    private static StringBuilder append(StringBuilder builder, String[] literals, int[] expressions, Object[] values){
+        for(int i = 0; i < expressions.length; i++){
+            builder.append(literals[i]);
+            appendValue(builder, values[expressions[i]]);
+        }
+        return builder.append(literals[expressions.length]);
+    }
+
+    /**
+     * Appends the value provided, percent-encoding the UTF-8 bytes of each character that is not unreserved.
+     */
+    private static void appendValue(StringBuilder builder, Object value){
+        if(value == null) return;
+        if(value instanceof Integer || value instanceof Long){
+            builder.append(((Number)value).longValue());
+            return;
+        }
+        CharSequence text = value instanceof CharSequence ? (CharSequence)value : String.valueOf(value);
+        int length = text.length();
+        for(int i = 0; i < length; i++){
+            char c = text.charAt(i);
+            if(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                || c == '-' || c == '.' || c == '_' || c == '~'){
+                builder.append(c);
+                continue;
+            }
+            int codePoint = c;
+            if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))){
+                codePoint = Character.toCodePoint(c, text.charAt(++i));
+            }else if(Character.isSurrogate(c)){
+                codePoint = '?';
+            }
+            if(codePoint < 0x80){
+                appendByte(builder, codePoint);
+            }else if(codePoint < 0x800){
+                appendByte(builder, 0xC0 | codePoint >> 6);
+                appendByte(builder, 0x80 | codePoint & 0x3F);
+            }else if(codePoint < 0x10000){
+                appendByte(builder, 0xE0 | codePoint >> 12);
+                appendByte(builder, 0x80 | codePoint >> 6 & 0x3F);
+                appendByte(builder, 0x80 | codePoint & 0x3F);
+            }else{
+                appendByte(builder, 0xF0 | codePoint >> 18);
+                appendByte(builder, 0x80 | codePoint >> 12 & 0x3F);
+                appendByte(builder, 0x80 | codePoint >> 6 & 0x3F);
+                appendByte(builder, 0x80 | codePoint & 0x3F);
+            }
+        }
+    }
+
+    private static void appendByte(StringBuilder builder, int b){
+        builder.append('%').append(HEX[b >> 4 & 0xF]).append(HEX[b & 0xF]);
+    }
+}
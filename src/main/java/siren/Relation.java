@@ -5,8 +5,9 @@ import siren.serializers.RelationSerializer;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * @author jonfreer
@@ -648,22 +649,16 @@ public class Relation {
      */
     public static final String WORKING_COPY_OF = "working-copy-of";
 
+    private static final Set<String> REGISTERED_RELATION_TYPES = registeredRelationTypes();
+
     private String rel;
     private Boolean isExtension;
 
     /**
-     * Constructs an instance of {@link Relation}.
-     * @param rel The textual representation of the relation.
-     * @throws URISyntaxException Thrown if the textual representation of the relation
-     * is not a registered relation, and is not a valid URI. All extension relations must
-     * be in the form of a URI.
+     * Collects the registered relation types once, rather than for every relation constructed.
      */
-    public Relation(String rel) throws URISyntaxException {
-        if(rel == null){
-            throw new IllegalArgumentException("'rel' cannot be null.");
-        }
-
-        List<String> registeredRelationTypes = new ArrayList<>();
+    private static Set<String> registeredRelationTypes(){
+        Set<String> registeredRelationTypes = new HashSet<>();
         registeredRelationTypes.add(ABOUT);
         registeredRelationTypes.add(ALTERNATE);
         registeredRelationTypes.add(APPENDIX);
@@ -743,8 +738,22 @@ public class Relation {
         registeredRelationTypes.add(WEB_MENTION);
         registeredRelationTypes.add(WORKING_COPY);
         registeredRelationTypes.add(WORKING_COPY_OF);
+        return Collections.unmodifiableSet(registeredRelationTypes);
+    }
+
+    /**
+     * Constructs an instance of {@link Relation}.
+     * @param rel The textual representation of the relation.
+     * @throws URISyntaxException Thrown if the textual representation of the relation
+     * is not a registered relation, and is not a valid URI. All extension relations must
+     * be in the form of a URI.
+     */
+    public Relation(String rel) throws URISyntaxException {
+        if(rel == null){
+            throw new IllegalArgumentException("'rel' cannot be null.");
+        }
 
-        if(this.isExtension = !registeredRelationTypes.contains(rel)){
+        if(this.isExtension = !REGISTERED_RELATION_TYPES.contains(rel)){
             this.rel = new URI(rel).toString();
         }else{
             this.rel = rel;
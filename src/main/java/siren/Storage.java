@@ -0,0 +1,46 @@
+package siren;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies the collections a builder accumulates into the storage of the instance it builds.
+ *
+ * Builders keep their collections when cleared so that a reused builder does not reallocate
+ * them; the instances built hold exact-size, unmodifiable copies instead. An empty collection
+ * is stored as {@code null}, which is how builders represent a member that was never set.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+final class Storage {
+
+    private Storage(){}
+
+    /**
+     * Copies the list provided into an exact-size, unmodifiable list.
+     * @param scratch The list accumulated by a builder.
+     * @param <T> The type of the elements.
+     * @return The copy, or {@code null} if the list provided is {@code null} or empty.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> list(List<T> scratch){
+        if(scratch == null || scratch.isEmpty()) return null;
+        return Collections.unmodifiableList(Arrays.asList((T[])scratch.toArray()));
+    }
+
+    /**
+     * Copies the map provided into an unmodifiable map.
+     * @param scratch The map accumulated by a builder.
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     * @return The copy, or {@code null} if the map provided is {@code null} or empty.
+     */
+    static <K, V> Map<K, V> map(Map<K, V> scratch){
+        if(scratch == null || scratch.isEmpty()) return null;
+        return Collections.unmodifiableMap(new HashMap<>(scratch));
+    }
+}
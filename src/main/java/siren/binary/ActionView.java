@@ -0,0 +1,113 @@
+package siren.binary;
+
+import siren.HttpMethod;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A view of an action within a binary siren document.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class ActionView {
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    ActionView(ByteBuffer buffer, int offset){
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Retrieves the name of the action.
+     * @return The name of the action.
+     */
+    public String name(){
+        return Layout.string(this.buffer, this.member(Layout.ACTION_NAME));
+    }
+
+    /**
+     * Retrieves the title of the action.
+     * @return The title of the action, or {@code null} if it has none.
+     */
+    public String title(){
+        return Layout.string(this.buffer, this.member(Layout.ACTION_TITLE));
+    }
+
+    /**
+     * Retrieves the method of the action.
+     * @return The method of the action.
+     */
+    public HttpMethod method(){
+        int method = this.member(Layout.ACTION_METHOD);
+        return method != Layout.NONE ? METHODS[method] : null;
+    }
+
+    /**
+     * Retrieves the href of the action.
+     * @return The href of the action.
+     */
+    public URI href(){
+        return URI.create(Layout.string(this.buffer, this.member(Layout.ACTION_HREF)));
+    }
+
+    /**
+     * Retrieves the encoding type of the request.
+     * @return The encoding type of the request.
+     */
+    public String type(){
+        return Layout.string(this.buffer, this.member(Layout.ACTION_TYPE));
+    }
+
+    /**
+     * Retrieves the class of the action.
+     * @return The class of the action, or {@code null} if it has none.
+     */
+    public List<String> klass(){
+        return Layout.strings(this.buffer, this.member(Layout.ACTION_CLASS));
+    }
+
+    /**
+     * Retrieves the number of fields of the action.
+     * @return The number of fields.
+     */
+    public int fieldCount(){
+        return Layout.count(this.buffer, this.member(Layout.ACTION_FIELDS));
+    }
+
+    /**
+     * Retrieves the field of the action at the index provided.
+     * @param index The index of the field.
+     * @return The field.
+     */
+    public FieldView field(int index){
+        return new FieldView(this.buffer, Layout.element(this.buffer, this.member(Layout.ACTION_FIELDS), index));
+    }
+
+    /**
+     * Retrieves the first field of the action with the name provided.
+     * @param name The name of the field.
+     * @return The field, or {@code null} if the action has no field with the name provided.
+     */
+    public FieldView field(String name){
+        byte[] utf8 = Layout.utf8(name, "name");
+        int fields = this.member(Layout.ACTION_FIELDS);
+        for(int i = 0; i < Layout.count(this.buffer, fields); i++){
+            int field = Layout.element(this.buffer, fields, i);
+            if(Layout.compare(this.buffer, Layout.member(this.buffer, field, Layout.FIELD_NAME), utf8) == 0){
+                return new FieldView(this.buffer, field);
+            }
+        }
+        return null;
+    }
+
+    private int member(int member){
+        return Layout.member(this.buffer, this.offset, member);
+    }
+}
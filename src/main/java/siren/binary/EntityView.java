@@ -0,0 +1,237 @@
+package siren.binary;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A view of an entity within a binary siren document written by {@link SirenBinaryWriter}.
+ *
+ * A view reads the members it is asked for from the document in place, without reading the rest
+ * of the document; a consumer that reads a few members of a large document only pays for those
+ * members. Links, actions, sub-entities and property values are returned as views of their own.
+ * The same view type stands for the root entity and for both kinds of sub-entity; members a kind
+ * of entity does not have are {@code null} or empty.
+ *
+ * Views are immutable and may be shared by multiple threads, provided the bytes of the document
+ * are not modified.
+ *
+ * <pre>{@code
+ * EntityView entity = EntityView.of(ByteBuffer.wrap(bytes));
+ * URI self = entity.link("self").href();
+ * long id = entity.subEntity(0).property("id").asLong();
+ * }</pre>
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class EntityView {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    EntityView(ByteBuffer buffer, int offset){
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Constructs a view of the root entity of the document held by the buffer provided, starting at
+     * its position. The position and limit of the buffer are not changed.
+     * @param buffer The buffer holding the document.
+     * @return A view of the root entity.
+     * @throws IllegalArgumentException Thrown if the buffer does not hold a binary siren document.
+     */
+    public static EntityView of(ByteBuffer buffer){
+        if(buffer == null){
+            throw new IllegalArgumentException("'buffer' cannot be null.");
+        }
+        ByteBuffer document = buffer.slice();
+        if(document.remaining() < Layout.HEADER_SIZE || document.getInt(0) != Layout.MAGIC){
+            throw new IllegalArgumentException("'buffer' does not hold a binary siren document.");
+        }
+        if(document.getInt(4) != Layout.VERSION){
+            throw new IllegalArgumentException("'buffer' holds version " + document.getInt(4) + " of the binary layout.");
+        }
+        return new EntityView(document, document.getInt(Layout.ROOT));
+    }
+
+    /**
+     * Determines whether the entity is an embedded link sub-entity, which has an href
+     * and type rather than properties, actions, links and sub-entities.
+     * @return true if the entity is an embedded link sub-entity; otherwise false.
+     */
+    public boolean isEmbeddedLink(){
+        return this.member(Layout.ENTITY_KIND) == Layout.KIND_EMBEDDED_LINK;
+    }
+
+    /**
+     * Retrieves the class of the entity.
+     * @return The class of the entity, or {@code null} if it has none.
+     */
+    public List<String> klass(){
+        return Layout.strings(this.buffer, this.member(Layout.ENTITY_CLASS));
+    }
+
+    /**
+     * Determines whether the entity has the class provided, without reading its classes into strings.
+     * @param klass The class.
+     * @return true if the entity has the class; otherwise false.
+     */
+    public boolean hasKlass(String klass){
+        return Layout.contains(this.buffer, this.member(Layout.ENTITY_CLASS), Layout.utf8(klass, "klass"));
+    }
+
+    /**
+     * Retrieves the title of the entity.
+     * @return The title of the entity, or {@code null} if it has none.
+     */
+    public String title(){
+        return Layout.string(this.buffer, this.member(Layout.ENTITY_TITLE));
+    }
+
+    /**
+     * Retrieves the relations of a sub-entity to the entity it is embedded in.
+     * @return The relations, or {@code null} for the root entity.
+     */
+    public List<String> rel(){
+        return Layout.strings(this.buffer, this.member(Layout.ENTITY_REL));
+    }
+
+    /**
+     * Determines whether a sub-entity has the relation provided to the entity it is embedded in.
+     * @param rel The relation.
+     * @return true if the sub-entity has the relation; otherwise false.
+     */
+    public boolean hasRel(String rel){
+        return Layout.contains(this.buffer, this.member(Layout.ENTITY_REL), Layout.utf8(rel, "rel"));
+    }
+
+    /**
+     * Retrieves the properties of the entity as an object.
+     * @return The properties, or {@code null} if the entity has none.
+     */
+    public ValueView properties(){
+        int properties = this.member(Layout.ENTITY_PROPERTIES);
+        return properties != Layout.ABSENT ? new ValueView(this.buffer, properties) : null;
+    }
+
+    /**
+     * Retrieves the value of the property with the name provided.
+     * @param name The name of the property.
+     * @return The value of the property, or {@code null} if the entity has no property with the name provided.
+     */
+    public ValueView property(String name){
+        byte[] utf8 = Layout.utf8(name, "name");
+        int properties = this.member(Layout.ENTITY_PROPERTIES);
+        if(properties == Layout.ABSENT) return null;
+        int value = ValueView.find(this.buffer, properties, utf8);
+        return value != Layout.ABSENT ? new ValueView(this.buffer, value) : null;
+    }
+
+    /**
+     * Retrieves the number of links of the entity.
+     * @return The number of links.
+     */
+    public int linkCount(){
+        return Layout.count(this.buffer, this.member(Layout.ENTITY_LINKS));
+    }
+
+    /**
+     * Retrieves the link of the entity at the index provided.
+     * @param index The index of the link.
+     * @return The link.
+     */
+    public LinkView link(int index){
+        return new LinkView(this.buffer, Layout.element(this.buffer, this.member(Layout.ENTITY_LINKS), index));
+    }
+
+    /**
+     * Retrieves the first link of the entity with the relation provided.
+     * @param rel The relation of the link, such as {@code self}.
+     * @return The link, or {@code null} if the entity has no link with the relation provided.
+     */
+    public LinkView link(String rel){
+        byte[] utf8 = Layout.utf8(rel, "rel");
+        int links = this.member(Layout.ENTITY_LINKS);
+        for(int i = 0; i < Layout.count(this.buffer, links); i++){
+            int link = Layout.element(this.buffer, links, i);
+            if(Layout.contains(this.buffer, Layout.member(this.buffer, link, Layout.LINK_REL), utf8)){
+                return new LinkView(this.buffer, link);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the number of actions of the entity.
+     * @return The number of actions.
+     */
+    public int actionCount(){
+        return Layout.count(this.buffer, this.member(Layout.ENTITY_ACTIONS));
+    }
+
+    /**
+     * Retrieves the action of the entity at the index provided.
+     * @param index The index of the action.
+     * @return The action.
+     */
+    public ActionView action(int index){
+        return new ActionView(this.buffer, Layout.element(this.buffer, this.member(Layout.ENTITY_ACTIONS), index));
+    }
+
+    /**
+     * Retrieves the action of the entity with the name provided.
+     * @param name The name of the action.
+     * @return The action, or {@code null} if the entity has no action with the name provided.
+     */
+    public ActionView action(String name){
+        byte[] utf8 = Layout.utf8(name, "name");
+        int actions = this.member(Layout.ENTITY_ACTIONS);
+        for(int i = 0; i < Layout.count(this.buffer, actions); i++){
+            int action = Layout.element(this.buffer, actions, i);
+            if(Layout.compare(this.buffer, Layout.member(this.buffer, action, Layout.ACTION_NAME), utf8) == 0){
+                return new ActionView(this.buffer, action);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the number of sub-entities of the entity.
+     * @return The number of sub-entities.
+     */
+    public int subEntityCount(){
+        return Layout.count(this.buffer, this.member(Layout.ENTITY_ENTITIES));
+    }
+
+    /**
+     * Retrieves the sub-entity of the entity at the index provided.
+     * @param index The index of the sub-entity.
+     * @return The sub-entity.
+     */
+    public EntityView subEntity(int index){
+        return new EntityView(this.buffer, Layout.element(this.buffer, this.member(Layout.ENTITY_ENTITIES), index));
+    }
+
+    /**
+     * Retrieves the href of an embedded link sub-entity.
+     * @return The href, or {@code null} if the entity is not an embedded link sub-entity.
+     */
+    public URI href(){
+        String href = Layout.string(this.buffer, this.member(Layout.ENTITY_HREF));
+        return href != null ? URI.create(href) : null;
+    }
+
+    /**
+     * Retrieves the media type of an embedded link sub-entity.
+     * @return The media type, or {@code null} if it has none.
+     */
+    public String type(){
+        return Layout.string(this.buffer, this.member(Layout.ENTITY_TYPE));
+    }
+
+    private int member(int member){
+        return Layout.member(this.buffer, this.offset, member);
+    }
+}
@@ -0,0 +1,61 @@
+package siren.binary;
+
+import siren.FieldType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A view of a field of an action within a binary siren document.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class FieldView {
+
+    private static final FieldType[] TYPES = FieldType.values();
+
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    FieldView(ByteBuffer buffer, int offset){
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Retrieves the name of the field.
+     * @return The name of the field.
+     */
+    public String name(){
+        return Layout.string(this.buffer, this.member(Layout.FIELD_NAME));
+    }
+
+    /**
+     * Retrieves the type of the field.
+     * @return The type of the field, or {@code null} if it has none.
+     */
+    public FieldType type(){
+        int type = this.member(Layout.FIELD_TYPE);
+        return type != Layout.NONE ? TYPES[type] : null;
+    }
+
+    /**
+     * Retrieves the title of the field.
+     * @return The title of the field, or {@code null} if it has none.
+     */
+    public String title(){
+        return Layout.string(this.buffer, this.member(Layout.FIELD_TITLE));
+    }
+
+    /**
+     * Retrieves the value of the field.
+     * @return The value of the field.
+     */
+    public ValueView value(){
+        return new ValueView(this.buffer, this.member(Layout.FIELD_VALUE));
+    }
+
+    private int member(int member){
+        return Layout.member(this.buffer, this.offset, member);
+    }
+}
@@ -0,0 +1,152 @@
+package siren.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the binary layout of a siren document and reads its parts in place.
+ *
+ * A document starts with a header holding {@link #MAGIC}, {@link #VERSION} and the offset of the
+ * root entity. Every other part is referred to by its offset from the start of the document; an
+ * offset of {@link #ABSENT} stands for a missing member. Entities, links, actions and fields are
+ * tables of offsets, one per member, in the order given by the constants below. A string is its
+ * length followed by its UTF-8 bytes; a vector is its length followed by the offsets of its elements.
+ * A value is a tag followed by its payload; the members of an object are ordered by the bytes of their
+ * names so that a member can be found by binary search. Integers are big-endian.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+final class Layout {
+
+    static final int MAGIC = 0x53524E42;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+    static final int ROOT = 8;
+    static final int ABSENT = 0;
+    static final int NONE = -1;
+
+    static final int ENTITY_KIND = 0;
+    static final int ENTITY_CLASS = 1;
+    static final int ENTITY_TITLE = 2;
+    static final int ENTITY_REL = 3;
+    static final int ENTITY_PROPERTIES = 4;
+    static final int ENTITY_ACTIONS = 5;
+    static final int ENTITY_LINKS = 6;
+    static final int ENTITY_ENTITIES = 7;
+    static final int ENTITY_HREF = 8;
+    static final int ENTITY_TYPE = 9;
+    static final int ENTITY_SIZE = 10;
+
+    static final int KIND_ENTITY = 0;
+    static final int KIND_EMBEDDED_REPRESENTATION = 1;
+    static final int KIND_EMBEDDED_LINK = 2;
+
+    static final int LINK_REL = 0;
+    static final int LINK_CLASS = 1;
+    static final int LINK_TITLE = 2;
+    static final int LINK_TYPE = 3;
+    static final int LINK_HREF = 4;
+    static final int LINK_SIZE = 5;
+
+    static final int ACTION_NAME = 0;
+    static final int ACTION_TITLE = 1;
+    static final int ACTION_METHOD = 2;
+    static final int ACTION_HREF = 3;
+    static final int ACTION_TYPE = 4;
+    static final int ACTION_CLASS = 5;
+    static final int ACTION_FIELDS = 6;
+    static final int ACTION_SIZE = 7;
+
+    static final int FIELD_NAME = 0;
+    static final int FIELD_TYPE = 1;
+    static final int FIELD_TITLE = 2;
+    static final int FIELD_VALUE = 3;
+    static final int FIELD_SIZE = 4;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte STRING = 5;
+    static final byte ARRAY = 6;
+    static final byte OBJECT = 7;
+
+    private Layout(){}
+
+    /**
+     * Reads the member provided of the table at the offset provided.
+     */
+    static int member(ByteBuffer buffer, int table, int member){
+        return buffer.getInt(table + member * 4);
+    }
+
+    static String string(ByteBuffer buffer, int offset){
+        if(offset == ABSENT) return null;
+        int length = buffer.getInt(offset);
+        if(buffer.hasArray()){
+            return new String(buffer.array(), buffer.arrayOffset() + offset + 4, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        for(int i = 0; i < length; i++){
+            bytes[i] = buffer.get(offset + 4 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static List<String> strings(ByteBuffer buffer, int vector){
+        if(vector == ABSENT) return null;
+        int count = buffer.getInt(vector);
+        List<String> strings = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            strings.add(string(buffer, element(buffer, vector, i)));
+        }
+        return Collections.unmodifiableList(strings);
+    }
+
+    static int count(ByteBuffer buffer, int vector){
+        return vector == ABSENT ? 0 : buffer.getInt(vector);
+    }
+
+    static int element(ByteBuffer buffer, int vector, int index){
+        if(index < 0 || index >= count(buffer, vector)){
+            throw new IndexOutOfBoundsException("'index' is " + index + " of " + count(buffer, vector) + " elements.");
+        }
+        return buffer.getInt(vector + 4 + index * 4);
+    }
+
+    /**
+     * Compares the string at the offset provided with the UTF-8 bytes provided, byte by unsigned byte.
+     */
+    static int compare(ByteBuffer buffer, int offset, byte[] utf8){
+        int length = buffer.getInt(offset);
+        int shared = Math.min(length, utf8.length);
+        for(int i = 0; i < shared; i++){
+            int difference = (buffer.get(offset + 4 + i) & 0xFF) - (utf8[i] & 0xFF);
+            if(difference != 0) return difference;
+        }
+        return length - utf8.length;
+    }
+
+    /**
+     * Determines whether the vector of strings at the offset provided holds the UTF-8 bytes provided.
+     */
+    static boolean contains(ByteBuffer buffer, int vector, byte[] utf8){
+        int count = count(buffer, vector);
+        for(int i = 0; i < count; i++){
+            if(compare(buffer, element(buffer, vector, i), utf8) == 0) return true;
+        }
+        return false;
+    }
+
+    static byte[] utf8(String string, String name){
+        if(string == null){
+            throw new IllegalArgumentException("'" + name + "' cannot be null.");
+        }
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package siren.binary;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A view of a link within a binary siren document.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class LinkView {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    LinkView(ByteBuffer buffer, int offset){
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Retrieves the relations of the link.
+     * @return The relations of the link.
+     */
+    public List<String> rel(){
+        return Layout.strings(this.buffer, this.member(Layout.LINK_REL));
+    }
+
+    /**
+     * Determines whether the link has the relation provided, without reading its relations into strings.
+     * @param rel The relation.
+     * @return true if the link has the relation; otherwise false.
+     */
+    public boolean hasRel(String rel){
+        return Layout.contains(this.buffer, this.member(Layout.LINK_REL), Layout.utf8(rel, "rel"));
+    }
+
+    /**
+     * Retrieves the class of the link.
+     * @return The class of the link, or {@code null} if it has none.
+     */
+    public List<String> klass(){
+        return Layout.strings(this.buffer, this.member(Layout.LINK_CLASS));
+    }
+
+    /**
+     * Retrieves the title of the link.
+     * @return The title of the link, or {@code null} if it has none.
+     */
+    public String title(){
+        return Layout.string(this.buffer, this.member(Layout.LINK_TITLE));
+    }
+
+    /**
+     * Retrieves the media type of the resource the link refers to.
+     * @return The media type, or {@code null} if it has none.
+     */
+    public String type(){
+        return Layout.string(this.buffer, this.member(Layout.LINK_TYPE));
+    }
+
+    /**
+     * Retrieves the href of the link.
+     * @return The href of the link.
+     */
+    public URI href(){
+        return URI.create(Layout.string(this.buffer, this.member(Layout.LINK_HREF)));
+    }
+
+    private int member(int member){
+        return Layout.member(this.buffer, this.offset, member);
+    }
+}
@@ -0,0 +1,422 @@
+package siren.binary;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Field;
+import siren.Link;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes siren entities in a binary layout that {@link EntityView} reads in place.
+ *
+ * Where JSON has to be parsed from the start to reach any member, the binary layout refers to each
+ * member by its offset, so a consumer reading a few members of a large entity reads only those. Each
+ * distinct string used for a class, relation, title, href or property name is written once and
+ * shared. The members of objects are ordered by name so that a property can be found by binary search.
+ *
+ * Property values and the values of fields are written as the JSON values they serialize to: strings,
+ * booleans, numbers, maps, collections and arrays of objects are written directly, and any other
+ * value is converted to a tree with the {@link ObjectMapper} of the writer first. Integral numbers
+ * that fit a long are held as longs and every other number as a double.
+ *
+ * Sub-entities are written with an explicit stack rather than by recursion. A document is at most
+ * {@link Integer#MAX_VALUE} bytes long. Writers are immutable and may be shared by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenBinaryWriter {
+
+    /**
+     * The bytes of the document being written, along with the offsets of the strings written so far.
+     */
+    private static final class Output {
+
+        private byte[] bytes = new byte[4096];
+        private int size;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private int reserve(int length){
+            int offset = this.size;
+            if(offset + length < 0){
+                throw new IllegalArgumentException("The entity does not fit in a binary siren document.");
+            }
+            if(offset + length > this.bytes.length){
+                this.bytes = Arrays.copyOf(this.bytes, (int)Math.min(Math.max(offset + length, this.bytes.length * 2L), Integer.MAX_VALUE));
+            }
+            this.size = offset + length;
+            return offset;
+        }
+
+        private void putInt(int offset, int value){
+            this.bytes[offset] = (byte)(value >>> 24);
+            this.bytes[offset + 1] = (byte)(value >>> 16);
+            this.bytes[offset + 2] = (byte)(value >>> 8);
+            this.bytes[offset + 3] = (byte)value;
+        }
+
+        private void putLong(int offset, long value){
+            this.putInt(offset, (int)(value >>> 32));
+            this.putInt(offset + 4, (int)value);
+        }
+
+        private int table(int... members){
+            int offset = this.reserve(members.length * 4);
+            for(int i = 0; i < members.length; i++){
+                this.putInt(offset + i * 4, members[i]);
+            }
+            return offset;
+        }
+
+        private int vector(int[] elements, int count){
+            int offset = this.reserve(4 + count * 4);
+            this.putInt(offset, count);
+            for(int i = 0; i < count; i++){
+                this.putInt(offset + 4 + i * 4, elements[i]);
+            }
+            return offset;
+        }
+
+        private int utf8(byte[] utf8, int prefix){
+            int offset = this.reserve(prefix + 4 + utf8.length);
+            this.putInt(offset + prefix, utf8.length);
+            System.arraycopy(utf8, 0, this.bytes, offset + prefix + 4, utf8.length);
+            return offset;
+        }
+
+        private int string(Object string){
+            if(string == null) return Layout.ABSENT;
+            String value = string.toString();
+            Integer offset = this.strings.get(value);
+            if(offset == null){
+                offset = this.utf8(value.getBytes(StandardCharsets.UTF_8), 0);
+                this.strings.put(value, offset);
+            }
+            return offset;
+        }
+
+        private int strings(List<?> strings){
+            if(strings == null) return Layout.ABSENT;
+            int[] elements = new int[strings.size()];
+            for(int i = 0; i < elements.length; i++){
+                elements[i] = this.string(strings.get(i));
+            }
+            return this.vector(elements, elements.length);
+        }
+
+        private int tag(byte tag, int length){
+            int offset = this.reserve(1 + length);
+            this.bytes[offset] = tag;
+            return offset;
+        }
+    }
+
+    /**
+     * An entity whose sub-entities are being written.
+     */
+    private static final class Frame {
+
+        private final EntityBase entity;
+        private final List<EntityBase> entities;
+        private final int[] written;
+        private int next;
+
+        private Frame(EntityBase entity){
+            this.entity = entity;
+            this.entities = entity instanceof Entity ? ((Entity)entity).getEntities() : null;
+            this.written = new int[this.entities != null ? this.entities.size() : 0];
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs an instance of {@link SirenBinaryWriter}.
+     */
+    public SirenBinaryWriter(){
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Constructs an instance of {@link SirenBinaryWriter}.
+     * @param objectMapper The object mapper used to convert property and field values that are
+     *                     not strings, booleans, numbers, maps, collections or arrays of objects.
+     */
+    public SirenBinaryWriter(ObjectMapper objectMapper){
+        if(objectMapper == null){
+            throw new IllegalArgumentException("'objectMapper' cannot be null.");
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the entity provided to the output stream provided. The output stream is not closed.
+     * @param entity The entity to write.
+     * @param outputStream The output stream to write to.
+     * @throws IOException Thrown if writing to the output stream fails.
+     */
+    public void write(EntityBase entity, OutputStream outputStream) throws IOException {
+        if(outputStream == null){
+            throw new IllegalArgumentException("'outputStream' cannot be null.");
+        }
+        Output output = this.document(entity);
+        outputStream.write(output.bytes, 0, output.size);
+    }
+
+    /**
+     * Writes the entity provided.
+     * @param entity The entity to write.
+     * @return The binary siren document.
+     */
+    public byte[] writeAsBytes(EntityBase entity){
+        Output output = this.document(entity);
+        return Arrays.copyOf(output.bytes, output.size);
+    }
+
+    private Output document(EntityBase entity){
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        Output output = new Output();
+        output.table(Layout.MAGIC, Layout.VERSION, Layout.ABSENT);
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(entity));
+        while(true){
+            Frame frame = stack.peek();
+            if(frame.next < frame.written.length){
+                stack.push(new Frame(frame.entities.get(frame.next)));
+                continue;
+            }
+            stack.pop();
+            int written = this.entity(output, frame);
+            if(stack.isEmpty()){
+                output.putInt(Layout.ROOT, written);
+                return output;
+            }
+            Frame parent = stack.peek();
+            parent.written[parent.next++] = written;
+        }
+    }
+
+    /**
+     * Writes the table of an entity whose sub-entities have been written.
+     */
+    private int entity(Output output, Frame frame){
+        int[] members = new int[Layout.ENTITY_SIZE];
+        EntityBase entity = frame.entity;
+        members[Layout.ENTITY_CLASS] = output.strings(entity.getKlass());
+        members[Layout.ENTITY_TITLE] = output.string(entity.getTitle());
+        if(entity instanceof EmbeddedLinkSubEntity){
+            EmbeddedLinkSubEntity embeddedLink = (EmbeddedLinkSubEntity)entity;
+            members[Layout.ENTITY_KIND] = Layout.KIND_EMBEDDED_LINK;
+            members[Layout.ENTITY_REL] = output.strings(embeddedLink.getRel());
+            members[Layout.ENTITY_HREF] = output.string(embeddedLink.getHref());
+            members[Layout.ENTITY_TYPE] = output.string(embeddedLink.getType());
+            return output.table(members);
+        }
+        Entity representation = (Entity)entity;
+        members[Layout.ENTITY_KIND] = Layout.KIND_ENTITY;
+        if(entity instanceof EmbeddedRepresentationSubEntity){
+            members[Layout.ENTITY_KIND] = Layout.KIND_EMBEDDED_REPRESENTATION;
+            members[Layout.ENTITY_REL] = output.strings(((EmbeddedRepresentationSubEntity)entity).getRel());
+        }
+        Map<String, Object> properties = representation.getProperties();
+        members[Layout.ENTITY_PROPERTIES] = properties != null ? this.value(output, properties) : Layout.ABSENT;
+        members[Layout.ENTITY_ACTIONS] = this.actions(output, representation.getActions());
+        members[Layout.ENTITY_LINKS] = links(output, representation.getLinks());
+        members[Layout.ENTITY_ENTITIES] = frame.entities != null ? output.vector(frame.written, frame.written.length) : Layout.ABSENT;
+        return output.table(members);
+    }
+
+    private static int links(Output output, List<Link> links){
+        if(links == null) return Layout.ABSENT;
+        int[] written = new int[links.size()];
+        for(int i = 0; i < written.length; i++){
+            Link link = links.get(i);
+            int[] members = new int[Layout.LINK_SIZE];
+            members[Layout.LINK_REL] = output.strings(link.getRel());
+            members[Layout.LINK_CLASS] = output.strings(link.getKlass());
+            members[Layout.LINK_TITLE] = output.string(link.getTitle());
+            members[Layout.LINK_TYPE] = output.string(link.getType());
+            members[Layout.LINK_HREF] = output.string(link.getHref());
+            written[i] = output.table(members);
+        }
+        return output.vector(written, written.length);
+    }
+
+    private int actions(Output output, List<Action> actions){
+        if(actions == null) return Layout.ABSENT;
+        int[] written = new int[actions.size()];
+        for(int i = 0; i < written.length; i++){
+            Action action = actions.get(i);
+            int[] members = new int[Layout.ACTION_SIZE];
+            members[Layout.ACTION_NAME] = output.string(action.getName());
+            members[Layout.ACTION_TITLE] = output.string(action.getTitle());
+            members[Layout.ACTION_METHOD] = action.getMethod() != null ? action.getMethod().ordinal() : Layout.NONE;
+            members[Layout.ACTION_HREF] = output.string(action.getHref());
+            members[Layout.ACTION_TYPE] = output.string(action.getType());
+            members[Layout.ACTION_CLASS] = output.strings(action.getKlass());
+            members[Layout.ACTION_FIELDS] = this.fields(output, action.getFields());
+            written[i] = output.table(members);
+        }
+        return output.vector(written, written.length);
+    }
+
+    private int fields(Output output, List<Field> fields){
+        if(fields == null) return Layout.ABSENT;
+        int[] written = new int[fields.size()];
+        for(int i = 0; i < written.length; i++){
+            Field<?> field = fields.get(i);
+            int[] members = new int[Layout.FIELD_SIZE];
+            members[Layout.FIELD_NAME] = output.string(field.getName());
+            members[Layout.FIELD_TYPE] = field.getType() != null ? field.getType().ordinal() : Layout.NONE;
+            members[Layout.FIELD_TITLE] = output.string(field.getTitle());
+            members[Layout.FIELD_VALUE] = this.value(output, field.getValue());
+            written[i] = output.table(members);
+        }
+        return output.vector(written, written.length);
+    }
+
+    /**
+     * Writes the value provided, after its elements or members if it has any.
+     */
+    private int value(Output output, Object value){
+        if(value == null){
+            return output.tag(Layout.NULL, 0);
+        }
+        if(value instanceof Boolean){
+            return output.tag((Boolean)value ? Layout.TRUE : Layout.FALSE, 0);
+        }
+        if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+            || value instanceof AtomicInteger || value instanceof AtomicLong
+            || value instanceof BigInteger && ((BigInteger)value).bitLength() < 64){
+            int offset = output.tag(Layout.LONG, 8);
+            output.putLong(offset + 1, ((Number)value).longValue());
+            return offset;
+        }
+        if(value instanceof Number){
+            int offset = output.tag(Layout.DOUBLE, 8);
+            output.putLong(offset + 1, Double.doubleToLongBits(((Number)value).doubleValue()));
+            return offset;
+        }
+        if(value instanceof CharSequence || value instanceof Character){
+            return this.text(output, value.toString());
+        }
+        if(value instanceof Map){
+            return this.object(output, (Map<?, ?>)value);
+        }
+        if(value instanceof Collection){
+            return this.array(output, ((Collection<?>)value).iterator(), ((Collection<?>)value).size());
+        }
+        if(value instanceof Object[]){
+            return this.array(output, Arrays.asList((Object[])value).iterator(), ((Object[])value).length);
+        }
+        if(value instanceof JsonNode){
+            return this.node(output, (JsonNode)value);
+        }
+        return this.node(output, this.objectMapper.valueToTree(value));
+    }
+
+    private int node(Output output, JsonNode node){
+        if(node.isNull() || node.isMissingNode()){
+            return output.tag(Layout.NULL, 0);
+        }
+        if(node.isBoolean()){
+            return this.value(output, node.booleanValue());
+        }
+        if(node.isIntegralNumber() && node.canConvertToLong()){
+            return this.value(output, node.longValue());
+        }
+        if(node.isNumber()){
+            return this.value(output, node.doubleValue());
+        }
+        if(node.isArray()){
+            return this.array(output, node.elements(), node.size());
+        }
+        if(node.isObject()){
+            Map<String, JsonNode> members = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while(fields.hasNext()){
+                Map.Entry<String, JsonNode> field = fields.next();
+                members.put(field.getKey(), field.getValue());
+            }
+            return this.object(output, members);
+        }
+        return this.text(output, node.asText());
+    }
+
+    private int text(Output output, String text){
+        int offset = output.utf8(text.getBytes(StandardCharsets.UTF_8), 1);
+        output.bytes[offset] = Layout.STRING;
+        return offset;
+    }
+
+    private int array(Output output, Iterator<?> elements, int size){
+        int[] written = new int[size];
+        for(int i = 0; i < size; i++){
+            written[i] = this.value(output, elements.next());
+        }
+        int offset = output.tag(Layout.ARRAY, 4 + size * 4);
+        output.putInt(offset + 1, size);
+        for(int i = 0; i < size; i++){
+            output.putInt(offset + 5 + i * 4, written[i]);
+        }
+        return offset;
+    }
+
+    private int object(Output output, Map<?, ?> members){
+        String[] names = new String[members.size()];
+        byte[][] utf8 = new byte[names.length][];
+        Object[] values = new Object[names.length];
+        int count = 0;
+        for(Map.Entry<?, ?> member : members.entrySet()){
+            names[count] = String.valueOf(member.getKey());
+            utf8[count] = names[count].getBytes(StandardCharsets.UTF_8);
+            values[count++] = member.getValue();
+        }
+        Integer[] order = new Integer[count];
+        for(int i = 0; i < count; i++){
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> compare(utf8[left], utf8[right]));
+        int[] written = new int[count * 2];
+        for(int i = 0; i < count; i++){
+            written[i * 2] = output.string(names[order[i]]);
+            written[i * 2 + 1] = this.value(output, values[order[i]]);
+        }
+        int offset = output.tag(Layout.OBJECT, 4 + count * 8);
+        output.putInt(offset + 1, count);
+        for(int i = 0; i < written.length; i++){
+            output.putInt(offset + 5 + i * 4, written[i]);
+        }
+        return offset;
+    }
+
+    private static int compare(byte[] left, byte[] right){
+        int shared = Math.min(left.length, right.length);
+        for(int i = 0; i < shared; i++){
+            int difference = (left[i] & 0xFF) - (right[i] & 0xFF);
+            if(difference != 0) return difference;
+        }
+        return left.length - right.length;
+    }
+}
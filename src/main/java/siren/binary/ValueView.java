@@ -0,0 +1,223 @@
+package siren.binary;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A view of a property value, or of the value of a field, within a binary siren document.
+ *
+ * Values are JSON values: null, booleans, numbers, strings, arrays and objects. Integral numbers
+ * are held as longs and every other number as a double. Scalars are read from the document when
+ * they are asked for, and the elements and members of arrays and objects are returned as views.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class ValueView {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    ValueView(ByteBuffer buffer, int offset){
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Determines whether the value is null.
+     * @return true if the value is null; otherwise false.
+     */
+    public boolean isNull(){
+        return this.tag() == Layout.NULL;
+    }
+
+    /**
+     * Determines whether the value is a boolean.
+     * @return true if the value is a boolean; otherwise false.
+     */
+    public boolean isBoolean(){
+        return this.tag() == Layout.TRUE || this.tag() == Layout.FALSE;
+    }
+
+    /**
+     * Determines whether the value is a number.
+     * @return true if the value is a number; otherwise false.
+     */
+    public boolean isNumber(){
+        return this.tag() == Layout.LONG || this.tag() == Layout.DOUBLE;
+    }
+
+    /**
+     * Determines whether the value is a string.
+     * @return true if the value is a string; otherwise false.
+     */
+    public boolean isString(){
+        return this.tag() == Layout.STRING;
+    }
+
+    /**
+     * Determines whether the value is an array.
+     * @return true if the value is an array; otherwise false.
+     */
+    public boolean isArray(){
+        return this.tag() == Layout.ARRAY;
+    }
+
+    /**
+     * Determines whether the value is an object.
+     * @return true if the value is an object; otherwise false.
+     */
+    public boolean isObject(){
+        return this.tag() == Layout.OBJECT;
+    }
+
+    /**
+     * Reads the value as a boolean.
+     * @return The boolean.
+     * @throws IllegalStateException Thrown if the value is not a boolean.
+     */
+    public boolean asBoolean(){
+        if(!this.isBoolean()){
+            throw new IllegalStateException("The value is not a boolean.");
+        }
+        return this.tag() == Layout.TRUE;
+    }
+
+    /**
+     * Reads the value as a long, truncating a number that is not integral.
+     * @return The number.
+     * @throws IllegalStateException Thrown if the value is not a number.
+     */
+    public long asLong(){
+        switch(this.tag()){
+            case Layout.LONG:
+                return this.buffer.getLong(this.offset + 1);
+            case Layout.DOUBLE:
+                return (long)this.buffer.getDouble(this.offset + 1);
+            default:
+                throw new IllegalStateException("The value is not a number.");
+        }
+    }
+
+    /**
+     * Reads the value as a double.
+     * @return The number.
+     * @throws IllegalStateException Thrown if the value is not a number.
+     */
+    public double asDouble(){
+        switch(this.tag()){
+            case Layout.LONG:
+                return this.buffer.getLong(this.offset + 1);
+            case Layout.DOUBLE:
+                return this.buffer.getDouble(this.offset + 1);
+            default:
+                throw new IllegalStateException("The value is not a number.");
+        }
+    }
+
+    /**
+     * Reads the value as a string.
+     * @return The string.
+     * @throws IllegalStateException Thrown if the value is not a string.
+     */
+    public String asString(){
+        if(!this.isString()){
+            throw new IllegalStateException("The value is not a string.");
+        }
+        return Layout.string(this.buffer, this.offset + 1);
+    }
+
+    /**
+     * Retrieves the number of elements of an array, or of members of an object.
+     * @return The number of elements or members; 0 for any other value.
+     */
+    public int size(){
+        return this.isArray() || this.isObject() ? this.buffer.getInt(this.offset + 1) : 0;
+    }
+
+    /**
+     * Retrieves the element of an array at the index provided.
+     * @param index The index of the element.
+     * @return The element.
+     * @throws IllegalStateException Thrown if the value is not an array.
+     */
+    public ValueView get(int index){
+        if(!this.isArray()){
+            throw new IllegalStateException("The value is not an array.");
+        }
+        return new ValueView(this.buffer, Layout.element(this.buffer, this.offset + 1, index));
+    }
+
+    /**
+     * Retrieves the member of an object with the name provided.
+     * @param name The name of the member.
+     * @return The value of the member, or {@code null} if the object has no member with the name provided.
+     * @throws IllegalStateException Thrown if the value is not an object.
+     */
+    public ValueView get(String name){
+        if(!this.isObject()){
+            throw new IllegalStateException("The value is not an object.");
+        }
+        int member = find(this.buffer, this.offset, Layout.utf8(name, "name"));
+        return member != Layout.ABSENT ? new ValueView(this.buffer, member) : null;
+    }
+
+    /**
+     * Retrieves the name of the member of an object at the index provided. Members are ordered by name.
+     * @param index The index of the member.
+     * @return The name of the member.
+     * @throws IllegalStateException Thrown if the value is not an object.
+     */
+    public String name(int index){
+        if(!this.isObject()){
+            throw new IllegalStateException("The value is not an object.");
+        }
+        checkIndex(index, this.size());
+        return Layout.string(this.buffer, this.buffer.getInt(this.offset + 5 + index * 8));
+    }
+
+    /**
+     * Retrieves the value of the member of an object at the index provided. Members are ordered by name.
+     * @param index The index of the member.
+     * @return The value of the member.
+     * @throws IllegalStateException Thrown if the value is not an object.
+     */
+    public ValueView value(int index){
+        if(!this.isObject()){
+            throw new IllegalStateException("The value is not an object.");
+        }
+        checkIndex(index, this.size());
+        return new ValueView(this.buffer, this.buffer.getInt(this.offset + 9 + index * 8));
+    }
+
+    /**
+     * Finds the member with the name provided in the object at the offset provided by binary search.
+     * @return The offset of the value of the member, or {@link Layout#ABSENT} if there is none.
+     */
+    static int find(ByteBuffer buffer, int object, byte[] name){
+        int low = 0;
+        int high = buffer.getInt(object + 1) - 1;
+        while(low <= high){
+            int middle = (low + high) >>> 1;
+            int member = object + 5 + middle * 8;
+            int comparison = Layout.compare(buffer, buffer.getInt(member), name);
+            if(comparison < 0){
+                low = middle + 1;
+            }else if(comparison > 0){
+                high = middle - 1;
+            }else{
+                return buffer.getInt(member + 4);
+            }
+        }
+        return Layout.ABSENT;
+    }
+
+    private static void checkIndex(int index, int size){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("'index' is " + index + " of " + size + " members.");
+        }
+    }
+
+    private byte tag(){
+        return this.buffer.get(this.offset);
+    }
+}
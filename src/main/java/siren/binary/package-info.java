@@ -0,0 +1,14 @@
+/**
+ * Provides the classes necessary for writing siren entities in a binary layout
+ * and for reading them in place.
+ *
+ * {@link siren.binary.SirenBinaryWriter} writes an entity as a document whose members
+ * are referred to by offset. {@link siren.binary.EntityView} and the views it returns read
+ * the members of such a document straight from a {@link java.nio.ByteBuffer} as they are
+ * asked for, without reading the document into instances of the siren classes, which
+ * suits consumers that read only a few members of each large entity they receive.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+package siren.binary;
@@ -0,0 +1,33 @@
+package siren.client;
+
+import siren.Entity;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Defines the contract that all types choosing to observe the
+ * entities visited by a {@link SirenCrawler} must abide by.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public interface CrawlListener {
+
+    /**
+     * Called once for each entity retrieved by the crawler.
+     * Implementations are called concurrently from the threads of the crawler's executor.
+     * @param href The URI the entity was retrieved from.
+     * @param entity The entity, or {@code null} if the response had no body.
+     * @param depth The number of links followed from the root to reach the entity.
+     */
+    void visited(URI href, Entity entity, int depth);
+
+    /**
+     * Called once for each URI the crawler failed to retrieve.
+     * Implementations are called concurrently from the threads of the crawler's executor.
+     * @param href The URI that could not be retrieved.
+     * @param cause The reason the URI could not be retrieved.
+     * @param depth The number of links followed from the root to reach the URI.
+     */
+    void failed(URI href, IOException cause, int depth);
+}
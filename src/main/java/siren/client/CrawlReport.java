@@ -0,0 +1,72 @@
+package siren.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarizes a crawl performed by a {@link SirenCrawler}.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class CrawlReport {
+
+    private final int visited;
+    private final Map<URI, IOException> failures;
+    private final long elapsedNanos;
+
+    CrawlReport(int visited, Map<URI, IOException> failures, long elapsedNanos){
+        this.visited = visited;
+        this.failures = new LinkedHashMap<>(failures);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retrieves the number of entities retrieved successfully.
+     * @return The number of entities retrieved successfully.
+     */
+    public int getVisited(){
+        return this.visited;
+    }
+
+    /**
+     * Retrieves the URIs that could not be retrieved along with the reason why.
+     * @return The failures, keyed by URI.
+     */
+    public Map<URI, IOException> getFailures(){
+        return Collections.unmodifiableMap(this.failures);
+    }
+
+    /**
+     * Retrieves the time taken by the crawl.
+     * @param unit The unit of the time to retrieve.
+     * @return The time taken by the crawl.
+     */
+    public long getElapsed(TimeUnit unit){
+        return unit.convert(this.elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Retrieves the rate at which entities were retrieved, counting failures.
+     * @return The number of pages retrieved per second.
+     */
+    public double getPagesPerSecond(){
+        if(this.elapsedNanos <= 0) return 0;
+        return (this.visited + this.failures.size()) / (this.elapsedNanos / 1e9);
+    }
+
+    /**
+     * Summarizes the crawl in a single line.
+     * @return The summary of the crawl.
+     */
+    @Override
+    public String toString(){
+        return String.format(
+            "visited %d pages (%d failed) in %d ms, %.1f pages/sec",
+            this.visited, this.failures.size(), this.getElapsed(TimeUnit.MILLISECONDS), this.getPagesPerSecond()
+        );
+    }
+}
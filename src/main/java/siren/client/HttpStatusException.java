@@ -0,0 +1,45 @@
+package siren.client;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Signals that a siren API responded with an unsuccessful HTTP status.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class HttpStatusException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final URI href;
+
+    /**
+     * Constructs an instance of {@link HttpStatusException}.
+     * @param statusCode The HTTP status code of the response.
+     * @param method The method of the request.
+     * @param href The URI of the request.
+     */
+    public HttpStatusException(int statusCode, String method, URI href){
+        super(method + " " + href + " responded with a status of " + statusCode + ".");
+        this.statusCode = statusCode;
+        this.href = href;
+    }
+
+    /**
+     * Retrieves the HTTP status code of the response.
+     * @return The HTTP status code of the response.
+     */
+    public int getStatusCode(){
+        return this.statusCode;
+    }
+
+    /**
+     * Retrieves the URI of the request.
+     * @return The URI of the request.
+     */
+    public URI getHref(){
+        return this.href;
+    }
+}
@@ -0,0 +1,254 @@
+package siren.client;
+
+import siren.Entity;
+import siren.EntityBase;
+import siren.Relation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates the sub-entities of a paged collection, page by page, following the
+ * {@link Relation#NEXT} link of each page to the page after it.
+ *
+ * Pages are retrieved lazily, but up to a configurable number of pages ahead of the page being
+ * consumed are retrieved in the background, so that the latency of retrieving a page overlaps
+ * with the consumption of the page before it. Since the href of a page is only known once the
+ * page before it has been retrieved, pages ahead are retrieved one after another by a single
+ * task at a time, which is only resubmitted to the executor while fewer pages than the prefetch
+ * depth are waiting to be consumed. No executor thread is held while the consumer catches up.
+ *
+ * A failure to retrieve a page is surfaced, as an {@link UncheckedIOException}, once the
+ * consumer reaches that page. Closing the iterator stops any further retrieval.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class PageIterator implements Iterator<EntityBase>, Closeable {
+
+    private static final Relation NEXT = nextRelation();
+
+    private final SirenNavigator navigator;
+    private final ExecutorService executorService;
+    private final int prefetch;
+    private final Runnable fetch;
+
+    private final Deque<Entity> pages = new ArrayDeque<>();
+    private URI nextHref;
+    private boolean fetching;
+    private boolean closed;
+    private IOException failure;
+    private Future<?> inFlight;
+
+    private Iterator<EntityBase> current = Collections.<EntityBase>emptyList().iterator();
+
+    /**
+     * Constructs an instance of {@link PageIterator}. No page is retrieved until the iterator is consumed.
+     * @param navigator Retrieves the pages.
+     * @param href The href of the first page of the collection.
+     * @param executorService Runs the retrieval of pages. The executor is not shut down by the iterator.
+     * @param prefetch The maximum number of pages retrieved ahead of the page being consumed.
+     *                 Zero retrieves each page only once the consumer needs it.
+     */
+    public PageIterator(SirenNavigator navigator, URI href, ExecutorService executorService, int prefetch){
+        if(navigator == null){
+            throw new IllegalArgumentException("'navigator' cannot be null.");
+        }
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        if(executorService == null){
+            throw new IllegalArgumentException("'executorService' cannot be null.");
+        }
+        if(prefetch < 0){
+            throw new IllegalArgumentException("'prefetch' cannot be negative.");
+        }
+        this.navigator = navigator;
+        this.executorService = executorService;
+        this.prefetch = prefetch;
+        this.nextHref = href;
+        this.fetch = new Runnable() {
+            @Override
+            public void run() {
+                PageIterator.this.fetch();
+            }
+        };
+    }
+
+    /**
+     * Creates a sequential, ordered stream over the sub-entities of the collection.
+     * Closing the stream closes the iterator.
+     * @return The stream.
+     */
+    public Stream<EntityBase> stream(){
+        Spliterator<EntityBase> spliterator = Spliterators.spliteratorUnknownSize(
+            this, Spliterator.ORDERED | Spliterator.NONNULL
+        );
+        return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                PageIterator.this.close();
+            }
+        });
+    }
+
+    /**
+     * Determines whether the collection has another sub-entity, waiting for its page to be retrieved if need be.
+     * @return true if the collection has another sub-entity; otherwise false.
+     * @throws UncheckedIOException Thrown if a page could not be retrieved.
+     */
+    @Override
+    public boolean hasNext() {
+        while(!this.current.hasNext()){
+            Entity page = this.take();
+            if(page == null) return false;
+            List<EntityBase> subEntities = page.getEntities();
+            if(subEntities != null){
+                this.current = subEntities.iterator();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the next sub-entity of the collection.
+     * @return The next sub-entity of the collection.
+     * @throws UncheckedIOException Thrown if a page could not be retrieved.
+     */
+    @Override
+    public EntityBase next() {
+        if(!this.hasNext()){
+            throw new NoSuchElementException();
+        }
+        return this.current.next();
+    }
+
+    /**
+     * Stops the retrieval of pages. Pages already retrieved remain available to the consumer.
+     */
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+        if(this.inFlight != null){
+            this.inFlight.cancel(true);
+        }
+        this.notifyAll();
+    }
+
+    /**
+     * Takes the next retrieved page, starting its retrieval and waiting for it if need be.
+     * @return The next page, or {@code null} if the collection has no more pages.
+     */
+    private synchronized Entity take(){
+        try{
+            while(this.pages.isEmpty()){
+                if(this.failure != null){
+                    throw new UncheckedIOException(this.failure);
+                }
+                if(this.closed || (this.nextHref == null && !this.fetching)){
+                    return null;
+                }
+                if(!this.fetching){
+                    this.submit();
+                    continue;
+                }
+                this.wait();
+            }
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("interrupted while waiting for a page."));
+        }
+        Entity page = this.pages.poll();
+        this.prefetch();
+        return page;
+    }
+
+    /**
+     * Retrieves the page at the next href, then continues with the page after it
+     * while the prefetch depth allows.
+     */
+    private void fetch(){
+        URI href;
+        synchronized(this){
+            href = this.nextHref;
+        }
+        Entity page = null;
+        IOException failure = null;
+        try{
+            page = this.navigator.get(href);
+        }catch(IOException e){
+            failure = e;
+        }catch(RuntimeException e){
+            failure = new IOException("failed to retrieve the page at '" + href + "'.", e);
+        }
+        synchronized(this){
+            this.fetching = false;
+            this.inFlight = null;
+            if(this.closed){
+                this.nextHref = null;
+            }else if(failure != null){
+                this.failure = failure;
+            }else{
+                this.nextHref = page == null ? null : SirenNavigator.href(page, NEXT);
+                if(page != null) this.pages.add(page);
+                this.prefetch();
+            }
+            this.notifyAll();
+        }
+    }
+
+    /**
+     * Submits the retrieval of the next page if fewer pages than the prefetch depth are waiting.
+     * Must be called while holding the lock of the iterator.
+     */
+    private void prefetch(){
+        if(this.pages.size() < this.prefetch && !this.fetching && !this.closed
+            && this.failure == null && this.nextHref != null){
+            this.submit();
+        }
+    }
+
+    /**
+     * Submits the retrieval of the next page. The executor may run the retrieval before returning,
+     * as caller-runs executors do, in which case it has already completed, and may have submitted
+     * the retrieval of the page after it, by the time the executor returns.
+     * Must be called while holding the lock of the iterator.
+     */
+    private void submit(){
+        this.fetching = true;
+        try{
+            Future<?> submitted = this.executorService.submit(this.fetch);
+            if(!submitted.isDone()){
+                this.inFlight = submitted;
+            }
+        }catch(RejectedExecutionException e){
+            this.fetching = false;
+            this.failure = new IOException("the retrieval of the page at '" + this.nextHref + "' was rejected.", e);
+        }
+    }
+
+    private static Relation nextRelation(){
+        try{
+            return new Relation(Relation.NEXT);
+        }catch(URISyntaxException e){
+            throw new IllegalStateException(e);
+        }
+    }
+}
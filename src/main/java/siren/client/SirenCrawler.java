@@ -0,0 +1,463 @@
+package siren.client;
+
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Link;
+import siren.Relation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Traverses the resource graph of a siren API, following the hrefs of links and embedded link
+ * sub-entities concurrently.
+ *
+ * Each href is retrieved at most once per crawl; hrefs are normalized and stripped of their
+ * fragment before being recorded in a concurrent visited set. Links are followed when they have
+ * at least one included relation (or when no relations are included) and none of the excluded
+ * relations, and only while the number of links followed from the root does not exceed the
+ * maximum depth. Embedded representation sub-entities are searched for links without being
+ * retrieved.
+ *
+ * Retrievals run on the executor provided, but no more than a fixed number run against the same
+ * host at once. Hrefs beyond that limit wait in a per-host queue rather than on an executor thread,
+ * so a slow host does not starve the others of threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenCrawler {
+
+    /**
+     * Constructs instances of {@link SirenCrawler}.
+     */
+    public static class Builder implements siren.Builder<SirenCrawler> {
+
+        private SirenNavigator navigator;
+        private ExecutorService executorService;
+        private Integer maxDepth;
+        private Integer maxConcurrencyPerHost;
+        private Set<Relation> includedRels = new HashSet<>();
+        private Set<Relation> excludedRels = new HashSet<>();
+
+        /**
+         * Constructs an instance of {@link SirenCrawler.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Adds the navigator provided to the current state of the builder.
+         * @param navigator Retrieves the entities.
+         * @return The builder this method is called on.
+         */
+        public Builder navigator(SirenNavigator navigator){
+            if(navigator == null){
+                throw new IllegalArgumentException("'navigator' cannot be null.");
+            }
+            this.navigator = navigator;
+            return this;
+        }
+
+        /**
+         * Adds the executor provided to the current state of the builder.
+         * @param executorService Runs the retrievals. The executor is not shut down by the crawler.
+         * @return The builder this method is called on.
+         */
+        public Builder executorService(ExecutorService executorService){
+            if(executorService == null){
+                throw new IllegalArgumentException("'executorService' cannot be null.");
+            }
+            this.executorService = executorService;
+            return this;
+        }
+
+        /**
+         * Adds the maximum depth provided to the current state of the builder.
+         * @param maxDepth The maximum number of links followed from the root. Defaults to unlimited.
+         * @return The builder this method is called on.
+         */
+        public Builder maxDepth(int maxDepth){
+            if(maxDepth < 0){
+                throw new IllegalArgumentException("'maxDepth' cannot be negative.");
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Adds the maximum concurrency per host provided to the current state of the builder.
+         * @param maxConcurrencyPerHost The maximum number of retrievals run against a host at once. Defaults to 4.
+         * @return The builder this method is called on.
+         */
+        public Builder maxConcurrencyPerHost(int maxConcurrencyPerHost){
+            if(maxConcurrencyPerHost < 1){
+                throw new IllegalArgumentException("'maxConcurrencyPerHost' must be at least 1.");
+            }
+            this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+            return this;
+        }
+
+        /**
+         * Adds the relations provided to the relations the crawler follows.
+         * Once a relation is included, links without an included relation are not followed.
+         * @param rels The relations to follow.
+         * @return The builder this method is called on.
+         */
+        public Builder include(Relation... rels){
+            if(rels == null){
+                throw new IllegalArgumentException("'rels' cannot be null.");
+            }
+            this.includedRels.addAll(Arrays.asList(rels));
+            return this;
+        }
+
+        /**
+         * Adds the relations provided to the relations the crawler does not follow.
+         * @param rels The relations not to follow.
+         * @return The builder this method is called on.
+         */
+        public Builder exclude(Relation... rels){
+            if(rels == null){
+                throw new IllegalArgumentException("'rels' cannot be null.");
+            }
+            this.excludedRels.addAll(Arrays.asList(rels));
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.navigator = null;
+            this.executorService = null;
+            this.maxDepth = null;
+            this.maxConcurrencyPerHost = null;
+            this.includedRels = new HashSet<>();
+            this.excludedRels = new HashSet<>();
+        }
+
+        /**
+         * Constructs an instance of {@link SirenCrawler} with the current state of the builder.
+         * @return Instance of {@link SirenCrawler} with the current state of the builder.
+         */
+        @Override
+        public SirenCrawler build() {
+            return new SirenCrawler(
+                this.navigator != null ? this.navigator : new SirenNavigator(),
+                this.executorService,
+                this.maxDepth != null ? this.maxDepth : Integer.MAX_VALUE,
+                this.maxConcurrencyPerHost != null ? this.maxConcurrencyPerHost : DEFAULT_CONCURRENCY_PER_HOST,
+                new HashSet<>(this.includedRels),
+                new HashSet<>(this.excludedRels)
+            );
+        }
+    }
+
+    /**
+     * The retrievals pending against a host, along with the number in progress.
+     */
+    private static final class Host {
+
+        private final Deque<Crawl.Retrieval> pending = new ArrayDeque<>();
+        private int active;
+    }
+
+    private static final int DEFAULT_CONCURRENCY_PER_HOST = 4;
+
+    private final SirenNavigator navigator;
+    private final ExecutorService executorService;
+    private final int maxDepth;
+    private final int maxConcurrencyPerHost;
+    private final Set<Relation> includedRels;
+    private final Set<Relation> excludedRels;
+
+    private SirenCrawler(SirenNavigator navigator, ExecutorService executorService, int maxDepth,
+                         int maxConcurrencyPerHost, Set<Relation> includedRels, Set<Relation> excludedRels){
+        if(executorService == null){
+            throw new IllegalArgumentException("'executorService' cannot be null as it is required.");
+        }
+        this.navigator = navigator;
+        this.executorService = executorService;
+        this.maxDepth = maxDepth;
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+        this.includedRels = includedRels;
+        this.excludedRels = excludedRels;
+    }
+
+    /**
+     * Crawls the resource graph starting from the URI provided, which is retrieved at a depth of zero.
+     * @param root The URI to start from.
+     * @param listener Observes the entities retrieved.
+     * @return A summary of the crawl.
+     * @throws InterruptedException Thrown if the current thread is interrupted while waiting for the crawl.
+     */
+    public CrawlReport crawl(URI root, CrawlListener listener) throws InterruptedException {
+        if(root == null){
+            throw new IllegalArgumentException("'root' cannot be null.");
+        }
+        if(listener == null){
+            throw new IllegalArgumentException("'listener' cannot be null.");
+        }
+        Crawl crawl = new Crawl(listener);
+        crawl.schedule(root, 0);
+        return crawl.await();
+    }
+
+    /**
+     * Crawls the resource graph starting from the entity provided, whose links are followed
+     * at a depth of one. The entity itself is not retrieved, but its self link is recorded as visited.
+     * @param root The entity to start from.
+     * @param listener Observes the entities retrieved.
+     * @return A summary of the crawl.
+     * @throws InterruptedException Thrown if the current thread is interrupted while waiting for the crawl.
+     */
+    public CrawlReport crawl(Entity root, CrawlListener listener) throws InterruptedException {
+        if(root == null){
+            throw new IllegalArgumentException("'root' cannot be null.");
+        }
+        if(listener == null){
+            throw new IllegalArgumentException("'listener' cannot be null.");
+        }
+        Crawl crawl = new Crawl(listener);
+        URI self = SirenNavigator.href(root, SELF);
+        if(self != null) crawl.visited.add(key(self));
+        crawl.outstanding.incrementAndGet();
+        crawl.follow(root, self != null && self.isAbsolute() ? self : null, 1);
+        crawl.complete();
+        return crawl.await();
+    }
+
+    /**
+     * The state of a single crawl.
+     */
+    private final class Crawl {
+
+        private final CrawlListener listener;
+        private final Set<URI> visited = ConcurrentHashMap.newKeySet();
+        private final ConcurrentMap<String, Host> hosts = new ConcurrentHashMap<>();
+        private final Map<URI, IOException> failures = new LinkedHashMap<>();
+        private final AtomicInteger retrieved = new AtomicInteger();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final long started = System.nanoTime();
+
+        private Crawl(CrawlListener listener){
+            this.listener = listener;
+        }
+
+        private CrawlReport await() throws InterruptedException {
+            this.done.await();
+            synchronized(this.failures){
+                return new CrawlReport(this.retrieved.get(), this.failures, System.nanoTime() - this.started);
+            }
+        }
+
+        /**
+         * Resolves the href provided against the base provided, then schedules its retrieval.
+         * A relative href without a base cannot be retrieved and is reported as failed.
+         */
+        private void schedule(URI href, URI base, int depth){
+            if(href.isAbsolute()){
+                this.schedule(href, depth);
+            }else if(base != null){
+                this.schedule(base.resolve(href), depth);
+            }else{
+                this.fail(href, new IOException("'" + href + "' is relative, and there is no URI to resolve it against."), depth);
+            }
+        }
+
+        /**
+         * Queues the retrieval of the href provided unless it has already been visited.
+         */
+        private void schedule(URI href, final int depth){
+            final URI key = key(href);
+            if(!this.visited.add(key)) return;
+            this.outstanding.incrementAndGet();
+
+            String authority = String.valueOf(key.getScheme()) + "://" + String.valueOf(key.getRawAuthority());
+            Host host = this.hosts.get(authority);
+            if(host == null){
+                Host created = new Host();
+                host = this.hosts.putIfAbsent(authority, created);
+                if(host == null) host = created;
+            }
+
+            Retrieval retrieval = new Retrieval(key, depth, host);
+            boolean start;
+            synchronized(host){
+                start = host.active < maxConcurrencyPerHost;
+                if(start){
+                    host.active++;
+                }else{
+                    host.pending.add(retrieval);
+                }
+            }
+            if(start) this.submit(retrieval);
+        }
+
+        private void retrieve(URI href, int depth){
+            try{
+                Entity entity = navigator.get(href);
+                this.retrieved.incrementAndGet();
+                this.listener.visited(href, entity, depth);
+                if(entity != null && depth < maxDepth){
+                    this.follow(entity, href, depth + 1);
+                }
+            }catch(IOException e){
+                this.fail(href, e, depth);
+            }catch(RuntimeException e){
+                this.fail(href, new IOException("failed to crawl '" + href + "'.", e), depth);
+            }finally{
+                this.complete();
+            }
+        }
+
+        /**
+         * Schedules the links of the entity provided, and of its embedded representations, at the depth provided.
+         * Relative hrefs are resolved against the URI the entity was retrieved from.
+         */
+        private void follow(Entity entity, URI base, int depth){
+            if(depth > maxDepth) return;
+            Deque<Entity> pending = new ArrayDeque<>();
+            pending.push(entity);
+            while(!pending.isEmpty()){
+                Entity current = pending.pop();
+                List<Link> links = current.getLinks();
+                if(links != null){
+                    for(Link link : links){
+                        if(this.follows(link.getRel())) this.schedule(link.getHref(), base, depth);
+                    }
+                }
+                List<EntityBase> subEntities = current.getEntities();
+                if(subEntities == null) continue;
+                for(EntityBase subEntity : subEntities){
+                    if(subEntity instanceof EmbeddedLinkSubEntity){
+                        EmbeddedLinkSubEntity embeddedLink = (EmbeddedLinkSubEntity)subEntity;
+                        if(this.follows(embeddedLink.getRel())) this.schedule(embeddedLink.getHref(), base, depth);
+                    }else if(subEntity instanceof EmbeddedRepresentationSubEntity){
+                        pending.push((Entity)subEntity);
+                    }
+                }
+            }
+        }
+
+        private boolean follows(Collection<Relation> rels){
+            boolean included = includedRels.isEmpty();
+            for(Relation rel : rels){
+                if(excludedRels.contains(rel)) return false;
+                if(includedRels.contains(rel)) included = true;
+            }
+            return included;
+        }
+
+        /**
+         * Starts the next retrieval pending against the host of the retrieval provided, if any.
+         */
+        private void release(Retrieval retrieval){
+            Retrieval next;
+            synchronized(retrieval.host){
+                next = retrieval.host.pending.poll();
+                if(next == null) retrieval.host.active--;
+            }
+            if(next != null) this.submit(next);
+        }
+
+        /**
+         * Submits the retrieval provided to the executor. If the executor rejects it, the retrieval
+         * is failed and the next retrieval pending against its host is submitted in its place.
+         */
+        private void submit(Retrieval retrieval){
+            while(retrieval != null){
+                try{
+                    executorService.execute(retrieval);
+                    return;
+                }catch(RejectedExecutionException e){
+                    this.fail(retrieval.href, new IOException("the retrieval of '" + retrieval.href + "' was rejected.", e), retrieval.depth);
+                    this.complete();
+                    synchronized(retrieval.host){
+                        Retrieval next = retrieval.host.pending.poll();
+                        if(next == null) retrieval.host.active--;
+                        retrieval = next;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Retrieves an href, then releases its slot against its host.
+         */
+        private final class Retrieval implements Runnable {
+
+            private final URI href;
+            private final int depth;
+            private final Host host;
+
+            private Retrieval(URI href, int depth, Host host){
+                this.href = href;
+                this.depth = depth;
+                this.host = host;
+            }
+
+            @Override
+            public void run() {
+                try{
+                    Crawl.this.retrieve(this.href, this.depth);
+                }finally{
+                    Crawl.this.release(this);
+                }
+            }
+        }
+
+        private void fail(URI href, IOException cause, int depth){
+            synchronized(this.failures){
+                this.failures.put(href, cause);
+            }
+            this.listener.failed(href, cause, depth);
+        }
+
+        private void complete(){
+            if(this.outstanding.decrementAndGet() == 0){
+                this.done.countDown();
+            }
+        }
+    }
+
+    private static final Relation SELF = relation(Relation.SELF);
+
+    /**
+     * Normalizes the href provided and removes its fragment, so that equivalent hrefs are visited once.
+     */
+    private static URI key(URI href){
+        URI normalized = href.normalize();
+        if(normalized.getRawFragment() == null) return normalized;
+        String uri = normalized.toString();
+        return URI.create(uri.substring(0, uri.indexOf('#')));
+    }
+
+    private static Relation relation(String rel){
+        try{
+            return new Relation(rel);
+        }catch(URISyntaxException e){
+            throw new IllegalStateException(e);
+        }
+    }
+}
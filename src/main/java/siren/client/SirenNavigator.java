@@ -0,0 +1,393 @@
+package siren.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.HttpMethod;
+import siren.Link;
+import siren.Relation;
+import siren.forms.ActionSubmission;
+import siren.serializers.SirenReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Navigates siren APIs: retrieves entities, follows their links by relation and submits their actions.
+ *
+ * Connections are reused across requests. Every response body is consumed in full and closed,
+ * which is what allows the JDK to return the underlying connection to its keep-alive pool rather
+ * than establish a new one for the next request to the same host.
+ *
+ * Entities retrieved with an {@code ETag} are kept in a bounded, least-recently-used cache.
+ * Retrieving such an entity again sends {@code If-None-Match}; when the API responds with
+ * {@code 304 Not Modified} the cached entity is returned without a body being transferred or parsed.
+ * Submitting an action with a method other than GET evicts the action's href from the cache.
+ *
+ * Instances are safe for use by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenNavigator {
+
+    /**
+     * Constructs instances of {@link SirenNavigator}.
+     */
+    public static class Builder implements siren.Builder<SirenNavigator> {
+
+        private ObjectMapper objectMapper;
+        private Integer cacheSize;
+        private Integer connectTimeout;
+        private Integer readTimeout;
+
+        /**
+         * Constructs an instance of {@link SirenNavigator.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Adds the mapper provided to the current state of the builder.
+         * @param objectMapper The mapper used to parse entities and to write JSON request bodies.
+         * @return The builder this method is called on.
+         */
+        public Builder objectMapper(ObjectMapper objectMapper){
+            if(objectMapper == null){
+                throw new IllegalArgumentException("'objectMapper' cannot be null.");
+            }
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Adds the cache size provided to the current state of the builder.
+         * @param cacheSize The maximum number of entities kept in the cache; zero disables the cache.
+         * @return The builder this method is called on.
+         */
+        public Builder cacheSize(int cacheSize){
+            if(cacheSize < 0){
+                throw new IllegalArgumentException("'cacheSize' cannot be negative.");
+            }
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Adds the connect timeout provided to the current state of the builder.
+         * @param connectTimeout The timeout, in milliseconds, for establishing a connection.
+         * @return The builder this method is called on.
+         */
+        public Builder connectTimeout(int connectTimeout){
+            if(connectTimeout < 0){
+                throw new IllegalArgumentException("'connectTimeout' cannot be negative.");
+            }
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Adds the read timeout provided to the current state of the builder.
+         * @param readTimeout The timeout, in milliseconds, for reading a response.
+         * @return The builder this method is called on.
+         */
+        public Builder readTimeout(int readTimeout){
+            if(readTimeout < 0){
+                throw new IllegalArgumentException("'readTimeout' cannot be negative.");
+            }
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.objectMapper = null;
+            this.cacheSize = null;
+            this.connectTimeout = null;
+            this.readTimeout = null;
+        }
+
+        /**
+         * Constructs an instance of {@link SirenNavigator} with the current state of the builder.
+         * @return Instance of {@link SirenNavigator} with the current state of the builder.
+         */
+        @Override
+        public SirenNavigator build() {
+            return new SirenNavigator(
+                this.objectMapper != null ? this.objectMapper : new ObjectMapper(),
+                this.cacheSize != null ? this.cacheSize : DEFAULT_CACHE_SIZE,
+                this.connectTimeout != null ? this.connectTimeout : DEFAULT_TIMEOUT,
+                this.readTimeout != null ? this.readTimeout : DEFAULT_TIMEOUT
+            );
+        }
+    }
+
+    /**
+     * An entity kept along with the entity tag it was retrieved with.
+     */
+    private static final class CachedEntity {
+
+        private final String etag;
+        private final Entity entity;
+
+        private CachedEntity(String etag, Entity entity){
+            this.etag = etag;
+            this.entity = entity;
+        }
+    }
+
+    /**
+     * The media type of siren documents.
+     */
+    public static final String MEDIA_TYPE = "application/vnd.siren+json";
+
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static final int DEFAULT_TIMEOUT = 30000;
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+    private final SirenReader sirenReader;
+    private final Map<URI, CachedEntity> cache;
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    /**
+     * Constructs an instance of {@link SirenNavigator} with the default configuration.
+     */
+    public SirenNavigator(){
+        this(new ObjectMapper(), DEFAULT_CACHE_SIZE, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT);
+    }
+
+    private SirenNavigator(ObjectMapper objectMapper, final int cacheSize, int connectTimeout, int readTimeout){
+        this.objectMapper = objectMapper;
+        this.sirenReader = new SirenReader(objectMapper);
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.cache = new LinkedHashMap<URI, CachedEntity>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<URI, CachedEntity> eldest) {
+                return this.size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the entity at the URI provided.
+     * @param href The URI of the entity.
+     * @return The entity, or {@code null} if the response had no body.
+     * @throws IOException Thrown if the request fails, if the response has an unsuccessful status
+     * ({@link HttpStatusException}) or if the response body is not a siren entity.
+     */
+    public Entity get(URI href) throws IOException {
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        return this.exchange(HttpMethod.GET, href, null);
+    }
+
+    /**
+     * Retrieves the entity targeted by the first link of the entity provided with the relation provided.
+     * If no link has the relation, the embedded link sub-entities of the entity are considered.
+     * @param entity The entity whose link is to be followed.
+     * @param rel The relation of the link to follow.
+     * @return The entity targeted by the link, or {@code null} if the response had no body.
+     * @throws IOException Thrown if the request fails, if the response has an unsuccessful status
+     * ({@link HttpStatusException}) or if the response body is not a siren entity.
+     */
+    public Entity follow(Entity entity, Relation rel) throws IOException {
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        if(rel == null){
+            throw new IllegalArgumentException("'rel' cannot be null.");
+        }
+        URI href = href(entity, rel);
+        if(href == null){
+            throw new IllegalArgumentException("'entity' has no link with a relation of '" + rel + "'.");
+        }
+        return this.get(href);
+    }
+
+    /**
+     * Submits the action provided. Values not provided for a field fall back to the value of the field.
+     * @param action The action to submit.
+     * @param values The values of the fields of the action, keyed by field name.
+     * @return The entity in the response, or {@code null} if the response had no body.
+     * @throws IOException Thrown if the request fails, if the response has an unsuccessful status
+     * ({@link HttpStatusException}) or if the response body is not a siren entity.
+     * @see ActionSubmission
+     */
+    public Entity submit(Action action, Map<String, ?> values) throws IOException {
+        if(action == null){
+            throw new IllegalArgumentException("'action' cannot be null.");
+        }
+        if(values == null){
+            throw new IllegalArgumentException("'values' cannot be null.");
+        }
+        return this.submit(new ActionSubmission.Builder()
+            .action(action)
+            .values(values)
+            .objectMapper(this.objectMapper)
+            .build());
+    }
+
+    /**
+     * Submits the submission provided. Multipart bodies are streamed in chunks, so file values are
+     * never held in memory; other bodies are sent with a fixed length. PATCH is sent as a POST with
+     * an {@code X-HTTP-Method-Override} header, since it is not supported by {@link HttpURLConnection}.
+     * @param submission The submission.
+     * @return The entity in the response, or {@code null} if the response had no body.
+     * @throws IOException Thrown if the request fails, if the response has an unsuccessful status
+     * ({@link HttpStatusException}) or if the response body is not a siren entity.
+     */
+    public Entity submit(ActionSubmission submission) throws IOException {
+        if(submission == null){
+            throw new IllegalArgumentException("'submission' cannot be null.");
+        }
+        HttpMethod method = submission.getAction().getMethod();
+        if(method != HttpMethod.GET){
+            this.evict(submission.getAction().getHref());
+        }
+        return this.exchange(method, submission.getHref(), submission.hasBody() ? submission : null);
+    }
+
+    /**
+     * Removes the entity at the URI provided from the cache.
+     * @param href The URI of the entity.
+     */
+    public void evict(URI href){
+        synchronized(this.cache){
+            this.cache.remove(href);
+        }
+    }
+
+    private Entity exchange(HttpMethod method, URI href, ActionSubmission body) throws IOException {
+        CachedEntity cached = null;
+        if(method == HttpMethod.GET){
+            synchronized(this.cache){
+                cached = this.cache.get(href);
+            }
+        }
+
+        HttpURLConnection connection = (HttpURLConnection)href.toURL().openConnection();
+        try{
+            connection.setConnectTimeout(this.connectTimeout);
+            connection.setReadTimeout(this.readTimeout);
+            connection.setUseCaches(false);
+            if(method == HttpMethod.PATCH){
+                connection.setRequestMethod(HttpMethod.POST.toString());
+                connection.setRequestProperty("X-HTTP-Method-Override", HttpMethod.PATCH.toString());
+            }else{
+                connection.setRequestMethod(method.toString());
+            }
+            connection.setRequestProperty("Accept", MEDIA_TYPE + ", " + ActionSubmission.JSON + ";q=0.9");
+            if(cached != null){
+                connection.setRequestProperty("If-None-Match", cached.etag);
+            }
+            if(body != null){
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", body.getContentType());
+                if(body.getContentType().startsWith(ActionSubmission.MULTIPART_FORM_DATA)){
+                    connection.setChunkedStreamingMode(CHUNK_SIZE);
+                    try(OutputStream outputStream = connection.getOutputStream()){
+                        body.writeTo(outputStream);
+                    }
+                }else{
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    body.writeTo(buffer);
+                    connection.setFixedLengthStreamingMode(buffer.size());
+                    try(OutputStream outputStream = connection.getOutputStream()){
+                        buffer.writeTo(outputStream);
+                    }
+                }
+            }
+
+            int status = connection.getResponseCode();
+            if(status >= 400){
+                drain(connection.getErrorStream());
+                throw new HttpStatusException(status, method.toString(), href);
+            }
+            if(status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null){
+                drain(connection.getInputStream());
+                return cached.entity;
+            }
+
+            Entity entity = this.read(connection.getInputStream());
+            String etag = connection.getHeaderField("ETag");
+            if(method == HttpMethod.GET && entity != null && etag != null){
+                synchronized(this.cache){
+                    this.cache.put(href, new CachedEntity(etag, entity));
+                }
+            }
+            return entity;
+        }catch(IOException e){
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    /**
+     * Parses the entity from the body provided, then consumes and closes the body so
+     * that the connection can be reused.
+     */
+    private Entity read(InputStream inputStream) throws IOException {
+        if(inputStream == null) return null;
+        try{
+            JsonParser parser = this.objectMapper.getFactory().createParser(inputStream);
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if(parser.nextToken() == null) return null;
+            Entity entity = this.sirenReader.read(parser);
+            parser.close();
+            return entity;
+        }finally{
+            drain(inputStream);
+        }
+    }
+
+    private static void drain(InputStream inputStream) throws IOException {
+        if(inputStream == null) return;
+        try{
+            byte[] buffer = new byte[1024];
+            while(inputStream.read(buffer) != -1){
+                // discard the remainder of the body.
+            }
+        }finally{
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Determines the href of the first link of the entity provided with the relation provided,
+     * falling back to its embedded link sub-entities.
+     * @return The href, or {@code null} if the entity has no link with the relation.
+     */
+    static URI href(Entity entity, Relation rel){
+        List<Link> links = entity.getLinks();
+        if(links != null){
+            for(Link link : links){
+                if(link.getRel().contains(rel)) return link.getHref();
+            }
+        }
+        List<EntityBase> subEntities = entity.getEntities();
+        if(subEntities != null){
+            for(EntityBase subEntity : subEntities){
+                if(subEntity instanceof EmbeddedLinkSubEntity && ((EmbeddedLinkSubEntity)subEntity).getRel().contains(rel)){
+                    return ((EmbeddedLinkSubEntity)subEntity).getHref();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * Provides the classes that allow client applications to consume siren APIs.
+ *
+ * {@link siren.client.SirenNavigator} retrieves entities, follows their links by
+ * relation and submits their actions, reusing connections and keeping recently
+ * retrieved entities so that unchanged resources are neither transferred nor
+ * parsed again.
+ *
+ * {@link siren.client.PageIterator} walks paged collections while retrieving the
+ * pages ahead of the consumer, and {@link siren.client.SirenCrawler} traverses the
+ * resource graph of an API concurrently, reporting its progress through a
+ * {@link siren.client.CrawlListener} and a {@link siren.client.CrawlReport}.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+package siren.client;
@@ -0,0 +1,349 @@
+package siren.diff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Link;
+import siren.Relation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes the differences between two versions of an {@link Entity} as a
+ * JSON Patch (RFC6902) document that targets the serialized form of the source entity.
+ *
+ * Properties are compared by key, links by relation, actions by name and sub-entities
+ * by their self link. Members whose instances are shared between both versions are
+ * skipped without being examined, so building the new version of an entity by reusing
+ * the unchanged links, actions and sub-entities of the previous version keeps the
+ * cost of a diff proportional to what actually changed.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ *
+ * @see <a href="http://tools.ietf.org/html/rfc6902">RFC6902</a>
+ * @see <a href="http://tools.ietf.org/html/rfc6901">RFC6901</a>
+ */
+public class EntityDiff {
+
+    /**
+     * Compares two elements of a collection that were matched to each other.
+     * @param <T> The type of the elements being compared.
+     */
+    private interface ElementDiff<T> {
+
+        /**
+         * Appends the operations transforming the source element into the target element.
+         * @param path The JSON pointer of the source element.
+         * @param source The source element.
+         * @param target The target element.
+         * @param patch The patch the operations are appended to.
+         */
+        void diff(String path, T source, T target, ArrayNode patch);
+    }
+
+    /**
+     * Derives the key used to match elements of a collection across versions.
+     * @param <T> The type of the elements being keyed.
+     */
+    private interface ElementKey<T> {
+
+        /**
+         * Derives the key of the element provided.
+         * @param element The element to derive the key of.
+         * @return The key of the element; may be {@code null}.
+         */
+        String of(T element);
+    }
+
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String REPLACE = "replace";
+
+    private final ObjectMapper objectMapper;
+
+    private final ElementKey<Link> linkKey = new ElementKey<Link>() {
+        @Override
+        public String of(Link link) {
+            return String.valueOf(link.getRel());
+        }
+    };
+
+    private final ElementKey<Action> actionKey = new ElementKey<Action>() {
+        @Override
+        public String of(Action action) {
+            return action.getName();
+        }
+    };
+
+    private final ElementKey<EntityBase> subEntityKey = new ElementKey<EntityBase>() {
+        @Override
+        public String of(EntityBase subEntity) {
+            return selfHref(subEntity);
+        }
+    };
+
+    private final ElementDiff<Link> linkDiff = new ElementDiff<Link>() {
+        @Override
+        public void diff(String path, Link source, Link target, ArrayNode patch) {
+            if(source != target && !source.equals(target)){
+                operation(patch, REPLACE, path, target);
+            }
+        }
+    };
+
+    private final ElementDiff<Action> actionDiff = new ElementDiff<Action>() {
+        @Override
+        public void diff(String path, Action source, Action target, ArrayNode patch) {
+            if(source != target && !source.equals(target)){
+                operation(patch, REPLACE, path, target);
+            }
+        }
+    };
+
+    private final ElementDiff<EntityBase> subEntityDiff = new ElementDiff<EntityBase>() {
+        @Override
+        public void diff(String path, EntityBase source, EntityBase target, ArrayNode patch) {
+            diffEntityBase(path, source, target, patch);
+        }
+    };
+
+    /**
+     * Constructs an instance of {@link EntityDiff}.
+     */
+    public EntityDiff(){
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Constructs an instance of {@link EntityDiff}.
+     * @param objectMapper The mapper used to convert added and replaced values into JSON.
+     *                     It should be configured the same way as the mapper used to serialize
+     *                     the entities, so that the patch targets the same representation.
+     */
+    public EntityDiff(ObjectMapper objectMapper){
+        if(objectMapper == null){
+            throw new IllegalArgumentException("'objectMapper' cannot be null.");
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Computes the JSON Patch transforming the source entity into the target entity.
+     * @param source The previous version of the entity.
+     * @param target The current version of the entity.
+     * @return The JSON Patch document; an empty array if both versions are equivalent.
+     */
+    public ArrayNode diff(Entity source, Entity target){
+        if(source == null){
+            throw new IllegalArgumentException("'source' cannot be null.");
+        }
+        if(target == null){
+            throw new IllegalArgumentException("'target' cannot be null.");
+        }
+        ArrayNode patch = this.objectMapper.getNodeFactory().arrayNode();
+        this.diffEntityBase("", source, target, patch);
+        return patch;
+    }
+
+    private void diffEntityBase(String path, EntityBase source, EntityBase target, ArrayNode patch){
+        if(source == target) return;
+
+        if(source.getClass() != target.getClass()){
+            this.operation(patch, REPLACE, path, target);
+        }else if(source instanceof EmbeddedLinkSubEntity){
+            this.diffEmbeddedLink(path, (EmbeddedLinkSubEntity)source, (EmbeddedLinkSubEntity)target, patch);
+        }else{
+            this.diffEntity(path, (Entity)source, (Entity)target, patch);
+        }
+    }
+
+    private void diffEmbeddedLink(
+        String path,
+        EmbeddedLinkSubEntity source,
+        EmbeddedLinkSubEntity target,
+        ArrayNode patch
+    ){
+        this.replaceIfChanged(patch, path + "/title", source.getTitle(), target.getTitle());
+        this.replaceIfChanged(patch, path + "/rel", source.getRel(), target.getRel());
+        this.replaceIfChanged(patch, path + "/href", source.getHref(), target.getHref());
+        this.replaceIfChanged(patch, path + "/type", source.getType(), target.getType());
+        this.replaceIfChanged(patch, path + "/class", source.getKlass(), target.getKlass());
+    }
+
+    private void diffEntity(String path, Entity source, Entity target, ArrayNode patch){
+        this.replaceIfChanged(patch, path + "/title", source.getTitle(), target.getTitle());
+        this.diffProperties(path + "/properties", source.getProperties(), target.getProperties(), patch);
+        this.diffList(path + "/actions", source.getActions(), target.getActions(), this.actionKey, this.actionDiff, patch);
+        this.diffList(path + "/links", source.getLinks(), target.getLinks(), this.linkKey, this.linkDiff, patch);
+
+        if(source instanceof EmbeddedRepresentationSubEntity){
+            this.replaceIfChanged(
+                patch,
+                path + "/rel",
+                ((EmbeddedRepresentationSubEntity)source).getRel(),
+                ((EmbeddedRepresentationSubEntity)target).getRel()
+            );
+        }
+
+        this.diffList(
+            path + "/entities",
+            source.getEntities(),
+            target.getEntities(),
+            this.subEntityKey,
+            this.subEntityDiff,
+            patch
+        );
+        this.replaceIfChanged(patch, path + "/class", source.getKlass(), target.getKlass());
+    }
+
+    private void diffProperties(String path, Map<String, Object> source, Map<String, Object> target, ArrayNode patch){
+        if(source == null || target == null){
+            if(source != target) this.operation(patch, REPLACE, path, target);
+            return;
+        }
+
+        for(String key : source.keySet()){
+            if(!target.containsKey(key)){
+                this.operation(patch, REMOVE, path + "/" + escape(key), null);
+            }
+        }
+
+        for(Map.Entry<String, Object> property : target.entrySet()){
+            String propertyPath = path + "/" + escape(property.getKey());
+            if(!source.containsKey(property.getKey())){
+                this.operation(patch, ADD, propertyPath, property.getValue());
+            }else{
+                this.replaceIfChanged(patch, propertyPath, source.get(property.getKey()), property.getValue());
+            }
+        }
+    }
+
+    /**
+     * Diffs two lists whose elements are matched by key. Elements only present in the source
+     * are removed (highest index first), elements only present in the target are added at their
+     * final index and matched elements are diffed in place. If the matched elements were reordered,
+     * the list is replaced as a whole, since JSON Patch cannot express a reorder more compactly.
+     */
+    private <T> void diffList(
+        String path,
+        List<T> source,
+        List<T> target,
+        ElementKey<T> key,
+        ElementDiff<T> elementDiff,
+        ArrayNode patch
+    ){
+        if(source == null || target == null){
+            if(source != target) this.operation(patch, REPLACE, path, target);
+            return;
+        }
+
+        List<String> sourceKeys = keys(source, key);
+        List<String> targetKeys = keys(target, key);
+        Set<String> targetKeySet = new HashSet<>(targetKeys);
+
+        Map<String, Integer> sourceIndexes = new HashMap<>();
+        for(int i = 0; i < sourceKeys.size(); i++){
+            sourceIndexes.put(sourceKeys.get(i), i);
+        }
+
+        List<String> retainedKeys = new ArrayList<>();
+        for(String sourceKey : sourceKeys){
+            if(targetKeySet.contains(sourceKey)) retainedKeys.add(sourceKey);
+        }
+
+        List<String> matchedKeys = new ArrayList<>();
+        for(String targetKey : targetKeys){
+            if(sourceIndexes.containsKey(targetKey)) matchedKeys.add(targetKey);
+        }
+
+        if(!retainedKeys.equals(matchedKeys)){
+            this.operation(patch, REPLACE, path, target);
+            return;
+        }
+
+        for(int i = sourceKeys.size() - 1; i >= 0; i--){
+            if(!targetKeySet.contains(sourceKeys.get(i))){
+                this.operation(patch, REMOVE, path + "/" + i, null);
+            }
+        }
+
+        for(int i = 0; i < targetKeys.size(); i++){
+            Integer sourceIndex = sourceIndexes.get(targetKeys.get(i));
+            if(sourceIndex == null){
+                this.operation(patch, ADD, path + "/" + i, target.get(i));
+            }else{
+                elementDiff.diff(path + "/" + i, source.get(sourceIndex), target.get(i), patch);
+            }
+        }
+    }
+
+    private void replaceIfChanged(ArrayNode patch, String path, Object source, Object target){
+        if(!Objects.equals(source, target)){
+            this.operation(patch, REPLACE, path, target);
+        }
+    }
+
+    private void operation(ArrayNode patch, String op, String path, Object value){
+        ObjectNode operation = patch.addObject();
+        operation.put("op", op);
+        operation.put("path", path);
+        if(!REMOVE.equals(op)){
+            JsonNode valueNode = this.objectMapper.valueToTree(value);
+            operation.set("value", valueNode == null ? operation.nullNode() : valueNode);
+        }
+    }
+
+    /**
+     * Qualifies each element key with its occurrence, so that elements sharing a key
+     * (such as several links with a relation of 'item') are matched in order.
+     */
+    private static <T> List<String> keys(List<T> elements, ElementKey<T> key){
+        List<String> keys = new ArrayList<>(elements.size());
+        Map<String, Integer> occurrences = new HashMap<>();
+        for(T element : elements){
+            String elementKey = String.valueOf(key.of(element));
+            Integer occurrence = occurrences.get(elementKey);
+            occurrence = occurrence == null ? 0 : occurrence + 1;
+            occurrences.put(elementKey, occurrence);
+            keys.add(elementKey + "#" + occurrence);
+        }
+        return keys;
+    }
+
+    private static String selfHref(EntityBase subEntity){
+        if(subEntity instanceof EmbeddedLinkSubEntity){
+            return String.valueOf(((EmbeddedLinkSubEntity)subEntity).getHref());
+        }
+        List<Link> links = ((Entity)subEntity).getLinks();
+        if(links != null){
+            for(Link link : links){
+                for(Relation rel : link.getRel()){
+                    if(!rel.isExtension() && Relation.SELF.equals(rel.toString())){
+                        return String.valueOf(link.getHref());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Escapes a reference token per JSON Pointer (RFC6901).
+     */
+    private static String escape(String token){
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
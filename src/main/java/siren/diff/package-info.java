@@ -0,0 +1,13 @@
+/**
+ * Provides the classes necessary for computing the differences between
+ * two versions of a siren entity.
+ *
+ * The differences are expressed as a JSON Patch (RFC6902) document that
+ * targets the serialized form of the source entity. Applying the patch to the
+ * serialized source entity yields the serialized target entity, which allows
+ * servers to respond with deltas rather than complete representations.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+package siren.diff;
@@ -0,0 +1,257 @@
+package siren.expansion;
+
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Link;
+import siren.Relation;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Expands the embedded link sub-entities of an entity into embedded representation sub-entities.
+ *
+ * Rather than resolving each linked sub-entity on its own, the expander collects every linked
+ * sub-entity to expand across the whole entity, groups their hrefs by relation, removes duplicate
+ * hrefs and hands each group to the {@link EmbeddedLinkResolver} as a single batch. The batches
+ * run concurrently on the executor provided, so the latency of an expansion is that of the
+ * slowest batch rather than the sum of every lookup.
+ *
+ * Expansion is bounded by a deadline. Batches that have not completed once the deadline passes
+ * are cancelled, and their sub-entities are left as embedded links, which remain a valid
+ * representation of the entity.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class EmbeddedLinkExpander {
+
+    private final EmbeddedLinkResolver resolver;
+    private final ExecutorService executorService;
+
+    /**
+     * Constructs an instance of {@link EmbeddedLinkExpander}.
+     * @param resolver Resolves the representations of the linked sub-entities.
+     * @param executorService Runs the batches of lookups. Its size bounds the number of
+     *                        batches resolved concurrently. The executor is not shut down
+     *                        by the expander.
+     */
+    public EmbeddedLinkExpander(EmbeddedLinkResolver resolver, ExecutorService executorService){
+        if(resolver == null){
+            throw new IllegalArgumentException("'resolver' cannot be null.");
+        }
+        if(executorService == null){
+            throw new IllegalArgumentException("'executorService' cannot be null.");
+        }
+        this.resolver = resolver;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Expands the embedded link sub-entities of the entity provided, at any depth,
+     * that are related to it by one of the relations provided. Representations returned
+     * by the resolver are embedded as they are; embedded links they contain are not expanded.
+     * @param entity The entity whose embedded link sub-entities are to be expanded.
+     * @param rels The relations of the embedded link sub-entities to expand.
+     * @param timeout The maximum time to wait for the expansion.
+     * @param unit The unit of the timeout.
+     * @return The expanded entity. Sub-trees without anything to expand are shared with the
+     * entity provided; if nothing was expanded, the entity provided is returned.
+     * @throws InterruptedException Thrown if the current thread is interrupted while waiting.
+     * @throws ExecutionException Thrown if the resolver fails to resolve a batch.
+     */
+    public Entity expand(Entity entity, Collection<Relation> rels, long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException {
+
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        if(rels == null){
+            throw new IllegalArgumentException("'rels' cannot be null.");
+        }
+        if(unit == null){
+            throw new IllegalArgumentException("'unit' cannot be null.");
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        Map<Relation, Set<URI>> batches = this.batches(entity, rels);
+        if(batches.isEmpty()) return entity;
+
+        Map<Relation, Future<Map<URI, Entity>>> futures = new LinkedHashMap<>();
+        for(final Map.Entry<Relation, Set<URI>> batch : batches.entrySet()){
+            futures.put(batch.getKey(), this.executorService.submit(new Callable<Map<URI, Entity>>() {
+                @Override
+                public Map<URI, Entity> call() throws Exception {
+                    return resolver.resolve(batch.getKey(), batch.getValue());
+                }
+            }));
+        }
+
+        Map<Relation, Map<URI, Entity>> resolved = new HashMap<>();
+        try{
+            for(Map.Entry<Relation, Future<Map<URI, Entity>>> future : futures.entrySet()){
+                try{
+                    long remaining = deadline - System.nanoTime();
+                    Map<URI, Entity> representations = future.getValue().get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                    if(representations != null){
+                        resolved.put(future.getKey(), representations);
+                    }
+                }catch(TimeoutException e){
+                    future.getValue().cancel(true);
+                }
+            }
+        }finally{
+            for(Future<Map<URI, Entity>> future : futures.values()){
+                future.cancel(true);
+            }
+        }
+
+        if(resolved.isEmpty()) return entity;
+        return (Entity)this.rebuild(entity, rels, resolved);
+    }
+
+    /**
+     * Groups the hrefs of the embedded link sub-entities to expand by relation,
+     * walking the entity with an explicit stack.
+     */
+    private Map<Relation, Set<URI>> batches(Entity entity, Collection<Relation> rels){
+        Map<Relation, Set<URI>> batches = new LinkedHashMap<>();
+        Deque<Entity> pending = new ArrayDeque<>();
+        pending.push(entity);
+        while(!pending.isEmpty()){
+            List<EntityBase> subEntities = pending.pop().getEntities();
+            if(subEntities == null) continue;
+            for(EntityBase subEntity : subEntities){
+                if(subEntity instanceof EmbeddedLinkSubEntity){
+                    EmbeddedLinkSubEntity link = (EmbeddedLinkSubEntity)subEntity;
+                    Relation rel = batchRelation(link, rels);
+                    if(rel == null) continue;
+                    Set<URI> hrefs = batches.get(rel);
+                    if(hrefs == null){
+                        hrefs = new LinkedHashSet<>();
+                        batches.put(rel, hrefs);
+                    }
+                    hrefs.add(link.getHref());
+                }else{
+                    pending.push((Entity)subEntity);
+                }
+            }
+        }
+        return batches;
+    }
+
+    private EntityBase rebuild(EntityBase subEntity, Collection<Relation> rels, Map<Relation, Map<URI, Entity>> resolved){
+        if(subEntity instanceof EmbeddedLinkSubEntity){
+            EmbeddedLinkSubEntity link = (EmbeddedLinkSubEntity)subEntity;
+            Map<URI, Entity> representations = resolved.get(batchRelation(link, rels));
+            Entity representation = representations == null ? null : representations.get(link.getHref());
+            return representation == null ? link : embed(link, representation);
+        }
+
+        Entity entity = (Entity)subEntity;
+        List<EntityBase> subEntities = entity.getEntities();
+        if(subEntities == null) return entity;
+
+        boolean changed = false;
+        for(int i = 0; i < subEntities.size(); i++){
+            EntityBase original = subEntities.get(i);
+            EntityBase rebuilt = this.rebuild(original, rels, resolved);
+            if(rebuilt != original){
+                subEntities.set(i, rebuilt);
+                changed = true;
+            }
+        }
+
+        return changed ? copy(entity, subEntities) : entity;
+    }
+
+    /**
+     * Determines the relation whose batch the embedded link sub-entity provided belongs to,
+     * which is the first of its relations that is to be expanded.
+     */
+    private static Relation batchRelation(EmbeddedLinkSubEntity link, Collection<Relation> rels){
+        for(Relation rel : link.getRel()){
+            if(rels.contains(rel)) return rel;
+        }
+        return null;
+    }
+
+    private static EmbeddedRepresentationSubEntity embed(EmbeddedLinkSubEntity link, Entity representation){
+        EmbeddedRepresentationSubEntity.Builder builder = new EmbeddedRepresentationSubEntity.Builder();
+        builder.rels(link.getRel().toArray(new Relation[0]));
+        builder.title(representation.getTitle() != null ? representation.getTitle() : link.getTitle());
+
+        List<String> klass = representation.getKlass() != null ? representation.getKlass() : link.getKlass();
+        if(klass != null) builder.klasses(klass.toArray(new String[0]));
+
+        Map<String, Object> properties = representation.getProperties();
+        if(properties != null){
+            for(Map.Entry<String, Object> property : properties.entrySet()){
+                builder.property(property.getKey(), property.getValue());
+            }
+        }
+
+        List<Action> actions = representation.getActions();
+        if(actions != null) builder.actions(actions.toArray(new Action[0]));
+
+        List<Link> links = representation.getLinks();
+        if(links != null) builder.links(links.toArray(new Link[0]));
+
+        List<EntityBase> subEntities = representation.getEntities();
+        if(subEntities != null) builder.subEntities(subEntities.toArray(new EntityBase[0]));
+
+        return builder.build();
+    }
+
+    private static Entity copy(Entity entity, List<EntityBase> subEntities){
+        if(entity instanceof EmbeddedRepresentationSubEntity){
+            EmbeddedRepresentationSubEntity source = (EmbeddedRepresentationSubEntity)entity;
+            EmbeddedRepresentationSubEntity.Builder builder = new EmbeddedRepresentationSubEntity.Builder()
+                .rels(source.getRel().toArray(new Relation[0]))
+                .title(source.getTitle())
+                .subEntities(subEntities.toArray(new EntityBase[0]));
+            if(source.getKlass() != null) builder.klasses(source.getKlass().toArray(new String[0]));
+            if(source.getActions() != null) builder.actions(source.getActions().toArray(new Action[0]));
+            if(source.getLinks() != null) builder.links(source.getLinks().toArray(new Link[0]));
+            Map<String, Object> properties = source.getProperties();
+            if(properties != null){
+                for(Map.Entry<String, Object> property : properties.entrySet()){
+                    builder.property(property.getKey(), property.getValue());
+                }
+            }
+            return builder.build();
+        }
+
+        Entity.Builder builder = new Entity.Builder()
+            .title(entity.getTitle())
+            .subEntities(subEntities.toArray(new EntityBase[0]));
+        if(entity.getKlass() != null) builder.klasses(entity.getKlass().toArray(new String[0]));
+        if(entity.getActions() != null) builder.actions(entity.getActions().toArray(new Action[0]));
+        if(entity.getLinks() != null) builder.links(entity.getLinks().toArray(new Link[0]));
+        Map<String, Object> properties = entity.getProperties();
+        if(properties != null){
+            for(Map.Entry<String, Object> property : properties.entrySet()){
+                builder.property(property.getKey(), property.getValue());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,28 @@
+package siren.expansion;
+
+import siren.Entity;
+import siren.Relation;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Defines the contract that all types choosing to resolve the
+ * representations of embedded link sub-entities must abide by.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public interface EmbeddedLinkResolver {
+
+    /**
+     * Resolves the representations of the linked sub-entities provided in a single batch.
+     * Implementations may be called concurrently, once per relation.
+     * @param rel The relation shared by the linked sub-entities.
+     * @param hrefs The distinct URIs of the linked sub-entities.
+     * @return The representations keyed by URI. URIs that cannot be resolved may be
+     * omitted, in which case their sub-entities are left as embedded links.
+     * @throws Exception Thrown if the representations cannot be resolved.
+     */
+    Map<URI, Entity> resolve(Relation rel, Set<URI> hrefs) throws Exception;
+}
@@ -0,0 +1,12 @@
+/**
+ * Provides the classes necessary for expanding embedded link sub-entities
+ * into embedded representation sub-entities.
+ *
+ * Client applications plug in how representations are looked up by implementing
+ * {@link siren.expansion.EmbeddedLinkResolver}; {@link siren.expansion.EmbeddedLinkExpander}
+ * takes care of batching, de-duplicating and concurrently running those lookups.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+package siren.expansion;
@@ -0,0 +1,154 @@
+package siren.factories;
+
+import siren.Action;
+import siren.Field;
+import siren.FieldValue;
+import siren.Link;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizes structurally equal instances of {@link Link}, {@link Action}, {@link Field}
+ * and {@link FieldValue} to a single shared instance.
+ *
+ * The same link or action is commonly built once for every item of a collection. Passing each
+ * instance through an interner replaces it with the first equal instance interned, so that an
+ * entity graph holds one instance of each distinct link or action, and comparing two interned
+ * instances for equality is an identity check.
+ *
+ * The interner holds its canonical instances weakly; an instance no longer referenced outside
+ * of the interner is reclaimed by the garbage collector and removed from the interner, so the
+ * interner does not need to be cleared. Instances are only canonicalized with instances of the
+ * same class. Interning an action does not intern its fields; an action equal to one already
+ * interned is replaced along with its fields. Field values are compared with
+ * {@link Object#equals(Object)}, so fields and field values should only be interned while their
+ * values are not modified.
+ *
+ * An interner may be used by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class Interner {
+
+    /**
+     * Weakly refers to an interned instance, comparing equal to the keys of equal instances.
+     */
+    private static final class Key extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        private Key(Object instance, ReferenceQueue<Object> queue){
+            super(instance, queue);
+            this.hashCode = instance.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj){
+            if(this == obj) return true;
+            if(!(obj instanceof Key) || ((Key)obj).hashCode != this.hashCode) return false;
+            Object instance = this.get();
+            return instance != null && instance.equals(((Key)obj).get());
+        }
+
+        @Override
+        public int hashCode(){
+            return this.hashCode;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Key> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Constructs an instance of {@link Interner}.
+     */
+    public Interner(){}
+
+    /**
+     * Retrieves the canonical instance equal to the link provided.
+     * @param link The link to intern.
+     * @return The link previously interned that is equal to the link provided, or the link provided if there is none.
+     */
+    public Link intern(Link link){
+        if(link == null){
+            throw new IllegalArgumentException("'link' cannot be null.");
+        }
+        return this.canonical(link);
+    }
+
+    /**
+     * Retrieves the canonical instance equal to the action provided.
+     * @param action The action to intern.
+     * @return The action previously interned that is equal to the action provided, or the action provided if there is none.
+     */
+    public Action intern(Action action){
+        if(action == null){
+            throw new IllegalArgumentException("'action' cannot be null.");
+        }
+        return this.canonical(action);
+    }
+
+    /**
+     * Retrieves the canonical instance equal to the field provided.
+     * @param field The field to intern.
+     * @param <T> The type of the value of the field.
+     * @return The field previously interned that is equal to the field provided, or the field provided if there is none.
+     */
+    public <T> Field<T> intern(Field<T> field){
+        if(field == null){
+            throw new IllegalArgumentException("'field' cannot be null.");
+        }
+        return this.canonical(field);
+    }
+
+    /**
+     * Retrieves the canonical instance equal to the field value provided.
+     * @param fieldValue The field value to intern.
+     * @param <T> The type of the value.
+     * @return The field value previously interned that is equal to the field value provided,
+     * or the field value provided if there is none.
+     */
+    public <T> FieldValue<T> intern(FieldValue<T> fieldValue){
+        if(fieldValue == null){
+            throw new IllegalArgumentException("'fieldValue' cannot be null.");
+        }
+        return this.canonical(fieldValue);
+    }
+
+    /**
+     * Retrieves the number of canonical instances held by the interner, including any that
+     * have been reclaimed but not yet removed.
+     * @return The number of canonical instances.
+     */
+    public int size(){
+        this.expunge();
+        return this.pool.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T canonical(T instance){
+        this.expunge();
+        Key key = new Key(instance, this.queue);
+        while(true){
+            Key existing = this.pool.putIfAbsent(key, key);
+            if(existing == null) return instance;
+            Object canonical = existing.get();
+            if(canonical != null) return (T)canonical;
+            this.pool.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Removes the keys of reclaimed instances.
+     */
+    private void expunge(){
+        Reference<?> reference;
+        while((reference = this.queue.poll()) != null){
+            this.pool.remove(reference, reference);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package siren.factories;
+
+import siren.Action;
+import siren.Builder;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.Field;
+import siren.FieldValue;
+import siren.Link;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out builders for the duration of a request and takes them all back at once when closed.
+ *
+ * A request handler opens the arena of its thread, draws a builder from it for each instance it
+ * builds, and closes the arena once the response has been written. The arena draws its builders
+ * from a {@link PoolingBuilderFactory} for each type of builder and keeps track of those it hands
+ * out; closing the arena releases each of them to its factory, so that the next request on the
+ * thread draws the same builders again. Each factory pools up to the capacity the arena was opened
+ * with, so a request drawing more builders of a type than that leaves only the capacity pooled,
+ * rather than pinning every builder it drew to the thread.
+ *
+ * Builders keep the collections they accumulate when released, so once a thread has served a
+ * request of a similar shape, the builders and their collections are no longer allocated. Steady
+ * state allocation is not near zero, though: every request still allocates the instances it builds
+ * and the exact-size collections they hold. The arena saves what constructing a builder for each
+ * instance would allocate, and no more.
+ *
+ * Builders can only be drawn while the arena is open, and builders drawn from an arena must not be
+ * used once it has been closed, nor shared with other threads.
+ *
+ * <pre>{@code
+ * try(SirenArena arena = SirenArena.open()){
+ *     Link self = arena.link().rel(Relation.SELF).href(href).build();
+ *     ...
+ *     sirenWriter.write(entity, outputStream);
+ * }
+ * }</pre>
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenArena implements AutoCloseable {
+
+    /**
+     * The default maximum number of idle builders of each type pooled for a thread.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The builders of a single type drawn from an arena, which are released to their factory when it is closed.
+     */
+    private static final class Drawn<T extends Builder> {
+
+        private final PoolingBuilderFactory<T> builderFactory;
+        private final List<T> builders = new ArrayList<>();
+
+        private Drawn(BuilderFactory<T> builderFactory, int capacity){
+            this.builderFactory = new PoolingBuilderFactory<>(builderFactory, capacity);
+        }
+
+        private T next(){
+            T builder = this.builderFactory.create();
+            this.builders.add(builder);
+            return builder;
+        }
+
+        private void release(){
+            for(int i = 0; i < this.builders.size(); i++){
+                this.builderFactory.release(this.builders.get(i));
+            }
+            this.builders.clear();
+        }
+    }
+
+    private static final ThreadLocal<SirenArena> ARENAS = new ThreadLocal<>();
+
+    private final int capacity;
+    private final Drawn<Link.Builder> links;
+    private final Drawn<Action.Builder> actions;
+    private final Drawn<Field.Builder<Object>> fields;
+    private final Drawn<FieldValue.Builder<Object>> fieldValues;
+    private final Drawn<Entity.Builder> entities;
+    private final Drawn<EmbeddedLinkSubEntity.Builder> embeddedLinks;
+    private final Drawn<EmbeddedRepresentationSubEntity.Builder> embeddedRepresentations;
+    private boolean open;
+
+    private SirenArena(int capacity){
+        this.capacity = capacity;
+        this.links = new Drawn<>(new LinkBuilderFactory(), capacity);
+        this.actions = new Drawn<>(new ActionBuilderFactory(), capacity);
+        this.fields = new Drawn<>(new FieldBuilderFactory<>(), capacity);
+        this.fieldValues = new Drawn<>(FieldValue.Builder::new, capacity);
+        this.entities = new Drawn<>(new EntityBuilderFactory(), capacity);
+        this.embeddedLinks = new Drawn<>(new EmbeddedLinkSubEntityBuilderFactory(), capacity);
+        this.embeddedRepresentations = new Drawn<>(new EmbeddedRepresentationSubEntityBuilderFactory(), capacity);
+    }
+
+    /**
+     * Opens the arena of the calling thread, which pools up to {@link #DEFAULT_CAPACITY} builders of each type.
+     * @return The arena of the calling thread.
+     * @throws IllegalStateException Thrown if the arena of the calling thread is already open.
+     */
+    public static SirenArena open(){
+        return open(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the arena of the calling thread. If the arena of the thread pools up to a different number
+     * of builders, it is replaced by one with the capacity provided, and the builders it pooled are dropped.
+     * @param capacity The maximum number of idle builders of each type pooled for the calling thread.
+     * @return The arena of the calling thread.
+     * @throws IllegalStateException Thrown if the arena of the calling thread is already open.
+     */
+    public static SirenArena open(int capacity){
+        if(capacity < 1){
+            throw new IllegalArgumentException("'capacity' must be greater than zero.");
+        }
+        SirenArena arena = ARENAS.get();
+        if(arena != null && arena.open){
+            throw new IllegalStateException("The arena of the calling thread is already open.");
+        }
+        if(arena == null || arena.capacity != capacity){
+            arena = new SirenArena(capacity);
+            ARENAS.set(arena);
+        }
+        arena.open = true;
+        return arena;
+    }
+
+    /**
+     * Draws a link builder from the arena.
+     * @return A link builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    public Link.Builder link(){
+        return this.draw(this.links);
+    }
+
+    /**
+     * Draws an action builder from the arena.
+     * @return An action builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    public Action.Builder action(){
+        return this.draw(this.actions);
+    }
+
+    /**
+     * Draws a field builder from the arena.
+     * @param <T> The type of the value of the field.
+     * @return A field builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Field.Builder<T> field(){
+        return (Field.Builder<T>)(Field.Builder<?>)this.draw(this.fields);
+    }
+
+    /**
+     * Draws a field value builder from the arena.
+     * @param <T> The type of the value.
+     * @return A field value builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> FieldValue.Builder<T> fieldValue(){
+        return (FieldValue.Builder<T>)(FieldValue.Builder<?>)this.draw(this.fieldValues);
+    }
+
+    /**
+     * Draws an entity builder from the arena.
+     * @return An entity builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    public Entity.Builder entity(){
+        return this.draw(this.entities);
+    }
+
+    /**
+     * Draws an embedded link sub-entity builder from the arena.
+     * @return An embedded link sub-entity builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    public EmbeddedLinkSubEntity.Builder embeddedLink(){
+        return this.draw(this.embeddedLinks);
+    }
+
+    /**
+     * Draws an embedded representation sub-entity builder from the arena.
+     * @return An embedded representation sub-entity builder with no state.
+     * @throws IllegalStateException Thrown if the arena is not open.
+     */
+    public EmbeddedRepresentationSubEntity.Builder embeddedRepresentation(){
+        return this.draw(this.embeddedRepresentations);
+    }
+
+    /**
+     * Releases every builder drawn from the arena, clearing them and making them available to be drawn again.
+     * The instances built with them are not affected.
+     */
+    @Override
+    public void close() {
+        this.links.release();
+        this.actions.release();
+        this.fields.release();
+        this.fieldValues.release();
+        this.entities.release();
+        this.embeddedLinks.release();
+        this.embeddedRepresentations.release();
+        this.open = false;
+    }
+
+    private <T extends Builder> T draw(Drawn<T> drawn){
+        if(!this.open){
+            throw new IllegalStateException("The arena is not open.");
+        }
+        return drawn.next();
+    }
+}
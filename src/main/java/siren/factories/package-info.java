@@ -10,6 +10,14 @@
  * object lifecycle of instances of the factory classes, while using them to
  * generate instances of other siren classes in the class receiving the injection.
  *
+ * {@link siren.factories.PoolingBuilderFactory} reuses builders released to it, one pool
+ * per thread, for applications that build many instances in a loop.
+ * {@link siren.factories.SirenArena} hands out builders for the duration of a request and
+ * takes them all back to its pools once the response has been written.
+ *
+ * {@link siren.factories.Interner} canonicalizes equal links, actions, fields and field
+ * values once they have been built, so that the entities holding them share one instance.
+ *
  * @author jonfreer
  * @since 9/13/17
  */
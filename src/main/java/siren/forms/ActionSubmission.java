@@ -0,0 +1,398 @@
+package siren.forms;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import siren.Action;
+import siren.Field;
+import siren.FieldValue;
+import siren.HttpMethod;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents the submission of an action with values for its fields, and encodes it as a request.
+ *
+ * Values not provided for a field fall back to the value of the field; for fields whose value is
+ * a list of {@link FieldValue}, only the selected values are submitted. Values provided for names
+ * that do not match a field are submitted after the fields.
+ *
+ * GET and DELETE submissions carry their values in the query string of {@link #getHref()} and have
+ * no body. Other submissions are written by {@link #writeTo(OutputStream)} per the type of the action:
+ * {@code application/x-www-form-urlencoded}, {@code application/json} or {@code multipart/form-data}.
+ * Multipart bodies take {@link Path} and {@link InputStream} values as files, copying them to the
+ * output stream in fixed-size chunks so that a file is never held in memory as a whole. File values
+ * are rejected for any other submission, including those without a body.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ActionSubmission {
+
+    /**
+     * Constructs instances of {@link ActionSubmission}.
+     */
+    public static class Builder implements siren.Builder<ActionSubmission> {
+
+        private Action action;
+        private Map<String, Object> values = new LinkedHashMap<>();
+        private ObjectMapper objectMapper;
+        private String boundary;
+
+        /**
+         * Constructs an instance of {@link ActionSubmission.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Adds the action provided to the current state of the builder.
+         * @param action The action to submit.
+         * @return The builder this method is called on.
+         */
+        public Builder action(Action action){
+            if(action == null){
+                throw new IllegalArgumentException("'action' cannot be null.");
+            }
+            this.action = action;
+            return this;
+        }
+
+        /**
+         * Adds the value provided to the current state of the builder.
+         * @param name The name of the field the value is for.
+         * @param value The value. Lists submit one value per element.
+         * @return The builder this method is called on.
+         */
+        public Builder value(String name, Object value){
+            if(name == null){
+                throw new IllegalArgumentException("'name' cannot be null.");
+            }
+            this.values.put(name, value);
+            return this;
+        }
+
+        /**
+         * Adds the values provided to the current state of the builder.
+         * @param values The values, keyed by the name of the field they are for.
+         * @return The builder this method is called on.
+         */
+        public Builder values(Map<String, ?> values){
+            if(values == null){
+                throw new IllegalArgumentException("'values' cannot be null.");
+            }
+            for(Map.Entry<String, ?> value : values.entrySet()){
+                this.value(value.getKey(), value.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Adds the mapper provided to the current state of the builder.
+         * @param objectMapper The mapper used to write JSON bodies.
+         * @return The builder this method is called on.
+         */
+        public Builder objectMapper(ObjectMapper objectMapper){
+            if(objectMapper == null){
+                throw new IllegalArgumentException("'objectMapper' cannot be null.");
+            }
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Adds the multipart boundary provided to the current state of the builder.
+         * @param boundary The boundary between the parts of a multipart body. Defaults to a random boundary.
+         * @return The builder this method is called on.
+         */
+        public Builder boundary(String boundary){
+            if(boundary == null){
+                throw new IllegalArgumentException("'boundary' cannot be null.");
+            }
+            this.boundary = boundary;
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.action = null;
+            this.values = new LinkedHashMap<>();
+            this.objectMapper = null;
+            this.boundary = null;
+        }
+
+        /**
+         * Constructs an instance of {@link ActionSubmission} with the current state of the builder.
+         * @return Instance of {@link ActionSubmission} with the current state of the builder.
+         */
+        @Override
+        public ActionSubmission build() {
+            return new ActionSubmission(
+                this.action,
+                this.values,
+                this.objectMapper != null ? this.objectMapper : new ObjectMapper(),
+                this.boundary != null ? this.boundary : "siren-" + UUID.randomUUID().toString().replace("-", "")
+            );
+        }
+    }
+
+    /**
+     * The media type of url-encoded bodies.
+     */
+    public static final String FORM_URL_ENCODED = "application/x-www-form-urlencoded";
+
+    /**
+     * The media type of JSON bodies.
+     */
+    public static final String JSON = "application/json";
+
+    /**
+     * The media type of multipart bodies.
+     */
+    public static final String MULTIPART_FORM_DATA = "multipart/form-data";
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] DASHES = {'-', '-'};
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Action action;
+    private final List<Map.Entry<String, Object>> parameters;
+    private final Map<String, Object> json;
+    private final ObjectMapper objectMapper;
+    private final String boundary;
+    private final String mediaType;
+
+    private ActionSubmission(Action action, Map<String, Object> values, ObjectMapper objectMapper, String boundary){
+        if(action == null){
+            throw new IllegalArgumentException("'action' cannot be null as it is required.");
+        }
+        this.action = action;
+        this.objectMapper = objectMapper;
+        this.boundary = boundary;
+        this.parameters = new ArrayList<>();
+        this.json = new LinkedHashMap<>();
+
+        Map<String, Object> remaining = new LinkedHashMap<>(values);
+        List<Field> fields = action.getFields();
+        if(fields != null){
+            for(Field field : fields){
+                boolean provided = remaining.containsKey(field.getName());
+                Object value = provided ? remaining.remove(field.getName()) : field.getValue();
+                this.add(field.getName(), value, !provided);
+            }
+        }
+        for(Map.Entry<String, Object> value : remaining.entrySet()){
+            this.add(value.getKey(), value.getValue(), false);
+        }
+
+        if(!this.hasBody()){
+            this.mediaType = null;
+        }else{
+            String type = action.getType().toLowerCase();
+            if(type.startsWith(FORM_URL_ENCODED)){
+                this.mediaType = FORM_URL_ENCODED;
+            }else if(type.startsWith(JSON) || type.endsWith("+json")){
+                this.mediaType = JSON;
+            }else if(type.startsWith(MULTIPART_FORM_DATA)){
+                this.mediaType = MULTIPART_FORM_DATA;
+            }else{
+                throw new IllegalArgumentException("'action' has a type of '" + action.getType() + "', which is not supported.");
+            }
+        }
+        if(!MULTIPART_FORM_DATA.equals(this.mediaType)){
+            for(Map.Entry<String, Object> parameter : this.parameters){
+                if(!isFile(parameter.getValue())) continue;
+                if(this.mediaType == null){
+                    throw new IllegalArgumentException(
+                        "'" + parameter.getKey() + "' has a file value, which cannot be submitted by " + action.getMethod() + "."
+                    );
+                }
+                throw new IllegalArgumentException(
+                    "'" + parameter.getKey() + "' has a file value, which requires a type of '" + MULTIPART_FORM_DATA + "'."
+                );
+            }
+        }
+    }
+
+    /**
+     * Retrieves the action being submitted.
+     * @return The action being submitted.
+     */
+    public Action getAction(){
+        return this.action;
+    }
+
+    /**
+     * Determines whether the submission has a body, which is the case for methods other than GET and DELETE.
+     * @return true if the submission has a body; otherwise false.
+     */
+    public boolean hasBody(){
+        HttpMethod method = this.action.getMethod();
+        return method != HttpMethod.GET && method != HttpMethod.DELETE;
+    }
+
+    /**
+     * Retrieves the URI to submit to. Submissions without a body carry their values in its query string.
+     * @return The URI to submit to.
+     */
+    public URI getHref(){
+        URI href = this.action.getHref();
+        if(this.hasBody() || this.parameters.isEmpty()) return href;
+        String separator = href.getRawQuery() == null ? "?" : "&";
+        try{
+            return new URI(href.toString() + separator + urlEncode(this.parameters));
+        }catch(URISyntaxException e){
+            throw new IllegalStateException("'action' has an href that cannot be given a query.", e);
+        }
+    }
+
+    /**
+     * Retrieves the content type of the body, including the boundary of multipart bodies.
+     * @return The content type of the body, or {@code null} if the submission has no body.
+     */
+    public String getContentType(){
+        if(MULTIPART_FORM_DATA.equals(this.mediaType)){
+            return MULTIPART_FORM_DATA + "; boundary=" + this.boundary;
+        }
+        return this.mediaType;
+    }
+
+    /**
+     * Writes the body of the submission to the output stream provided. The output stream is not closed.
+     * {@link InputStream} values are read to their end but not closed, so a submission with such values
+     * can only be written once.
+     * @param outputStream The output stream to write the body to.
+     * @throws IOException Thrown if the body cannot be written, or a file value cannot be read.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if(outputStream == null){
+            throw new IllegalArgumentException("'outputStream' cannot be null.");
+        }
+        if(this.mediaType == null) return;
+        if(FORM_URL_ENCODED.equals(this.mediaType)){
+            outputStream.write(urlEncode(this.parameters).getBytes(StandardCharsets.US_ASCII));
+        }else if(JSON.equals(this.mediaType)){
+            JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.objectMapper.writeValue(generator, this.json);
+        }else{
+            this.writeMultipart(outputStream);
+        }
+        outputStream.flush();
+    }
+
+    private void writeMultipart(OutputStream outputStream) throws IOException {
+        byte[] boundary = this.boundary.getBytes(StandardCharsets.US_ASCII);
+        byte[] buffer = null;
+        for(Map.Entry<String, Object> parameter : this.parameters){
+            outputStream.write(DASHES);
+            outputStream.write(boundary);
+            outputStream.write(CRLF);
+
+            Object value = parameter.getValue();
+            StringBuilder headers = new StringBuilder("Content-Disposition: form-data; name=\"")
+                .append(escapeQuoted(parameter.getKey()))
+                .append('"');
+            if(isFile(value)){
+                String filename = value instanceof Path && ((Path)value).getFileName() != null
+                    ? ((Path)value).getFileName().toString()
+                    : parameter.getKey();
+                headers.append("; filename=\"").append(escapeQuoted(filename)).append("\"\r\n")
+                       .append("Content-Type: application/octet-stream");
+            }
+            headers.append("\r\n\r\n");
+            outputStream.write(headers.toString().getBytes(StandardCharsets.UTF_8));
+
+            if(value instanceof Path){
+                Files.copy((Path)value, outputStream);
+            }else if(value instanceof InputStream){
+                if(buffer == null) buffer = new byte[CHUNK_SIZE];
+                InputStream inputStream = (InputStream)value;
+                int read;
+                while((read = inputStream.read(buffer)) != -1){
+                    outputStream.write(buffer, 0, read);
+                }
+            }else{
+                outputStream.write(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            }
+            outputStream.write(CRLF);
+        }
+        outputStream.write(DASHES);
+        outputStream.write(boundary);
+        outputStream.write(DASHES);
+        outputStream.write(CRLF);
+    }
+
+    /**
+     * Adds the value provided under the name provided. Lists contribute one parameter per element;
+     * when only selected values are to be added, {@link FieldValue} elements that are not selected are skipped.
+     */
+    private void add(String name, Object value, boolean onlySelected){
+        if(value == null) return;
+        if(!(value instanceof List)){
+            this.parameters.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+            this.json.put(name, value);
+            return;
+        }
+        List<Object> elements = new ArrayList<>();
+        for(Object element : (List<?>)value){
+            if(element instanceof FieldValue){
+                FieldValue<?> fieldValue = (FieldValue<?>)element;
+                if(!onlySelected || Boolean.TRUE.equals(fieldValue.getSelected())){
+                    elements.add(fieldValue.getValue());
+                }
+            }else if(element != null){
+                elements.add(element);
+            }
+        }
+        for(Object element : elements){
+            this.parameters.add(new AbstractMap.SimpleImmutableEntry<>(name, element));
+        }
+        if(!elements.isEmpty()){
+            this.json.put(name, Collections.unmodifiableList(elements));
+        }
+    }
+
+    private static boolean isFile(Object value){
+        return value instanceof Path || value instanceof InputStream;
+    }
+
+    /**
+     * Escapes the characters that cannot appear in a quoted multipart header parameter.
+     */
+    private static String escapeQuoted(String value){
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    private static String urlEncode(List<Map.Entry<String, Object>> parameters){
+        StringBuilder encoded = new StringBuilder();
+        try{
+            for(Map.Entry<String, Object> parameter : parameters){
+                if(encoded.length() > 0) encoded.append('&');
+                encoded.append(URLEncoder.encode(parameter.getKey(), "UTF-8"))
+                       .append('=')
+                       .append(URLEncoder.encode(String.valueOf(parameter.getValue()), "UTF-8"));
+            }
+        }catch(UnsupportedEncodingException e){
+            throw new IllegalStateException("UTF-8 is not supported.", e);
+        }
+        return encoded.toString();
+    }
+}
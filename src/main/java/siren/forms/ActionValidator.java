@@ -0,0 +1,128 @@
+package siren.forms;
+
+import siren.Action;
+import siren.Field;
+import siren.FieldType;
+import siren.FieldValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates the values submitted for the fields of an action.
+ *
+ * The fields of the action are compiled into a validator per field when the validator is
+ * constructed: each field gets the {@link FieldValidators#forType(FieldType) validator of its type},
+ * except for {@link FieldType#CHECKBOX} and {@link FieldType#RADIO} fields that offer a list of
+ * {@link FieldValue} options, whose values must match one of the options. Validating a value is
+ * then a map lookup followed by an allocation-free scan of its characters.
+ *
+ * Action validators are immutable and may be shared by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ActionValidator {
+
+    /**
+     * Accepts the values of the options of a field.
+     */
+    private static final class OptionValidator implements FieldValidator {
+
+        private final String[] options;
+
+        private OptionValidator(String[] options){
+            this.options = options;
+        }
+
+        @Override
+        public boolean isValid(CharSequence value) {
+            for(String option : this.options){
+                if(option.contentEquals(value)) return true;
+            }
+            return false;
+        }
+    }
+
+    private final Map<String, FieldValidator> validators;
+
+    /**
+     * Constructs an instance of {@link ActionValidator}.
+     * @param action The action whose submissions are to be validated.
+     */
+    public ActionValidator(Action action){
+        if(action == null){
+            throw new IllegalArgumentException("'action' cannot be null.");
+        }
+        this.validators = new HashMap<>();
+        List<Field> fields = action.getFields();
+        if(fields == null) return;
+        for(Field<?> field : fields){
+            this.validators.put(field.getName(), compile(field));
+        }
+    }
+
+    /**
+     * Retrieves the validator compiled for the field provided.
+     * @param name The name of the field.
+     * @return The validator of the field, or {@code null} if the action has no such field.
+     */
+    public FieldValidator getValidator(String name){
+        return this.validators.get(name);
+    }
+
+    /**
+     * Determines whether the value provided is valid for the field provided.
+     * Values for names that do not match a field of the action are not valid.
+     * @param name The name of the field.
+     * @param value The value submitted for the field.
+     * @return true if the value is valid; otherwise false.
+     */
+    public boolean isValid(String name, CharSequence value){
+        if(name == null){
+            throw new IllegalArgumentException("'name' cannot be null.");
+        }
+        if(value == null){
+            throw new IllegalArgumentException("'value' cannot be null.");
+        }
+        FieldValidator validator = this.validators.get(name);
+        return validator != null && validator.isValid(value);
+    }
+
+    /**
+     * Determines which of the values provided are not valid for their field.
+     * @param values The values submitted, keyed by field name.
+     * @return The names of the fields whose value is not valid, in the order of the values provided.
+     * The list is empty, and shared, when every value is valid.
+     */
+    public List<String> invalidFields(Map<String, ? extends CharSequence> values){
+        if(values == null){
+            throw new IllegalArgumentException("'values' cannot be null.");
+        }
+        List<String> invalid = Collections.emptyList();
+        for(Map.Entry<String, ? extends CharSequence> value : values.entrySet()){
+            if(value.getValue() != null && this.isValid(value.getKey(), value.getValue())) continue;
+            if(invalid.isEmpty()) invalid = new ArrayList<>();
+            invalid.add(value.getKey());
+        }
+        return invalid;
+    }
+
+    private static FieldValidator compile(Field<?> field){
+        FieldType type = field.getType() != null ? field.getType() : FieldType.TEXT;
+        if((type == FieldType.CHECKBOX || type == FieldType.RADIO) && field.getValue() instanceof List){
+            List<?> options = (List<?>)field.getValue();
+            List<String> values = new ArrayList<>(options.size());
+            for(Object option : options){
+                if(option instanceof FieldValue && ((FieldValue<?>)option).getValue() != null){
+                    values.add(String.valueOf(((FieldValue<?>)option).getValue()));
+                }
+            }
+            return new OptionValidator(values.toArray(new String[0]));
+        }
+        return FieldValidators.forType(type);
+    }
+}
@@ -0,0 +1,18 @@
+package siren.forms;
+
+/**
+ * Defines the contract that all types choosing to validate
+ * the values submitted for a field must abide by.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public interface FieldValidator {
+
+    /**
+     * Determines whether the value provided is valid for the field.
+     * Implementations must not retain the value, and are expected not to allocate.
+     * @param value The value submitted for the field.
+     * @return true if the value is valid; otherwise false.
+     */
+    boolean isValid(CharSequence value);
+}
@@ -0,0 +1,407 @@
+package siren.forms;
+
+import siren.FieldType;
+
+/**
+ * Provides a {@link FieldValidator} for each {@link FieldType}, checking values against the
+ * syntax HTML5 defines for the input type of the same name.
+ *
+ * Each validator is a hand-written scanner over the characters of the value: no regular
+ * expression, matcher, substring or boxed number is created, so validating a value does not
+ * allocate. Validators are stateless and may be shared by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public final class FieldValidators {
+
+    private FieldValidators(){}
+
+    /**
+     * Accepts any value.
+     */
+    public static final FieldValidator ANY = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            return true;
+        }
+    };
+
+    /**
+     * Accepts values without line breaks, as submitted by single-line text controls.
+     */
+    public static final FieldValidator SINGLE_LINE = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            for(int i = 0; i < value.length(); i++){
+                char c = value.charAt(i);
+                if(c == '\r' || c == '\n') return false;
+            }
+            return true;
+        }
+    };
+
+    /**
+     * Accepts valid e-mail addresses, such as {@code jon@x.io}.
+     */
+    public static final FieldValidator EMAIL = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            int length = value.length();
+            int at = 0;
+            while(at < length && isAtext(value.charAt(at))) at++;
+            if(at == 0 || at == length || value.charAt(at) != '@') return false;
+            return isHostname(value, at + 1, length);
+        }
+    };
+
+    /**
+     * Accepts absolute URLs, such as {@code http://x.io/orders}.
+     */
+    public static final FieldValidator URL = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            int length = value.length();
+            if(length == 0 || !isAlpha(value.charAt(0))) return false;
+            int i = 1;
+            while(i < length){
+                char c = value.charAt(i);
+                if(c == ':') break;
+                if(!isAlpha(c) && !isDigit(c) && c != '+' && c != '-' && c != '.') return false;
+                i++;
+            }
+            if(i >= length - 1) return false;
+            for(i = i + 1; i < length; i++){
+                char c = value.charAt(i);
+                if(c <= ' ' || c == '"' || c == '<' || c == '>' || c == '\\' || c == '^' || c == '`'
+                    || c == '{' || c == '|' || c == '}' || c == 0x7F){
+                    return false;
+                }
+            }
+            return true;
+        }
+    };
+
+    /**
+     * Accepts floating-point numbers, such as {@code -1}, {@code .5} or {@code 1.5e3}.
+     */
+    public static final FieldValidator NUMBER = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            int length = value.length();
+            int i = 0;
+            if(i < length && value.charAt(i) == '-') i++;
+            int integerDigits = digits(value, i, length);
+            i += integerDigits;
+            int fractionDigits = 0;
+            if(i < length && value.charAt(i) == '.'){
+                fractionDigits = digits(value, i + 1, length);
+                if(fractionDigits == 0) return false;
+                i += 1 + fractionDigits;
+            }
+            if(integerDigits == 0 && fractionDigits == 0) return false;
+            if(i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')){
+                i++;
+                if(i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) i++;
+                int exponentDigits = digits(value, i, length);
+                if(exponentDigits == 0) return false;
+                i += exponentDigits;
+            }
+            return i == length;
+        }
+    };
+
+    /**
+     * Accepts dates, such as {@code 2026-10-18}.
+     */
+    public static final FieldValidator DATE = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            return date(value, 0, value.length()) == value.length();
+        }
+    };
+
+    /**
+     * Accepts months, such as {@code 2026-10}.
+     */
+    public static final FieldValidator MONTH = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            return month(value, 0, value.length()) == value.length();
+        }
+    };
+
+    /**
+     * Accepts weeks, such as {@code 2026-W42}.
+     */
+    public static final FieldValidator WEEK = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            int length = value.length();
+            int yearDigits = digits(value, 0, length);
+            if(yearDigits < 4 || yearDigits + 4 != length) return false;
+            if(value.charAt(yearDigits) != '-' || value.charAt(yearDigits + 1) != 'W') return false;
+            long year = number(value, 0, yearDigits);
+            int week = (int)number(value, yearDigits + 2, yearDigits + 4);
+            if(year == 0 || !isDigit(value.charAt(yearDigits + 2)) || !isDigit(value.charAt(yearDigits + 3))) return false;
+            return week >= 1 && week <= weeksInYear(year);
+        }
+    };
+
+    /**
+     * Accepts times, such as {@code 10:15}, {@code 10:15:30} or {@code 10:15:30.250}.
+     */
+    public static final FieldValidator TIME = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            return time(value, 0, value.length()) == value.length();
+        }
+    };
+
+    /**
+     * Accepts local dates and times, such as {@code 2026-10-18T10:15}.
+     */
+    public static final FieldValidator DATETIME_LOCAL = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            int length = value.length();
+            int i = date(value, 0, length);
+            if(i == -1 || i == length || (value.charAt(i) != 'T' && value.charAt(i) != ' ')) return false;
+            return time(value, i + 1, length) == length;
+        }
+    };
+
+    /**
+     * Accepts global dates and times, such as {@code 2026-10-18T10:15Z} or {@code 2026-10-18T10:15-04:00}.
+     */
+    public static final FieldValidator DATETIME = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            int length = value.length();
+            int i = date(value, 0, length);
+            if(i == -1 || i == length || (value.charAt(i) != 'T' && value.charAt(i) != ' ')) return false;
+            i = time(value, i + 1, length);
+            if(i == -1 || i == length) return false;
+            char zone = value.charAt(i);
+            if(zone == 'Z') return i + 1 == length;
+            if((zone != '+' && zone != '-') || i + 6 != length) return false;
+            return twoDigits(value, i + 1) <= 23 && value.charAt(i + 3) == ':' && twoDigits(value, i + 4) <= 59;
+        }
+    };
+
+    /**
+     * Accepts simple colors, such as {@code #00ff7f}.
+     */
+    public static final FieldValidator COLOR = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            if(value.length() != 7 || value.charAt(0) != '#') return false;
+            for(int i = 1; i < 7; i++){
+                if(Character.digit(value.charAt(i), 16) == -1) return false;
+            }
+            return true;
+        }
+    };
+
+    /**
+     * Accepts telephone numbers made of digits, spaces, dashes, dots, parentheses and a leading plus sign.
+     */
+    public static final FieldValidator TEL = new FieldValidator() {
+        @Override
+        public boolean isValid(CharSequence value) {
+            boolean digit = false;
+            for(int i = 0; i < value.length(); i++){
+                char c = value.charAt(i);
+                if(isDigit(c)){
+                    digit = true;
+                }else if(!(c == ' ' || c == '-' || c == '.' || c == '(' || c == ')' || (c == '+' && i == 0))){
+                    return false;
+                }
+            }
+            return digit;
+        }
+    };
+
+    /**
+     * Retrieves the validator for the type provided. Types without a syntax of their own,
+     * such as {@link FieldType#HIDDEN}, {@link FieldType#CHECKBOX} or {@link FieldType#FILE},
+     * accept any value.
+     * @param type The type of the field.
+     * @return The validator for the type.
+     */
+    public static FieldValidator forType(FieldType type){
+        if(type == null){
+            throw new IllegalArgumentException("'type' cannot be null.");
+        }
+        switch(type){
+            case EMAIL:
+                return EMAIL;
+            case URL:
+                return URL;
+            case NUMBER:
+            case RANGE:
+                return NUMBER;
+            case DATE:
+                return DATE;
+            case MONTH:
+                return MONTH;
+            case WEEK:
+                return WEEK;
+            case TIME:
+                return TIME;
+            case DATETIME_LOCAL:
+                return DATETIME_LOCAL;
+            case DATETIME:
+                return DATETIME;
+            case COLOR:
+                return COLOR;
+            case TEL:
+                return TEL;
+            case TEXT:
+            case SEARCH:
+            case PASSWORD:
+                return SINGLE_LINE;
+            default:
+                return ANY;
+        }
+    }
+
+    /**
+     * Scans a year of at least four digits, a dash and a month.
+     * @return The index after the month, or -1 if the range does not start with a valid month.
+     */
+    private static int month(CharSequence value, int start, int end){
+        int yearDigits = digits(value, start, end);
+        int i = start + yearDigits;
+        if(yearDigits < 4 || i + 3 > end || value.charAt(i) != '-') return -1;
+        if(number(value, start, i) == 0) return -1;
+        int month = twoDigits(value, i + 1);
+        return month >= 1 && month <= 12 ? i + 3 : -1;
+    }
+
+    /**
+     * Scans a month, a dash and a day that exists in that month.
+     * @return The index after the day, or -1 if the range does not start with a valid date.
+     */
+    private static int date(CharSequence value, int start, int end){
+        int i = month(value, start, end);
+        if(i == -1 || i + 3 > end || value.charAt(i) != '-') return -1;
+        long year = number(value, start, i - 3);
+        int month = twoDigits(value, i - 2);
+        int day = twoDigits(value, i + 1);
+        return day >= 1 && day <= daysInMonth(year, month) ? i + 3 : -1;
+    }
+
+    /**
+     * Scans hours and minutes, optionally followed by seconds with up to three fractional digits.
+     * @return The index after the time, or -1 if the range does not start with a valid time.
+     */
+    private static int time(CharSequence value, int start, int end){
+        if(start + 5 > end || value.charAt(start + 2) != ':') return -1;
+        if(twoDigits(value, start) > 23 || twoDigits(value, start + 3) > 59) return -1;
+        int i = start + 5;
+        if(i < end && value.charAt(i) == ':'){
+            if(i + 3 > end || twoDigits(value, i + 1) > 59) return -1;
+            i += 3;
+            if(i < end && value.charAt(i) == '.'){
+                int fraction = digits(value, i + 1, end);
+                if(fraction < 1 || fraction > 3) return -1;
+                i += 1 + fraction;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isHostname(CharSequence value, int start, int end){
+        if(start == end) return false;
+        int labelStart = start;
+        for(int i = start; i <= end; i++){
+            if(i == end || value.charAt(i) == '.'){
+                int label = i - labelStart;
+                if(label < 1 || label > 63) return false;
+                if(value.charAt(labelStart) == '-' || value.charAt(i - 1) == '-') return false;
+                labelStart = i + 1;
+            }else{
+                char c = value.charAt(i);
+                if(!isAlpha(c) && !isDigit(c) && c != '-') return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAtext(char c){
+        if(isAlpha(c) || isDigit(c)) return true;
+        switch(c){
+            case '.': case '!': case '#': case '$': case '%': case '&': case '\'': case '*': case '+': case '/':
+            case '=': case '?': case '^': case '_': case '`': case '{': case '|': case '}': case '~': case '-':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isAlpha(char c){
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c){
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Counts the consecutive ASCII digits starting at the index provided.
+     */
+    private static int digits(CharSequence value, int start, int end){
+        int i = start;
+        while(i < end && isDigit(value.charAt(i))) i++;
+        return i - start;
+    }
+
+    /**
+     * Parses the two characters at the index provided as a number.
+     * @return The number, or a value greater than 99 if either character is not a digit.
+     */
+    private static int twoDigits(CharSequence value, int start){
+        char tens = value.charAt(start);
+        char units = value.charAt(start + 1);
+        if(!isDigit(tens) || !isDigit(units)) return Integer.MAX_VALUE;
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    /**
+     * Parses the digits in the range provided, saturating rather than overflowing.
+     */
+    private static long number(CharSequence value, int start, int end){
+        long number = 0;
+        for(int i = start; i < end; i++){
+            number = Math.min(number * 10 + (value.charAt(i) - '0'), Long.MAX_VALUE / 10);
+        }
+        return number;
+    }
+
+    private static boolean isLeapYear(long year){
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static int daysInMonth(long year, int month){
+        switch(month){
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Determines the number of ISO weeks in the year provided: 53 when the year starts on a Thursday,
+     * or is a leap year starting on a Wednesday; otherwise 52.
+     */
+    private static int weeksInYear(long year){
+        long previous = year - 1;
+        // day of the week of January 1st, where 0 is Monday.
+        long dayOfWeek = (previous + previous / 4 - previous / 100 + previous / 400) % 7;
+        return dayOfWeek == 3 || (dayOfWeek == 2 && isLeapYear(year)) ? 53 : 52;
+    }
+}
@@ -0,0 +1,261 @@
+package siren.forms;
+
+import siren.FieldType;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the values of a form body decoded by a {@link FormDecoder}, bound to the fields of its action.
+ *
+ * Values are kept as ranges of the body until they are requested, at which point they are
+ * percent-decoded and converted per the type of their field, and the result kept for later requests:
+ * <ul>
+ *     <li>{@link FieldType#NUMBER} and {@link FieldType#RANGE} values convert to {@link Long} when integral,
+ *     and otherwise to {@link BigDecimal}.</li>
+ *     <li>{@link FieldType#DATE}, {@link FieldType#MONTH}, {@link FieldType#TIME},
+ *     {@link FieldType#DATETIME_LOCAL} and {@link FieldType#DATETIME} values convert to
+ *     {@link LocalDate}, {@link YearMonth}, {@link LocalTime}, {@link LocalDateTime} and
+ *     {@link OffsetDateTime} respectively.</li>
+ *     <li>{@link FieldType#URL} values convert to {@link URI}.</li>
+ *     <li>{@link FieldType#CHECKBOX} values convert to {@link Boolean#TRUE}, since a checkbox is only
+ *     submitted when checked, unless the field offers a list of options, in which case they are
+ *     kept as text.</li>
+ *     <li>Values of every other type are kept as text.</li>
+ * </ul>
+ * Empty values of converted types are {@code null}. A field submitted more than once has a
+ * {@link List} of values.
+ *
+ * Instances are not safe for use by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class FormData {
+
+    private static final int NONE = -1;
+
+    private final FormDecoder decoder;
+    private final byte[] body;
+    private final int[] first;
+    private final int[] last;
+    private final Object[] values;
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private int[] next = new int[8];
+    private int occurrences;
+
+    FormData(FormDecoder decoder, byte[] body){
+        this.decoder = decoder;
+        this.body = body;
+        this.first = new int[decoder.fieldCount()];
+        this.last = new int[decoder.fieldCount()];
+        this.values = new Object[decoder.fieldCount()];
+        Arrays.fill(this.first, NONE);
+    }
+
+    /**
+     * Records an occurrence of the field provided whose value lies in the range provided.
+     */
+    void add(int field, int start, int end){
+        if(this.occurrences == this.starts.length){
+            int capacity = this.starts.length << 1;
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            this.next = Arrays.copyOf(this.next, capacity);
+        }
+        int occurrence = this.occurrences++;
+        this.starts[occurrence] = start;
+        this.ends[occurrence] = end;
+        this.next[occurrence] = NONE;
+        if(this.first[field] == NONE){
+            this.first[field] = occurrence;
+        }else{
+            this.next[this.last[field]] = occurrence;
+        }
+        this.last[field] = occurrence;
+    }
+
+    /**
+     * Determines whether the field provided was submitted.
+     * @param name The name of the field.
+     * @return true if the field was submitted; otherwise false.
+     */
+    public boolean contains(String name){
+        int field = this.field(name);
+        return field != NONE && this.first[field] != NONE;
+    }
+
+    /**
+     * Retrieves the value of the field provided, converted per the type of the field.
+     * @param name The name of the field.
+     * @return The value of the field; a {@link List} of values if the field was submitted more than once;
+     * or {@code null} if the field was not submitted.
+     * @throws IllegalArgumentException Thrown if the value cannot be converted to the type of the field.
+     */
+    public Object get(String name){
+        int field = this.field(name);
+        if(field == NONE || this.first[field] == NONE) return null;
+        if(this.values[field] == null){
+            int occurrence = this.first[field];
+            if(this.next[occurrence] == NONE){
+                this.values[field] = this.convert(field, occurrence);
+            }else{
+                List<Object> values = new ArrayList<>();
+                for(; occurrence != NONE; occurrence = this.next[occurrence]){
+                    values.add(this.convert(field, occurrence));
+                }
+                this.values[field] = Collections.unmodifiableList(values);
+            }
+        }
+        return this.values[field];
+    }
+
+    /**
+     * Retrieves the first value of the field provided as text, without converting it.
+     * @param name The name of the field.
+     * @return The first value of the field as text, or {@code null} if the field was not submitted.
+     */
+    public String getString(String name){
+        int field = this.field(name);
+        if(field == NONE || this.first[field] == NONE) return null;
+        int occurrence = this.first[field];
+        return this.text(this.starts[occurrence], this.ends[occurrence]);
+    }
+
+    /**
+     * Retrieves the values of every submitted field, converted per the type of their field.
+     * @return The values, keyed by field name in the order of the fields of the action.
+     * @throws IllegalArgumentException Thrown if a value cannot be converted to the type of its field.
+     */
+    public Map<String, Object> toMap(){
+        Map<String, Object> values = new LinkedHashMap<>();
+        for(int field = 0; field < this.first.length; field++){
+            if(this.first[field] == NONE) continue;
+            String name = this.decoder.name(field);
+            values.put(name, this.get(name));
+        }
+        return values;
+    }
+
+    private int field(String name){
+        if(name == null){
+            throw new IllegalArgumentException("'name' cannot be null.");
+        }
+        return this.decoder.field(name);
+    }
+
+    private Object convert(int field, int occurrence){
+        int start = this.starts[occurrence];
+        int end = this.ends[occurrence];
+        FieldType type = this.decoder.type(field);
+        if(start == end && converts(type)) return null;
+        try{
+            switch(type){
+                case NUMBER:
+                case RANGE:
+                    return this.number(start, end);
+                case DATE:
+                    return LocalDate.parse(this.text(start, end));
+                case MONTH:
+                    return YearMonth.parse(this.text(start, end));
+                case TIME:
+                    return LocalTime.parse(this.text(start, end));
+                case DATETIME_LOCAL:
+                    return LocalDateTime.parse(this.text(start, end));
+                case DATETIME:
+                    return OffsetDateTime.parse(this.text(start, end));
+                case URL:
+                    return URI.create(this.text(start, end));
+                case CHECKBOX:
+                    return this.decoder.hasOptions(field) ? this.text(start, end) : Boolean.TRUE;
+                default:
+                    return this.text(start, end);
+            }
+        }catch(DateTimeParseException | IllegalArgumentException e){
+            throw new IllegalArgumentException(
+                "'" + this.decoder.name(field) + "' has a value that is not a valid " + type + ".", e
+            );
+        }
+    }
+
+    /**
+     * Determines whether values of the type provided are converted from text to another type.
+     * Empty values of such types, which is how unfilled controls are submitted, convert to {@code null}.
+     */
+    private static boolean converts(FieldType type){
+        switch(type){
+            case NUMBER:
+            case RANGE:
+            case DATE:
+            case MONTH:
+            case TIME:
+            case DATETIME_LOCAL:
+            case DATETIME:
+            case URL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Parses integral values straight from the body, falling back to {@link BigDecimal} for the rest.
+     */
+    private Number number(int start, int end){
+        int length = end - start;
+        boolean negative = length > 0 && this.body[start] == '-';
+        int digits = negative ? start + 1 : start;
+        if(end > digits && end - digits <= 18){
+            long value = 0;
+            int i = digits;
+            for(; i < end; i++){
+                int digit = this.body[i] - '0';
+                if(digit < 0 || digit > 9) break;
+                value = value * 10 + digit;
+            }
+            if(i == end) return negative ? -value : value;
+        }
+        return new BigDecimal(this.text(start, end).trim());
+    }
+
+    /**
+     * Percent-decodes the range of the body provided as UTF-8 text. Ranges without escapes
+     * are decoded straight from the body.
+     */
+    private String text(int start, int end){
+        int i = start;
+        while(i < end && this.body[i] != '%' && this.body[i] != '+') i++;
+        if(i == end){
+            return new String(this.body, start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] decoded = new byte[end - start];
+        int length = i - start;
+        System.arraycopy(this.body, start, decoded, 0, length);
+        for(; i < end; i++){
+            byte b = this.body[i];
+            if(b == '+'){
+                decoded[length++] = ' ';
+            }else if(b == '%'){
+                decoded[length++] = (byte)FormDecoder.percentDecode(this.body, i, end);
+                i += 2;
+            }else{
+                decoded[length++] = b;
+            }
+        }
+        return new String(decoded, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,221 @@
+package siren.forms;
+
+import siren.Action;
+import siren.Field;
+import siren.FieldType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes {@code application/x-www-form-urlencoded} bodies submitted for an action,
+ * binding the values in the body to the fields of the action.
+ *
+ * The body is scanned once. Names are matched against the fields of the action through a hash
+ * table built when the decoder is constructed; the hash of a name and its comparison against a
+ * field name are computed over its percent-decoded bytes as they are read, so neither the name
+ * nor its decoded form is ever materialized. Values are not decoded at all while scanning: the
+ * returned {@link FormData} records where each value lies in the body and percent-decodes and
+ * converts a value per the type of its field only when it is requested.
+ *
+ * Pairs whose name does not match a field of the action are ignored. Decoders are immutable and
+ * may be shared by multiple threads; one is meant to be constructed per action and reused for
+ * every submission of that action.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class FormDecoder {
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private final byte[][] encodedNames;
+    private final FieldType[] types;
+    private final boolean[] hasOptions;
+    private final int[] table;
+    private final int mask;
+
+    /**
+     * Constructs an instance of {@link FormDecoder}.
+     * @param action The action whose submissions are to be decoded.
+     */
+    public FormDecoder(Action action){
+        if(action == null){
+            throw new IllegalArgumentException("'action' cannot be null.");
+        }
+        List<Field> fields = action.getFields();
+        int size = fields == null ? 0 : fields.size();
+        this.names = new String[size];
+        this.indexes = new HashMap<>();
+        this.encodedNames = new byte[size][];
+        this.types = new FieldType[size];
+        this.hasOptions = new boolean[size];
+
+        int capacity = 2;
+        while(capacity < size * 2) capacity <<= 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        for(int i = 0; i < capacity; i++) this.table[i] = -1;
+
+        for(int field = 0; field < size; field++){
+            Field<?> declared = fields.get(field);
+            this.names[field] = declared.getName();
+            this.indexes.put(declared.getName(), field);
+            this.encodedNames[field] = declared.getName().getBytes(StandardCharsets.UTF_8);
+            this.types[field] = declared.getType() != null ? declared.getType() : FieldType.TEXT;
+            this.hasOptions[field] = declared.getValue() instanceof List;
+
+            int slot = hash(this.encodedNames[field], 0, this.encodedNames[field].length, false) & this.mask;
+            while(this.table[slot] != -1){
+                slot = (slot + 1) & this.mask;
+            }
+            this.table[slot] = field;
+        }
+    }
+
+    /**
+     * Decodes the body provided.
+     * @param body The body. The array is referenced, not copied, by the form data returned,
+     *             so it must not be modified while the form data is in use.
+     * @return The form data bound to the fields of the action.
+     */
+    public FormData decode(byte[] body){
+        if(body == null){
+            throw new IllegalArgumentException("'body' cannot be null.");
+        }
+        return this.decode(body, 0, body.length);
+    }
+
+    /**
+     * Decodes the portion of the array provided that holds a body.
+     * @param body The array holding the body. The array is referenced, not copied, by the form data
+     *             returned, so it must not be modified while the form data is in use.
+     * @param offset The index of the first byte of the body.
+     * @param length The number of bytes in the body.
+     * @return The form data bound to the fields of the action.
+     */
+    public FormData decode(byte[] body, int offset, int length){
+        if(body == null){
+            throw new IllegalArgumentException("'body' cannot be null.");
+        }
+        if(offset < 0 || length < 0 || offset + length > body.length){
+            throw new IllegalArgumentException("'offset' and 'length' must lie within 'body'.");
+        }
+
+        FormData data = new FormData(this, body);
+        int end = offset + length;
+        int pairStart = offset;
+        while(pairStart < end){
+            int pairEnd = pairStart;
+            int separator = -1;
+            while(pairEnd < end && body[pairEnd] != '&'){
+                if(separator == -1 && body[pairEnd] == '=') separator = pairEnd;
+                pairEnd++;
+            }
+            if(pairEnd > pairStart){
+                int nameEnd = separator == -1 ? pairEnd : separator;
+                int field = this.field(body, pairStart, nameEnd);
+                if(field != -1){
+                    int valueStart = separator == -1 ? pairEnd : separator + 1;
+                    data.add(field, valueStart, pairEnd);
+                }
+            }
+            pairStart = pairEnd + 1;
+        }
+        return data;
+    }
+
+    int fieldCount(){
+        return this.names.length;
+    }
+
+    /**
+     * Finds the field with the name provided.
+     * @return The index of the field, or -1 if no field has the name.
+     */
+    int field(String name){
+        Integer field = this.indexes.get(name);
+        return field == null ? -1 : field;
+    }
+
+    String name(int field){
+        return this.names[field];
+    }
+
+    FieldType type(int field){
+        return this.types[field];
+    }
+
+    boolean hasOptions(int field){
+        return this.hasOptions[field];
+    }
+
+    /**
+     * Finds the field whose name is held, percent-encoded, in the range of the body provided.
+     * @return The index of the field, or -1 if no field has the name.
+     */
+    int field(byte[] body, int start, int end){
+        int slot = hash(body, start, end, true) & this.mask;
+        int field;
+        while((field = this.table[slot]) != -1){
+            if(matches(body, start, end, this.encodedNames[field])) return field;
+            slot = (slot + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Hashes the bytes in the range provided, percent-decoding them first if they are encoded.
+     */
+    private static int hash(byte[] bytes, int start, int end, boolean encoded){
+        int hash = 1;
+        for(int i = start; i < end; i++){
+            int b = bytes[i];
+            if(encoded){
+                if(b == '+'){
+                    b = ' ';
+                }else if(b == '%'){
+                    b = percentDecode(bytes, i, end);
+                    i += 2;
+                }
+            }
+            hash = 31 * hash + (byte)b;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Compares the percent-decoded bytes in the range provided with the name provided.
+     */
+    private static boolean matches(byte[] body, int start, int end, byte[] name){
+        int position = 0;
+        for(int i = start; i < end; i++){
+            int b = body[i];
+            if(b == '+'){
+                b = ' ';
+            }else if(b == '%'){
+                b = percentDecode(body, i, end);
+                i += 2;
+            }
+            if(position == name.length || name[position++] != (byte)b) return false;
+        }
+        return position == name.length;
+    }
+
+    /**
+     * Decodes the percent-encoded byte at the position provided.
+     */
+    static int percentDecode(byte[] body, int position, int end){
+        if(position + 2 >= end){
+            throw new IllegalArgumentException("'body' has an incomplete percent-encoding at " + position + ".");
+        }
+        int high = Character.digit(body[position + 1], 16);
+        int low = Character.digit(body[position + 2], 16);
+        if(high == -1 || low == -1){
+            throw new IllegalArgumentException("'body' has an invalid percent-encoding at " + position + ".");
+        }
+        return (high << 4) | low;
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * Provides the classes necessary for turning the fields of an action into
+ * requests, and requests back into field values.
+ *
+ * {@link siren.forms.ActionSubmission} encodes the values of an action's fields
+ * per the action's type, writing the body straight to an output stream so that
+ * file values are streamed rather than held in memory. On the receiving end,
+ * {@link siren.forms.FormDecoder} binds url-encoded bodies to the fields of the
+ * action they were submitted for, producing {@link siren.forms.FormData} whose
+ * values are decoded and typed only when read. {@link siren.forms.ActionValidator}
+ * checks submitted values against the fields of an action using the
+ * allocation-free validators of {@link siren.forms.FieldValidators}.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+package siren.forms;
@@ -13,6 +13,8 @@
  * In other words, it was recognized that the action of serializing and deserializing
  * the instances of the siren classes shouldn't alter the state of those instances,
  * justifying immutability as a technique of ensuring this philosophy was enforced.
+ * The getters return copies of the collections of an instance; {@link siren.Internals}
+ * lets the serializers of this library read them without copying, and is not meant for applications.
  *
  * @author jonfreer
  * @since 9/13/17
@@ -0,0 +1,303 @@
+package siren.routing;
+
+import siren.Action;
+import siren.HttpMethod;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dispatches requests to the handlers registered for the actions an API advertises.
+ *
+ * Handlers are registered against an HTTP method and a path template whose segments are either
+ * literals or variables, such as {@code /orders/{id}/items}. The templates of each method are
+ * compiled into a trie of path segments, so dispatching a request walks one node per segment of
+ * its path regardless of how many routes are registered. Literal segments take precedence over
+ * variables; when a literal branch leads nowhere the variable branch at the same depth is tried.
+ *
+ * The tries are immutable once published. Registering a route copies the nodes along its path and
+ * publishes new roots through a volatile write, so dispatching never locks and always sees either
+ * the routes before or after a registration. Registrations are serialized with one another and
+ * are expected to happen at startup.
+ *
+ * @param <H> The type of the handlers registered with the router.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ActionRouter<H> {
+
+    /**
+     * A registered route along with the segments of the path its variables are captured from.
+     */
+    private static final class Route<H> {
+
+        private final HttpMethod method;
+        private final String template;
+        private final Action action;
+        private final H handler;
+        private final String[] variables;
+        private final int[] positions;
+
+        private Route(HttpMethod method, String template, Action action, H handler, String[] variables, int[] positions){
+            this.method = method;
+            this.template = template;
+            this.action = action;
+            this.handler = handler;
+            this.variables = variables;
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * A node of a trie. Nodes are never modified once published.
+     */
+    private static final class Node<H> {
+
+        private final Map<String, Node<H>> literals;
+        private final Node<H> variable;
+        private final Route<H> route;
+
+        private Node(Map<String, Node<H>> literals, Node<H> variable, Route<H> route){
+            this.literals = literals;
+            this.variable = variable;
+            this.route = route;
+        }
+    }
+
+    private final Node<H> empty = new Node<>(Collections.<String, Node<H>>emptyMap(), null, null);
+    private volatile Map<HttpMethod, Node<H>> roots = new EnumMap<>(HttpMethod.class);
+
+    /**
+     * Constructs an instance of {@link ActionRouter}.
+     */
+    public ActionRouter(){}
+
+    /**
+     * Registers a handler for the action provided. The route uses the method of the action,
+     * or {@link HttpMethod#GET} if it has none, and the path of its href as the path template.
+     * Variables may be given in the href percent-encoded, such as {@code /orders/%7Bid%7D}.
+     * @param action The action to register the handler for.
+     * @param handler The handler of the action.
+     */
+    public void register(Action action, H handler){
+        if(action == null){
+            throw new IllegalArgumentException("'action' cannot be null.");
+        }
+        if(action.getHref() == null){
+            throw new IllegalArgumentException("'action' must have an href to be routed.");
+        }
+        HttpMethod method = action.getMethod() != null ? action.getMethod() : HttpMethod.GET;
+        this.register(method, action.getHref().getRawPath(), action, handler);
+    }
+
+    /**
+     * Registers a handler for the method and path template provided.
+     * @param method The HTTP method of the route.
+     * @param template The path template of the route, such as {@code /orders/{id}}.
+     * @param handler The handler of the route.
+     */
+    public void register(HttpMethod method, String template, H handler){
+        this.register(method, template, null, handler);
+    }
+
+    /**
+     * Dispatches the request provided.
+     * @param method The HTTP method of the request.
+     * @param href The URI of the request; only its path is considered.
+     * @return The match of the route registered for the request, or {@code null} if there is none.
+     */
+    public RouteMatch<H> route(HttpMethod method, URI href){
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        return this.route(method, href.getRawPath() != null ? href.getRawPath() : "");
+    }
+
+    /**
+     * Dispatches the request provided.
+     * @param method The HTTP method of the request.
+     * @param path The raw, percent-encoded path of the request, without a query or fragment.
+     * @return The match of the route registered for the request, or {@code null} if there is none.
+     */
+    public RouteMatch<H> route(HttpMethod method, String path){
+        if(method == null){
+            throw new IllegalArgumentException("'method' cannot be null.");
+        }
+        if(path == null){
+            throw new IllegalArgumentException("'path' cannot be null.");
+        }
+        Node<H> root = this.roots.get(method);
+        if(root == null) return null;
+        String[] segments = segments(path);
+        if(segments == null) return null;
+        Route<H> route = match(root, segments, 0);
+        if(route == null) return null;
+        Map<String, String> variables;
+        if(route.variables.length == 0){
+            variables = Collections.emptyMap();
+        }else{
+            variables = new HashMap<>(route.variables.length * 2);
+            for(int i = 0; i < route.variables.length; i++){
+                variables.put(route.variables[i], segments[route.positions[i]]);
+            }
+        }
+        return new RouteMatch<>(route.method, route.template, route.action, route.handler, variables);
+    }
+
+    /**
+     * Determines the methods that have a route matching the path provided, such as for
+     * answering a request whose method has none with the methods that are allowed.
+     * @param path The raw, percent-encoded path of the request, without a query or fragment.
+     * @return The methods with a route matching the path; empty if there are none.
+     */
+    public Set<HttpMethod> allowedMethods(String path){
+        if(path == null){
+            throw new IllegalArgumentException("'path' cannot be null.");
+        }
+        String[] segments = segments(path);
+        Set<HttpMethod> methods = EnumSet.noneOf(HttpMethod.class);
+        if(segments == null) return methods;
+        for(Map.Entry<HttpMethod, Node<H>> root : this.roots.entrySet()){
+            if(match(root.getValue(), segments, 0) != null) methods.add(root.getKey());
+        }
+        return methods;
+    }
+
+    private synchronized void register(HttpMethod method, String template, Action action, H handler){
+        if(method == null){
+            throw new IllegalArgumentException("'method' cannot be null.");
+        }
+        if(template == null){
+            throw new IllegalArgumentException("'template' cannot be null.");
+        }
+        if(handler == null){
+            throw new IllegalArgumentException("'handler' cannot be null.");
+        }
+        String[] segments = segments(template);
+        if(segments == null){
+            throw new IllegalArgumentException("'template' has an invalid percent-encoding.");
+        }
+        Map<String, Integer> variables = new LinkedHashMap<>();
+        for(int i = 0; i < segments.length; i++){
+            String segment = segments[i];
+            if(!segment.startsWith("{") && !segment.endsWith("}")) continue;
+            String name = segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}")
+                ? segment.substring(1, segment.length() - 1) : null;
+            if(name == null || name.indexOf('{') >= 0 || name.indexOf('}') >= 0){
+                throw new IllegalArgumentException("'template' has a malformed variable '" + segment + "'.");
+            }
+            if(variables.put(name, i) != null){
+                throw new IllegalArgumentException("'template' declares the variable '" + name + "' more than once.");
+            }
+            segments[i] = null;
+        }
+        String[] names = variables.keySet().toArray(new String[variables.size()]);
+        int[] positions = new int[names.length];
+        for(int i = 0; i < names.length; i++) positions[i] = variables.get(names[i]);
+
+        Route<H> route = new Route<>(method, template, action, handler, names, positions);
+        Map<HttpMethod, Node<H>> roots = new EnumMap<>(HttpMethod.class);
+        roots.putAll(this.roots);
+        Node<H> root = roots.get(method);
+        roots.put(method, insert(root != null ? root : this.empty, segments, 0, route));
+        this.roots = roots;
+    }
+
+    /**
+     * Copies the nodes along the path of the route provided, returning the new node for the
+     * node provided. Variable segments are given as {@code null}.
+     */
+    private static <H> Node<H> insert(Node<H> node, String[] segments, int index, Route<H> route){
+        if(index == segments.length){
+            if(node.route != null){
+                throw new IllegalArgumentException(
+                    "A route is already registered for " + route.method + " " + node.route.template + "."
+                );
+            }
+            return new Node<>(node.literals, node.variable, route);
+        }
+        String segment = segments[index];
+        if(segment == null){
+            Node<H> variable = node.variable != null ? node.variable : new Node<>(Collections.<String, Node<H>>emptyMap(), null, null);
+            return new Node<>(node.literals, insert(variable, segments, index + 1, route), node.route);
+        }
+        Node<H> literal = node.literals.get(segment);
+        if(literal == null) literal = new Node<>(Collections.<String, Node<H>>emptyMap(), null, null);
+        Map<String, Node<H>> literals = new HashMap<>(node.literals);
+        literals.put(segment, insert(literal, segments, index + 1, route));
+        return new Node<>(literals, node.variable, node.route);
+    }
+
+    private static <H> Route<H> match(Node<H> node, String[] segments, int index){
+        if(index == segments.length) return node.route;
+        Node<H> literal = node.literals.get(segments[index]);
+        if(literal != null){
+            Route<H> route = match(literal, segments, index + 1);
+            if(route != null) return route;
+        }
+        return node.variable != null ? match(node.variable, segments, index + 1) : null;
+    }
+
+    /**
+     * Splits the path provided into its non-empty, percent-decoded segments.
+     * @return The segments, or {@code null} if the path has an invalid percent-encoding.
+     */
+    private static String[] segments(String path){
+        int count = 0;
+        int length = path.length();
+        for(int i = 0; i < length; i++){
+            if(path.charAt(i) != '/' && (i == 0 || path.charAt(i - 1) == '/')) count++;
+        }
+        String[] segments = new String[count];
+        int segment = 0;
+        int start = 0;
+        for(int i = 0; i <= length; i++){
+            if(i < length && path.charAt(i) != '/') continue;
+            if(i > start){
+                String decoded = decode(path, start, i);
+                if(decoded == null) return null;
+                segments[segment++] = decoded;
+            }
+            start = i + 1;
+        }
+        return segments;
+    }
+
+    /**
+     * Percent-decodes the characters of the path provided between the indices provided.
+     * @return The decoded segment, or {@code null} if it has an invalid percent-encoding.
+     */
+    private static String decode(String path, int start, int end){
+        int percent = path.indexOf('%', start);
+        if(percent < 0 || percent >= end) return path.substring(start, end);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(end - start);
+        for(int i = start; i < end; i++){
+            char c = path.charAt(i);
+            if(c != '%'){
+                if(c < 0x80){
+                    bytes.write(c);
+                }else{
+                    int next = Character.isHighSurrogate(c) && i + 1 < end ? i + 2 : i + 1;
+                    byte[] encoded = path.substring(i, next).getBytes(StandardCharsets.UTF_8);
+                    i = next - 1;
+                    bytes.write(encoded, 0, encoded.length);
+                }
+                continue;
+            }
+            int high = i + 2 < end ? Character.digit(path.charAt(i + 1), 16) : -1;
+            int low = i + 2 < end ? Character.digit(path.charAt(i + 2), 16) : -1;
+            if(high == -1 || low == -1) return null;
+            bytes.write((high << 4) | low);
+            i += 2;
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package siren.routing;
+
+import siren.Action;
+import siren.HttpMethod;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of dispatching a request through an {@link ActionRouter}: the handler registered
+ * for the request along with the values captured by the variables of its path template.
+ * @param <H> The type of the handlers registered with the router.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class RouteMatch<H> {
+
+    private final HttpMethod method;
+    private final String template;
+    private final Action action;
+    private final H handler;
+    private final Map<String, String> pathVariables;
+
+    RouteMatch(HttpMethod method, String template, Action action, H handler, Map<String, String> pathVariables){
+        this.method = method;
+        this.template = template;
+        this.action = action;
+        this.handler = handler;
+        this.pathVariables = pathVariables;
+    }
+
+    /**
+     * Retrieves the HTTP method of the route.
+     * @return The HTTP method of the route.
+     */
+    public HttpMethod getMethod(){
+        return this.method;
+    }
+
+    /**
+     * Retrieves the path template the route was registered with, such as {@code /orders/{id}}.
+     * @return The path template of the route.
+     */
+    public String getTemplate(){
+        return this.template;
+    }
+
+    /**
+     * Retrieves the action the route was registered for.
+     * @return The action of the route, or {@code null} if the route was registered without one.
+     */
+    public Action getAction(){
+        return this.action;
+    }
+
+    /**
+     * Retrieves the handler registered for the route.
+     * @return The handler of the route.
+     */
+    public H getHandler(){
+        return this.handler;
+    }
+
+    /**
+     * Retrieves the percent-decoded values captured by the variables of the path template.
+     * @return The values of the path variables, keyed by variable name.
+     */
+    public Map<String, String> getPathVariables(){
+        return Collections.unmodifiableMap(this.pathVariables);
+    }
+
+    /**
+     * Retrieves the percent-decoded value captured by the path variable provided.
+     * @param name The name of the path variable.
+     * @return The value of the path variable, or {@code null} if the template has no such variable.
+     */
+    public String getPathVariable(String name){
+        return this.pathVariables.get(name);
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Provides the classes necessary for servers to dispatch the requests made
+ * against the actions and links they advertise.
+ *
+ * {@link siren.routing.ActionRouter} compiles the path templates of the routes
+ * registered with it into a trie per HTTP method, and dispatches requests to
+ * their handlers without locking, producing a {@link siren.routing.RouteMatch}
+ * that carries the values of the path variables.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+package siren.routing;
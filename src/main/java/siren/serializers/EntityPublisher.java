@@ -0,0 +1,280 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import siren.EntityBase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the serialized form of an entity as a sequence of UTF-8 encoded chunks.
+ *
+ * The entity is serialized lazily, as the subscriber signals demand. Serialization stops as
+ * soon as a chunk is ready and resumes at the next sub-entity once more chunks are requested,
+ * so the memory held per subscription is bounded by the chunk size plus the size of the
+ * largest run of members between two sub-entities, rather than by the size of the entity.
+ *
+ * Chunks are drawn from a small pool of buffers owned by the subscription. A chunk is only
+ * valid for the duration of the {@link Subscriber#onNext(Object)} call it is passed to, after
+ * which its buffer is reused; subscribers that need to retain a chunk must copy it.
+ *
+ * Each subscription serializes the entity independently, so an instance may be subscribed
+ * to any number of times.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class EntityPublisher implements Publisher<ByteBuffer> {
+
+    /**
+     * The default size, in bytes, of the published chunks.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * The maximum number of idle buffers retained by a subscription.
+     */
+    private static final int POOL_SIZE = 4;
+
+    private final EntityBase entity;
+    private final SirenWriter sirenWriter;
+    private final int chunkSize;
+    private final Projection projection;
+
+    /**
+     * Constructs an instance of {@link EntityPublisher}.
+     * @param entity The entity to publish.
+     */
+    public EntityPublisher(EntityBase entity){
+        this(entity, new SirenWriter(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an instance of {@link EntityPublisher}.
+     * @param entity The entity to publish.
+     * @param sirenWriter The writer used to serialize the entity.
+     * @param chunkSize The maximum size, in bytes, of each published chunk.
+     */
+    public EntityPublisher(EntityBase entity, SirenWriter sirenWriter, int chunkSize){
+        this(entity, sirenWriter, chunkSize, null);
+    }
+
+    /**
+     * Constructs an instance of {@link EntityPublisher}.
+     * @param entity The entity to publish.
+     * @param sirenWriter The writer used to serialize the entity.
+     * @param chunkSize The maximum size, in bytes, of each published chunk.
+     * @param projection The members of the entity to publish, or {@code null} to publish every member.
+     */
+    public EntityPublisher(EntityBase entity, SirenWriter sirenWriter, int chunkSize, Projection projection){
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        if(sirenWriter == null){
+            throw new IllegalArgumentException("'sirenWriter' cannot be null.");
+        }
+        if(chunkSize < 1){
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero.");
+        }
+        this.entity = entity;
+        this.sirenWriter = sirenWriter;
+        this.chunkSize = chunkSize;
+        this.projection = projection;
+    }
+
+    /**
+     * Requests the publisher to start serializing the entity to the subscriber provided.
+     * @param subscriber The subscriber that will consume the chunks.
+     */
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        if(subscriber == null){
+            throw new NullPointerException("'subscriber' cannot be null.");
+        }
+        ChunkSubscription subscription = new ChunkSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Serializes the entity on demand for a single subscriber.
+     */
+    private final class ChunkSubscription extends OutputStream implements Subscription {
+
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Deque<ByteBuffer> ready = new ArrayDeque<>();
+        private final Deque<ByteBuffer> pool = new ArrayDeque<>();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private JsonGenerator generator;
+        private SirenWriter.Cursor cursor;
+        private ByteBuffer current;
+        private boolean written;
+        private boolean terminated;
+
+        private ChunkSubscription(Subscriber<? super ByteBuffer> subscriber){
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0){
+                this.invalidRequest = new IllegalArgumentException(
+                    "'n' must be greater than zero; see rule 3.9 of the reactive streams specification."
+                );
+            }else{
+                long current;
+                long next;
+                do{
+                    current = this.requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                }while(!this.requested.compareAndSet(current, next));
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.drain();
+        }
+
+        /**
+         * Emits as many chunks as have been requested, serializing the entity as needed.
+         * Only one thread drains at a time; signals arriving while another thread is
+         * draining, including reentrant requests from {@link Subscriber#onNext(Object)},
+         * are picked up by that thread before it leaves.
+         */
+        private void drain(){
+            if(this.wip.getAndIncrement() != 0) return;
+
+            int missed = 1;
+            do{
+                if(this.terminated) return;
+
+                if(this.cancelled){
+                    this.release();
+                    return;
+                }
+
+                if(this.invalidRequest != null){
+                    this.fail(this.invalidRequest);
+                    return;
+                }
+
+                try{
+                    while(this.requested.get() > 0 && !this.cancelled){
+                        ByteBuffer chunk = this.ready.poll();
+                        if(chunk == null){
+                            if(this.written) break;
+                            this.produce();
+                            continue;
+                        }
+                        this.requested.decrementAndGet();
+                        this.subscriber.onNext(chunk);
+                        this.recycle(chunk);
+                    }
+                }catch(IOException | RuntimeException e){
+                    this.fail(e);
+                    return;
+                }
+
+                if(this.written && this.ready.isEmpty() && !this.cancelled){
+                    this.terminated = true;
+                    this.release();
+                    this.subscriber.onComplete();
+                    return;
+                }
+
+                missed = this.wip.addAndGet(-missed);
+            }while(missed != 0);
+        }
+
+        /**
+         * Advances serialization one sub-entity at a time until a chunk is ready
+         * or the entity has been written.
+         */
+        private void produce() throws IOException {
+            if(this.cursor == null){
+                this.generator = sirenWriter.createGenerator(this);
+                this.cursor = sirenWriter.cursor(entity, this.generator, projection);
+            }
+            while(this.ready.isEmpty() && !this.written){
+                if(!this.cursor.step()){
+                    this.generator.close();
+                    this.spill(true);
+                    this.written = true;
+                }
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            this.buffer().put((byte)b);
+            this.spill(false);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while(length > 0){
+                ByteBuffer buffer = this.buffer();
+                int count = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+                this.spill(false);
+            }
+        }
+
+        private ByteBuffer buffer(){
+            if(this.current == null){
+                this.current = this.pool.isEmpty() ? ByteBuffer.allocate(chunkSize) : this.pool.pop();
+            }
+            return this.current;
+        }
+
+        /**
+         * Moves the current buffer to the ready chunks if it is full, or if it
+         * holds any bytes and the end of the entity has been reached.
+         */
+        private void spill(boolean end){
+            if(this.current == null) return;
+            if(!this.current.hasRemaining() || end && this.current.position() > 0){
+                this.current.flip();
+                this.ready.add(this.current);
+                this.current = null;
+            }
+        }
+
+        private void recycle(ByteBuffer chunk){
+            if(this.pool.size() < POOL_SIZE){
+                chunk.clear();
+                this.pool.push(chunk);
+            }
+        }
+
+        private void fail(Throwable throwable){
+            this.terminated = true;
+            this.release();
+            this.subscriber.onError(throwable);
+        }
+
+        private void release(){
+            this.ready.clear();
+            this.pool.clear();
+            this.current = null;
+            this.cursor = null;
+            this.generator = null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package siren.serializers;
+
+import java.net.URI;
+
+/**
+ * Shortens hrefs into the shortest reference among those this class considers that resolves back
+ * to the href against a base URI, per URI Generic Syntax (RFC3986), section 5.2.
+ *
+ * Hrefs under the directory of the base, such as {@code orders/42} against
+ * {@code http://api.x.io/v1/customers}, become relative paths; other hrefs sharing the scheme and
+ * authority of the base become absolute paths, such as {@code /v2/orders/42}; anything else,
+ * including hrefs whose paths have dot segments, is left as is. Only string prefixes are compared,
+ * so hrefs are never parsed.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ * @see <a href="https://tools.ietf.org/html/rfc3986#section-5.2">RFC3986, section 5.2</a>
+ */
+final class HrefRelativizer {
+
+    private final URI base;
+    private final String origin;
+    private final String directory;
+
+    /**
+     * Constructs an instance of {@link HrefRelativizer}.
+     * @param base The absolute, hierarchical URI to relativize hrefs against.
+     */
+    HrefRelativizer(URI base){
+        this.base = base;
+        String path = base.getRawPath() == null ? "" : base.getRawPath();
+        this.origin = base.getScheme() + ":" + (base.getRawAuthority() == null ? "" : "//" + base.getRawAuthority());
+        int slash = path.lastIndexOf('/');
+        this.directory = slash < 0 || hasDotSegment(path, 0) ? null : this.origin + path.substring(0, slash + 1);
+    }
+
+    /**
+     * Retrieves the URI hrefs are relativized against.
+     * @return The base URI.
+     */
+    URI getBase(){
+        return this.base;
+    }
+
+    /**
+     * Relativizes the href provided.
+     * @param href The href to relativize.
+     * @return The relative reference, or the textual representation of the href if it cannot be shortened.
+     */
+    String relativize(URI href){
+        String text = href.toString();
+        if(href.isOpaque() || !href.isAbsolute() || href.equals(this.base)) return text;
+        if(this.directory != null && text.startsWith(this.directory)){
+            if(hasDotSegment(text, this.directory.length() - 1)) return text;
+            String remainder = text.substring(this.directory.length());
+            return needsDotPrefix(remainder) ? "./" + remainder : remainder;
+        }
+        if(text.length() > this.origin.length() && text.startsWith(this.origin) && text.charAt(this.origin.length()) == '/'){
+            if(hasDotSegment(text, this.origin.length())) return text;
+            return text.substring(this.origin.length());
+        }
+        return text;
+    }
+
+    /**
+     * Determines whether a relative path reference needs {@code ./} in front of it to resolve to the same href:
+     * when it is empty, starts with a query or fragment, or its first segment would be read as a scheme.
+     */
+    private static boolean needsDotPrefix(String remainder){
+        if(remainder.isEmpty() || remainder.charAt(0) == '?' || remainder.charAt(0) == '#') return true;
+        for(int i = 0; i < remainder.length(); i++){
+            char c = remainder.charAt(i);
+            if(c == ':') return true;
+            if(c == '/' || c == '?' || c == '#') return false;
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the path starting at the slash provided has a {@code .} or {@code ..} segment,
+     * which resolving would remove.
+     */
+    private static boolean hasDotSegment(String text, int slash){
+        int length = text.length();
+        for(int i = slash; i < length; i++){
+            char c = text.charAt(i);
+            if(c == '?' || c == '#') return false;
+            if(c != '/') continue;
+            int end = i + 1;
+            while(end < length && text.charAt(end) == '.') end++;
+            int dots = end - i - 1;
+            if((dots == 1 || dots == 2) && (end == length || "/?#".indexOf(text.charAt(end)) >= 0)) return true;
+        }
+        return false;
+    }
+}
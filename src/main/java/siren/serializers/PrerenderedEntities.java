@@ -0,0 +1,167 @@
+package siren.serializers;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves the entities rendered to a directory by {@link SirenPrerenderer} without copying them onto the heap.
+ *
+ * Opening the entities reads the index into memory and opens the data file it names. Each entity is
+ * then transferred straight from the data file to the channel of a response with
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which the operating system can
+ * carry out without copying the bytes through the process, such as with {@code sendfile} when the
+ * channel is a socket.
+ *
+ * The entities served are those rendered when they were opened; open them again to serve a later
+ * render. Prerendered entities may be used by multiple threads.
+ *
+ * <pre>{@code
+ * long length = entities.length(href);
+ * if(length < 0){
+ *     // respond with 404 Not Found.
+ * }
+ * // respond with a Content-Length of length, and a Content-Encoding of gzip if entities.isGzipped().
+ * entities.transferTo(href, socketChannel);
+ * }</pre>
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class PrerenderedEntities implements Closeable {
+
+    private static final int MAXIMUM_ATTEMPTS = 3;
+
+    private final FileChannel data;
+    private final boolean gzipped;
+    private final Map<String, long[]> regions;
+
+    private PrerenderedEntities(FileChannel data, boolean gzipped, Map<String, long[]> regions){
+        this.data = data;
+        this.gzipped = gzipped;
+        this.regions = regions;
+    }
+
+    /**
+     * Opens the entities last rendered to the directory provided.
+     * @param directory The directory the entities were rendered to.
+     * @return The prerendered entities.
+     * @throws IOException Thrown if the directory holds no rendered entities or they cannot be read.
+     */
+    public static PrerenderedEntities open(Path directory) throws IOException {
+        if(directory == null){
+            throw new IllegalArgumentException("'directory' cannot be null.");
+        }
+        for(int attempt = 1; ; attempt++){
+            try(DataInputStream inputStream = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(directory.resolve(SirenPrerenderer.INDEX))))){
+                if(inputStream.readInt() != SirenPrerenderer.MAGIC || inputStream.readInt() != SirenPrerenderer.VERSION){
+                    throw new IOException("'" + directory + "' does not hold prerendered entities.");
+                }
+                Path dataFile = directory.resolve(inputStream.readUTF());
+                boolean gzipped = inputStream.readBoolean();
+                int count = inputStream.readInt();
+                Map<String, long[]> regions = new HashMap<>(count * 4 / 3 + 1);
+                for(int i = 0; i < count; i++){
+                    regions.put(inputStream.readUTF(), new long[]{inputStream.readLong(), inputStream.readLong()});
+                }
+                FileChannel data;
+                try{
+                    data = FileChannel.open(dataFile, StandardOpenOption.READ);
+                }catch(NoSuchFileException e){
+                    //the data file may have been deleted by a render completing after the index was read.
+                    if(attempt == MAXIMUM_ATTEMPTS) throw e;
+                    continue;
+                }
+                return new PrerenderedEntities(data, gzipped, regions);
+            }
+        }
+    }
+
+    /**
+     * Determines whether the entities are each compressed with gzip, to be served
+     * with a {@code Content-Encoding} of {@code gzip}.
+     * @return true if the entities are compressed with gzip; otherwise false.
+     */
+    public boolean isGzipped(){
+        return this.gzipped;
+    }
+
+    /**
+     * Determines whether an entity was rendered under the href provided.
+     * @param href The href of the entity.
+     * @return true if an entity was rendered under the href; otherwise false.
+     */
+    public boolean contains(URI href){
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        return this.regions.containsKey(href.toString());
+    }
+
+    /**
+     * Determines the number of bytes transferred for the entity rendered under the href provided,
+     * such as for a {@code Content-Length}.
+     * @param href The href of the entity.
+     * @return The number of bytes, or -1 if no entity was rendered under the href.
+     */
+    public long length(URI href){
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        long[] region = this.regions.get(href.toString());
+        return region != null ? region[1] : -1;
+    }
+
+    /**
+     * Retrieves the number of entities rendered.
+     * @return The number of entities rendered.
+     */
+    public int size(){
+        return this.regions.size();
+    }
+
+    /**
+     * Transfers the entity rendered under the href provided to the channel provided. The channel
+     * is expected to be in blocking mode, and is not closed.
+     * @param href The href of the entity.
+     * @param target The channel to transfer the entity to, such as the socket channel of a response.
+     * @return true if the entity was transferred; false if no entity was rendered under the href.
+     * @throws IOException Thrown if reading the data file or writing to the channel fails.
+     */
+    public boolean transferTo(URI href, WritableByteChannel target) throws IOException {
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        if(target == null){
+            throw new IllegalArgumentException("'target' cannot be null.");
+        }
+        long[] region = this.regions.get(href.toString());
+        if(region == null) return false;
+        long position = region[0];
+        long end = region[0] + region[1];
+        while(position < end){
+            position += this.data.transferTo(position, end - position, target);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the data file.
+     * @throws IOException Thrown if the data file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.data.close();
+    }
+}
@@ -0,0 +1,202 @@
+package siren.serializers;
+
+import siren.Action;
+import siren.EntityBase;
+import siren.Internals;
+import siren.Link;
+import siren.Relation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes which members of entities a {@link SirenWriter} writes, such as for sparse fieldsets.
+ *
+ * A projection can restrict the properties written to those named, omit actions entirely or by
+ * name, omit links by relation and omit sub-entities by class. The rules apply to the entity
+ * written and to each of its sub-entities, and are applied by the writer as it writes; the entity
+ * itself is never copied. Projections are immutable and may be shared by multiple threads, so one
+ * is meant to be built for each shape of request and reused.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class Projection {
+
+    /**
+     * Constructs instances of {@link Projection}.
+     */
+    public static class Builder implements siren.Builder<Projection> {
+
+        private Set<String> properties;
+        private boolean omitActions;
+        private Set<String> actions;
+        private Set<String> linkRelations;
+        private Set<String> subEntityClasses;
+
+        /**
+         * Constructs an instance of {@link Projection.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Restricts the properties written to those provided, in addition to any restricted to before.
+         * @param names The names of the properties to write.
+         * @return The builder this method is called on.
+         */
+        public Builder properties(String... names){
+            this.properties = add(this.properties, names);
+            return this;
+        }
+
+        /**
+         * Sets whether actions are omitted entirely, in which case they are written as {@code null}.
+         * @param omitActions true to omit every action; otherwise false.
+         * @return The builder this method is called on.
+         */
+        public Builder omitAllActions(boolean omitActions){
+            this.omitActions = omitActions;
+            return this;
+        }
+
+        /**
+         * Omits the actions with the names provided.
+         * @param names The names of the actions to omit.
+         * @return The builder this method is called on.
+         */
+        public Builder omitActions(String... names){
+            this.actions = add(this.actions, names);
+            return this;
+        }
+
+        /**
+         * Omits the links with any of the relations provided.
+         * @param rels The relations of the links to omit, such as {@code "describedby"}.
+         * @return The builder this method is called on.
+         */
+        public Builder omitLinks(String... rels){
+            this.linkRelations = add(this.linkRelations, rels);
+            return this;
+        }
+
+        /**
+         * Omits the sub-entities with any of the classes provided.
+         * @param klasses The classes of the sub-entities to omit.
+         * @return The builder this method is called on.
+         */
+        public Builder omitSubEntities(String... klasses){
+            this.subEntityClasses = add(this.subEntityClasses, klasses);
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.properties = null;
+            this.omitActions = false;
+            this.actions = null;
+            this.linkRelations = null;
+            this.subEntityClasses = null;
+        }
+
+        /**
+         * Constructs a {@link Projection} instance with the current state of the builder.
+         * @return Instance of {@link Projection} with the current state of the builder.
+         */
+        @Override
+        public Projection build() {
+            return new Projection(this);
+        }
+
+        private static Set<String> add(Set<String> set, String... values){
+            if(values == null){
+                throw new IllegalArgumentException("'values' cannot be null.");
+            }
+            Set<String> added = set != null ? set : new HashSet<String>();
+            for(String value : values){
+                if(value == null){
+                    throw new IllegalArgumentException("'values' cannot contain null.");
+                }
+                added.add(value);
+            }
+            return added;
+        }
+    }
+
+    private final Set<String> properties;
+    private final boolean omitActions;
+    private final Set<String> actions;
+    private final Set<String> linkRelations;
+    private final Set<String> subEntityClasses;
+
+    private Projection(Builder builder){
+        this.properties = copy(builder.properties);
+        this.omitActions = builder.omitActions;
+        this.actions = copy(builder.actions);
+        this.linkRelations = copy(builder.linkRelations);
+        this.subEntityClasses = copy(builder.subEntityClasses);
+    }
+
+    /**
+     * Determines whether the property provided is written.
+     * @param name The name of the property.
+     * @return true if the property is written; otherwise false.
+     */
+    public boolean includesProperty(String name){
+        return this.properties == null || this.properties.contains(name);
+    }
+
+    /**
+     * Determines whether actions are written at all.
+     * @return true if actions are written; otherwise false.
+     */
+    public boolean includesActions(){
+        return !this.omitActions;
+    }
+
+    /**
+     * Determines whether the action provided is written.
+     * @param action The action.
+     * @return true if the action is written; otherwise false.
+     */
+    public boolean includes(Action action){
+        return !this.omitActions && (this.actions == null || !this.actions.contains(action.getName()));
+    }
+
+    /**
+     * Determines whether the link provided is written.
+     * @param link The link.
+     * @return true if the link is written; otherwise false.
+     */
+    public boolean includes(Link link){
+        if(this.linkRelations == null) return true;
+        List<Relation> rels = Internals.rel(link);
+        for(Relation rel : rels){
+            if(this.linkRelations.contains(rel.toString())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether the sub-entity provided is written.
+     * @param subEntity The sub-entity.
+     * @return true if the sub-entity is written; otherwise false.
+     */
+    public boolean includes(EntityBase subEntity){
+        if(this.subEntityClasses == null) return true;
+        List<String> klasses = Internals.klass(subEntity);
+        if(klasses == null) return true;
+        for(String klass : klasses){
+            if(this.subEntityClasses.contains(klass)) return false;
+        }
+        return true;
+    }
+
+    private static Set<String> copy(Set<String> set){
+        return set == null ? null : Collections.unmodifiableSet(new HashSet<>(set));
+    }
+}
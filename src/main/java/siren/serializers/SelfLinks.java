@@ -0,0 +1,56 @@
+package siren.serializers;
+
+import siren.Entity;
+import siren.Internals;
+import siren.Link;
+import siren.Relation;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Finds the links of entities with the {@link Relation#SELF} relation, without copying the links of the entities.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+final class SelfLinks {
+
+    private SelfLinks(){}
+
+    /**
+     * Determines whether the link provided has the self relation.
+     * @param link The link.
+     * @return true if the link has the self relation; otherwise false.
+     */
+    static boolean isSelf(Link link){
+        for(Relation relation : Internals.rel(link)){
+            if(Relation.SELF.equals(relation.toString())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first self link of the entity provided.
+     * @param entity The entity.
+     * @return The first self link of the entity, or {@code null} if it has none.
+     */
+    static Link find(Entity entity){
+        List<Link> links = Internals.links(entity);
+        if(links == null) return null;
+        for(Link link : links){
+            if(isSelf(link)) return link;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the href of the first self link of the entity provided.
+     * @param entity The entity.
+     * @return The href of the first self link of the entity, or {@code null} if it has none.
+     */
+    static URI href(Entity entity){
+        Link self = find(entity);
+        return self == null ? null : self.getHref();
+    }
+}
@@ -0,0 +1,122 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+
+/**
+ * An entity serialized once, which can be written under any base URI.
+ *
+ * The serialized entity keeps the JSON written for the entity under a canonical base URI along with
+ * the offsets of the hrefs of its links, actions and embedded link sub-entities that start with the
+ * canonical base URI. Writing it under another base URI copies the JSON between those offsets and
+ * splices in the other base URI in place of the canonical one, so the same bytes serve every base
+ * URI without walking the entity again.
+ *
+ * Serialized entities are immutable and may be shared by multiple threads.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SerializedEntity {
+
+    private final URI baseUri;
+    private final byte[] json;
+    private final int[] offsets;
+    private final int baseLength;
+
+    SerializedEntity(URI baseUri, byte[] json, int[] offsets, int baseLength){
+        this.baseUri = baseUri;
+        this.json = json;
+        this.offsets = offsets;
+        this.baseLength = baseLength;
+    }
+
+    /**
+     * Retrieves the canonical base URI the entity was serialized under.
+     * @return The canonical base URI.
+     */
+    public URI getBaseUri(){
+        return this.baseUri;
+    }
+
+    /**
+     * Retrieves the number of hrefs whose base URI is replaced when writing under another base URI.
+     * @return The number of hrefs starting with the canonical base URI.
+     */
+    public int getHrefCount(){
+        return this.offsets.length;
+    }
+
+    /**
+     * Determines the number of bytes written under the base URI provided, such as for a {@code Content-Length}.
+     * @param baseUri The base URI the entity is to be written under.
+     * @return The number of bytes written under the base URI.
+     */
+    public long length(URI baseUri){
+        return this.json.length + (long)this.offsets.length * (encode(baseUri).length - this.baseLength);
+    }
+
+    /**
+     * Writes the entity, as serialized under the canonical base URI, to the output stream provided.
+     * The output stream is not closed.
+     * @param outputStream The output stream to write to.
+     * @throws IOException Thrown if writing to the output stream fails.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if(outputStream == null){
+            throw new IllegalArgumentException("'outputStream' cannot be null.");
+        }
+        outputStream.write(this.json);
+    }
+
+    /**
+     * Writes the entity under the base URI provided to the output stream provided.
+     * The output stream is not closed.
+     * @param outputStream The output stream to write to.
+     * @param baseUri The base URI that replaces the canonical base URI in hrefs, such as
+     *                {@code https://acme.example.com/api}.
+     * @throws IOException Thrown if writing to the output stream fails.
+     */
+    public void writeTo(OutputStream outputStream, URI baseUri) throws IOException {
+        if(outputStream == null){
+            throw new IllegalArgumentException("'outputStream' cannot be null.");
+        }
+        byte[] base = encode(baseUri);
+        int position = 0;
+        for(int offset : this.offsets){
+            outputStream.write(this.json, position, offset - position);
+            outputStream.write(base);
+            position = offset + this.baseLength;
+        }
+        outputStream.write(this.json, position, this.json.length - position);
+    }
+
+    /**
+     * Writes the entity under the base URI provided.
+     * @param baseUri The base URI that replaces the canonical base URI in hrefs.
+     * @return The UTF-8 encoded JSON of the entity under the base URI.
+     */
+    public byte[] toByteArray(URI baseUri){
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int)this.length(baseUri));
+        try{
+            this.writeTo(outputStream, baseUri);
+        }catch(IOException e){
+            throw new IllegalStateException("Writing to memory failed.", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes the base URI provided as it appears within a JSON string.
+     */
+    static byte[] encode(URI baseUri){
+        if(baseUri == null){
+            throw new IllegalArgumentException("'baseUri' cannot be null.");
+        }
+        return JsonStringEncoder.getInstance().quoteAsUTF8(baseUri.toString());
+    }
+}
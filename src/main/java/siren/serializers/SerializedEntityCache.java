@@ -0,0 +1,278 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import siren.EntityBase;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps entities serialized once under a canonical base URI, to be written under the base URI
+ * of whichever tenant a request is served for.
+ *
+ * When an entity is first serialized, its JSON is scanned once for the hrefs of its links, actions
+ * and embedded link sub-entities, at any depth, that start with the canonical base URI; the offsets
+ * of those hrefs are kept with the JSON as a {@link SerializedEntity}. Hrefs inside properties and
+ * field values, and hrefs that start with anything else, are left alone. A single copy of the JSON
+ * per entity therefore serves every tenant.
+ *
+ * The cache is bounded and evicts the least recently used entity. It may be shared by multiple threads.
+ *
+ * @param <K> The type of the keys entities are cached under, such as the URI of the resource.
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SerializedEntityCache<K> {
+
+    /**
+     * Constructs instances of {@link SerializedEntityCache}.
+     * @param <K> The type of the keys entities are cached under.
+     */
+    public static class Builder<K> implements siren.Builder<SerializedEntityCache<K>> {
+
+        private SirenWriter sirenWriter;
+        private URI baseUri;
+        private Integer maximumSize;
+
+        /**
+         * Constructs an instance of {@link SerializedEntityCache.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Sets the current state of the builder to have the writer provided.
+         * @param sirenWriter The writer entities are serialized with.
+         * @return The builder this method is called on.
+         */
+        public Builder<K> sirenWriter(SirenWriter sirenWriter){
+            if(sirenWriter == null){
+                throw new IllegalArgumentException("'sirenWriter' cannot be null.");
+            }
+            this.sirenWriter = sirenWriter;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the base URI provided.
+         * @param baseUri The canonical base URI the hrefs of cached entities start with, such as
+         *                {@code http://api.internal/v1}.
+         * @return The builder this method is called on.
+         */
+        public Builder<K> baseUri(URI baseUri){
+            if(baseUri == null){
+                throw new IllegalArgumentException("'baseUri' cannot be null.");
+            }
+            if(!baseUri.isAbsolute() || baseUri.isOpaque()){
+                throw new IllegalArgumentException("'baseUri' must be an absolute, hierarchical URI.");
+            }
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the maximum size provided.
+         * @param maximumSize The maximum number of entities kept in the cache.
+         * @return The builder this method is called on.
+         */
+        public Builder<K> maximumSize(int maximumSize){
+            if(maximumSize < 1){
+                throw new IllegalArgumentException("'maximumSize' must be positive.");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.sirenWriter = null;
+            this.baseUri = null;
+            this.maximumSize = null;
+        }
+
+        /**
+         * Constructs a {@link SerializedEntityCache} instance with the current state of the builder.
+         * @return Instance of {@link SerializedEntityCache} with the current state of the builder.
+         */
+        @Override
+        public SerializedEntityCache<K> build() {
+            return new SerializedEntityCache<>(
+                this.sirenWriter != null ? this.sirenWriter : new SirenWriter(),
+                this.baseUri,
+                this.maximumSize != null ? this.maximumSize : DEFAULT_MAXIMUM_SIZE
+            );
+        }
+    }
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final SirenWriter sirenWriter;
+    private final URI baseUri;
+    private final byte[] base;
+    private final Map<K, SerializedEntity> entities;
+
+    private SerializedEntityCache(SirenWriter sirenWriter, URI baseUri, final int maximumSize){
+        if(baseUri == null){
+            throw new IllegalArgumentException("'baseUri' cannot be null as it is required.");
+        }
+        this.sirenWriter = sirenWriter;
+        this.baseUri = baseUri;
+        this.base = SerializedEntity.encode(baseUri);
+        this.entities = new LinkedHashMap<K, SerializedEntity>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, SerializedEntity> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the serialized entity cached under the key provided.
+     * @param key The key the entity is cached under.
+     * @return The serialized entity, or {@code null} if there is none.
+     */
+    public SerializedEntity get(K key){
+        if(key == null){
+            throw new IllegalArgumentException("'key' cannot be null.");
+        }
+        synchronized(this.entities){
+            return this.entities.get(key);
+        }
+    }
+
+    /**
+     * Retrieves the serialized entity cached under the key provided, serializing and caching
+     * the entity provided if there is none.
+     * @param key The key the entity is cached under.
+     * @param entity The entity to serialize if none is cached under the key.
+     * @return The serialized entity.
+     * @throws IOException Thrown if the entity cannot be serialized.
+     */
+    public SerializedEntity get(K key, EntityBase entity) throws IOException {
+        SerializedEntity serialized = this.get(key);
+        if(serialized != null) return serialized;
+        serialized = this.serialize(entity);
+        synchronized(this.entities){
+            SerializedEntity cached = this.entities.get(key);
+            if(cached != null) return cached;
+            this.entities.put(key, serialized);
+        }
+        return serialized;
+    }
+
+    /**
+     * Removes the serialized entity cached under the key provided, such as when the entity changes.
+     * @param key The key the entity is cached under.
+     */
+    public void evict(K key){
+        synchronized(this.entities){
+            this.entities.remove(key);
+        }
+    }
+
+    /**
+     * Retrieves the number of entities in the cache.
+     * @return The number of entities in the cache.
+     */
+    public int size(){
+        synchronized(this.entities){
+            return this.entities.size();
+        }
+    }
+
+    /**
+     * Serializes the entity provided without caching it.
+     * @param entity The entity to serialize.
+     * @return The serialized entity.
+     * @throws IOException Thrown if the entity cannot be serialized.
+     */
+    public SerializedEntity serialize(EntityBase entity) throws IOException {
+        byte[] json = this.sirenWriter.writeAsBytes(entity);
+        Offsets offsets = new Offsets();
+        try(JsonParser parser = JSON_FACTORY.createParser(json)){
+            if(parser.nextToken() == JsonToken.START_OBJECT){
+                this.scanEntity(parser, json, offsets);
+            }
+        }
+        return new SerializedEntity(this.baseUri, json, Arrays.copyOf(offsets.values, offsets.size), this.base.length);
+    }
+
+    /**
+     * Records the hrefs of the entity the parser is positioned on the start of.
+     */
+    private void scanEntity(JsonParser parser, byte[] json, Offsets offsets) throws IOException {
+        while(parser.nextToken() == JsonToken.FIELD_NAME){
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if("href".equals(name) && token == JsonToken.VALUE_STRING){
+                this.scanHref(parser, json, offsets);
+            }else if(("actions".equals(name) || "links".equals(name) || "entities".equals(name)) && token == JsonToken.START_ARRAY){
+                while(parser.nextToken() == JsonToken.START_OBJECT){
+                    if("entities".equals(name)){
+                        this.scanEntity(parser, json, offsets);
+                    }else{
+                        this.scanMember(parser, json, offsets);
+                    }
+                }
+            }else{
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Records the href of the link or action the parser is positioned on the start of.
+     */
+    private void scanMember(JsonParser parser, byte[] json, Offsets offsets) throws IOException {
+        while(parser.nextToken() == JsonToken.FIELD_NAME){
+            String name = parser.getCurrentName();
+            if(parser.nextToken() == JsonToken.VALUE_STRING && "href".equals(name)){
+                this.scanHref(parser, json, offsets);
+            }else{
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Records the href the parser is positioned on if it starts with the canonical base URI
+     * and the base URI ends where a path, query or fragment may begin.
+     */
+    private void scanHref(JsonParser parser, byte[] json, Offsets offsets){
+        int start = (int)parser.getTokenLocation().getByteOffset() + 1;
+        int end = start + this.base.length;
+        if(end > json.length) return;
+        for(int i = 0; i < this.base.length; i++){
+            if(json[start + i] != this.base[i]) return;
+        }
+        byte next = json[end];
+        byte last = this.base[this.base.length - 1];
+        if(last == '/' || next == '"' || next == '/' || next == '?' || next == '#'){
+            offsets.add(start);
+        }
+    }
+
+    /**
+     * A growable list of offsets.
+     */
+    private static final class Offsets {
+
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int offset){
+            if(this.size == this.values.length){
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = offset;
+        }
+    }
+}
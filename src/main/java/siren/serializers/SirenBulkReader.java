@@ -0,0 +1,364 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import siren.Entity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reads the entities of a file of newline-delimited JSON, one siren entity per line, on multiple threads.
+ *
+ * The file is memory-mapped a chunk at a time. Each chunk ends at a newline, so that no line spans two
+ * chunks, and the chunks are parsed in parallel by a {@link SirenReader}, each by a single parser over
+ * the mapped bytes. No more than twice as many chunks as there are threads are mapped or being parsed
+ * at once, so the memory an import uses is bounded by the chunk size rather than by the size of the file.
+ * A line longer than the chunk size is read in a chunk of its own.
+ *
+ * An unordered read hands each entity to the consumer on the thread that parsed it, as soon as it is
+ * parsed; the consumer must then be safe for use by multiple threads. An ordered read holds the entities
+ * of each chunk until the chunks before it have been handed over, and hands all of them to the consumer
+ * on the calling thread in the order of the file.
+ *
+ * <pre>{@code
+ * SirenBulkReader bulkReader = new SirenBulkReader.Builder()
+ *     .sirenReader(new SirenReader.Builder().symbolTable(new SymbolTable()).build())
+ *     .parallelism(32)
+ *     .build();
+ * long count = bulkReader.read(path, entity -> repository.save(entity));
+ * }</pre>
+ *
+ * A bulk reader may be used by multiple threads, each read using threads of its own.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenBulkReader {
+
+    /**
+     * The default number of bytes mapped for each chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Constructs instances of {@link SirenBulkReader}.
+     */
+    public static class Builder implements siren.Builder<SirenBulkReader> {
+
+        private SirenReader sirenReader;
+        private Integer parallelism;
+        private Integer chunkSize;
+        private boolean ordered;
+
+        /**
+         * Constructs an instance of {@link SirenBulkReader.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Sets the current state of the builder to have the reader provided.
+         * @param sirenReader Reads the entity of each line. Defaults to a {@link SirenReader} with no options.
+         * @return The builder this method is called on.
+         */
+        public Builder sirenReader(SirenReader sirenReader){
+            if(sirenReader == null){
+                throw new IllegalArgumentException("'sirenReader' cannot be null.");
+            }
+            this.sirenReader = sirenReader;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the parallelism provided.
+         * @param parallelism The number of threads parsing chunks. Defaults to the number of available processors.
+         * @return The builder this method is called on.
+         */
+        public Builder parallelism(int parallelism){
+            if(parallelism < 1){
+                throw new IllegalArgumentException("'parallelism' must be at least 1.");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the chunk size provided.
+         * @param chunkSize The number of bytes mapped for each chunk. Defaults to {@link #DEFAULT_CHUNK_SIZE}.
+         * @return The builder this method is called on.
+         */
+        public Builder chunkSize(int chunkSize){
+            if(chunkSize < 1){
+                throw new IllegalArgumentException("'chunkSize' must be at least 1.");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets whether the entities are handed to the consumer in the order of the file.
+         * @param ordered true to hand the entities over in order on the calling thread; otherwise false.
+         * @return The builder this method is called on.
+         */
+        public Builder ordered(boolean ordered){
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.sirenReader = null;
+            this.parallelism = null;
+            this.chunkSize = null;
+            this.ordered = false;
+        }
+
+        /**
+         * Constructs a {@link SirenBulkReader} instance with the current state of the builder.
+         * @return Instance of {@link SirenBulkReader} with the current state of the builder.
+         */
+        @Override
+        public SirenBulkReader build() {
+            return new SirenBulkReader(
+                this.sirenReader != null ? this.sirenReader : new SirenReader(),
+                this.parallelism != null ? this.parallelism : Runtime.getRuntime().availableProcessors(),
+                this.chunkSize != null ? this.chunkSize : DEFAULT_CHUNK_SIZE,
+                this.ordered
+            );
+        }
+    }
+
+    /**
+     * The entities parsed from a chunk, or their number when they have been handed over as they were parsed.
+     */
+    private static final class Parsed {
+
+        private final List<Entity> entities;
+        private final long count;
+
+        private Parsed(List<Entity> entities, long count){
+            this.entities = entities;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Reads the bytes remaining in a buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer){
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if(length == 0) return 0;
+            if(!this.buffer.hasRemaining()) return -1;
+            int read = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+
+    private static final byte NEWLINE = '\n';
+
+    private final SirenReader sirenReader;
+    private final int parallelism;
+    private final int chunkSize;
+    private final boolean ordered;
+
+    private SirenBulkReader(SirenReader sirenReader, int parallelism, int chunkSize, boolean ordered){
+        this.sirenReader = sirenReader;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Reads the entities of the file provided, handing each to the consumer provided.
+     * If reading fails, no more chunks are parsed, and the entities of chunks still being parsed
+     * are not handed over.
+     * @param file The file of newline-delimited JSON. Blank lines are skipped.
+     * @param consumer Accepts the entities read.
+     * @return The number of entities read.
+     * @throws IOException Thrown if the file cannot be read, or if a line is malformed or is not a siren entity.
+     * @throws InterruptedException Thrown if the calling thread is interrupted while waiting for a chunk to be parsed.
+     */
+    public long read(Path file, Consumer<? super Entity> consumer) throws IOException, InterruptedException {
+        if(file == null){
+            throw new IllegalArgumentException("'file' cannot be null.");
+        }
+        if(consumer == null){
+            throw new IllegalArgumentException("'consumer' cannot be null.");
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(this.parallelism);
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            CompletionService<Parsed> completionService = new ExecutorCompletionService<>(executorService);
+            Deque<Future<Parsed>> inFlight = new ArrayDeque<>();
+            int maximumInFlight = this.parallelism * 2;
+            long size = channel.size();
+            long position = 0;
+            long count = 0;
+            while(position < size || !inFlight.isEmpty()){
+                if(position < size && inFlight.size() < maximumInFlight){
+                    MappedByteBuffer chunk = this.map(file, channel, position, size);
+                    long start = position;
+                    position += chunk.limit();
+                    Callable<Parsed> task = () -> this.parse(file, start, chunk, this.ordered ? null : consumer);
+                    inFlight.add(this.ordered ? executorService.submit(task) : completionService.submit(task));
+                    continue;
+                }
+                Future<Parsed> future = this.ordered ? inFlight.peekFirst() : completionService.take();
+                inFlight.remove(future);
+                Parsed parsed = get(future);
+                if(parsed.entities != null){
+                    parsed.entities.forEach(consumer);
+                }
+                count += parsed.count;
+            }
+            return count;
+        }finally{
+            executorService.shutdownNow();
+            awaitTermination(executorService);
+        }
+    }
+
+    /**
+     * Reads the entities of the file provided into a list, in the order of the file.
+     * @param file The file of newline-delimited JSON. Blank lines are skipped.
+     * @return The entities read.
+     * @throws IOException Thrown if the file cannot be read, or if a line is malformed or is not a siren entity.
+     * @throws InterruptedException Thrown if the calling thread is interrupted while waiting for a chunk to be parsed.
+     */
+    public List<Entity> readAll(Path file) throws IOException, InterruptedException {
+        if(file == null){
+            throw new IllegalArgumentException("'file' cannot be null.");
+        }
+        List<Entity> entities = new ArrayList<>();
+        if(this.ordered){
+            this.read(file, entities::add);
+        }else{
+            List<Entity> synchronizedEntities = Collections.synchronizedList(entities);
+            this.read(file, synchronizedEntities::add);
+        }
+        return entities;
+    }
+
+    /**
+     * Maps the chunk of the file starting at the position provided. The chunk ends after the last newline
+     * within the chunk size, or after the first newline beyond it when a line is longer than the chunk
+     * size, or at the end of the file.
+     */
+    private MappedByteBuffer map(Path file, FileChannel channel, long position, long size) throws IOException {
+        long length = Math.min(this.chunkSize, size - position);
+        while(true){
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if(position + length == size) return chunk;
+            for(int i = (int)length - 1; i >= 0; i--){
+                if(chunk.get(i) == NEWLINE){
+                    chunk.limit(i + 1);
+                    return chunk;
+                }
+            }
+            if(length == Integer.MAX_VALUE){
+                throw new IOException("The line at byte " + position + " of '" + file + "' is longer than " + Integer.MAX_VALUE + " bytes.");
+            }
+            length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+        }
+    }
+
+    /**
+     * Parses the entities of a chunk with a single parser, handing each to the consumer provided,
+     * or else collecting them.
+     */
+    private Parsed parse(Path file, long start, ByteBuffer chunk, Consumer<? super Entity> consumer) throws IOException {
+        List<Entity> entities = consumer == null ? new ArrayList<>() : null;
+        long count = 0;
+        try(JsonParser parser = this.sirenReader.factory().createParser(new ByteBufferInputStream(chunk))){
+            while(parser.nextToken() != null){
+                long offset = start + parser.getTokenLocation().getByteOffset();
+                Entity entity;
+                try{
+                    entity = this.sirenReader.read(parser);
+                }catch(JsonProcessingException e){
+                    throw new IOException("Failed to read the entity at byte " + offset + " of '" + file + "'.", e);
+                }
+                if(consumer != null){
+                    consumer.accept(entity);
+                }else{
+                    entities.add(entity);
+                }
+                count++;
+                if(Thread.currentThread().isInterrupted()){
+                    throw new InterruptedIOException("Reading '" + file + "' was cancelled.");
+                }
+            }
+        }
+        return new Parsed(entities, count);
+    }
+
+    private static Parsed get(Future<Parsed> future) throws IOException, InterruptedException {
+        try{
+            return future.get();
+        }catch(ExecutionException e){
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) throw (IOException)cause;
+            if(cause instanceof RuntimeException) throw (RuntimeException)cause;
+            if(cause instanceof Error) throw (Error)cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Waits for the threads of a read to stop, so that no entity is handed over once the read has returned.
+     */
+    private static void awaitTermination(ExecutorService executorService){
+        boolean interrupted = false;
+        while(true){
+            try{
+                if(executorService.awaitTermination(1, TimeUnit.MINUTES)) break;
+            }catch(InterruptedException e){
+                interrupted = true;
+            }
+        }
+        if(interrupted){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
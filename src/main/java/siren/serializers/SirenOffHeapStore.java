@@ -0,0 +1,556 @@
+package siren.serializers;
+
+import siren.Entity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Keeps serialized entities outside of the heap, in memory-mapped files, indexed by the href
+ * of their self link.
+ *
+ * The JSON of each entity is appended to the current segment, a file of a fixed size mapped
+ * into memory; once a segment is full, another is created. Replacing or removing an entity
+ * appends the new JSON or a tombstone, leaving the old JSON in place until the store is
+ * {@link #compact() compacted}. The location of the current JSON of each href is kept in an
+ * open-addressing hash table that is itself held in direct memory, so the heap used by the store
+ * does not grow with the number of entities it holds.
+ *
+ * Reads do not block in the common case: a read probes the index of the current generation of the
+ * store optimistically, under a {@link StampedLock} stamp, and returns a read-only view of the mapped
+ * JSON. Writes are serialized, and each one changes the index and the segments under the write lock
+ * of the stamped lock, so a read that overlaps a write fails validation and is retried; a read that
+ * keeps overlapping writes takes the read lock instead. A read racing a write of the same href
+ * therefore returns either the previous or the new JSON, never nothing. Compaction copies the current
+ * JSON of each href into new segments and an index that readers do not see until the new generation
+ * is swapped in; views returned before then remain valid.
+ *
+ * Opening a store on a directory that already holds segments replays their records in order,
+ * reading only the header and href of each, to rebuild the index.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenOffHeapStore implements Closeable {
+
+    /**
+     * The default size, in bytes, of each segment.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAGIC = 0x5349524E;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int TOMBSTONE_LENGTH = -1;
+    private static final String SUFFIX = ".segment";
+
+    private static final int SLOT_SIZE = 16;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long EMPTY = 0L;
+    private static final long REMOVED = -1L;
+    private static final int OPTIMISTIC_ATTEMPTS = 4;
+
+    /**
+     * An index and the segments it refers to. Readers use whichever generation is current when
+     * they start; the writer replaces the generation when it adds a segment, grows the index or compacts.
+     */
+    private static final class Generation {
+
+        private final ByteBuffer index;
+        private final int mask;
+        private final MappedByteBuffer[] segments;
+
+        private Generation(ByteBuffer index, MappedByteBuffer[] segments){
+            this.index = index;
+            this.mask = index.capacity() / SLOT_SIZE - 1;
+            this.segments = segments;
+        }
+    }
+
+    private final Path directory;
+    private final SirenWriter sirenWriter;
+    private final int segmentSize;
+    private final Object lock = new Object();
+    private final StampedLock sequence = new StampedLock();
+    private volatile Generation generation;
+    private Generation writing;
+    private List<Path> files = new ArrayList<>();
+    private int nextSegmentNumber;
+    private ByteBuffer appender;
+    private int used;
+    private int size;
+    private int occupied;
+    private boolean closed;
+
+    private SirenOffHeapStore(Path directory, SirenWriter sirenWriter, int segmentSize){
+        this.directory = directory;
+        this.sirenWriter = sirenWriter;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the store kept in the directory provided, creating the directory if it does not exist.
+     * @param directory The directory the segments of the store are kept in.
+     * @return The store.
+     * @throws IOException Thrown if the directory or its segments cannot be read.
+     */
+    public static SirenOffHeapStore open(Path directory) throws IOException {
+        return open(directory, new SirenWriter(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the store kept in the directory provided, creating the directory if it does not exist.
+     * @param directory The directory the segments of the store are kept in.
+     * @param sirenWriter The writer used to serialize the entities put into the store.
+     * @param segmentSize The size, in bytes, of the segments created, which bounds the size of the
+     *                    JSON of a single entity.
+     * @return The store.
+     * @throws IOException Thrown if the directory or its segments cannot be read.
+     */
+    public static SirenOffHeapStore open(Path directory, SirenWriter sirenWriter, int segmentSize) throws IOException {
+        if(directory == null){
+            throw new IllegalArgumentException("'directory' cannot be null.");
+        }
+        if(sirenWriter == null){
+            throw new IllegalArgumentException("'sirenWriter' cannot be null.");
+        }
+        if(segmentSize < 4096){
+            throw new IllegalArgumentException("'segmentSize' must be at least 4096 bytes.");
+        }
+        Files.createDirectories(directory);
+        SirenOffHeapStore store = new SirenOffHeapStore(directory, sirenWriter, segmentSize);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Serializes the entity provided and stores it under the href of its self link,
+     * replacing the entity stored under that href, if any.
+     * @param entity The entity to store.
+     * @throws IOException Thrown if the entity cannot be serialized or the store cannot grow.
+     */
+    public void put(Entity entity) throws IOException {
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        URI href = SelfLinks.href(entity);
+        if(href == null){
+            throw new IllegalArgumentException("'entity' must have a self link.");
+        }
+        this.put(href, this.sirenWriter.writeAsBytes(entity));
+    }
+
+    /**
+     * Stores the JSON provided under the href provided, replacing the JSON stored under that href, if any.
+     * @param href The href of the entity, such as the href of its self link.
+     * @param json The UTF-8 encoded JSON of the entity.
+     * @throws IOException Thrown if the store cannot grow.
+     */
+    public void put(URI href, byte[] json) throws IOException {
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        if(json == null){
+            throw new IllegalArgumentException("'json' cannot be null.");
+        }
+        this.append(key(href), json);
+    }
+
+    /**
+     * Removes the entity stored under the href provided.
+     * @param href The href of the entity.
+     * @return true if an entity was stored under the href; otherwise false.
+     * @throws IOException Thrown if the store cannot grow.
+     */
+    public boolean remove(URI href) throws IOException {
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        byte[] key = key(href);
+        synchronized(this.lock){
+            this.ensureOpen();
+            if(find(this.writing, key, hash(key)) == EMPTY) return false;
+            this.append(key, null);
+            return true;
+        }
+    }
+
+    /**
+     * Retrieves the JSON of the entity stored under the href provided, without copying it.
+     * @param href The href of the entity.
+     * @return A read-only view of the UTF-8 encoded JSON, or {@code null} if there is none.
+     */
+    public ByteBuffer get(URI href){
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        byte[] key = key(href);
+        int hash = hash(key);
+        for(int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++){
+            long stamp = this.sequence.tryOptimisticRead();
+            if(stamp == 0) continue;
+            Generation generation = this.current();
+            ByteBuffer json;
+            try{
+                json = read(generation, key, hash);
+            }catch(RuntimeException e){
+                // the index or a record changed under the read; validation fails below.
+                json = null;
+            }
+            if(this.sequence.validate(stamp)) return json;
+        }
+        long stamp = this.sequence.readLock();
+        try{
+            return read(this.current(), key, hash);
+        }finally{
+            this.sequence.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Retrieves the number of entities in the store.
+     * @return The number of entities in the store.
+     */
+    public int size(){
+        synchronized(this.lock){
+            return this.size;
+        }
+    }
+
+    /**
+     * Copies the current JSON of each entity into new segments, then deletes the segments that
+     * held replaced and removed JSON. Views returned by {@link #get(URI)} before compacting remain valid.
+     * @throws IOException Thrown if the new segments cannot be created.
+     */
+    public void compact() throws IOException {
+        synchronized(this.lock){
+            this.ensureOpen();
+            Generation old = this.writing;
+            List<Path> oldFiles = this.files;
+            this.files = new ArrayList<>();
+            this.appender = null;
+            this.used = 0;
+            this.size = 0;
+            this.occupied = 0;
+            this.writing = new Generation(allocateIndex(Math.max(INITIAL_CAPACITY, old.mask + 1)), new MappedByteBuffer[0]);
+            for(int slot = 0; slot <= old.mask; slot++){
+                long address = old.index.getLong(slot * SLOT_SIZE);
+                if(address == EMPTY || address == REMOVED) continue;
+                ByteBuffer segment = old.segments[segment(address)];
+                int offset = offset(address);
+                byte[] key = new byte[segment.getInt(offset)];
+                byte[] json = new byte[segment.getInt(offset + 4)];
+                ByteBuffer record = segment.duplicate();
+                record.position(offset + RECORD_HEADER_SIZE);
+                record.get(key);
+                record.get(json);
+                this.write(key, json);
+            }
+            this.generation = this.writing;
+            this.flush();
+            for(Path file : oldFiles){
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Writes the segments to their files.
+     */
+    public void flush(){
+        Generation generation = this.generation;
+        if(generation == null) return;
+        for(MappedByteBuffer segment : generation.segments){
+            segment.force();
+        }
+    }
+
+    /**
+     * Writes the segments to their files and closes the store. The mapped memory is released
+     * once the views returned by {@link #get(URI)} are no longer referenced.
+     */
+    @Override
+    public void close() {
+        synchronized(this.lock){
+            if(this.closed) return;
+            this.flush();
+            this.closed = true;
+            this.generation = null;
+            this.writing = null;
+            this.appender = null;
+        }
+    }
+
+    /**
+     * Maps the existing segments and replays their records into a new index.
+     */
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + SUFFIX)){
+            for(Path file : stream){
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        synchronized(this.lock){
+            this.writing = new Generation(allocateIndex(INITIAL_CAPACITY), new MappedByteBuffer[0]);
+            for(Path file : files){
+                MappedByteBuffer segment = map(file, Files.size(file));
+                if(segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION){
+                    throw new IOException("'" + file + "' is not a segment of a siren store.");
+                }
+                int number = this.addSegment(file, segment);
+                int offset = HEADER_SIZE;
+                while(offset + RECORD_HEADER_SIZE <= segment.capacity()){
+                    int keyLength = segment.getInt(offset);
+                    int valueLength = segment.getInt(offset + 4);
+                    if(keyLength <= 0) break;
+                    byte[] key = new byte[keyLength];
+                    ByteBuffer record = segment.duplicate();
+                    record.position(offset + RECORD_HEADER_SIZE);
+                    record.get(key);
+                    this.link(key, valueLength == TOMBSTONE_LENGTH ? REMOVED : address(number, offset));
+                    offset += RECORD_HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+                }
+                this.used = offset;
+                this.nextSegmentNumber = number(file) + 1;
+            }
+            this.generation = this.writing;
+        }
+    }
+
+    /**
+     * Appends a record for the href provided and publishes it to readers.
+     * @param json The JSON of the record, or {@code null} for a tombstone.
+     */
+    private void append(byte[] key, byte[] json) throws IOException {
+        if(HEADER_SIZE + RECORD_HEADER_SIZE + key.length + (json != null ? json.length : 0) > this.segmentSize){
+            throw new IllegalArgumentException("The entity does not fit in a segment of " + this.segmentSize + " bytes.");
+        }
+        synchronized(this.lock){
+            this.ensureOpen();
+            long stamp = this.sequence.writeLock();
+            try{
+                this.write(key, json);
+                this.generation = this.writing;
+            }finally{
+                this.sequence.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Writes a record for the href provided and links it into the index being written. Once the
+     * index is published, this is only called under the write lock of the stamped lock.
+     */
+    private void write(byte[] key, byte[] json) throws IOException {
+        int length = RECORD_HEADER_SIZE + key.length + (json != null ? json.length : 0);
+        if(this.appender == null || this.used + length > this.appender.capacity()){
+            this.newSegment();
+        }
+        int number = this.writing.segments.length - 1;
+        int offset = this.used;
+        this.appender.putInt(offset + 4, json != null ? json.length : TOMBSTONE_LENGTH);
+        this.appender.position(offset + RECORD_HEADER_SIZE);
+        this.appender.put(key);
+        if(json != null) this.appender.put(json);
+        this.appender.putInt(offset, key.length);
+        this.used = offset + length;
+        this.link(key, json != null ? address(number, offset) : REMOVED);
+    }
+
+    /**
+     * Points the slot of the href provided at the address provided, growing the index,
+     * or purging it of removed slots, once it is three quarters occupied.
+     */
+    private void link(byte[] key, long address){
+        Generation generation = this.writing;
+        if((this.occupied + 1) * 4L > (generation.mask + 1) * 3L){
+            int capacity = (this.size + 1) * 2L > generation.mask + 1 ? (generation.mask + 1) * 2 : generation.mask + 1;
+            generation = new Generation(rehash(generation, capacity), generation.segments);
+            this.writing = generation;
+            this.occupied = this.size;
+        }
+        int hash = hash(key);
+        int slot = hash & generation.mask;
+        int free = -1;
+        while(true){
+            int position = slot * SLOT_SIZE;
+            long existing = generation.index.getLong(position);
+            if(existing == EMPTY){
+                if(address == REMOVED) return;
+                if(free < 0) free = position;
+                break;
+            }
+            if(existing == REMOVED){
+                if(free < 0) free = position;
+            }else if(generation.index.getInt(position + 8) == hash && matches(generation, existing, key)){
+                generation.index.putLong(position, address);
+                if(address == REMOVED) this.size--;
+                return;
+            }
+            slot = (slot + 1) & generation.mask;
+        }
+        if(generation.index.getLong(free) == EMPTY) this.occupied++;
+        generation.index.putInt(free + 8, hash);
+        generation.index.putLong(free, address);
+        this.size++;
+    }
+
+    /**
+     * Creates, maps and publishes a new, empty segment.
+     */
+    private void newSegment() throws IOException {
+        Path file = this.directory.resolve(String.format("%08d%s", this.nextSegmentNumber++, SUFFIX));
+        MappedByteBuffer segment = map(file, this.segmentSize);
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, VERSION);
+        this.addSegment(file, segment);
+        this.used = HEADER_SIZE;
+    }
+
+    private int addSegment(Path file, MappedByteBuffer segment){
+        Generation generation = this.writing;
+        MappedByteBuffer[] segments = Arrays.copyOf(generation.segments, generation.segments.length + 1);
+        segments[segments.length - 1] = segment;
+        this.writing = new Generation(generation.index, segments);
+        this.files.add(file);
+        this.appender = segment.duplicate();
+        return segments.length - 1;
+    }
+
+    private void ensureOpen(){
+        if(this.closed){
+            throw new IllegalStateException("The store is closed.");
+        }
+    }
+
+    private Generation current(){
+        Generation generation = this.generation;
+        if(generation == null){
+            throw new IllegalStateException("The store is closed.");
+        }
+        return generation;
+    }
+
+    /**
+     * Reads a view of the JSON of the href provided. Unless the read holds the read lock, or its
+     * stamp is validated afterwards, the view may be of a record being changed, or the read may throw.
+     */
+    private static ByteBuffer read(Generation generation, byte[] key, int hash){
+        long address = find(generation, key, hash);
+        if(address == EMPTY) return null;
+        ByteBuffer segment = generation.segments[segment(address)];
+        int offset = offset(address);
+        int start = offset + RECORD_HEADER_SIZE + key.length;
+        ByteBuffer json = segment.duplicate();
+        json.limit(start + segment.getInt(offset + 4));
+        json.position(start);
+        return json.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Finds the address of the record for the href provided.
+     * @return The address, or {@link #EMPTY} if there is none.
+     */
+    private static long find(Generation generation, byte[] key, int hash){
+        int slot = hash & generation.mask;
+        while(true){
+            int position = slot * SLOT_SIZE;
+            long address = generation.index.getLong(position);
+            if(address == EMPTY) return EMPTY;
+            if(address != REMOVED && generation.index.getInt(position + 8) == hash && matches(generation, address, key)){
+                return address;
+            }
+            slot = (slot + 1) & generation.mask;
+        }
+    }
+
+    /**
+     * Determines whether the record at the address provided is for the href provided.
+     */
+    private static boolean matches(Generation generation, long address, byte[] key){
+        ByteBuffer segment = generation.segments[segment(address)];
+        int offset = offset(address);
+        if(segment.getInt(offset) != key.length) return false;
+        int start = offset + RECORD_HEADER_SIZE;
+        for(int i = 0; i < key.length; i++){
+            if(segment.get(start + i) != key[i]) return false;
+        }
+        return true;
+    }
+
+    private static ByteBuffer rehash(Generation generation, int capacity){
+        ByteBuffer index = allocateIndex(capacity);
+        int mask = capacity - 1;
+        for(int slot = 0; slot <= generation.mask; slot++){
+            long address = generation.index.getLong(slot * SLOT_SIZE);
+            if(address == EMPTY || address == REMOVED) continue;
+            int hash = generation.index.getInt(slot * SLOT_SIZE + 8);
+            int target = hash & mask;
+            while(index.getLong(target * SLOT_SIZE) != EMPTY){
+                target = (target + 1) & mask;
+            }
+            index.putInt(target * SLOT_SIZE + 8, hash);
+            index.putLong(target * SLOT_SIZE, address);
+        }
+        return index;
+    }
+
+    private static ByteBuffer allocateIndex(int capacity){
+        return ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+    }
+
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static int number(Path file){
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private static byte[] key(URI href){
+        return href.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hashes the href provided with FNV-1a, so that the index can be rebuilt from the stored bytes.
+     */
+    private static int hash(byte[] key){
+        int hash = 0x811C9DC5;
+        for(byte b : key){
+            hash = (hash ^ (b & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long address(int segment, int offset){
+        return (long)segment << 32 | offset;
+    }
+
+    private static int segment(long address){
+        return (int)(address >>> 32);
+    }
+
+    private static int offset(long address){
+        return (int)address;
+    }
+}
@@ -0,0 +1,201 @@
+package siren.serializers;
+
+import siren.Entity;
+import siren.EntityBase;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Renders entities ahead of time into a directory from which {@link PrerenderedEntities} serves them.
+ *
+ * Each entity is serialized once and appended to a new data file, optionally compressed on its
+ * own with gzip so it can be served as is with a {@code Content-Encoding} of {@code gzip}. Committing
+ * the render writes an index naming the data file and holding the href, offset and length of
+ * each entity, moves the index into place and deletes the data files of previous renders. A process
+ * serving a previous render keeps reading its open data file until it opens the new index. Closing
+ * a prerenderer without committing, such as when rendering fails partway through, discards the
+ * render and leaves the previous one published.
+ *
+ * A prerenderer is meant to be used by a single thread, such as a batch job.
+ *
+ * <pre>{@code
+ * try(SirenPrerenderer prerenderer = SirenPrerenderer.open(directory, sirenWriter, true)){
+ *     for(Entity entity : entities){
+ *         prerenderer.render(entity);
+ *     }
+ *     prerenderer.commit();
+ * }
+ * }</pre>
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenPrerenderer implements Closeable {
+
+    static final String INDEX = "entities.index";
+    static final int MAGIC = 0x53495250;
+    static final int VERSION = 1;
+    private static final String DATA_PREFIX = "entities-";
+    private static final String DATA_SUFFIX = ".data";
+    private static final String PARTIAL = ".partial";
+
+    private final Path directory;
+    private final SirenWriter sirenWriter;
+    private final boolean gzip;
+    private final Path dataFile;
+    private final FileChannel data;
+    private final Map<String, long[]> regions = new LinkedHashMap<>();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+    private long position;
+    private boolean closed;
+
+    private SirenPrerenderer(Path directory, SirenWriter sirenWriter, boolean gzip, Path dataFile, FileChannel data){
+        this.directory = directory;
+        this.sirenWriter = sirenWriter;
+        this.gzip = gzip;
+        this.dataFile = dataFile;
+        this.data = data;
+    }
+
+    /**
+     * Opens a prerenderer writing to the directory provided, creating the directory if it does not exist.
+     * The entities previously rendered to the directory are replaced once the render is committed.
+     * @param directory The directory the data and index files are written to.
+     * @param sirenWriter The writer used to serialize the entities.
+     * @param gzip Whether each entity is compressed with gzip.
+     * @return The prerenderer.
+     * @throws IOException Thrown if the data file cannot be created.
+     */
+    public static SirenPrerenderer open(Path directory, SirenWriter sirenWriter, boolean gzip) throws IOException {
+        if(directory == null){
+            throw new IllegalArgumentException("'directory' cannot be null.");
+        }
+        if(sirenWriter == null){
+            throw new IllegalArgumentException("'sirenWriter' cannot be null.");
+        }
+        Files.createDirectories(directory);
+        Path dataFile = Files.createTempFile(directory, DATA_PREFIX, DATA_SUFFIX);
+        return new SirenPrerenderer(directory, sirenWriter, gzip, dataFile, FileChannel.open(dataFile, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Renders the entity provided under the href of its self link.
+     * @param entity The entity to render.
+     * @throws IOException Thrown if the entity cannot be serialized or written.
+     */
+    public void render(Entity entity) throws IOException {
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        URI href = SelfLinks.href(entity);
+        if(href == null){
+            throw new IllegalArgumentException("'entity' must have a self link.");
+        }
+        this.render(href, entity);
+    }
+
+    /**
+     * Renders the entity provided under the href provided, replacing the entity
+     * previously rendered under that href, if any.
+     * @param href The href the entity is served under.
+     * @param entity The entity to render.
+     * @throws IOException Thrown if the entity cannot be serialized or written.
+     */
+    public void render(URI href, EntityBase entity) throws IOException {
+        if(href == null){
+            throw new IllegalArgumentException("'href' cannot be null.");
+        }
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        if(this.closed){
+            throw new IllegalStateException("The prerenderer is closed.");
+        }
+        this.buffer.reset();
+        if(this.gzip){
+            try(OutputStream outputStream = new GZIPOutputStream(this.buffer)){
+                this.sirenWriter.write(entity, outputStream);
+            }
+        }else{
+            this.sirenWriter.write(entity, this.buffer);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(this.buffer.toByteArray());
+        long offset = this.position;
+        while(bytes.hasRemaining()){
+            this.position += this.data.write(bytes);
+        }
+        this.regions.put(href.toString(), new long[]{offset, this.position - offset});
+    }
+
+    /**
+     * Retrieves the number of entities rendered.
+     * @return The number of entities rendered.
+     */
+    public int size(){
+        return this.regions.size();
+    }
+
+    /**
+     * Publishes the entities rendered: writes the index, moves it into place and deletes the data files
+     * of previous renders. No more entities can be rendered once the render is committed.
+     * @throws IOException Thrown if the index cannot be written or moved, in which case the previous render
+     *                     is still the one published.
+     */
+    public void commit() throws IOException {
+        if(this.closed){
+            throw new IllegalStateException("The prerenderer is closed.");
+        }
+        this.data.force(true);
+        this.data.close();
+        Path index = this.directory.resolve(INDEX + PARTIAL);
+        try(DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(index)))){
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+            outputStream.writeUTF(this.dataFile.getFileName().toString());
+            outputStream.writeBoolean(this.gzip);
+            outputStream.writeInt(this.regions.size());
+            for(Map.Entry<String, long[]> region : this.regions.entrySet()){
+                outputStream.writeUTF(region.getKey());
+                outputStream.writeLong(region.getValue()[0]);
+                outputStream.writeLong(region.getValue()[1]);
+            }
+        }
+        Files.move(index, this.directory.resolve(INDEX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.closed = true;
+        try(DirectoryStream<Path> dataFiles = Files.newDirectoryStream(this.directory, DATA_PREFIX + "*" + DATA_SUFFIX)){
+            for(Path dataFile : dataFiles){
+                if(!dataFile.equals(this.dataFile)) Files.deleteIfExists(dataFile);
+            }
+        }
+    }
+
+    /**
+     * Closes the prerenderer. A render that has not been committed is discarded: its data file and
+     * partial index are deleted, and the previous render is left published.
+     * @throws IOException Thrown if the files of the render cannot be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if(this.closed) return;
+        this.closed = true;
+        this.data.close();
+        Files.deleteIfExists(this.directory.resolve(INDEX + PARTIAL));
+        Files.deleteIfExists(this.dataFile);
+    }
+}
@@ -0,0 +1,763 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Field;
+import siren.FieldType;
+import siren.FieldValue;
+import siren.HttpMethod;
+import siren.Link;
+import siren.Relation;
+import siren.factories.Interner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads siren entities from JSON by way of a {@link JsonParser}.
+ *
+ * Both the output of {@link SirenWriter} (or data binding) and siren documents produced
+ * elsewhere are accepted: members may appear in any order, may be omitted or may be
+ * {@code null}, and field types may be given either by name ({@code "TEXT"}) or by
+ * their HTML5 input type ({@code "text"}). A sub-entity with an {@code href} is read
+ * as an {@link EmbeddedLinkSubEntity}; any other sub-entity is read as an
+ * {@link EmbeddedRepresentationSubEntity}. Unknown members are skipped.
+ *
+ * A reader built with a base URI, or to resolve against the self link of each entity it
+ * reads, resolves relative hrefs such as those written by a {@link SirenWriter} built
+ * with the same option. Hrefs read before the self link of the entity are resolved once
+ * the entity has been read; every other href is resolved as it is read.
+ *
+ * A reader built with an {@link Interner} replaces the links, actions, fields and field values
+ * it reads with the equal instances interned, so that the entities it reads share them. A reader
+ * built with a {@link SymbolTable} reads classes and relations into the shared instances held by
+ * the table, straight from the characters of the parser.
+ *
+ * Sub-entities are read with an explicit stack rather than by recursion, so the depth of
+ * the entities that can be read is limited by the heap rather than by the thread's stack.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenReader {
+
+    /**
+     * Holds the members of an entity until it is known which kind of entity they belong to.
+     */
+    private static final class Members {
+
+        private List<String> klass;
+        private String title;
+        private Map<String, Object> properties;
+        private List<Action> actions;
+        private List<Link> links;
+        private List<EntityBase> entities;
+        private List<Relation> rel;
+        private URI href;
+        private String type;
+        private int next;
+        private boolean changed;
+    }
+
+    /**
+     * Tracks the base URI relative hrefs are resolved against while an entity is read.
+     */
+    private static final class Context {
+
+        private URI base;
+        private boolean awaitingSelf;
+        private boolean unresolved;
+        private int depth;
+    }
+
+    /**
+     * Constructs instances of {@link SirenReader}.
+     */
+    public static class Builder implements siren.Builder<SirenReader> {
+
+        private ObjectMapper objectMapper;
+        private URI baseUri;
+        private boolean resolveAgainstSelf;
+        private Interner interner;
+        private SymbolTable symbolTable;
+
+        /**
+         * Constructs an instance of {@link SirenReader.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Sets the current state of the builder to have the object mapper provided.
+         * @param objectMapper The mapper used to create parsers and to read property and field values.
+         * @return The builder this method is called on.
+         */
+        public Builder objectMapper(ObjectMapper objectMapper){
+            if(objectMapper == null){
+                throw new IllegalArgumentException("'objectMapper' cannot be null.");
+            }
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the base URI provided.
+         * The relative hrefs of links, actions and embedded link sub-entities are resolved against it.
+         * @param baseUri The absolute, hierarchical URI relative hrefs are resolved against.
+         * @return The builder this method is called on.
+         */
+        public Builder baseUri(URI baseUri){
+            if(baseUri == null){
+                throw new IllegalArgumentException("'baseUri' cannot be null.");
+            }
+            if(!baseUri.isAbsolute() || baseUri.isOpaque()){
+                throw new IllegalArgumentException("'baseUri' must be an absolute, hierarchical URI.");
+            }
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * Sets whether relative hrefs are resolved against the href of the self link of the entity
+         * being read. Entities without an absolute self link are resolved against the base URI,
+         * if there is one.
+         * @param resolveAgainstSelf true to resolve hrefs against the self link; otherwise false.
+         * @return The builder this method is called on.
+         */
+        public Builder resolveAgainstSelf(boolean resolveAgainstSelf){
+            this.resolveAgainstSelf = resolveAgainstSelf;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the interner provided. The links, actions,
+         * fields and field values read are replaced with the equal instances held by the interner.
+         * @param interner The interner shared by the entities read.
+         * @return The builder this method is called on.
+         */
+        public Builder interner(Interner interner){
+            if(interner == null){
+                throw new IllegalArgumentException("'interner' cannot be null.");
+            }
+            this.interner = interner;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the symbol table provided. The classes and
+         * relations read are replaced with the equal instances held by the symbol table.
+         * @param symbolTable The symbol table shared by the entities read.
+         * @return The builder this method is called on.
+         */
+        public Builder symbolTable(SymbolTable symbolTable){
+            if(symbolTable == null){
+                throw new IllegalArgumentException("'symbolTable' cannot be null.");
+            }
+            this.symbolTable = symbolTable;
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.objectMapper = null;
+            this.baseUri = null;
+            this.resolveAgainstSelf = false;
+            this.interner = null;
+            this.symbolTable = null;
+        }
+
+        /**
+         * Constructs a {@link SirenReader} instance with the current state of the builder.
+         * @return Instance of {@link SirenReader} with the current state of the builder.
+         */
+        @Override
+        public SirenReader build() {
+            return new SirenReader(this);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final boolean resolveAgainstSelf;
+    private final Interner interner;
+    private final SymbolTable symbolTable;
+
+    /**
+     * Constructs an instance of {@link SirenReader}.
+     */
+    public SirenReader(){
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Constructs an instance of {@link SirenReader}.
+     * @param objectMapper The mapper used to create parsers and to read property and field values.
+     */
+    public SirenReader(ObjectMapper objectMapper){
+        if(objectMapper == null){
+            throw new IllegalArgumentException("'objectMapper' cannot be null.");
+        }
+        this.objectMapper = objectMapper;
+        this.baseUri = null;
+        this.resolveAgainstSelf = false;
+        this.interner = null;
+        this.symbolTable = null;
+    }
+
+    private SirenReader(Builder builder){
+        this.objectMapper = builder.objectMapper != null ? builder.objectMapper : new ObjectMapper();
+        this.baseUri = builder.baseUri;
+        this.resolveAgainstSelf = builder.resolveAgainstSelf;
+        this.interner = builder.interner;
+        this.symbolTable = builder.symbolTable;
+    }
+
+    /**
+     * Retrieves the factory the reader creates its parsers with.
+     */
+    JsonFactory factory(){
+        return this.objectMapper.getFactory();
+    }
+
+    /**
+     * Reads an entity from the UTF-8 encoded JSON provided.
+     * @param json The UTF-8 encoded JSON.
+     * @return The entity.
+     * @throws IOException Thrown if the JSON is malformed or is not a siren entity.
+     */
+    public Entity read(byte[] json) throws IOException {
+        if(json == null){
+            throw new IllegalArgumentException("'json' cannot be null.");
+        }
+        try(JsonParser parser = this.objectMapper.getFactory().createParser(json)){
+            return this.read(parser);
+        }
+    }
+
+    /**
+     * Reads an entity from the input stream provided. The input stream is not closed.
+     * @param inputStream The input stream containing JSON.
+     * @return The entity.
+     * @throws IOException Thrown if the JSON is malformed or is not a siren entity.
+     */
+    public Entity read(InputStream inputStream) throws IOException {
+        if(inputStream == null){
+            throw new IllegalArgumentException("'inputStream' cannot be null.");
+        }
+        try(JsonParser parser = this.objectMapper.getFactory().createParser(inputStream)){
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return this.read(parser);
+        }
+    }
+
+    /**
+     * Reads an entity from the parser provided. The parser may either be positioned
+     * on the start of the entity, or just before it.
+     * @param parser The parser to read from.
+     * @return The entity.
+     * @throws IOException Thrown if the JSON is malformed or is not a siren entity.
+     */
+    public Entity read(JsonParser parser) throws IOException {
+        if(parser == null){
+            throw new IllegalArgumentException("'parser' cannot be null.");
+        }
+        if(parser.getCodec() == null){
+            parser.setCodec(this.objectMapper);
+        }
+        if(!parser.hasCurrentToken() || parser.getCurrentToken() != JsonToken.START_OBJECT){
+            if(parser.nextToken() != JsonToken.START_OBJECT){
+                throw new JsonParseException(parser, "A siren entity must be a JSON object.");
+            }
+        }
+        Context context = new Context();
+        context.awaitingSelf = this.resolveAgainstSelf;
+        context.base = this.resolveAgainstSelf ? null : this.baseUri;
+        Members members = this.members(parser, context);
+        URI base = context.base != null ? context.base : this.baseUri;
+        if(context.unresolved && base != null){
+            this.resolve(parser, members, base);
+        }
+        return entity(members);
+    }
+
+    /**
+     * Reads the members of an entity and of its sub-entities, the parser being positioned on its start.
+     * The members of the entities being read are kept on a stack; reading the start of a sub-entity
+     * pushes its parent, and reading its end pops the parent to add the sub-entity to.
+     */
+    private Members members(JsonParser parser, Context context) throws IOException {
+        Deque<Members> stack = new ArrayDeque<>();
+        Members members = new Members();
+        context.depth = 1;
+        while(true){
+            JsonToken token = parser.nextToken();
+            if(token != JsonToken.FIELD_NAME){
+                expect(parser, JsonToken.END_OBJECT);
+                if(stack.isEmpty()){
+                    context.depth = 0;
+                    context.awaitingSelf = false;
+                    return members;
+                }
+                Members parent = stack.pop();
+                context.depth--;
+                parent.entities.add(subEntity(parser, members));
+                members = parent;
+                if(parser.nextToken() != JsonToken.END_ARRAY){
+                    expect(parser, JsonToken.START_OBJECT);
+                    stack.push(members);
+                    context.depth++;
+                    members = new Members();
+                }
+                continue;
+            }
+            String name = parser.getCurrentName();
+            if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+            switch(name){
+                case "class":
+                    members.klass = this.strings(parser);
+                    break;
+                case "title":
+                    members.title = parser.getValueAsString();
+                    break;
+                case "properties":
+                    members.properties = this.properties(parser);
+                    break;
+                case "actions":
+                    members.actions = this.actions(parser, context);
+                    break;
+                case "links":
+                    members.links = this.links(parser, context);
+                    break;
+                case "entities":
+                    expect(parser, JsonToken.START_ARRAY);
+                    members.entities = new ArrayList<>();
+                    if(parser.nextToken() != JsonToken.END_ARRAY){
+                        expect(parser, JsonToken.START_OBJECT);
+                        stack.push(members);
+                        context.depth++;
+                        members = new Members();
+                    }
+                    break;
+                case "rel":
+                    members.rel = this.relations(parser);
+                    break;
+                case "href":
+                    members.href = uri(parser, context);
+                    break;
+                case "type":
+                    members.type = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private Map<String, Object> properties(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        Map<String, Object> properties = new LinkedHashMap<>();
+        while(parser.nextToken() == JsonToken.FIELD_NAME){
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            properties.put(key, parser.readValueAs(Object.class));
+        }
+        return properties;
+    }
+
+    private List<Action> actions(JsonParser parser, Context context) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<Action> actions = new ArrayList<>();
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            expect(parser, JsonToken.START_OBJECT);
+            Action.Builder builder = new Action.Builder();
+            while(parser.nextToken() == JsonToken.FIELD_NAME){
+                String name = parser.getCurrentName();
+                if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+                switch(name){
+                    case "name":
+                        builder.name(parser.getValueAsString());
+                        break;
+                    case "title":
+                        builder.title(parser.getValueAsString());
+                        break;
+                    case "method":
+                        builder.method(method(parser));
+                        break;
+                    case "href":
+                        builder.href(uri(parser, context));
+                        break;
+                    case "type":
+                        builder.type(parser.getValueAsString());
+                        break;
+                    case "fields":
+                        builder.fields(this.fields(parser).toArray(new Field[0]));
+                        break;
+                    case "class":
+                        builder.klasses(this.strings(parser).toArray(new String[0]));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            actions.add(this.intern(build(parser, builder)));
+        }
+        return actions;
+    }
+
+    private List<Field> fields(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<Field> fields = new ArrayList<>();
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            expect(parser, JsonToken.START_OBJECT);
+            Field.Builder<Object> builder = new Field.Builder<>();
+            while(parser.nextToken() == JsonToken.FIELD_NAME){
+                String name = parser.getCurrentName();
+                if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+                switch(name){
+                    case "name":
+                        builder.name(parser.getValueAsString());
+                        break;
+                    case "title":
+                        builder.title(parser.getValueAsString());
+                        break;
+                    case "type":
+                        builder.type(fieldType(parser));
+                        break;
+                    case "value":
+                        builder.value(this.fieldValue(parser));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            fields.add(this.intern(build(parser, builder)));
+        }
+        return fields;
+    }
+
+    /**
+     * Reads the value of a field. Arrays of objects are read as lists of {@link FieldValue}.
+     */
+    private Object fieldValue(JsonParser parser) throws IOException {
+        if(parser.getCurrentToken() != JsonToken.START_ARRAY){
+            return parser.readValueAs(Object.class);
+        }
+        List<Object> values = new ArrayList<>();
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            if(parser.getCurrentToken() != JsonToken.START_OBJECT){
+                values.add(parser.readValueAs(Object.class));
+                continue;
+            }
+            FieldValue.Builder<Object> builder = new FieldValue.Builder<>();
+            while(parser.nextToken() == JsonToken.FIELD_NAME){
+                String name = parser.getCurrentName();
+                if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+                switch(name){
+                    case "title":
+                        builder.title(parser.getValueAsString());
+                        break;
+                    case "value":
+                        builder.value(parser.readValueAs(Object.class));
+                        break;
+                    case "selected":
+                        builder.selected(parser.getValueAsBoolean());
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            values.add(this.intern(build(parser, builder)));
+        }
+        return values;
+    }
+
+    private List<Link> links(JsonParser parser, Context context) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<Link> links = new ArrayList<>();
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            expect(parser, JsonToken.START_OBJECT);
+            Link.Builder builder = new Link.Builder();
+            while(parser.nextToken() == JsonToken.FIELD_NAME){
+                String name = parser.getCurrentName();
+                if(parser.nextToken() == JsonToken.VALUE_NULL) continue;
+                switch(name){
+                    case "rel":
+                        builder.rels(this.relations(parser).toArray(new Relation[0]));
+                        break;
+                    case "href":
+                        builder.href(uri(parser, context));
+                        break;
+                    case "title":
+                        builder.title(parser.getValueAsString());
+                        break;
+                    case "type":
+                        builder.type(parser.getValueAsString());
+                        break;
+                    case "class":
+                        builder.klasses(this.strings(parser).toArray(new String[0]));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            Link link = build(parser, builder);
+            if(context.awaitingSelf && context.depth == 1 && SelfLinks.isSelf(link)){
+                context.awaitingSelf = false;
+                if(link.getHref().isAbsolute() && !link.getHref().isOpaque()) context.base = link.getHref();
+            }
+            links.add(this.intern(link));
+        }
+        return links;
+    }
+
+    /**
+     * Resolves the hrefs of the members provided that were read before the base URI was known.
+     * Sub-entities are visited with an explicit stack; only those with a relative href of their
+     * own, or in one of their sub-entities, are rebuilt.
+     */
+    private void resolve(JsonParser parser, Members root, URI base) throws IOException {
+        Deque<Members> stack = new ArrayDeque<>();
+        this.resolveOwn(parser, root, base);
+        stack.push(root);
+        while(!stack.isEmpty()){
+            Members members = stack.peek();
+            if(members.entities == null || members.next == members.entities.size()){
+                stack.pop();
+                Members parent = stack.peek();
+                if(parent != null){
+                    if(members.changed){
+                        parent.entities.set(parent.next, subEntity(parser, members));
+                        parent.changed = true;
+                    }
+                    parent.next++;
+                }
+                continue;
+            }
+            EntityBase subEntity = members.entities.get(members.next);
+            Members subMembers = new Members();
+            subMembers.klass = subEntity.getKlass();
+            subMembers.title = subEntity.getTitle();
+            if(subEntity instanceof EmbeddedLinkSubEntity){
+                EmbeddedLinkSubEntity link = (EmbeddedLinkSubEntity)subEntity;
+                if(!link.getHref().isAbsolute()){
+                    subMembers.rel = link.getRel();
+                    subMembers.href = base.resolve(link.getHref());
+                    subMembers.type = link.getType();
+                    members.entities.set(members.next, subEntity(parser, subMembers));
+                    members.changed = true;
+                }
+                members.next++;
+                continue;
+            }
+            EmbeddedRepresentationSubEntity representation = (EmbeddedRepresentationSubEntity)subEntity;
+            subMembers.rel = representation.getRel();
+            subMembers.properties = representation.getProperties();
+            subMembers.actions = copy(representation.getActions());
+            subMembers.links = copy(representation.getLinks());
+            subMembers.entities = copy(representation.getEntities());
+            this.resolveOwn(parser, subMembers, base);
+            stack.push(subMembers);
+        }
+    }
+
+    /**
+     * Resolves the hrefs of the members provided, other than those of their sub-entities.
+     */
+    private void resolveOwn(JsonParser parser, Members members, URI base) throws IOException {
+        if(members.href != null && !members.href.isAbsolute()){
+            members.href = base.resolve(members.href);
+            members.changed = true;
+        }
+        if(members.actions != null){
+            for(int i = 0; i < members.actions.size(); i++){
+                Action action = members.actions.get(i);
+                if(action.getHref() == null || action.getHref().isAbsolute()) continue;
+                Action.Builder builder = new Action.Builder()
+                    .name(action.getName())
+                    .title(action.getTitle())
+                    .method(action.getMethod())
+                    .href(base.resolve(action.getHref()))
+                    .type(action.getType());
+                if(action.getFields() != null) builder.fields(action.getFields().toArray(new Field[0]));
+                if(action.getKlass() != null) builder.klasses(action.getKlass().toArray(new String[0]));
+                members.actions.set(i, this.intern(build(parser, builder)));
+                members.changed = true;
+            }
+        }
+        if(members.links != null){
+            for(int i = 0; i < members.links.size(); i++){
+                Link link = members.links.get(i);
+                if(link.getHref().isAbsolute()) continue;
+                Link.Builder builder = new Link.Builder()
+                    .rels(link.getRel().toArray(new Relation[0]))
+                    .href(base.resolve(link.getHref()))
+                    .title(link.getTitle())
+                    .type(link.getType());
+                if(link.getKlass() != null) builder.klasses(link.getKlass().toArray(new String[0]));
+                members.links.set(i, this.intern(build(parser, builder)));
+                members.changed = true;
+            }
+        }
+    }
+
+    private Link intern(Link link){
+        return this.interner != null ? this.interner.intern(link) : link;
+    }
+
+    private Action intern(Action action){
+        return this.interner != null ? this.interner.intern(action) : action;
+    }
+
+    private <T> Field<T> intern(Field<T> field){
+        return this.interner != null ? this.interner.intern(field) : field;
+    }
+
+    private <T> FieldValue<T> intern(FieldValue<T> fieldValue){
+        return this.interner != null ? this.interner.intern(fieldValue) : fieldValue;
+    }
+
+    private static <T> List<T> copy(List<T> list){
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static Entity entity(Members members){
+        Entity.Builder builder = new Entity.Builder().title(members.title);
+        if(members.klass != null) builder.klasses(members.klass.toArray(new String[0]));
+        if(members.properties != null){
+            for(Map.Entry<String, Object> property : members.properties.entrySet()){
+                builder.property(property.getKey(), property.getValue());
+            }
+        }
+        if(members.actions != null) builder.actions(members.actions.toArray(new Action[0]));
+        if(members.links != null) builder.links(members.links.toArray(new Link[0]));
+        if(members.entities != null) builder.subEntities(members.entities.toArray(new EntityBase[0]));
+        return builder.build();
+    }
+
+    private static EntityBase subEntity(JsonParser parser, Members members) throws IOException {
+        if(members.href != null){
+            EmbeddedLinkSubEntity.Builder builder = new EmbeddedLinkSubEntity.Builder()
+                .href(members.href)
+                .title(members.title)
+                .type(members.type);
+            if(members.klass != null) builder.klasses(members.klass.toArray(new String[0]));
+            if(members.rel != null) builder.rels(members.rel.toArray(new Relation[0]));
+            return build(parser, builder);
+        }
+
+        EmbeddedRepresentationSubEntity.Builder builder = new EmbeddedRepresentationSubEntity.Builder()
+            .title(members.title);
+        if(members.klass != null) builder.klasses(members.klass.toArray(new String[0]));
+        if(members.rel != null) builder.rels(members.rel.toArray(new Relation[0]));
+        if(members.properties != null){
+            for(Map.Entry<String, Object> property : members.properties.entrySet()){
+                builder.property(property.getKey(), property.getValue());
+            }
+        }
+        if(members.actions != null) builder.actions(members.actions.toArray(new Action[0]));
+        if(members.links != null) builder.links(members.links.toArray(new Link[0]));
+        if(members.entities != null) builder.subEntities(members.entities.toArray(new EntityBase[0]));
+        return build(parser, builder);
+    }
+
+    /**
+     * Builds the instance, reporting a violation of a required member as a parse error.
+     */
+    private static <T> T build(JsonParser parser, siren.Builder<T> builder) throws JsonParseException {
+        try{
+            return builder.build();
+        }catch(IllegalArgumentException | IllegalStateException e){
+            throw new JsonParseException(parser, e.getMessage(), e);
+        }
+    }
+
+    private List<String> strings(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<String> strings = new ArrayList<>();
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            if(this.symbolTable != null && parser.getCurrentToken() == JsonToken.VALUE_STRING){
+                strings.add(this.symbolTable.string(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()));
+            }else{
+                strings.add(parser.getValueAsString());
+            }
+        }
+        return strings;
+    }
+
+    private List<Relation> relations(JsonParser parser) throws IOException {
+        List<Relation> relations = new ArrayList<>();
+        if(parser.getCurrentToken() == JsonToken.VALUE_STRING){
+            relations.add(this.relation(parser));
+            return relations;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            relations.add(this.relation(parser));
+        }
+        return relations;
+    }
+
+    private Relation relation(JsonParser parser) throws IOException {
+        try{
+            if(this.symbolTable != null && parser.getCurrentToken() == JsonToken.VALUE_STRING){
+                return this.symbolTable.relation(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            return new Relation(parser.getText());
+        }catch(URISyntaxException e){
+            throw new JsonParseException(parser, "'" + parser.getText() + "' is neither a registered relation nor a URI.", e);
+        }
+    }
+
+    private static URI uri(JsonParser parser, Context context) throws IOException {
+        String text = parser.getText();
+        try{
+            URI uri = new URI(text);
+            if(uri.isAbsolute()) return uri;
+            if(context.base != null && !context.awaitingSelf) return context.base.resolve(uri);
+            context.unresolved = true;
+            return uri;
+        }catch(URISyntaxException e){
+            throw new JsonParseException(parser, "'" + text + "' is not a valid URI.", e);
+        }
+    }
+
+    private static HttpMethod method(JsonParser parser) throws IOException {
+        String text = parser.getText();
+        for(HttpMethod method : HttpMethod.values()){
+            if(method.toString().equalsIgnoreCase(text)) return method;
+        }
+        throw new JsonParseException(parser, "'" + text + "' is not a supported method.");
+    }
+
+    private static FieldType fieldType(JsonParser parser) throws IOException {
+        String text = parser.getText();
+        for(FieldType fieldType : FieldType.values()){
+            if(fieldType.name().equals(text) || fieldType.toString().equalsIgnoreCase(text)) return fieldType;
+        }
+        throw new JsonParseException(parser, "'" + text + "' is not a supported field type.");
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws JsonParseException {
+        if(parser.getCurrentToken() != token){
+            throw new JsonParseException(parser, "Expected " + token + " but found " + parser.getCurrentToken() + ".");
+        }
+    }
+}
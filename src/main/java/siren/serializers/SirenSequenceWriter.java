@@ -0,0 +1,261 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import siren.EntityBase;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a sequence of entities to a channel, either as newline-delimited JSON or as a single JSON array.
+ *
+ * Every entity of the sequence is written by the same generator into the same buffer, so writing an
+ * entity allocates no more than writing its members does, and the sequence is never held in memory as
+ * a whole; an {@link Iterator} or {@link Stream} producing the entities lazily is written in constant
+ * memory. The buffer is written to the channel whenever it holds the flush threshold, so at most that
+ * many bytes are held before the channel sees them. Newline-delimited entities are written without
+ * indentation, even by a writer whose mapper indents its output, so that each stays on a line of its own.
+ *
+ * A sequence writer is meant to be used by a single thread. The channel should be in blocking mode.
+ *
+ * <pre>{@code
+ * try(SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(channel, sirenWriter, SirenSequenceWriter.Format.NDJSON)){
+ *     sequenceWriter.writeAll(repository.streamAll());
+ * }
+ * }</pre>
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenSequenceWriter implements Closeable, Flushable {
+
+    /**
+     * The forms a sequence of entities is written in.
+     */
+    public enum Format {
+
+        /**
+         * Each entity on a line of its own, each line ended by a newline.
+         */
+        NDJSON,
+
+        /**
+         * A JSON array with each entity as an element.
+         */
+        JSON_ARRAY
+    }
+
+    /**
+     * The default number of bytes held before they are written to the channel.
+     */
+    public static final int DEFAULT_FLUSH_THRESHOLD = 64 * 1024;
+
+    /**
+     * Collects the output of the generator in a buffer, writing the buffer to the channel whenever it is full.
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private ChannelOutputStream(WritableByteChannel channel, int capacity){
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(capacity);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if(!this.buffer.hasRemaining()){
+                this.drain();
+            }
+            this.buffer.put((byte)b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while(length > 0){
+                if(!this.buffer.hasRemaining()){
+                    this.drain();
+                }
+                int written = Math.min(length, this.buffer.remaining());
+                this.buffer.put(bytes, offset, written);
+                offset += written;
+                length -= written;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.drain();
+        }
+
+        private void drain() throws IOException {
+            this.buffer.flip();
+            while(this.buffer.hasRemaining()){
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+    }
+
+    private final SirenWriter sirenWriter;
+    private final Format format;
+    private final ChannelOutputStream outputStream;
+    private final JsonGenerator generator;
+    private long count;
+    private boolean closed;
+
+    private SirenSequenceWriter(SirenWriter sirenWriter, Format format, ChannelOutputStream outputStream,
+                                JsonGenerator generator){
+        this.sirenWriter = sirenWriter;
+        this.format = format;
+        this.outputStream = outputStream;
+        this.generator = generator;
+    }
+
+    /**
+     * Opens a sequence writer that holds up to {@link #DEFAULT_FLUSH_THRESHOLD} bytes before writing them to the channel.
+     * @param channel The channel to write to. The channel is not closed.
+     * @param sirenWriter Writes each entity.
+     * @param format The form the sequence is written in.
+     * @return The sequence writer.
+     * @throws IOException Thrown if the start of the sequence cannot be written.
+     */
+    public static SirenSequenceWriter open(WritableByteChannel channel, SirenWriter sirenWriter, Format format) throws IOException {
+        return open(channel, sirenWriter, format, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    /**
+     * Opens a sequence writer.
+     * @param channel The channel to write to. The channel is not closed.
+     * @param sirenWriter Writes each entity.
+     * @param format The form the sequence is written in.
+     * @param flushThreshold The number of bytes held before they are written to the channel.
+     * @return The sequence writer.
+     * @throws IOException Thrown if the start of the sequence cannot be written.
+     */
+    public static SirenSequenceWriter open(WritableByteChannel channel, SirenWriter sirenWriter, Format format,
+                                           int flushThreshold) throws IOException {
+        if(channel == null){
+            throw new IllegalArgumentException("'channel' cannot be null.");
+        }
+        if(sirenWriter == null){
+            throw new IllegalArgumentException("'sirenWriter' cannot be null.");
+        }
+        if(format == null){
+            throw new IllegalArgumentException("'format' cannot be null.");
+        }
+        if(flushThreshold < 1){
+            throw new IllegalArgumentException("'flushThreshold' must be at least 1.");
+        }
+        ChannelOutputStream outputStream = new ChannelOutputStream(channel, flushThreshold);
+        JsonGenerator generator = sirenWriter.createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        if(format == Format.NDJSON){
+            if(generator.getPrettyPrinter() != null){
+                generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            }
+            generator.setRootValueSeparator(null);
+        }else{
+            generator.writeStartArray();
+        }
+        return new SirenSequenceWriter(sirenWriter, format, outputStream, generator);
+    }
+
+    /**
+     * Writes the entity provided as the next of the sequence.
+     * @param entity The entity to write.
+     * @return The sequence writer this method is called on.
+     * @throws IOException Thrown if writing to the channel fails.
+     */
+    public SirenSequenceWriter write(EntityBase entity) throws IOException {
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        if(this.closed){
+            throw new IllegalStateException("The sequence writer is closed.");
+        }
+        this.sirenWriter.write(entity, this.generator);
+        if(this.format == Format.NDJSON){
+            this.generator.writeRaw('\n');
+        }
+        this.count++;
+        return this;
+    }
+
+    /**
+     * Writes the entities of the iterator provided, in the order it produces them.
+     * @param entities The entities to write.
+     * @return The number of entities written.
+     * @throws IOException Thrown if writing to the channel fails.
+     */
+    public long writeAll(Iterator<? extends EntityBase> entities) throws IOException {
+        if(entities == null){
+            throw new IllegalArgumentException("'entities' cannot be null.");
+        }
+        long written = 0;
+        while(entities.hasNext()){
+            this.write(entities.next());
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Writes the entities of the stream provided, in its encounter order.
+     * @param entities The entities to write.
+     * @return The number of entities written.
+     * @throws IOException Thrown if writing to the channel fails.
+     */
+    public long writeAll(Stream<? extends EntityBase> entities) throws IOException {
+        if(entities == null){
+            throw new IllegalArgumentException("'entities' cannot be null.");
+        }
+        return this.writeAll(entities.iterator());
+    }
+
+    /**
+     * Retrieves the number of entities written.
+     * @return The number of entities written.
+     */
+    public long count(){
+        return this.count;
+    }
+
+    /**
+     * Writes every byte held to the channel.
+     * @throws IOException Thrown if writing to the channel fails.
+     */
+    @Override
+    public void flush() throws IOException {
+        if(this.closed){
+            throw new IllegalStateException("The sequence writer is closed.");
+        }
+        this.generator.flush();
+        this.outputStream.flush();
+    }
+
+    /**
+     * Ends the sequence, ending the array when the sequence is a JSON array, and writes every byte held to the channel.
+     * The channel is not closed.
+     * @throws IOException Thrown if writing to the channel fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if(this.closed) return;
+        this.closed = true;
+        if(this.format == Format.JSON_ARRAY){
+            this.generator.writeEndArray();
+        }
+        this.generator.close();
+        this.outputStream.flush();
+    }
+}
@@ -0,0 +1,629 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Field;
+import siren.Internals;
+import siren.Link;
+import siren.Relation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes siren entities as JSON directly to a {@link JsonGenerator}.
+ *
+ * The output is identical to serializing the entity with the {@link ObjectMapper}
+ * the writer was constructed with, but the entity tree is walked with an explicit
+ * stack rather than through recursive bean serialization. This allows the writing of
+ * an entity to be suspended between sub-entities and resumed later, which is what
+ * {@link EntityPublisher} relies on to honor backpressure.
+ *
+ * A writer built with a base URI, or to write relative to the self link of each entity it
+ * writes, shortens the hrefs that share the base's scheme and authority into relative
+ * references; a {@link SirenReader} built with the same option resolves them back.
+ *
+ * A writer built with a maximum depth or a byte budget bounds the size of what it writes:
+ * embedded representation sub-entities nested deeper than the maximum depth, or begun once
+ * the budget has been spent, are written as the embedded link sub-entity equivalent to them,
+ * with the href and type of their self link, rather than in full. Sub-entities without a self
+ * link cannot be referred to and are always written in full.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenWriter {
+
+    /**
+     * Writes a single entity one step at a time. A step writes the members of
+     * an entity up to its sub-entities, a single embedded link sub-entity, or
+     * the members of an entity following its sub-entities.
+     */
+    static final class Cursor {
+
+        private final JsonGenerator generator;
+        private final HrefRelativizer relativizer;
+        private final Projection projection;
+        private final int maxDepth;
+        private final long maxBytes;
+        private final CountingOutputStream counter;
+        private final long start;
+        private final Deque<Frame> stack = new ArrayDeque<>();
+        private EntityBase root;
+
+        private Cursor(EntityBase root, JsonGenerator generator, HrefRelativizer relativizer, Projection projection,
+                       int maxDepth, long maxBytes){
+            this.root = root;
+            this.generator = generator;
+            this.relativizer = relativizer;
+            this.projection = projection;
+            this.maxDepth = maxDepth;
+            Object target = generator.getOutputTarget();
+            if(maxBytes != UNBOUNDED && target instanceof CountingOutputStream){
+                this.maxBytes = maxBytes;
+                this.counter = (CountingOutputStream)target;
+                this.start = this.written();
+            }else{
+                this.maxBytes = UNBOUNDED;
+                this.counter = null;
+                this.start = 0;
+            }
+        }
+
+        /**
+         * Writes the next step of the entity.
+         * @return {@code true} if there are steps remaining; {@code false} if the entity has been written.
+         * @throws IOException Thrown if the generator fails to write.
+         */
+        boolean step() throws IOException {
+            if(this.root != null){
+                EntityBase root = this.root;
+                this.root = null;
+                return this.begin(root);
+            }
+
+            Frame frame = this.stack.peek();
+            if(frame == null) return false;
+
+            while(frame.subEntities != null && frame.next < frame.subEntities.size()){
+                EntityBase subEntity = frame.subEntities.get(frame.next++);
+                if(this.projection != null && !this.projection.includes(subEntity)) continue;
+                Link self;
+                if(subEntity instanceof EmbeddedRepresentationSubEntity && this.overBudget()
+                    && (self = SelfLinks.find((Entity)subEntity)) != null){
+                    EmbeddedRepresentationSubEntity representation = (EmbeddedRepresentationSubEntity)subEntity;
+                    writeEmbeddedLink(
+                        representation.getTitle(), Internals.rel(representation), self.getHref(), self.getType(),
+                        Internals.klass(representation), this.relativizer, this.generator
+                    );
+                    return true;
+                }
+                this.begin(subEntity);
+                return true;
+            }
+
+            writeTail(frame.entity, frame.subEntities != null, this.generator);
+            this.stack.pop();
+            return !this.stack.isEmpty();
+        }
+
+        /**
+         * Determines whether the next sub-entity is nested deeper than the maximum depth,
+         * or the byte budget has been spent.
+         */
+        private boolean overBudget(){
+            if(this.stack.size() > this.maxDepth) return true;
+            return this.counter != null && this.written() - this.start >= this.maxBytes;
+        }
+
+        private long written(){
+            int buffered = this.generator.getOutputBuffered();
+            return this.counter.count + (buffered > 0 ? buffered : 0);
+        }
+
+        private boolean begin(EntityBase entityBase) throws IOException {
+            if(entityBase instanceof EmbeddedLinkSubEntity){
+                EmbeddedLinkSubEntity subEntity = (EmbeddedLinkSubEntity)entityBase;
+                writeEmbeddedLink(
+                    subEntity.getTitle(), Internals.rel(subEntity), subEntity.getHref(), subEntity.getType(),
+                    Internals.klass(subEntity), this.relativizer, this.generator
+                );
+                return !this.stack.isEmpty();
+            }
+            Entity entity = (Entity)entityBase;
+            List<EntityBase> subEntities = Internals.entities(entity);
+            writeHead(entity, subEntities != null, this.relativizer, this.projection, this.generator);
+            this.stack.push(new Frame(entity, subEntities));
+            return true;
+        }
+    }
+
+    /**
+     * An entity whose sub-entities are being written.
+     */
+    private static final class Frame {
+
+        private final Entity entity;
+        private final List<EntityBase> subEntities;
+        private int next;
+
+        private Frame(Entity entity, List<EntityBase> subEntities){
+            this.entity = entity;
+            this.subEntities = subEntities;
+        }
+    }
+
+    /**
+     * Counts the bytes written to an output stream, so that a cursor can tell how much of its byte budget is spent.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream outputStream){
+            super(outputStream);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+    }
+
+    /**
+     * Indicates that writing is not limited by depth or by size.
+     */
+    private static final int UNBOUNDED = -1;
+
+    /**
+     * Constructs instances of {@link SirenWriter}.
+     */
+    public static class Builder implements siren.Builder<SirenWriter> {
+
+        private ObjectMapper objectMapper;
+        private URI baseUri;
+        private boolean relativeToSelf;
+        private int maxDepth = UNBOUNDED;
+        private long maxBytes = UNBOUNDED;
+
+        /**
+         * Constructs an instance of {@link SirenWriter.Builder}.
+         */
+        public Builder(){}
+
+        /**
+         * Sets the current state of the builder to have the object mapper provided.
+         * @param objectMapper The mapper used to create generators and to write property and field values.
+         * @return The builder this method is called on.
+         */
+        public Builder objectMapper(ObjectMapper objectMapper){
+            if(objectMapper == null){
+                throw new IllegalArgumentException("'objectMapper' cannot be null.");
+            }
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the base URI provided. The hrefs of links,
+         * actions and embedded link sub-entities that share the scheme and authority of the base URI
+         * are written relative to it, to be resolved against the same base URI when read.
+         * @param baseUri The absolute, hierarchical URI hrefs are written relative to.
+         * @return The builder this method is called on.
+         */
+        public Builder baseUri(URI baseUri){
+            if(baseUri == null){
+                throw new IllegalArgumentException("'baseUri' cannot be null.");
+            }
+            if(!baseUri.isAbsolute() || baseUri.isOpaque()){
+                throw new IllegalArgumentException("'baseUri' must be an absolute, hierarchical URI.");
+            }
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * Sets whether hrefs are written relative to the href of the self link of the entity being
+         * written, which is itself written as is. Entities without an absolute self link are written
+         * relative to the base URI, if there is one.
+         * @param relativeToSelf true to write hrefs relative to the self link; otherwise false.
+         * @return The builder this method is called on.
+         */
+        public Builder relativeToSelf(boolean relativeToSelf){
+            this.relativeToSelf = relativeToSelf;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the maximum depth provided. Embedded representation
+         * sub-entities nested deeper than the maximum depth are written as embedded link sub-entities; the
+         * sub-entities of the entity written are at a depth of one.
+         * @param maxDepth The depth of the most deeply nested sub-entities written in full, which may be zero.
+         * @return The builder this method is called on.
+         */
+        public Builder maxDepth(int maxDepth){
+            if(maxDepth < 0){
+                throw new IllegalArgumentException("'maxDepth' cannot be negative.");
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the current state of the builder to have the byte budget provided. Once an entity's output
+         * reaches the budget, the embedded representation sub-entities that follow are written as embedded
+         * link sub-entities, so the output exceeds the budget by at most the members of the entities already
+         * begun. The budget only applies to generators created by the writer, which includes those used by
+         * {@link SirenWriter#write(EntityBase, OutputStream)} and {@link EntityPublisher}.
+         * @param maxBytes The number of bytes after which sub-entities are no longer written in full.
+         * @return The builder this method is called on.
+         */
+        public Builder maxBytes(long maxBytes){
+            if(maxBytes < 0){
+                throw new IllegalArgumentException("'maxBytes' cannot be negative.");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Clears the state of the builder.
+         */
+        @Override
+        public void clear() {
+            this.objectMapper = null;
+            this.baseUri = null;
+            this.relativeToSelf = false;
+            this.maxDepth = UNBOUNDED;
+            this.maxBytes = UNBOUNDED;
+        }
+
+        /**
+         * Constructs a {@link SirenWriter} instance with the current state of the builder.
+         * @return Instance of {@link SirenWriter} with the current state of the builder.
+         */
+        @Override
+        public SirenWriter build() {
+            return new SirenWriter(this);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final HrefRelativizer baseRelativizer;
+    private final boolean relativeToSelf;
+    private final int maxDepth;
+    private final long maxBytes;
+
+    /**
+     * Constructs an instance of {@link SirenWriter}.
+     */
+    public SirenWriter(){
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Constructs an instance of {@link SirenWriter}.
+     * @param objectMapper The mapper used to create generators and to write property and field values.
+     */
+    public SirenWriter(ObjectMapper objectMapper){
+        if(objectMapper == null){
+            throw new IllegalArgumentException("'objectMapper' cannot be null.");
+        }
+        this.objectMapper = objectMapper;
+        this.baseRelativizer = null;
+        this.relativeToSelf = false;
+        this.maxDepth = Integer.MAX_VALUE;
+        this.maxBytes = UNBOUNDED;
+    }
+
+    private SirenWriter(Builder builder){
+        this.objectMapper = builder.objectMapper != null ? builder.objectMapper : new ObjectMapper();
+        this.baseRelativizer = builder.baseUri != null ? new HrefRelativizer(builder.baseUri) : null;
+        this.relativeToSelf = builder.relativeToSelf;
+        this.maxDepth = builder.maxDepth != UNBOUNDED ? builder.maxDepth : Integer.MAX_VALUE;
+        this.maxBytes = builder.maxBytes;
+    }
+
+    /**
+     * Writes the entity provided to the output stream provided as UTF-8 encoded JSON.
+     * The output stream is not closed.
+     * @param entity The entity to write.
+     * @param outputStream The output stream to write to.
+     * @throws IOException Thrown if writing to the output stream fails.
+     */
+    public void write(EntityBase entity, OutputStream outputStream) throws IOException {
+        this.write(entity, outputStream, null);
+    }
+
+    /**
+     * Writes the members of the entity provided that are included by the projection provided
+     * to the output stream provided as UTF-8 encoded JSON. The output stream is not closed.
+     * @param entity The entity to write.
+     * @param outputStream The output stream to write to.
+     * @param projection The members to write, or {@code null} to write every member.
+     * @throws IOException Thrown if writing to the output stream fails.
+     */
+    public void write(EntityBase entity, OutputStream outputStream, Projection projection) throws IOException {
+        if(outputStream == null){
+            throw new IllegalArgumentException("'outputStream' cannot be null.");
+        }
+        try(JsonGenerator generator = this.createGenerator(outputStream)){
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.write(entity, generator, projection);
+        }
+    }
+
+    /**
+     * Writes the entity provided to the generator provided.
+     * @param entity The entity to write.
+     * @param generator The generator to write to.
+     * @throws IOException Thrown if the generator fails to write.
+     */
+    public void write(EntityBase entity, JsonGenerator generator) throws IOException {
+        this.write(entity, generator, null);
+    }
+
+    /**
+     * Writes the members of the entity provided that are included by the projection provided
+     * to the generator provided.
+     * @param entity The entity to write.
+     * @param generator The generator to write to.
+     * @param projection The members to write, or {@code null} to write every member.
+     * @throws IOException Thrown if the generator fails to write.
+     */
+    public void write(EntityBase entity, JsonGenerator generator, Projection projection) throws IOException {
+        Cursor cursor = this.cursor(entity, generator, projection);
+        boolean hasNext = true;
+        while(hasNext){
+            hasNext = cursor.step();
+        }
+    }
+
+    /**
+     * Writes the entity provided as UTF-8 encoded JSON.
+     * @param entity The entity to write.
+     * @return The UTF-8 encoded JSON.
+     * @throws IOException Thrown if the generator fails to write.
+     */
+    public byte[] writeAsBytes(EntityBase entity) throws IOException {
+        return this.writeAsBytes(entity, null);
+    }
+
+    /**
+     * Writes the members of the entity provided that are included by the projection provided
+     * as UTF-8 encoded JSON.
+     * @param entity The entity to write.
+     * @param projection The members to write, or {@code null} to write every member.
+     * @return The UTF-8 encoded JSON.
+     * @throws IOException Thrown if the generator fails to write.
+     */
+    public byte[] writeAsBytes(EntityBase entity, Projection projection) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.write(entity, outputStream, projection);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Constructs a cursor that writes the entity provided one step at a time.
+     * @param entity The entity to write.
+     * @param generator The generator to write to.
+     * @param projection The members to write, or {@code null} to write every member.
+     * @return The cursor.
+     */
+    Cursor cursor(EntityBase entity, JsonGenerator generator, Projection projection){
+        if(entity == null){
+            throw new IllegalArgumentException("'entity' cannot be null.");
+        }
+        if(generator == null){
+            throw new IllegalArgumentException("'generator' cannot be null.");
+        }
+        if(generator.getCodec() == null){
+            generator.setCodec(this.objectMapper);
+        }
+        return new Cursor(entity, generator, this.relativizer(entity), projection, this.maxDepth, this.maxBytes);
+    }
+
+    /**
+     * Creates a UTF-8 generator configured like the generators of the writer's mapper.
+     * @param outputStream The output stream the generator writes to.
+     * @return The generator.
+     * @throws IOException Thrown if the generator cannot be created.
+     */
+    JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        if(this.maxBytes != UNBOUNDED){
+            outputStream = new CountingOutputStream(outputStream);
+        }
+        JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        if(this.objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)){
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Determines what the hrefs of the entity provided are written relative to, if anything.
+     */
+    private HrefRelativizer relativizer(EntityBase entity){
+        if(this.relativeToSelf && entity instanceof Entity && Internals.links((Entity)entity) != null){
+            for(Link link : Internals.links((Entity)entity)){
+                URI href = link.getHref();
+                if(href.isAbsolute() && !href.isOpaque() && SelfLinks.isSelf(link)) return new HrefRelativizer(href);
+            }
+        }
+        return this.baseRelativizer;
+    }
+
+    private static void writeHead(Entity entity, boolean hasSubEntities, HrefRelativizer relativizer, Projection projection, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", entity.getTitle());
+        writeProperties(Internals.properties(entity), projection, generator);
+        writeActions(projection == null || projection.includesActions() ? Internals.actions(entity) : null, relativizer, projection, generator);
+        writeLinks(Internals.links(entity), relativizer, projection, generator);
+        if(entity instanceof EmbeddedRepresentationSubEntity){
+            generator.writeFieldName("rel");
+            writeRelations(Internals.rel((EmbeddedRepresentationSubEntity)entity), generator);
+        }
+        generator.writeFieldName("entities");
+        if(hasSubEntities){
+            generator.writeStartArray();
+        }else{
+            generator.writeNull();
+        }
+    }
+
+    private static void writeTail(Entity entity, boolean hasSubEntities, JsonGenerator generator) throws IOException {
+        if(hasSubEntities){
+            generator.writeEndArray();
+        }
+        generator.writeFieldName("class");
+        writeStrings(Internals.klass(entity), generator);
+        generator.writeEndObject();
+    }
+
+    private static void writeEmbeddedLink(String title, List<Relation> rel, URI href, String type, List<String> klass,
+                                          HrefRelativizer relativizer, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("title", title);
+        generator.writeFieldName("rel");
+        writeRelations(rel, generator);
+        writeUriField("href", href, relativizer, generator);
+        generator.writeStringField("type", type);
+        generator.writeFieldName("class");
+        writeStrings(klass, generator);
+        generator.writeEndObject();
+    }
+
+    private static void writeProperties(Map<String, Object> properties, Projection projection, JsonGenerator generator) throws IOException {
+        generator.writeFieldName("properties");
+        if(properties == null){
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for(Map.Entry<String, Object> property : properties.entrySet()){
+            if(projection != null && !projection.includesProperty(property.getKey())) continue;
+            generator.writeFieldName(property.getKey());
+            generator.writeObject(property.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeActions(List<Action> actions, HrefRelativizer relativizer, Projection projection, JsonGenerator generator) throws IOException {
+        generator.writeFieldName("actions");
+        if(actions == null){
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for(Action action : actions){
+            if(projection != null && !projection.includes(action)) continue;
+            generator.writeStartObject();
+            generator.writeStringField("name", action.getName());
+            generator.writeStringField("title", action.getTitle());
+            generator.writeFieldName("method");
+            generator.writeObject(action.getMethod());
+            writeUriField("href", action.getHref(), relativizer, generator);
+            writeFields(Internals.fields(action), generator);
+            generator.writeStringField("type", action.getType());
+            generator.writeFieldName("class");
+            writeStrings(Internals.klass(action), generator);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeFields(List<Field> fields, JsonGenerator generator) throws IOException {
+        generator.writeFieldName("fields");
+        if(fields == null){
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for(Field field : fields){
+            generator.writeStartObject();
+            generator.writeStringField("name", field.getName());
+            generator.writeFieldName("type");
+            generator.writeObject(field.getType());
+            generator.writeStringField("title", field.getTitle());
+            generator.writeFieldName("value");
+            generator.writeObject(field.getValue());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeLinks(List<Link> links, HrefRelativizer relativizer, Projection projection, JsonGenerator generator) throws IOException {
+        generator.writeFieldName("links");
+        if(links == null){
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for(Link link : links){
+            if(projection != null && !projection.includes(link)) continue;
+            generator.writeStartObject();
+            generator.writeFieldName("rel");
+            writeRelations(Internals.rel(link), generator);
+            writeUriField("href", link.getHref(), relativizer, generator);
+            generator.writeStringField("title", link.getTitle());
+            generator.writeStringField("type", link.getType());
+            generator.writeFieldName("class");
+            writeStrings(Internals.klass(link), generator);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeRelations(List<Relation> relations, JsonGenerator generator) throws IOException {
+        if(relations == null){
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for(Relation relation : relations){
+            generator.writeString(relation.toString());
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeStrings(List<String> strings, JsonGenerator generator) throws IOException {
+        if(strings == null){
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for(String string : strings){
+            generator.writeString(string);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeUriField(String name, URI uri, HrefRelativizer relativizer, JsonGenerator generator) throws IOException {
+        if(uri == null){
+            generator.writeStringField(name, null);
+        }else{
+            generator.writeStringField(name, relativizer == null ? uri.toString() : relativizer.relativize(uri));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package siren.serializers;
+
+import siren.Relation;
+
+import java.net.URISyntaxException;
+
+/**
+ * Resolves the classes and relations read by a {@link SirenReader} to shared instances.
+ *
+ * Documents of the same API repeat a small vocabulary of classes and relations. A reader built with a
+ * symbol table looks each class and relation up by the characters held in the parser's buffer, and
+ * only creates a {@link String} or {@link Relation} when the table does not hold it yet, so repeated
+ * tokens are neither allocated again nor retained again by the entities read. Relations are looked up
+ * in a table of their own, so each relation is only checked against the registered relation types, or
+ * parsed as a URI, once.
+ *
+ * The table is bounded: each token maps to a pair of slots, and a token whose slots are both held by
+ * other tokens replaces one of them, so the table never holds more than its capacity and a vocabulary
+ * larger than the table still reads correctly, only with more allocation. Tokens longer than
+ * {@link #MAXIMUM_LENGTH} characters are not held at all. Property names need no table; Jackson
+ * already canonicalizes the names it reads.
+ *
+ * A symbol table may be shared by readers on multiple threads. Lookups take no lock; the entries
+ * are immutable, so a lookup racing a replacement sees either entry.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SymbolTable {
+
+    /**
+     * The default number of slots of each table.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The length of the longest token held.
+     */
+    public static final int MAXIMUM_LENGTH = 128;
+
+    /**
+     * A token along with its hash and, in the table of relations, its relation.
+     */
+    private static final class Symbol {
+
+        private final int hash;
+        private final String string;
+        private final Relation relation;
+
+        private Symbol(int hash, String string, Relation relation){
+            this.hash = hash;
+            this.string = string;
+            this.relation = relation;
+        }
+
+        private boolean matches(int hash, char[] chars, int offset, int length){
+            if(this.hash != hash || this.string.length() != length) return false;
+            for(int i = 0; i < length; i++){
+                if(this.string.charAt(i) != chars[offset + i]) return false;
+            }
+            return true;
+        }
+    }
+
+    private final Symbol[] strings;
+    private final Symbol[] relations;
+    private final int mask;
+
+    /**
+     * Constructs an instance of {@link SymbolTable} with {@link #DEFAULT_CAPACITY} slots.
+     */
+    public SymbolTable(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an instance of {@link SymbolTable}.
+     * @param capacity The number of strings, and of relations, the table holds at most,
+     *                 rounded up to a power of two.
+     */
+    public SymbolTable(int capacity){
+        if(capacity < 1 || capacity > 1 << 30){
+            throw new IllegalArgumentException("'capacity' must be between 1 and 2^30.");
+        }
+        int slots = Integer.highestOneBit(capacity);
+        if(slots < capacity) slots <<= 1;
+        this.strings = new Symbol[slots];
+        this.relations = new Symbol[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Retrieves the shared string with the characters provided.
+     * @param chars The buffer holding the characters, such as that of {@link com.fasterxml.jackson.core.JsonParser#getTextCharacters()}.
+     * @param offset The offset of the first character in the buffer.
+     * @param length The number of characters.
+     * @return The string with the characters provided.
+     */
+    public String string(char[] chars, int offset, int length){
+        if(chars == null){
+            throw new IllegalArgumentException("'chars' cannot be null.");
+        }
+        if(length > MAXIMUM_LENGTH) return new String(chars, offset, length);
+        int hash = hash(chars, offset, length);
+        Symbol symbol = this.find(this.strings, hash, chars, offset, length);
+        if(symbol != null) return symbol.string;
+        String string = new String(chars, offset, length);
+        this.store(this.strings, new Symbol(hash, string, null));
+        return string;
+    }
+
+    /**
+     * Retrieves the shared relation with the characters provided.
+     * @param chars The buffer holding the characters, such as that of {@link com.fasterxml.jackson.core.JsonParser#getTextCharacters()}.
+     * @param offset The offset of the first character in the buffer.
+     * @param length The number of characters.
+     * @return The relation with the characters provided.
+     * @throws URISyntaxException Thrown if the characters are neither a registered relation nor a URI.
+     */
+    public Relation relation(char[] chars, int offset, int length) throws URISyntaxException {
+        if(chars == null){
+            throw new IllegalArgumentException("'chars' cannot be null.");
+        }
+        if(length > MAXIMUM_LENGTH) return new Relation(new String(chars, offset, length));
+        int hash = hash(chars, offset, length);
+        Symbol symbol = this.find(this.relations, hash, chars, offset, length);
+        if(symbol != null) return symbol.relation;
+        String string = this.string(chars, offset, length);
+        Relation relation = new Relation(string);
+        this.store(this.relations, new Symbol(hash, string, relation));
+        return relation;
+    }
+
+    private Symbol find(Symbol[] table, int hash, char[] chars, int offset, int length){
+        int slot = hash & this.mask;
+        Symbol symbol = table[slot];
+        if(symbol != null && symbol.matches(hash, chars, offset, length)) return symbol;
+        symbol = table[(slot ^ 1) & this.mask];
+        if(symbol != null && symbol.matches(hash, chars, offset, length)) return symbol;
+        return null;
+    }
+
+    /**
+     * Stores the symbol provided in the free slot of its pair, or else in the first slot of its pair.
+     */
+    private void store(Symbol[] table, Symbol symbol){
+        int slot = symbol.hash & this.mask;
+        int partner = (slot ^ 1) & this.mask;
+        table[table[slot] != null && table[partner] == null ? partner : slot] = symbol;
+    }
+
+    /**
+     * Hashes the characters provided as {@link String#hashCode()} does, spreading the high bits.
+     */
+    private static int hash(char[] chars, int offset, int length){
+        int hash = 0;
+        for(int i = offset; i < offset + length; i++){
+            hash = 31 * hash + chars[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
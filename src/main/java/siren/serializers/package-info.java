@@ -10,6 +10,25 @@
  * Jackson was chosen due to its high adoption in the community, as well as it's
  * ability to easily customize the serialization and deserialization process.
  *
+ * In addition to the Jackson serializers, {@link siren.serializers.SirenWriter} writes
+ * entities directly to a Jackson generator, producing the same JSON as data binding
+ * while allowing the output to be produced incrementally, such as by
+ * {@link siren.serializers.EntityPublisher}. Either can be given a
+ * {@link siren.serializers.Projection} to write only some of the members of an entity.
+ *
+ * {@link siren.serializers.SerializedEntityCache} keeps entities serialized once
+ * under a canonical base URI as {@link siren.serializers.SerializedEntity}
+ * instances, which splice in the base URI of each tenant as they are written.
+ * {@link siren.serializers.SirenOffHeapStore} keeps the JSON of entities outside of
+ * the heap, in memory-mapped files indexed by the href of their self link.
+ * {@link siren.serializers.SirenPrerenderer} renders entities ahead of time to a
+ * directory, from which {@link siren.serializers.PrerenderedEntities} transfers them
+ * to the channel of a response without copying them onto the heap.
+ * {@link siren.serializers.SirenBulkReader} reads files of newline-delimited
+ * entities, parsing memory-mapped chunks of the file on multiple threads, and
+ * {@link siren.serializers.SirenSequenceWriter} writes sequences of entities to a
+ * channel as newline-delimited JSON or as a JSON array, one entity at a time.
+ *
  * @author jonfreer
  * @since 9/13/17
  */
@@ -444,6 +444,62 @@ public class EntityTester {
         Assert.assertNull(entity.getEntities());
     }
 
+    @Test
+    public void build_builderReused_outcomeIs_builtInstanceUnchanged() throws URISyntaxException {
+
+        //arrange.
+        Link link = new Link.Builder().rel("self").href(new URI("http://www.example.com/entity")).build();
+        Entity entity = this.entityBuilder
+            .klass("testClass")
+            .property("key", "value")
+            .link(link)
+            .build();
+
+        //action.
+        this.entityBuilder.clear();
+        this.entityBuilder.klass("otherClass").property("otherKey", "otherValue");
+
+        //assert.
+        Assert.assertEquals(1, entity.getKlass().size());
+        Assert.assertEquals("testClass", entity.getKlass().get(0));
+        Assert.assertEquals(1, entity.getProperties().size());
+        Assert.assertEquals(1, entity.getLinks().size());
+        Assert.assertNull(entity.getActions());
+    }
+
+    @Test
+    public void build_afterClear_outcomeIs_emptyInstance(){
+
+        //arrange.
+        this.entityBuilder.klass("testClass").property("key", "value");
+        this.entityBuilder.build();
+        this.entityBuilder.clear();
+
+        //action.
+        Entity entity = this.entityBuilder.build();
+
+        //assert.
+        Assert.assertNull(entity.getKlass());
+        Assert.assertNull(entity.getProperties());
+    }
+
+    @Test
+    public void getLinks_copyModified_outcomeIs_entityUnchanged() throws URISyntaxException {
+
+        //arrange.
+        Link link = new Link.Builder().rel("self").href(new URI("http://www.example.com/entity")).build();
+        Entity entity = this.entityBuilder.link(link).build();
+
+        //action.
+        entity.getLinks().clear();
+
+        //assert.
+        Assert.assertEquals(1, entity.getLinks().size());
+        Assert.assertNotSame(entity.getLinks(), entity.getLinks());
+        Assert.assertSame(Internals.links(entity), Internals.links(entity));
+        Assert.assertEquals(entity.getLinks(), Internals.links(entity));
+    }
+
     @After
     public void tearDown(){
         this.entityBuilder = null;
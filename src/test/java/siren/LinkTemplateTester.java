@@ -0,0 +1,245 @@
+package siren;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.serializers.SirenWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class LinkTemplateTester {
+
+    private LinkTemplate.Builder linkTemplateBuilder;
+
+    public LinkTemplateTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException {
+        this.linkTemplateBuilder = new LinkTemplate.Builder().rel(new Relation("item"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_noTemplate_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.linkTemplateBuilder.build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_noRel_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //action.
+        new LinkTemplate.Builder().template("/api/guests/{id}").build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void template_levelTwoExpression_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //action.
+        this.linkTemplateBuilder.template("/api/guests{?id}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void template_unterminatedExpression_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //action.
+        this.linkTemplateBuilder.template("/api/guests/{id");
+    }
+
+    @Test(expected = URISyntaxException.class)
+    public void template_invalidUri_outcomeIs_URISyntaxException() throws URISyntaxException {
+
+        //action.
+        this.linkTemplateBuilder.template("/api/guest list/{id}");
+    }
+
+    @Test(expected = URISyntaxException.class)
+    public void template_expressionInScheme_outcomeIs_URISyntaxException() throws URISyntaxException {
+
+        //action.
+        this.linkTemplateBuilder.template("{scheme}:guests/{id}");
+    }
+
+    @Test(expected = URISyntaxException.class)
+    public void template_invalidUriWhenUndefined_outcomeIs_URISyntaxException() throws URISyntaxException {
+
+        //action.
+        this.linkTemplateBuilder.template("urn:{id}");
+    }
+
+    @Test
+    public void toLink_expressionAfterScheme_outcomeIs_validForAnyValue() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("{host}/guests/{id}?at={time}:{zone}").build();
+
+        //action.
+        Link undefined = linkTemplate.toLink(null, null, null, null);
+        Link reserved = linkTemplate.toLink("a:b", "1", "12:00", "+01");
+
+        //assert.
+        Assert.assertEquals(new URI("/guests/?at=:"), undefined.getHref());
+        Assert.assertEquals(new URI("a%3Ab/guests/1?at=12%3A00:%2B01"), reserved.getHref());
+    }
+
+    @Test
+    public void expand_values_outcomeIs_valuesPercentEncodedInOrder() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("http://x.io/api/{tenant}/guests/{id}?tenant={tenant}").build();
+
+        //action.
+        String expansion = linkTemplate.expand("a/b c", 42);
+
+        //assert.
+        Assert.assertEquals(Arrays.asList("tenant", "id"), linkTemplate.getVariables());
+        Assert.assertEquals("http://x.io/api/a%2Fb%20c/guests/42?tenant=a%2Fb%20c", expansion);
+    }
+
+    @Test
+    public void expand_nonAsciiAndUndefinedValues_outcomeIs_utf8EncodedAndEmpty() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/guests/{name}/{suffix}").build();
+
+        //action.
+        String expansion = linkTemplate.expand("café😀~", null);
+
+        //assert.
+        Assert.assertEquals("/guests/caf%C3%A9%F0%9F%98%80~/", expansion);
+    }
+
+    @Test
+    public void expand_map_outcomeIs_valuesByName() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/guests/{id}/stays/{stay}").build();
+        Map<String, Object> values = new HashMap<>();
+        values.put("stay", 7L);
+        values.put("id", "g-1");
+
+        //assert.
+        Assert.assertEquals("/guests/g-1/stays/7", linkTemplate.expand(values));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void expand_wrongNumberOfValues_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/guests/{id}").build();
+
+        //action.
+        linkTemplate.expand(1, 2);
+    }
+
+    @Test
+    public void toLink_values_outcomeIs_equalToBuiltLink() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/api/guests/{id}").title("Guest").klass("guest").build();
+        Link expected = new Link.Builder()
+            .rel("item")
+            .href(new URI("/api/guests/42"))
+            .title("Guest")
+            .klass("guest")
+            .build();
+
+        //action.
+        Link link = linkTemplate.toLink(42);
+
+        //assert.
+        Assert.assertEquals(expected, link);
+    }
+
+    @Test
+    public void toLink_singleValue_outcomeIs_equalToVarargsLink() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/api/guests/{id}?self={id}").build();
+
+        //action.
+        Link fromLong = linkTemplate.toLink(-42L);
+        Link fromObject = linkTemplate.toLink("a b");
+        Link fromNull = linkTemplate.toLink((Object)null);
+
+        //assert.
+        Assert.assertEquals(linkTemplate.toLink(new Object[]{-42L}), fromLong);
+        Assert.assertEquals(new URI("/api/guests/-42?self=-42"), fromLong.getHref());
+        Assert.assertEquals(new URI("/api/guests/a%20b?self=a%20b"), fromObject.getHref());
+        Assert.assertEquals(new URI("/api/guests/?self="), fromNull.getHref());
+    }
+
+    @Test
+    public void toLink_nullForSingleVariable_outcomeIs_undefinedValue() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/api/guests/{id}").build();
+
+        //action.
+        Link link = linkTemplate.toLink(null);
+
+        //assert.
+        Assert.assertEquals(new URI("/api/guests/"), link.getHref());
+        Assert.assertEquals("/api/guests/", linkTemplate.expand((Object[])null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toLink_nullForTwoVariables_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/guests/{id}/stays/{stay}").build();
+
+        //action.
+        linkTemplate.toLink(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toLink_singleValueForTwoVariables_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/guests/{id}/stays/{stay}").build();
+
+        //action.
+        linkTemplate.toLink(1);
+    }
+
+    @Test
+    public void writeLink_values_outcomeIs_sameJsonAsSirenWriter() throws URISyntaxException, IOException {
+
+        //arrange.
+        LinkTemplate linkTemplate = this.linkTemplateBuilder.template("/api/guests/{id}").type("application/vnd.siren+json").build();
+        Entity entity = new Entity.Builder().link(linkTemplate.toLink(42)).build();
+        String written = new String(new SirenWriter().writeAsBytes(entity), StandardCharsets.UTF_8);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(outputStream);
+        linkTemplate.writeLink(generator, 42);
+        generator.close();
+
+        //assert.
+        String link = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(written + " should contain " + link, written.contains(link));
+        Assert.assertEquals(Collections.singletonList(linkTemplate.toLink(42)), entity.getLinks());
+    }
+
+    @After
+    public void tearDown(){
+        this.linkTemplateBuilder = null;
+    }
+}
@@ -0,0 +1,89 @@
+package siren.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.Entity;
+import siren.Link;
+import siren.binary.EntityView;
+import siren.binary.SirenBinaryWriter;
+import siren.serializers.SirenReader;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a consumer that reads three members of a collection, the href of its self link, the
+ * number of items and the id of the middle item, from its JSON parsed into an entity against
+ * reading them in place from its binary layout.
+ *
+ * Run the main method of this class from the test classpath to print the size of each document
+ * before the benchmarks run, or run it through the JMH runner.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryViewBenchmark {
+
+    @Param({"1000"})
+    public int items;
+
+    private final SirenReader sirenReader = new SirenReader();
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException {
+        Entity collection = RelativeHrefBenchmark.collection(this.items);
+        this.json = new SirenWriter().writeAsBytes(collection);
+        this.binary = new SirenBinaryWriter().writeAsBytes(collection);
+    }
+
+    @Benchmark
+    public long parseJson() throws IOException {
+        Entity collection = this.sirenReader.read(this.json);
+        URI self = null;
+        for(Link link : collection.getLinks()){
+            if(link.getRel().get(0).toString().equals("self")) self = link.getHref();
+        }
+        int count = collection.getEntities().size();
+        Entity item = (Entity)collection.getEntities().get(count / 2);
+        return self.toString().length() + count + ((Number)item.getProperties().get("id")).longValue();
+    }
+
+    @Benchmark
+    public long readInPlace(){
+        EntityView collection = EntityView.of(ByteBuffer.wrap(this.binary));
+        URI self = collection.link("self").href();
+        int count = collection.subEntityCount();
+        return self.toString().length() + count + collection.subEntity(count / 2).property("id").asLong();
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException, URISyntaxException {
+        Entity collection = RelativeHrefBenchmark.collection(1000);
+        System.out.printf("collection of 1000 items: %d bytes of JSON, %d bytes binary%n",
+            new SirenWriter().writeAsBytes(collection).length, new SirenBinaryWriter().writeAsBytes(collection).length);
+        new Runner(new OptionsBuilder().include(BinaryViewBenchmark.class.getSimpleName()).build()).run();
+    }
+}
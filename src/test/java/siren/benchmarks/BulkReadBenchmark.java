@@ -0,0 +1,116 @@
+package siren.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.serializers.SirenBulkReader;
+import siren.serializers.SirenReader;
+import siren.serializers.SirenWriter;
+import siren.serializers.SymbolTable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures reading a file of newline-delimited collections line by line on one thread against
+ * reading it with a {@link SirenBulkReader} with increasing parallelism. The bulk reader is only
+ * expected to scale as far as the processors of the host running the benchmark.
+ *
+ * Run the main method of this class from the test classpath to print the size of the file
+ * before the benchmarks run, or run it through the JMH runner.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkReadBenchmark {
+
+    private static final int LINES = 20000;
+    private static final int ITEMS = 10;
+
+    @Param({"1", "4", "16", "32"})
+    public int parallelism;
+
+    private Path file;
+    private SirenReader sirenReader;
+    private SirenBulkReader bulkReader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, URISyntaxException {
+        this.file = write();
+        this.sirenReader = new SirenReader.Builder().symbolTable(new SymbolTable()).build();
+        this.bulkReader = new SirenBulkReader.Builder()
+            .sirenReader(this.sirenReader)
+            .parallelism(this.parallelism)
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public long readLineByLine() throws IOException {
+        long count = 0;
+        try(BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)){
+            String line;
+            while((line = reader.readLine()) != null){
+                if(line.isEmpty()) continue;
+                count += this.sirenReader.read(line.getBytes(StandardCharsets.UTF_8)).getEntities().size();
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long readInBulk() throws IOException, InterruptedException {
+        LongAdder count = new LongAdder();
+        this.bulkReader.read(this.file, entity -> count.add(entity.getEntities().size()));
+        return count.sum();
+    }
+
+    private static Path write() throws IOException, URISyntaxException {
+        byte[] line = new SirenWriter().writeAsBytes(RelativeHrefBenchmark.collection(ITEMS));
+        Path file = Files.createTempFile("siren-bulk-benchmark", ".ndjson");
+        try(OutputStream outputStream = Files.newOutputStream(file)){
+            for(int i = 0; i < LINES; i++){
+                outputStream.write(line);
+                outputStream.write('\n');
+            }
+        }
+        return file;
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException, URISyntaxException {
+        Path file = write();
+        System.out.printf("%d collections of %d items: %d bytes%n", LINES, ITEMS, Files.size(file));
+        Files.delete(file);
+        new Runner(new OptionsBuilder().include(BulkReadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
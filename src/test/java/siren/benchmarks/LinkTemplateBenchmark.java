@@ -0,0 +1,135 @@
+package siren.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.Link;
+import siren.LinkTemplate;
+import siren.Relation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating the links of a large collection from a {@link LinkTemplate}, against
+ * concatenating each href and parsing it into a {@link URI} for {@link Link.Builder#href(URI)}.
+ * Building links from the template is expected to cost about as much as building them from
+ * concatenated hrefs, as {@link URI} parses each href either way; writing them is where it saves.
+ *
+ * Run the main method of this class from the test classpath, or run it through the JMH runner.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkTemplateBenchmark {
+
+    @Param({"10000"})
+    public int links;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(1 << 20);
+    private Relation item;
+    private LinkTemplate linkTemplate;
+
+    @Setup
+    public void setup() throws URISyntaxException {
+        this.item = new Relation("item");
+        this.linkTemplate = new LinkTemplate.Builder().template("/api/guests/{id}").rel(this.item).build();
+    }
+
+    @Benchmark
+    public Link[] buildConcatenated() throws URISyntaxException {
+        Link[] built = new Link[this.links];
+        for(int id = 0; id < this.links; id++){
+            built[id] = new Link.Builder().rel(this.item).href(new URI("/api/guests/" + id)).build();
+        }
+        return built;
+    }
+
+    @Benchmark
+    public Link[] buildFromTemplate(){
+        Link[] built = new Link[this.links];
+        for(int id = 0; id < this.links; id++){
+            built[id] = this.linkTemplate.toLink(id);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public int writeConcatenated() throws URISyntaxException, IOException {
+        this.outputStream.reset();
+        JsonGenerator generator = this.objectMapper.getFactory().createGenerator(this.outputStream);
+        generator.writeStartArray();
+        for(int id = 0; id < this.links; id++){
+            Link link = new Link.Builder().rel(this.item).href(new URI("/api/guests/" + id)).build();
+            writeLink(link, generator);
+        }
+        generator.writeEndArray();
+        generator.close();
+        return this.outputStream.size();
+    }
+
+    @Benchmark
+    public int writeFromTemplate() throws IOException {
+        this.outputStream.reset();
+        JsonGenerator generator = this.objectMapper.getFactory().createGenerator(this.outputStream);
+        generator.writeStartArray();
+        for(int id = 0; id < this.links; id++){
+            this.linkTemplate.writeLink(generator, id);
+        }
+        generator.writeEndArray();
+        generator.close();
+        return this.outputStream.size();
+    }
+
+    /**
+     * Writes a link the way {@link siren.serializers.SirenWriter} does.
+     */
+    private static void writeLink(Link link, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("rel");
+        generator.writeStartArray();
+        for(Relation relation : link.getRel()){
+            generator.writeString(relation.toString());
+        }
+        generator.writeEndArray();
+        generator.writeStringField("href", link.getHref().toString());
+        generator.writeStringField("title", link.getTitle());
+        generator.writeStringField("type", link.getType());
+        generator.writeFieldName("class");
+        List<String> klass = link.getKlass();
+        if(klass == null){
+            generator.writeNull();
+        }else{
+            generator.writeObject(klass);
+        }
+        generator.writeEndObject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LinkTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
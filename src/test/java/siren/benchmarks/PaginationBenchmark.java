@@ -0,0 +1,156 @@
+package siren.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.EmbeddedLinkSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Link;
+import siren.Relation;
+import siren.client.PageIterator;
+import siren.client.SirenNavigator;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to walk a paged collection served with injected latency,
+ * with and without pages being retrieved ahead of the consumer.
+ *
+ * Run the main method of this class from the test classpath, or run it through the JMH runner.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class PaginationBenchmark {
+
+    /**
+     * Serves the pages of a collection after sleeping for the injected latency.
+     */
+    private static class LatentHandler implements HttpHandler {
+
+        private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+        private final long latencyMillis;
+
+        private LatentHandler(long latencyMillis){
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try{
+                Thread.sleep(this.latencyMillis);
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+            byte[] page = this.pages.get(exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(200, page.length);
+            try(OutputStream outputStream = exchange.getResponseBody()){
+                outputStream.write(page);
+            }
+        }
+    }
+
+    private static final int PAGES = 20;
+    private static final int ITEMS_PER_PAGE = 10;
+
+    @Param({"0", "1", "4"})
+    public int prefetch;
+
+    @Param({"5"})
+    public long latencyMillis;
+
+    @Param({"50000"})
+    public long consumeTokensPerItem;
+
+    private HttpServer server;
+    private ExecutorService executorService;
+    private SirenNavigator navigator;
+    private URI first;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, URISyntaxException {
+        LatentHandler handler = new LatentHandler(this.latencyMillis);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/", handler);
+        this.server.start();
+        String base = "http://127.0.0.1:" + this.server.getAddress().getPort();
+
+        SirenWriter sirenWriter = new SirenWriter();
+        for(int page = 1; page <= PAGES; page++){
+            Entity.Builder builder = new Entity.Builder();
+            for(int item = 0; item < ITEMS_PER_PAGE; item++){
+                builder.subEntity(new EmbeddedLinkSubEntity.Builder()
+                    .rel(Relation.ITEM)
+                    .href(new URI(base + "/items/" + page + "-" + item))
+                    .build());
+            }
+            if(page < PAGES){
+                builder.link(new Link.Builder().rel(Relation.NEXT).href(new URI(base + "/orders/" + (page + 1))).build());
+            }
+            handler.pages.put("/orders/" + page, sirenWriter.writeAsBytes(builder.build()));
+        }
+
+        this.first = new URI(base + "/orders/1");
+        this.executorService = Executors.newFixedThreadPool(2);
+        this.navigator = new SirenNavigator.Builder().cacheSize(0).build();
+    }
+
+    @Benchmark
+    public void walk(Blackhole blackhole){
+        PageIterator iterator = new PageIterator(this.navigator, this.first, this.executorService, this.prefetch);
+        try{
+            while(iterator.hasNext()){
+                EntityBase item = iterator.next();
+                blackhole.consume(item);
+                Blackhole.consumeCPU(this.consumeTokensPerItem);
+            }
+        }finally{
+            iterator.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        this.executorService.shutdownNow();
+        this.server.stop(0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PaginationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
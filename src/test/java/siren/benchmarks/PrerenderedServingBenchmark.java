@@ -0,0 +1,162 @@
+package siren.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.Entity;
+import siren.serializers.PrerenderedEntities;
+import siren.serializers.SirenPrerenderer;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serving prerendered pages to a socket on the loopback interface by transferring them
+ * from the data file, against reading each page's file onto the heap and writing it, and against
+ * serializing the page for every request.
+ *
+ * A thread on the other end of the socket reads and discards everything sent. Run the main method
+ * of this class from the test classpath to print the size of each page before the benchmarks run,
+ * or run it through the JMH runner.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrerenderedServingBenchmark {
+
+    private static final int PAGES = 100;
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private final SirenWriter sirenWriter = new SirenWriter();
+    private Path directory;
+    private Entity page;
+    private URI[] hrefs;
+    private Path[] files;
+    private PrerenderedEntities entities;
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private OutputStream clientOutputStream;
+    private Thread drain;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException {
+        this.directory = Files.createTempDirectory("siren-prerendered");
+        this.page = RelativeHrefBenchmark.collection(this.items);
+        this.hrefs = new URI[PAGES];
+        this.files = new Path[PAGES];
+        try(SirenPrerenderer prerenderer = SirenPrerenderer.open(this.directory, this.sirenWriter, false)){
+            for(int i = 0; i < PAGES; i++){
+                this.hrefs[i] = new URI("https://api.example.com/v1/guests?page=" + i);
+                this.files[i] = this.directory.resolve("page-" + i + ".json");
+                prerenderer.render(this.hrefs[i], this.page);
+                Files.write(this.files[i], this.sirenWriter.writeAsBytes(this.page));
+            }
+            prerenderer.commit();
+        }
+        this.entities = PrerenderedEntities.open(this.directory);
+
+        this.server = ServerSocketChannel.open();
+        this.server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        this.client = SocketChannel.open(this.server.getLocalAddress());
+        SocketChannel accepted = this.server.accept();
+        this.drain = new Thread(() -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+            try(SocketChannel channel = accepted){
+                while(channel.read(buffer) >= 0){
+                    buffer.clear();
+                }
+            }catch(IOException e){
+                //the client closed the connection.
+            }
+        });
+        this.drain.setDaemon(true);
+        this.drain.start();
+        this.clientOutputStream = Channels.newOutputStream(this.client);
+    }
+
+    @Benchmark
+    public boolean transferTo() throws IOException {
+        return this.entities.transferTo(this.nextHref(), this.client);
+    }
+
+    @Benchmark
+    public int readIntoHeap() throws IOException {
+        ByteBuffer json = ByteBuffer.wrap(Files.readAllBytes(this.files[this.nextPage()]));
+        int written = 0;
+        while(json.hasRemaining()){
+            written += this.client.write(json);
+        }
+        return written;
+    }
+
+    @Benchmark
+    public void serializePerRequest() throws IOException {
+        this.sirenWriter.write(this.page, this.clientOutputStream);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        this.client.close();
+        this.drain.join();
+        this.server.close();
+        this.entities.close();
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)){
+            for(Path file : files){
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    private URI nextHref(){
+        return this.hrefs[this.nextPage()];
+    }
+
+    private int nextPage(){
+        int page = this.next;
+        this.next = (page + 1) % PAGES;
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException, URISyntaxException {
+        for(int items : new int[]{10, 1000}){
+            System.out.printf("page of %d items: %d bytes%n", items,
+                new SirenWriter().writeAsBytes(RelativeHrefBenchmark.collection(items)).length);
+        }
+        new Runner(new OptionsBuilder().include(PrerenderedServingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+package siren.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.HttpMethod;
+import siren.Link;
+import siren.serializers.SirenReader;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing, and writing then reading back, a collection whose hrefs are written
+ * as is against one whose hrefs are written relative to its self link.
+ *
+ * Run the main method of this class from the test classpath to print the size of each
+ * payload before the benchmarks run, or run it through the JMH runner.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelativeHrefBenchmark {
+
+    @Param({"1000"})
+    public int items;
+
+    private final SirenWriter absoluteWriter = new SirenWriter();
+    private final SirenReader absoluteReader = new SirenReader();
+    private final SirenWriter relativeWriter = new SirenWriter.Builder().relativeToSelf(true).build();
+    private final SirenReader relativeReader = new SirenReader.Builder().resolveAgainstSelf(true).build();
+    private Entity collection;
+
+    @Setup
+    public void setup() throws URISyntaxException {
+        this.collection = collection(this.items);
+    }
+
+    @Benchmark
+    public byte[] writeAbsolute() throws IOException {
+        return this.absoluteWriter.writeAsBytes(this.collection);
+    }
+
+    @Benchmark
+    public byte[] writeRelative() throws IOException {
+        return this.relativeWriter.writeAsBytes(this.collection);
+    }
+
+    @Benchmark
+    public Entity roundTripAbsolute() throws IOException {
+        return this.absoluteReader.read(this.absoluteWriter.writeAsBytes(this.collection));
+    }
+
+    @Benchmark
+    public Entity roundTripRelative() throws IOException {
+        return this.relativeReader.read(this.relativeWriter.writeAsBytes(this.collection));
+    }
+
+    /**
+     * Constructs a page of guests, each guest linked to its reservations and its room.
+     */
+    static Entity collection(int items) throws URISyntaxException {
+        String api = "https://api.example.com/v1/";
+        Entity.Builder builder = new Entity.Builder()
+            .klass("collection")
+            .action(new Action.Builder().name("add-guest").method(HttpMethod.POST).href(new URI(api + "guests")).build())
+            .link(new Link.Builder().rel("self").href(new URI(api + "guests?page=1")).build())
+            .link(new Link.Builder().rel("next").href(new URI(api + "guests?page=2")).build());
+        for(int i = 0; i < items; i++){
+            builder.subEntity(
+                new EmbeddedRepresentationSubEntity.Builder()
+                    .klass("guest")
+                    .rel("item")
+                    .property("id", i)
+                    .link(new Link.Builder().rel("self").href(new URI(api + "guests/" + i)).build())
+                    .link(new Link.Builder().rel("http://example.com/rels/room").href(new URI(api + "rooms/" + (i % 200))).build())
+                    .subEntity(
+                        new EmbeddedLinkSubEntity.Builder()
+                            .rel("http://example.com/rels/reservations")
+                            .href(new URI(api + "guests/" + i + "/reservations"))
+                            .build()
+                    )
+                    .build()
+            );
+        }
+        return builder.build();
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException, URISyntaxException {
+        Entity collection = collection(1000);
+        int absolute = new SirenWriter().writeAsBytes(collection).length;
+        int relative = new SirenWriter.Builder().relativeToSelf(true).build().writeAsBytes(collection).length;
+        System.out.printf("payload of 1000 items: %d bytes absolute, %d bytes relative (%.1f%%)%n",
+            absolute, relative, 100.0 * relative / absolute);
+        new Runner(new OptionsBuilder().include(RelativeHrefBenchmark.class.getSimpleName()).build()).run();
+    }
+}
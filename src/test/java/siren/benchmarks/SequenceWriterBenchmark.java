@@ -0,0 +1,126 @@
+package siren.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.Entity;
+import siren.serializers.SirenSequenceWriter;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures exporting a lazily produced sequence of entities, each a page of
+ * {@link RelativeHrefBenchmark#collection(int)}, by collecting it into a list and
+ * serializing the list with data binding, against writing it as it is produced with a
+ * {@link SirenSequenceWriter}, both as a JSON array. Both write to a channel that discards its input.
+ *
+ * Run it through the JMH runner with {@code -prof gc} to compare the bytes allocated per export;
+ * the list holds every entity until the export ends, while the sequence writer holds one at a time.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceWriterBenchmark {
+
+    /**
+     * Discards the bytes written to it.
+     */
+    private static final class DiscardingChannel implements WritableByteChannel {
+
+        private long written;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int remaining = source.remaining();
+            source.position(source.limit());
+            this.written += remaining;
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final int ITEMS = 1;
+
+    @Param({"10000"})
+    public int entities;
+
+    private ObjectMapper objectMapper;
+    private SirenWriter sirenWriter;
+
+    @Setup
+    public void setup(){
+        this.objectMapper = new ObjectMapper();
+        this.sirenWriter = new SirenWriter(this.objectMapper);
+    }
+
+    @Benchmark
+    public long collectThenSerialize() throws IOException {
+        DiscardingChannel channel = new DiscardingChannel();
+        List<Entity> list = pages(this.entities).collect(Collectors.toList());
+        try(OutputStream outputStream = Channels.newOutputStream(channel)){
+            this.objectMapper.writeValue(outputStream, list);
+        }
+        return channel.written;
+    }
+
+    @Benchmark
+    public long writeSequence() throws IOException {
+        DiscardingChannel channel = new DiscardingChannel();
+        try(SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(channel, this.sirenWriter, SirenSequenceWriter.Format.JSON_ARRAY)){
+            sequenceWriter.writeAll(pages(this.entities));
+        }
+        return channel.written;
+    }
+
+    private static Stream<Entity> pages(int count){
+        return IntStream.range(0, count).mapToObj(id -> page());
+    }
+
+    private static Entity page(){
+        try{
+            return RelativeHrefBenchmark.collection(ITEMS);
+        }catch(URISyntaxException e){
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SequenceWriterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,68 @@
+package siren.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.Entity;
+import siren.serializers.SirenReader;
+import siren.serializers.SirenWriter;
+import siren.serializers.SymbolTable;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a collection with a reader that allocates every class and relation it reads
+ * against a reader that resolves them through a shared {@link SymbolTable}.
+ *
+ * Run it through the JMH runner with {@code -prof gc} to compare the bytes allocated per read.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolTableBenchmark {
+
+    @Param({"1000"})
+    public int items;
+
+    private final SirenReader plainReader = new SirenReader();
+    private final SirenReader symbolTableReader = new SirenReader.Builder().symbolTable(new SymbolTable()).build();
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException {
+        this.json = new SirenWriter().writeAsBytes(RelativeHrefBenchmark.collection(this.items));
+    }
+
+    @Benchmark
+    public Entity readPlain() throws IOException {
+        return this.plainReader.read(this.json);
+    }
+
+    @Benchmark
+    public Entity readWithSymbolTable() throws IOException {
+        return this.symbolTableReader.read(this.json);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SymbolTableBenchmark.class.getSimpleName()).build()).run();
+    }
+}
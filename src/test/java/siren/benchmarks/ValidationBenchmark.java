@@ -0,0 +1,108 @@
+package siren.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import siren.FieldType;
+import siren.forms.FieldValidator;
+import siren.forms.FieldValidators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the validators of {@link FieldValidators} with validating the same values
+ * against regular expressions, as is commonly done.
+ *
+ * Run the main method of this class from the test classpath, or run it through the JMH runner.
+ * Adding {@code -prof gc} to the JMH runner reports the allocation rate of each approach.
+ *
+ * @author jonfreer
+ * @since 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final FieldType[] TYPES = {
+        FieldType.EMAIL, FieldType.EMAIL, FieldType.URL, FieldType.NUMBER, FieldType.NUMBER,
+        FieldType.DATE, FieldType.DATE, FieldType.TIME, FieldType.DATETIME, FieldType.WEEK, FieldType.COLOR
+    };
+
+    private static final String[] VALUES = {
+        "jon.freer@api.example.io", "not an email", "http://api.x.io/orders?page=2", "-1.5e3", "12x",
+        "2026-10-18", "2026-02-30", "10:15:30.250", "2026-10-18T10:15:30-04:00", "2026-W42", "#00ff7f"
+    };
+
+    private final FieldValidator[] validators = new FieldValidator[TYPES.length];
+    private final Pattern[] patterns = new Pattern[TYPES.length];
+
+    public ValidationBenchmark(){
+        for(int i = 0; i < TYPES.length; i++){
+            this.validators[i] = FieldValidators.forType(TYPES[i]);
+            this.patterns[i] = pattern(TYPES[i]);
+        }
+    }
+
+    @Benchmark
+    public int handWritten(){
+        int valid = 0;
+        for(int i = 0; i < VALUES.length; i++){
+            if(this.validators[i].isValid(VALUES[i])) valid++;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int regex(){
+        int valid = 0;
+        for(int i = 0; i < VALUES.length; i++){
+            if(this.patterns[i].matcher(VALUES[i]).matches()) valid++;
+        }
+        return valid;
+    }
+
+    /**
+     * Naive regular expressions for the syntax of each type. Unlike the hand-written validators,
+     * they do not check that a date exists in its month or that a year has a 53rd week.
+     */
+    private static Pattern pattern(FieldType type){
+        switch(type){
+            case EMAIL:
+                return Pattern.compile("[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*");
+            case URL:
+                return Pattern.compile("[a-zA-Z][a-zA-Z0-9+.-]*:[^\\s\"<>\\\\^`{|}]+");
+            case NUMBER:
+                return Pattern.compile("-?(?:\\d+(?:\\.\\d+)?|\\.\\d+)(?:[eE][-+]?\\d+)?");
+            case DATE:
+                return Pattern.compile("\\d{4,}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])");
+            case TIME:
+                return Pattern.compile("(?:[01]\\d|2[0-3]):[0-5]\\d(?::[0-5]\\d(?:\\.\\d{1,3})?)?");
+            case DATETIME:
+                return Pattern.compile("\\d{4,}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])[T ](?:[01]\\d|2[0-3]):[0-5]\\d(?::[0-5]\\d(?:\\.\\d{1,3})?)?(?:Z|[+-](?:[01]\\d|2[0-3]):[0-5]\\d)");
+            case WEEK:
+                return Pattern.compile("\\d{4,}-W(?:0[1-9]|[1-4]\\d|5[0-3])");
+            case COLOR:
+                return Pattern.compile("#[0-9a-fA-F]{6}");
+            default:
+                return Pattern.compile(".*", Pattern.DOTALL);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValidationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,233 @@
+package siren.binary;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.Field;
+import siren.FieldType;
+import siren.HttpMethod;
+import siren.Link;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class EntityViewTester {
+
+    private EntityView entity;
+
+    public EntityViewTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException {
+        this.entity = EntityView.of(ByteBuffer.wrap(new SirenBinaryWriter().writeAsBytes(collection(10))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_json_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        EntityView.of(ByteBuffer.wrap("{\"class\":[\"guest\"]}".getBytes()));
+    }
+
+    @Test
+    public void of_bufferPositioned_outcomeIs_documentReadFromPosition() throws URISyntaxException {
+
+        //arrange.
+        byte[] document = new SirenBinaryWriter().writeAsBytes(collection(1));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(document.length + 3);
+        buffer.position(3);
+        buffer.put(document);
+        buffer.position(3);
+
+        //action.
+        EntityView view = EntityView.of(buffer);
+
+        //assert.
+        Assert.assertEquals("Guests", view.title());
+        Assert.assertEquals(3, buffer.position());
+    }
+
+    @Test
+    public void klass_outcomeIs_classesOfEntity(){
+
+        //action.
+        //assert.
+        Assert.assertEquals(Arrays.asList("collection", "guests"), this.entity.klass());
+        Assert.assertTrue(this.entity.hasKlass("guests"));
+        Assert.assertFalse(this.entity.hasKlass("guest"));
+        Assert.assertFalse(this.entity.isEmbeddedLink());
+        Assert.assertNull(this.entity.rel());
+    }
+
+    @Test
+    public void property_outcomeIs_valueReadInPlace(){
+
+        //action.
+        ValueView total = this.entity.property("total");
+        ValueView sort = this.entity.property("sort");
+        ValueView filter = this.entity.property("filter");
+
+        //assert.
+        Assert.assertEquals(10, total.asLong());
+        Assert.assertEquals(2, sort.size());
+        Assert.assertEquals("lastName", sort.get(0).asString());
+        Assert.assertTrue(filter.isObject());
+        Assert.assertTrue(filter.get("vip").asBoolean());
+        Assert.assertEquals(0.5, filter.get("minimumRating").asDouble(), 0);
+        Assert.assertTrue(filter.get("since").isNull());
+        Assert.assertNull(filter.get("until"));
+        Assert.assertNull(this.entity.property("missing"));
+        Assert.assertEquals("filter", this.entity.properties().name(0));
+    }
+
+    @Test
+    public void property_pojo_outcomeIs_valueConvertedByObjectMapper() throws URISyntaxException {
+
+        //arrange.
+        Entity entity = new Entity.Builder().property("room", new Room("12b", 2)).build();
+
+        //action.
+        ValueView room = EntityView.of(ByteBuffer.wrap(new SirenBinaryWriter().writeAsBytes(entity))).property("room");
+
+        //assert.
+        Assert.assertEquals("12b", room.get("number").asString());
+        Assert.assertEquals(2, room.get("beds").asLong());
+    }
+
+    @Test
+    public void link_outcomeIs_firstLinkWithRelation(){
+
+        //action.
+        LinkView next = this.entity.link("next");
+
+        //assert.
+        Assert.assertEquals(URI.create("http://x/guests?page=2"), next.href());
+        Assert.assertEquals(Collections.singletonList("next"), next.rel());
+        Assert.assertEquals("Next", next.title());
+        Assert.assertTrue(this.entity.link(0).hasRel("self"));
+        Assert.assertEquals(2, this.entity.linkCount());
+        Assert.assertNull(this.entity.link("prev"));
+    }
+
+    @Test
+    public void action_outcomeIs_actionWithName(){
+
+        //action.
+        ActionView add = this.entity.action("add-guest");
+
+        //assert.
+        Assert.assertEquals(HttpMethod.POST, add.method());
+        Assert.assertEquals(URI.create("http://x/guests"), add.href());
+        Assert.assertEquals("application/x-www-form-urlencoded", add.type());
+        Assert.assertEquals(1, add.fieldCount());
+        Assert.assertEquals(FieldType.TEXT, add.field("firstName").type());
+        Assert.assertEquals("First Name", add.field(0).title());
+        Assert.assertTrue(add.field("firstName").value().isNull());
+        Assert.assertNull(add.field("lastName"));
+        Assert.assertNull(this.entity.action("remove-guest"));
+    }
+
+    @Test
+    public void subEntity_outcomeIs_viewOfSubEntity(){
+
+        //action.
+        EntityView guest = this.entity.subEntity(7);
+        EntityView reservations = guest.subEntity(0);
+
+        //assert.
+        Assert.assertEquals(11, this.entity.subEntityCount());
+        Assert.assertTrue(guest.hasRel("item"));
+        Assert.assertEquals(7, guest.property("id").asLong());
+        Assert.assertEquals("Guest 7", guest.property("name").asString());
+        Assert.assertEquals(URI.create("http://x/guests/7"), guest.link("self").href());
+        Assert.assertTrue(reservations.isEmbeddedLink());
+        Assert.assertEquals(URI.create("http://x/guests/7/reservations"), reservations.href());
+        Assert.assertEquals("application/vnd.siren+json", reservations.type());
+        Assert.assertNull(reservations.properties());
+        Assert.assertEquals(0, reservations.subEntityCount());
+        Assert.assertTrue(this.entity.subEntity(10).isEmbeddedLink());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void subEntity_indexOutOfBounds_outcomeIs_IndexOutOfBoundsException(){
+
+        //action.
+        this.entity.subEntity(11);
+    }
+
+    public static class Room {
+
+        private final String number;
+        private final int beds;
+
+        public Room(String number, int beds){
+            this.number = number;
+            this.beds = beds;
+        }
+
+        public String getNumber(){
+            return this.number;
+        }
+
+        public int getBeds(){
+            return this.beds;
+        }
+    }
+
+    static Entity collection(int items) throws URISyntaxException {
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("vip", true);
+        filter.put("minimumRating", 0.5);
+        filter.put("since", null);
+        Entity.Builder builder = new Entity.Builder()
+            .klasses("collection", "guests")
+            .title("Guests")
+            .property("total", items)
+            .property("sort", Arrays.asList("lastName", "firstName"))
+            .property("filter", filter)
+            .action(
+                new Action.Builder()
+                    .name("add-guest")
+                    .method(HttpMethod.POST)
+                    .href(new URI("http://x/guests"))
+                    .field(new Field.Builder<String>().name("firstName").type(FieldType.TEXT).title("First Name").build())
+                    .build()
+            )
+            .link(new Link.Builder().rel("self").href(new URI("http://x/guests?page=1")).build())
+            .link(new Link.Builder().rel("next").title("Next").href(new URI("http://x/guests?page=2")).build());
+        for(int i = 0; i < items; i++){
+            builder.subEntity(
+                new EmbeddedRepresentationSubEntity.Builder()
+                    .klass("guest")
+                    .rel("item")
+                    .property("id", i)
+                    .property("name", "Guest " + i)
+                    .link(new Link.Builder().rel("self").href(new URI("http://x/guests/" + i)).build())
+                    .subEntity(
+                        new EmbeddedLinkSubEntity.Builder()
+                            .rel("http://x/rels/reservations")
+                            .href(new URI("http://x/guests/" + i + "/reservations"))
+                            .type("application/vnd.siren+json")
+                            .build()
+                    )
+                    .build()
+            );
+        }
+        return builder.subEntity(
+            new EmbeddedLinkSubEntity.Builder().rel("http://x/rels/search").href(new URI("http://x/guests/search")).build()
+        ).build();
+    }
+}
@@ -0,0 +1,107 @@
+package siren.binary;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.Link;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenBinaryWriterTester {
+
+    private SirenBinaryWriter sirenBinaryWriter;
+
+    public SirenBinaryWriterTester(){}
+
+    @Before
+    public void setup(){
+        this.sirenBinaryWriter = new SirenBinaryWriter();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_nullObjectMapper_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SirenBinaryWriter(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeAsBytes_nullEntity_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.sirenBinaryWriter.writeAsBytes(null);
+    }
+
+    @Test
+    public void write_outcomeIs_sameAsWriteAsBytes() throws IOException, URISyntaxException {
+
+        //arrange.
+        Entity entity = EntityViewTester.collection(3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        this.sirenBinaryWriter.write(entity, outputStream);
+
+        //assert.
+        Assert.assertArrayEquals(this.sirenBinaryWriter.writeAsBytes(entity), outputStream.toByteArray());
+    }
+
+    @Test
+    public void writeAsBytes_repeatedStrings_outcomeIs_stringsWrittenOnce() throws URISyntaxException {
+
+        //arrange.
+        char[] title = new char[1000];
+        Arrays.fill(title, 't');
+        Entity.Builder builder = new Entity.Builder();
+        for(int i = 0; i < 100; i++){
+            builder.link(new Link.Builder().rel("item").title(new String(title)).href(new URI("http://x/guests/" + i)).build());
+        }
+
+        //action.
+        byte[] document = this.sirenBinaryWriter.writeAsBytes(builder.build());
+
+        //assert.
+        Assert.assertTrue(String.valueOf(document.length), document.length < 100 * title.length / 10);
+    }
+
+    @Test
+    public void writeAsBytes_deeplyNestedEntity_outcomeIs_everyLevelWritten() throws URISyntaxException {
+
+        //arrange.
+        int depth = 100000;
+        EmbeddedRepresentationSubEntity subEntity = new EmbeddedRepresentationSubEntity.Builder()
+            .rel("item")
+            .link(new Link.Builder().rel("self").href(new URI("http://x/nodes/" + depth)).build())
+            .build();
+        for(int level = depth - 1; level > 0; level--){
+            subEntity = new EmbeddedRepresentationSubEntity.Builder().rel("item").subEntity(subEntity).build();
+        }
+        Entity entity = new Entity.Builder().subEntity(subEntity).build();
+
+        //action.
+        EntityView view = EntityView.of(ByteBuffer.wrap(this.sirenBinaryWriter.writeAsBytes(entity)));
+
+        //assert.
+        for(int level = 0; level < depth; level++){
+            view = view.subEntity(0);
+        }
+        Assert.assertEquals(URI.create("http://x/nodes/" + depth), view.link("self").href());
+    }
+
+    @After
+    public void tearDown(){
+        this.sirenBinaryWriter = null;
+    }
+}
@@ -0,0 +1,262 @@
+package siren.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.EmbeddedLinkSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Link;
+import siren.Relation;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class PageIteratorTester {
+
+    /**
+     * Serves the pages of a collection by path, counting the requests it receives.
+     */
+    private static class PageHandler implements HttpHandler {
+
+        private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            this.requests.incrementAndGet();
+            byte[] page = this.pages.get(exchange.getRequestURI().getPath());
+            if(page == null){
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, page.length);
+            try(OutputStream outputStream = exchange.getResponseBody()){
+                outputStream.write(page);
+            }
+        }
+    }
+
+    private HttpServer server;
+    private PageHandler handler;
+    private ExecutorService executorService;
+    private SirenNavigator navigator;
+    private String base;
+
+    public PageIteratorTester(){}
+
+    @Before
+    public void setup() throws IOException, URISyntaxException {
+        this.handler = new PageHandler();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this.handler);
+        this.server.start();
+        this.base = "http://127.0.0.1:" + this.server.getAddress().getPort();
+        this.executorService = Executors.newFixedThreadPool(2);
+        this.navigator = new SirenNavigator.Builder().cacheSize(0).build();
+
+        SirenWriter sirenWriter = new SirenWriter();
+        for(int page = 1; page <= 4; page++){
+            Entity.Builder builder = new Entity.Builder()
+                .subEntity(item((page - 1) * 2 + 1))
+                .subEntity(item((page - 1) * 2 + 2));
+            if(page < 4){
+                builder.link(new Link.Builder().rel(Relation.NEXT).href(this.uri("/orders/" + (page + 1))).build());
+            }
+            this.handler.pages.put("/orders/" + page, sirenWriter.writeAsBytes(builder.build()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_negativePrefetch_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //action.
+        new PageIterator(this.navigator, this.uri("/orders/1"), this.executorService, -1);
+    }
+
+    @Test
+    public void next_pagedCollection_outcomeIs_allItemsInOrder() throws URISyntaxException {
+
+        //arrange.
+        PageIterator iterator = new PageIterator(this.navigator, this.uri("/orders/1"), this.executorService, 2);
+        List<String> hrefs = new ArrayList<>();
+
+        //action.
+        while(iterator.hasNext()){
+            hrefs.add(((EmbeddedLinkSubEntity)iterator.next()).getHref().getPath());
+        }
+
+        //assert.
+        Assert.assertEquals(8, hrefs.size());
+        Assert.assertEquals("/items/1", hrefs.get(0));
+        Assert.assertEquals("/items/8", hrefs.get(7));
+        Assert.assertEquals(4, this.handler.requests.get());
+    }
+
+    @Test
+    public void next_prefetchDepth_outcomeIs_pagesRetrievedAheadUpToDepth() throws URISyntaxException, InterruptedException {
+
+        //arrange.
+        PageIterator iterator = new PageIterator(this.navigator, this.uri("/orders/1"), this.executorService, 2);
+
+        //action.
+        iterator.next();
+        waitForRequests(3);
+        Thread.sleep(100);
+
+        //assert.
+        Assert.assertEquals(3, this.handler.requests.get());
+        iterator.close();
+    }
+
+    @Test
+    public void next_noPrefetch_outcomeIs_pagesRetrievedOnDemand() throws URISyntaxException, InterruptedException {
+
+        //arrange.
+        PageIterator iterator = new PageIterator(this.navigator, this.uri("/orders/1"), this.executorService, 0);
+
+        //action.
+        iterator.next();
+        iterator.next();
+        Thread.sleep(100);
+
+        //assert.
+        Assert.assertEquals(1, this.handler.requests.get());
+    }
+
+    @Test
+    public void stream_pagedCollection_outcomeIs_allItemsStreamed() throws URISyntaxException {
+
+        //arrange.
+        PageIterator iterator = new PageIterator(this.navigator, this.uri("/orders/1"), this.executorService, 1);
+
+        //action.
+        long count;
+        try(Stream<EntityBase> stream = iterator.stream()){
+            count = stream.count();
+        }
+
+        //assert.
+        Assert.assertEquals(8, count);
+    }
+
+    @Test(timeout = 10000)
+    public void next_callerRunsExecutor_outcomeIs_allItemsInOrder() throws URISyntaxException {
+
+        //arrange.
+        ExecutorService callerRuns = new AbstractExecutorService() {
+            private volatile boolean shutdown;
+
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+
+            @Override
+            public void shutdown() {
+                this.shutdown = true;
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                this.shutdown = true;
+                return Collections.emptyList();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return this.shutdown;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return this.shutdown;
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) {
+                return true;
+            }
+        };
+        PageIterator iterator = new PageIterator(this.navigator, this.uri("/orders/1"), callerRuns, 2);
+        List<String> hrefs = new ArrayList<>();
+
+        //action.
+        while(iterator.hasNext()){
+            hrefs.add(((EmbeddedLinkSubEntity)iterator.next()).getHref().getPath());
+        }
+
+        //assert.
+        Assert.assertEquals(8, hrefs.size());
+        Assert.assertEquals("/items/1", hrefs.get(0));
+        Assert.assertEquals("/items/8", hrefs.get(7));
+        Assert.assertEquals(4, this.handler.requests.get());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void next_pageFails_outcomeIs_UncheckedIOException() throws URISyntaxException {
+
+        //arrange.
+        this.handler.pages.remove("/orders/3");
+        PageIterator iterator = new PageIterator(this.navigator, this.uri("/orders/1"), this.executorService, 2);
+
+        //action.
+        while(iterator.hasNext()){
+            iterator.next();
+        }
+    }
+
+    @After
+    public void tearDown(){
+        this.executorService.shutdownNow();
+        this.server.stop(0);
+        this.executorService = null;
+        this.server = null;
+        this.handler = null;
+        this.navigator = null;
+        this.base = null;
+    }
+
+    private void waitForRequests(int requests) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while(this.handler.requests.get() < requests && System.currentTimeMillis() < deadline){
+            Thread.sleep(5);
+        }
+    }
+
+    private URI uri(String path) throws URISyntaxException {
+        return new URI(this.base + path);
+    }
+
+    private EmbeddedLinkSubEntity item(int number) throws URISyntaxException {
+        return new EmbeddedLinkSubEntity.Builder()
+            .rel(Relation.ITEM)
+            .href(this.uri("/items/" + number))
+            .build();
+    }
+}
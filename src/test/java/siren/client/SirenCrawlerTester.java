@@ -0,0 +1,311 @@
+package siren.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.Link;
+import siren.Relation;
+import siren.serializers.SirenWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenCrawlerTester {
+
+    /**
+     * Serves entities by path, counting requests per path and tracking the peak number served at once.
+     */
+    private static class GraphHandler implements HttpHandler {
+
+        private final Map<String, byte[]> entities = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        private final AtomicInteger inProgress = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private volatile long latencyMillis;
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            this.requests.putIfAbsent(path, new AtomicInteger());
+            this.requests.get(path).incrementAndGet();
+            int current = this.inProgress.incrementAndGet();
+            int peak;
+            while(current > (peak = this.peak.get()) && !this.peak.compareAndSet(peak, current)){
+                // retry until the peak reflects the current count.
+            }
+            try{
+                if(this.latencyMillis > 0) Thread.sleep(this.latencyMillis);
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }finally{
+                this.inProgress.decrementAndGet();
+            }
+            byte[] entity = this.entities.get(path);
+            if(entity == null){
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, entity.length);
+            try(OutputStream outputStream = exchange.getResponseBody()){
+                outputStream.write(entity);
+            }
+        }
+
+        private int requests(String path){
+            AtomicInteger requests = this.requests.get(path);
+            return requests == null ? 0 : requests.get();
+        }
+    }
+
+    /**
+     * Records the paths visited and failed.
+     */
+    private static class RecordingListener implements CrawlListener {
+
+        private final Map<String, Integer> visited = new ConcurrentHashMap<>();
+        private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void visited(URI href, Entity entity, int depth) {
+            this.visited.put(href.getPath(), depth);
+        }
+
+        @Override
+        public void failed(URI href, IOException cause, int depth) {
+            this.failed.add(href.getPath());
+        }
+    }
+
+    private HttpServer server;
+    private GraphHandler handler;
+    private ExecutorService executorService;
+    private RecordingListener listener;
+    private SirenWriter sirenWriter;
+    private String base;
+
+    public SirenCrawlerTester(){}
+
+    @Before
+    public void setup() throws IOException, URISyntaxException {
+        this.handler = new GraphHandler();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/", this.handler);
+        this.server.start();
+        this.base = "http://127.0.0.1:" + this.server.getAddress().getPort();
+        this.executorService = Executors.newFixedThreadPool(8);
+        this.listener = new RecordingListener();
+        this.sirenWriter = new SirenWriter();
+
+        // root -> orders (collection), customers (collection), help (help)
+        // orders -> root (up), orders/1 (item, embedded link), orders/1#summary (item)
+        // orders/1 -> customers/7 (author, inside an embedded representation)
+        this.serve("/", new Entity.Builder()
+            .link(this.link(Relation.SELF, "/"))
+            .link(this.link(Relation.COLLECTION, "/orders"))
+            .link(this.link(Relation.COLLECTION, "/customers"))
+            .link(this.link(Relation.HELP, "/help"))
+            .build());
+        this.serve("/orders", new Entity.Builder()
+            .link(this.link(Relation.UP, "/"))
+            .link(this.link(Relation.ITEM, "/orders/1#summary"))
+            .subEntity(new EmbeddedLinkSubEntity.Builder().rel(Relation.ITEM).href(this.uri("/orders/1")).build())
+            .build());
+        this.serve("/orders/1", new Entity.Builder()
+            .subEntity(new EmbeddedRepresentationSubEntity.Builder()
+                .rel(Relation.RELATED)
+                .link(this.link(Relation.AUTHOR, "/customers/7"))
+                .build())
+            .build());
+        this.serve("/customers", new Entity.Builder().build());
+        this.serve("/customers/7", new Entity.Builder().build());
+        this.serve("/help", new Entity.Builder().build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_noExecutor_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SirenCrawler.Builder().build();
+    }
+
+    @Test
+    public void crawl_resourceGraph_outcomeIs_eachHrefRetrievedOnce() throws Exception {
+
+        //arrange.
+        SirenCrawler crawler = new SirenCrawler.Builder().executorService(this.executorService).build();
+
+        //action.
+        CrawlReport report = crawler.crawl(this.uri("/"), this.listener);
+
+        //assert.
+        Assert.assertEquals(6, report.getVisited());
+        Assert.assertEquals(6, this.listener.visited.size());
+        Assert.assertEquals(Integer.valueOf(3), this.listener.visited.get("/customers/7"));
+        for(String path : new String[]{"/", "/orders", "/orders/1", "/customers", "/customers/7", "/help"}){
+            Assert.assertEquals(path, 1, this.handler.requests(path));
+        }
+        Assert.assertTrue(report.getPagesPerSecond() > 0);
+    }
+
+    @Test
+    public void crawl_maxDepth_outcomeIs_deeperLinksNotFollowed() throws Exception {
+
+        //arrange.
+        SirenCrawler crawler = new SirenCrawler.Builder().executorService(this.executorService).maxDepth(1).build();
+
+        //action.
+        CrawlReport report = crawler.crawl(this.uri("/"), this.listener);
+
+        //assert.
+        Assert.assertEquals(4, report.getVisited());
+        Assert.assertEquals(0, this.handler.requests("/orders/1"));
+    }
+
+    @Test
+    public void crawl_relFilters_outcomeIs_onlyMatchingLinksFollowed() throws Exception {
+
+        //arrange.
+        SirenCrawler crawler = new SirenCrawler.Builder()
+            .executorService(this.executorService)
+            .include(new Relation(Relation.COLLECTION), new Relation(Relation.ITEM))
+            .exclude(new Relation(Relation.ITEM))
+            .build();
+
+        //action.
+        CrawlReport report = crawler.crawl(this.uri("/"), this.listener);
+
+        //assert.
+        Assert.assertEquals(3, report.getVisited());
+        Assert.assertEquals(0, this.handler.requests("/help"));
+        Assert.assertEquals(0, this.handler.requests("/orders/1"));
+    }
+
+    @Test
+    public void crawl_rootEntity_outcomeIs_rootNotRetrieved() throws Exception {
+
+        //arrange.
+        Entity root = new Entity.Builder()
+            .link(this.link(Relation.SELF, "/"))
+            .link(this.link(Relation.HELP, "/help"))
+            .build();
+        SirenCrawler crawler = new SirenCrawler.Builder().executorService(this.executorService).build();
+
+        //action.
+        CrawlReport report = crawler.crawl(root, this.listener);
+
+        //assert.
+        Assert.assertEquals(1, report.getVisited());
+        Assert.assertEquals(0, this.handler.requests("/"));
+    }
+
+    @Test
+    public void crawl_manyLinksToOneHost_outcomeIs_concurrencyBoundedPerHost() throws Exception {
+
+        //arrange.
+        Entity.Builder builder = new Entity.Builder();
+        for(int i = 0; i < 12; i++){
+            builder.link(this.link(Relation.ITEM, "/items/" + i));
+            this.serve("/items/" + i, new Entity.Builder().build());
+        }
+        this.handler.latencyMillis = 50;
+        SirenCrawler crawler = new SirenCrawler.Builder()
+            .executorService(this.executorService)
+            .maxConcurrencyPerHost(2)
+            .build();
+
+        //action.
+        CrawlReport report = crawler.crawl(builder.build(), this.listener);
+
+        //assert.
+        Assert.assertEquals(12, report.getVisited());
+        Assert.assertEquals(2, this.handler.peak.get());
+    }
+
+    @Test
+    public void crawl_relativeHrefs_outcomeIs_resolvedAgainstPageRetrieved() throws Exception {
+
+        //arrange.
+        // /guests/ and /rooms/ both link to the relative href "1", which are different resources.
+        this.serve("/", new Entity.Builder()
+            .link(new Link.Builder().rel(Relation.COLLECTION).href(new URI("guests/")).build())
+            .subEntity(new EmbeddedLinkSubEntity.Builder().rel(Relation.COLLECTION).href(new URI("/rooms/")).build())
+            .build());
+        this.serve("/guests/", new Entity.Builder().link(new Link.Builder().rel(Relation.ITEM).href(new URI("1")).build()).build());
+        this.serve("/rooms/", new Entity.Builder().link(new Link.Builder().rel(Relation.ITEM).href(new URI("1")).build()).build());
+        this.serve("/guests/1", new Entity.Builder().build());
+        this.serve("/rooms/1", new Entity.Builder().build());
+        SirenCrawler crawler = new SirenCrawler.Builder().executorService(this.executorService).build();
+
+        //action.
+        CrawlReport report = crawler.crawl(this.uri("/"), this.listener);
+
+        //assert.
+        Assert.assertEquals(5, report.getVisited());
+        Assert.assertTrue(report.getFailures().isEmpty());
+        for(String path : new String[]{"/guests/", "/rooms/", "/guests/1", "/rooms/1"}){
+            Assert.assertEquals(path, 1, this.handler.requests(path));
+        }
+    }
+
+    @Test
+    public void crawl_missingResource_outcomeIs_failureReportedAndCrawlCompleted() throws Exception {
+
+        //arrange.
+        this.handler.entities.remove("/orders");
+        SirenCrawler crawler = new SirenCrawler.Builder().executorService(this.executorService).build();
+
+        //action.
+        CrawlReport report = crawler.crawl(this.uri("/"), this.listener);
+
+        //assert.
+        Assert.assertEquals(3, report.getVisited());
+        Assert.assertEquals(1, report.getFailures().size());
+        Assert.assertTrue(this.listener.failed.contains("/orders"));
+    }
+
+    @After
+    public void tearDown(){
+        this.executorService.shutdownNow();
+        this.server.stop(0);
+        this.executorService = null;
+        this.server = null;
+        this.handler = null;
+        this.listener = null;
+        this.sirenWriter = null;
+        this.base = null;
+    }
+
+    private void serve(String path, Entity entity) throws IOException {
+        this.handler.entities.put(path, this.sirenWriter.writeAsBytes(entity));
+    }
+
+    private Link link(String rel, String path) throws URISyntaxException {
+        return new Link.Builder().rel(rel).href(this.uri(path)).build();
+    }
+
+    private URI uri(String path) throws URISyntaxException {
+        return new URI(this.base + path);
+    }
+}
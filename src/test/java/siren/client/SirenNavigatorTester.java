@@ -0,0 +1,323 @@
+package siren.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.Entity;
+import siren.Field;
+import siren.FieldType;
+import siren.HttpMethod;
+import siren.Link;
+import siren.Relation;
+import siren.forms.ActionSubmission;
+import siren.serializers.SirenWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenNavigatorTester {
+
+    /**
+     * Serves fixed entities by path, recording each request it receives.
+     */
+    private static class StubHandler implements HttpHandler {
+
+        private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+        private final Map<String, String> etags = new ConcurrentHashMap<>();
+        private final Map<String, Integer> statuses = new ConcurrentHashMap<>();
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final List<Integer> remotePorts = new CopyOnWriteArrayList<>();
+        private volatile String lastContentType;
+        private volatile String lastBody;
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            this.requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+            this.remotePorts.add(exchange.getRemoteAddress().getPort());
+            this.lastContentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            this.lastBody = new String(readAll(exchange.getRequestBody()), StandardCharsets.UTF_8);
+
+            Integer status = this.statuses.get(path);
+            String etag = this.etags.get(path);
+            if(status != null){
+                send(exchange, status, "{\"error\":true}".getBytes(StandardCharsets.UTF_8));
+            }else if(etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))){
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            }else if(this.bodies.containsKey(path)){
+                if(etag != null) exchange.getResponseHeaders().set("ETag", etag);
+                exchange.getResponseHeaders().set("Content-Type", SirenNavigator.MEDIA_TYPE);
+                send(exchange, 200, this.bodies.get(path));
+            }else{
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+            }
+        }
+
+        private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+            exchange.sendResponseHeaders(status, body.length);
+            try(OutputStream outputStream = exchange.getResponseBody()){
+                outputStream.write(body);
+            }
+        }
+
+        private static byte[] readAll(InputStream inputStream) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while((read = inputStream.read(buffer)) != -1){
+                bytes.write(buffer, 0, read);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    private HttpServer server;
+    private StubHandler handler;
+    private SirenNavigator navigator;
+    private SirenWriter sirenWriter;
+    private String base;
+
+    public SirenNavigatorTester(){}
+
+    @Before
+    public void setup() throws IOException {
+        this.handler = new StubHandler();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this.handler);
+        this.server.start();
+        this.base = "http://127.0.0.1:" + this.server.getAddress().getPort();
+        this.navigator = new SirenNavigator.Builder().connectTimeout(5000).readTimeout(5000).build();
+        this.sirenWriter = new SirenWriter();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void get_nullHref_outcomeIs_IllegalArgumentException() throws IOException {
+
+        //action.
+        this.navigator.get(null);
+    }
+
+    @Test
+    public void get_sirenEntity_outcomeIs_entityParsed() throws IOException, URISyntaxException {
+
+        //arrange.
+        this.serve("/orders/42", new Entity.Builder().klass("order").property("orderNumber", 42).build());
+
+        //action.
+        Entity entity = this.navigator.get(this.uri("/orders/42"));
+
+        //assert.
+        Assert.assertEquals(Collections.singletonList("order"), entity.getKlass());
+        Assert.assertEquals(42, entity.getProperties().get("orderNumber"));
+    }
+
+    @Test
+    public void follow_linkWithRel_outcomeIs_linkedEntityRetrieved() throws IOException, URISyntaxException {
+
+        //arrange.
+        this.serve("/customers/7", new Entity.Builder().klass("customer").build());
+        Entity order = new Entity.Builder()
+            .link(new Link.Builder().rel(Relation.SELF).href(this.uri("/orders/42")).build())
+            .link(new Link.Builder().rel(Relation.AUTHOR).href(this.uri("/customers/7")).build())
+            .build();
+
+        //action.
+        Entity customer = this.navigator.follow(order, new Relation(Relation.AUTHOR));
+
+        //assert.
+        Assert.assertEquals(Collections.singletonList("customer"), customer.getKlass());
+        Assert.assertEquals(Collections.singletonList("GET /customers/7"), this.handler.requests);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void follow_noLinkWithRel_outcomeIs_IllegalArgumentException() throws IOException, URISyntaxException {
+
+        //action.
+        this.navigator.follow(new Entity.Builder().build(), new Relation(Relation.NEXT));
+    }
+
+    @Test
+    public void get_notModified_outcomeIs_cachedEntityReturned() throws IOException, URISyntaxException {
+
+        //arrange.
+        this.serve("/orders/42", new Entity.Builder().klass("order").build());
+        this.handler.etags.put("/orders/42", "\"v1\"");
+        Entity first = this.navigator.get(this.uri("/orders/42"));
+
+        //action.
+        Entity second = this.navigator.get(this.uri("/orders/42"));
+
+        //assert.
+        Assert.assertSame(first, second);
+        Assert.assertEquals(2, this.handler.requests.size());
+    }
+
+    @Test
+    public void submit_formUrlEncodedAction_outcomeIs_fieldsEncodedInBody() throws IOException, URISyntaxException {
+
+        //arrange.
+        Action action = new Action.Builder()
+            .name("add-item")
+            .method(HttpMethod.POST)
+            .href(this.uri("/orders/42/items"))
+            .field(new Field.Builder<String>().name("orderNumber").type(FieldType.HIDDEN).value("42").build())
+            .field(new Field.Builder<String>().name("productCode").type(FieldType.TEXT).build())
+            .build();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("productCode", "a&b c");
+
+        //action.
+        Entity entity = this.navigator.submit(action, values);
+
+        //assert.
+        Assert.assertNull(entity);
+        Assert.assertEquals("application/x-www-form-urlencoded", this.handler.lastContentType);
+        Assert.assertEquals("orderNumber=42&productCode=a%26b+c", this.handler.lastBody);
+    }
+
+    @Test
+    public void submit_jsonAction_outcomeIs_fieldsWrittenAsJson() throws IOException, URISyntaxException {
+
+        //arrange.
+        Action action = new Action.Builder()
+            .name("update")
+            .method(HttpMethod.PUT)
+            .type("application/json")
+            .href(this.uri("/orders/42"))
+            .field(new Field.Builder<Integer>().name("quantity").type(FieldType.NUMBER).build())
+            .build();
+
+        //action.
+        this.navigator.submit(action, Collections.singletonMap("quantity", 3));
+
+        //assert.
+        Assert.assertEquals("application/json", this.handler.lastContentType);
+        Assert.assertEquals("{\"quantity\":3}", this.handler.lastBody);
+        Assert.assertEquals("PUT /orders/42", this.handler.requests.get(0));
+    }
+
+    @Test
+    public void submit_multipartAction_outcomeIs_bodyStreamedInParts() throws IOException, URISyntaxException {
+
+        //arrange.
+        Action action = new Action.Builder()
+            .name("upload")
+            .method(HttpMethod.POST)
+            .type("multipart/form-data")
+            .href(this.uri("/orders/42/attachments"))
+            .field(new Field.Builder<Object>().name("attachment").type(FieldType.FILE).build())
+            .build();
+        ActionSubmission submission = new ActionSubmission.Builder()
+            .action(action)
+            .boundary("b0undary")
+            .value("attachment", new ByteArrayInputStream("contents".getBytes(StandardCharsets.UTF_8)))
+            .build();
+
+        //action.
+        this.navigator.submit(submission);
+
+        //assert.
+        Assert.assertEquals("multipart/form-data; boundary=b0undary", this.handler.lastContentType);
+        Assert.assertTrue(this.handler.lastBody.contains("filename=\"attachment\""));
+        Assert.assertTrue(this.handler.lastBody.contains("\r\n\r\ncontents\r\n--b0undary--\r\n"));
+    }
+
+    @Test
+    public void submit_getAction_outcomeIs_fieldsEncodedInQuery() throws IOException, URISyntaxException {
+
+        //arrange.
+        Action action = new Action.Builder()
+            .name("search")
+            .href(this.uri("/orders"))
+            .field(new Field.Builder<String>().name("status").type(FieldType.TEXT).build())
+            .build();
+
+        //action.
+        this.navigator.submit(action, Collections.singletonMap("status", "pending"));
+
+        //assert.
+        Assert.assertEquals("GET /orders?status=pending", this.handler.requests.get(0));
+    }
+
+    @Test
+    public void get_errorStatus_outcomeIs_HttpStatusException() throws IOException, URISyntaxException {
+
+        //arrange.
+        this.handler.statuses.put("/missing", 404);
+
+        //action.
+        try{
+            this.navigator.get(this.uri("/missing"));
+            Assert.fail("expected an HttpStatusException.");
+        }catch(HttpStatusException e){
+
+            //assert.
+            Assert.assertEquals(404, e.getStatusCode());
+            Assert.assertEquals(this.uri("/missing"), e.getHref());
+        }
+    }
+
+    @Test
+    public void get_sequentialRequests_outcomeIs_connectionReused() throws IOException, URISyntaxException {
+
+        //arrange.
+        this.serve("/orders/42", new Entity.Builder().klass("order").build());
+        this.handler.statuses.put("/missing", 404);
+
+        //action.
+        this.navigator.get(this.uri("/orders/42"));
+        try{
+            this.navigator.get(this.uri("/missing"));
+        }catch(HttpStatusException e){
+            // the error body is drained, so the connection remains reusable.
+        }
+        this.navigator.get(this.uri("/orders/42"));
+
+        //assert.
+        Assert.assertEquals(3, this.handler.remotePorts.size());
+        Assert.assertEquals(this.handler.remotePorts.get(0), this.handler.remotePorts.get(1));
+        Assert.assertEquals(this.handler.remotePorts.get(0), this.handler.remotePorts.get(2));
+    }
+
+    @After
+    public void tearDown(){
+        this.server.stop(0);
+        this.server = null;
+        this.handler = null;
+        this.navigator = null;
+        this.sirenWriter = null;
+        this.base = null;
+    }
+
+    private void serve(String path, Entity entity) throws IOException {
+        this.handler.bodies.put(path, this.sirenWriter.writeAsBytes(entity));
+    }
+
+    private URI uri(String path) throws URISyntaxException {
+        return new URI(this.base + path);
+    }
+}
@@ -0,0 +1,191 @@
+package siren.diff;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.HttpMethod;
+import siren.Link;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class EntityDiffTester {
+
+    private EntityDiff entityDiff;
+
+    public EntityDiffTester(){}
+
+    @Before
+    public void setup(){
+        this.entityDiff = new EntityDiff();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void diff_nullSource_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.entityDiff.diff(null, new Entity.Builder().build());
+    }
+
+    @Test
+    public void diff_sameInstance_outcomeIs_emptyPatch() throws URISyntaxException {
+
+        //arrange.
+        Entity entity = guest("Jon", new Link.Builder().rel("self").href(new URI("http://x/guests/1")).build());
+
+        //action.
+        ArrayNode patch = this.entityDiff.diff(entity, entity);
+
+        //assert.
+        Assert.assertEquals(0, patch.size());
+    }
+
+    @Test
+    public void diff_propertyChanged_outcomeIs_replaceOperation() throws URISyntaxException {
+
+        //arrange.
+        Link self = new Link.Builder().rel("self").href(new URI("http://x/guests/1")).build();
+        Entity source = guest("Jon", self);
+        Entity target = guest("John", self);
+
+        //action.
+        ArrayNode patch = this.entityDiff.diff(source, target);
+
+        //assert.
+        Assert.assertEquals(
+            "[{\"op\":\"replace\",\"path\":\"/properties/firstName\",\"value\":\"John\"}]",
+            patch.toString()
+        );
+    }
+
+    @Test
+    public void diff_propertyAddedAndRemoved_outcomeIs_addAndRemoveOperations(){
+
+        //arrange.
+        Entity source = new Entity.Builder().property("a/b", 1).build();
+        Entity target = new Entity.Builder().property("c~d", 2).build();
+
+        //action.
+        ArrayNode patch = this.entityDiff.diff(source, target);
+
+        //assert.
+        Assert.assertEquals(
+            "[{\"op\":\"remove\",\"path\":\"/properties/a~1b\"}," +
+            "{\"op\":\"add\",\"path\":\"/properties/c~0d\",\"value\":2}]",
+            patch.toString()
+        );
+    }
+
+    @Test
+    public void diff_actionRemovedAndLinkAdded_outcomeIs_indexedOperations() throws URISyntaxException {
+
+        //arrange.
+        Action delete = new Action.Builder()
+            .name("delete-guest")
+            .method(HttpMethod.DELETE)
+            .href(new URI("http://x/guests/1"))
+            .build();
+        Action edit = new Action.Builder()
+            .name("edit-guest")
+            .method(HttpMethod.PUT)
+            .href(new URI("http://x/guests/1"))
+            .build();
+        Link self = new Link.Builder().rel("self").href(new URI("http://x/guests/1")).build();
+        Link help = new Link.Builder().rel("help").href(new URI("http://x/help")).build();
+
+        Entity source = new Entity.Builder().actions(delete, edit).link(self).build();
+        Entity target = new Entity.Builder().action(edit).links(help, self).build();
+
+        //action.
+        ArrayNode patch = this.entityDiff.diff(source, target);
+
+        //assert.
+        Assert.assertEquals(2, patch.size());
+        Assert.assertEquals("remove", patch.get(0).get("op").asText());
+        Assert.assertEquals("/actions/0", patch.get(0).get("path").asText());
+        Assert.assertEquals("add", patch.get(1).get("op").asText());
+        Assert.assertEquals("/links/0", patch.get(1).get("path").asText());
+        Assert.assertEquals("http://x/help", patch.get(1).get("value").get("href").asText());
+    }
+
+    @Test
+    public void diff_subEntityChanged_outcomeIs_nestedOperation() throws URISyntaxException {
+
+        //arrange.
+        EmbeddedLinkSubEntity shared = new EmbeddedLinkSubEntity.Builder()
+            .rel("item")
+            .href(new URI("http://x/guests/2"))
+            .build();
+        EmbeddedRepresentationSubEntity before = new EmbeddedRepresentationSubEntity.Builder()
+            .rel("item")
+            .property("status", "pending")
+            .link(new Link.Builder().rel("self").href(new URI("http://x/guests/3")).build())
+            .build();
+        EmbeddedRepresentationSubEntity after = new EmbeddedRepresentationSubEntity.Builder()
+            .rel("item")
+            .property("status", "confirmed")
+            .link(new Link.Builder().rel("self").href(new URI("http://x/guests/3")).build())
+            .build();
+
+        Entity source = new Entity.Builder().subEntities(shared, before).build();
+        Entity target = new Entity.Builder().subEntities(shared, after).build();
+
+        //action.
+        ArrayNode patch = this.entityDiff.diff(source, target);
+
+        //assert.
+        Assert.assertEquals(
+            "[{\"op\":\"replace\",\"path\":\"/entities/1/properties/status\",\"value\":\"confirmed\"}]",
+            patch.toString()
+        );
+    }
+
+    @Test
+    public void diff_subEntitiesReordered_outcomeIs_listReplaced() throws URISyntaxException {
+
+        //arrange.
+        EmbeddedLinkSubEntity first = new EmbeddedLinkSubEntity.Builder()
+            .rel("item")
+            .href(new URI("http://x/guests/1"))
+            .build();
+        EmbeddedLinkSubEntity second = new EmbeddedLinkSubEntity.Builder()
+            .rel("item")
+            .href(new URI("http://x/guests/2"))
+            .build();
+
+        Entity source = new Entity.Builder().subEntities(first, second).build();
+        Entity target = new Entity.Builder().subEntities(second, first).build();
+
+        //action.
+        ArrayNode patch = this.entityDiff.diff(source, target);
+
+        //assert.
+        Assert.assertEquals(1, patch.size());
+        Assert.assertEquals("/entities", patch.get(0).get("path").asText());
+        Assert.assertEquals(2, patch.get(0).get("value").size());
+    }
+
+    @After
+    public void tearDown(){
+        this.entityDiff = null;
+    }
+
+    private static Entity guest(String firstName, Link self){
+        return new Entity.Builder()
+            .klass("guest")
+            .property("firstName", firstName)
+            .property("lastName", "Freer")
+            .link(self)
+            .build();
+    }
+}
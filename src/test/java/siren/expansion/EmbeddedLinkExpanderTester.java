@@ -0,0 +1,228 @@
+package siren.expansion;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.Relation;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class EmbeddedLinkExpanderTester {
+
+    /**
+     * Resolves representations from memory, recording each batch it is asked to resolve.
+     */
+    private static class InMemoryResolver implements EmbeddedLinkResolver {
+
+        private final Map<URI, Entity> representations = new HashMap<>();
+        private final Map<Relation, Set<URI>> batches = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Map<URI, Entity> resolve(Relation rel, Set<URI> hrefs) throws Exception {
+            this.calls.incrementAndGet();
+            this.batches.put(rel, hrefs);
+            Map<URI, Entity> resolved = new HashMap<>();
+            for(URI href : hrefs){
+                if(this.representations.containsKey(href)){
+                    resolved.put(href, this.representations.get(href));
+                }
+            }
+            return resolved;
+        }
+    }
+
+    private ExecutorService executorService;
+    private InMemoryResolver resolver;
+    private Relation item;
+    private Relation author;
+
+    public EmbeddedLinkExpanderTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException {
+        this.executorService = Executors.newFixedThreadPool(4);
+        this.resolver = new InMemoryResolver();
+        this.item = new Relation(Relation.ITEM);
+        this.author = new Relation(Relation.AUTHOR);
+        this.resolver.representations.put(
+            new URI("http://x/guests/1"),
+            new Entity.Builder().klass("guest").property("firstName", "Jon").build()
+        );
+        this.resolver.representations.put(
+            new URI("http://x/guests/2"),
+            new Entity.Builder().klass("guest").property("firstName", "Jane").build()
+        );
+        this.resolver.representations.put(
+            new URI("http://x/staff/9"),
+            new Entity.Builder().klass("staff").build()
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_nullResolver_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new EmbeddedLinkExpander(null, this.executorService);
+    }
+
+    @Test
+    public void expand_linksOfRequestedRel_outcomeIs_representationsEmbedded() throws Exception {
+
+        //arrange.
+        Entity entity = new Entity.Builder()
+            .subEntity(link(Relation.ITEM, "http://x/guests/1"))
+            .subEntity(link(Relation.AUTHOR, "http://x/staff/9"))
+            .build();
+        EmbeddedLinkExpander expander = new EmbeddedLinkExpander(this.resolver, this.executorService);
+
+        //action.
+        Entity expanded = expander.expand(entity, Collections.singleton(this.item), 5, TimeUnit.SECONDS);
+
+        //assert.
+        List<EntityBase> subEntities = expanded.getEntities();
+        Assert.assertTrue(subEntities.get(0) instanceof EmbeddedRepresentationSubEntity);
+        EmbeddedRepresentationSubEntity guest = (EmbeddedRepresentationSubEntity)subEntities.get(0);
+        Assert.assertEquals(Collections.singletonList(this.item), guest.getRel());
+        Assert.assertEquals("Jon", guest.getProperties().get("firstName"));
+        Assert.assertTrue(subEntities.get(1) instanceof EmbeddedLinkSubEntity);
+    }
+
+    @Test
+    public void expand_duplicateAndNestedHrefs_outcomeIs_oneDeduplicatedBatchPerRel() throws Exception {
+
+        //arrange.
+        EmbeddedRepresentationSubEntity nested = new EmbeddedRepresentationSubEntity.Builder()
+            .rel(Relation.COLLECTION)
+            .subEntity(link(Relation.ITEM, "http://x/guests/2"))
+            .subEntity(link(Relation.AUTHOR, "http://x/staff/9"))
+            .build();
+        Entity entity = new Entity.Builder()
+            .subEntity(link(Relation.ITEM, "http://x/guests/1"))
+            .subEntity(link(Relation.ITEM, "http://x/guests/1"))
+            .subEntity(nested)
+            .build();
+        EmbeddedLinkExpander expander = new EmbeddedLinkExpander(this.resolver, this.executorService);
+
+        //action.
+        Entity expanded = expander.expand(entity, Arrays.asList(this.item, this.author), 5, TimeUnit.SECONDS);
+
+        //assert.
+        Assert.assertEquals(2, this.resolver.calls.get());
+        Assert.assertEquals(2, this.resolver.batches.get(this.item).size());
+        Assert.assertEquals(1, this.resolver.batches.get(this.author).size());
+        Entity expandedNested = (Entity)expanded.getEntities().get(2);
+        Assert.assertTrue(expandedNested.getEntities().get(0) instanceof EmbeddedRepresentationSubEntity);
+        Assert.assertTrue(expandedNested.getEntities().get(1) instanceof EmbeddedRepresentationSubEntity);
+    }
+
+    @Test
+    public void expand_batchesOfDifferentRels_outcomeIs_resolvedConcurrently() throws Exception {
+
+        //arrange.
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        EmbeddedLinkResolver resolver = new EmbeddedLinkResolver() {
+            @Override
+            public Map<URI, Entity> resolve(Relation rel, Set<URI> hrefs) throws Exception {
+                bothStarted.countDown();
+                if(!bothStarted.await(5, TimeUnit.SECONDS)){
+                    throw new IllegalStateException("batches were not resolved concurrently.");
+                }
+                return EmbeddedLinkExpanderTester.this.resolver.resolve(rel, hrefs);
+            }
+        };
+        Entity entity = new Entity.Builder()
+            .subEntity(link(Relation.ITEM, "http://x/guests/1"))
+            .subEntity(link(Relation.AUTHOR, "http://x/staff/9"))
+            .build();
+        EmbeddedLinkExpander expander = new EmbeddedLinkExpander(resolver, this.executorService);
+
+        //action.
+        Entity expanded = expander.expand(entity, Arrays.asList(this.item, this.author), 10, TimeUnit.SECONDS);
+
+        //assert.
+        Assert.assertTrue(expanded.getEntities().get(0) instanceof EmbeddedRepresentationSubEntity);
+        Assert.assertTrue(expanded.getEntities().get(1) instanceof EmbeddedRepresentationSubEntity);
+    }
+
+    @Test
+    public void expand_deadlineExceeded_outcomeIs_linksLeftUnexpanded() throws Exception {
+
+        //arrange.
+        final CountDownLatch release = new CountDownLatch(1);
+        EmbeddedLinkResolver resolver = new EmbeddedLinkResolver() {
+            @Override
+            public Map<URI, Entity> resolve(Relation rel, Set<URI> hrefs) throws Exception {
+                release.await();
+                return EmbeddedLinkExpanderTester.this.resolver.resolve(rel, hrefs);
+            }
+        };
+        Entity entity = new Entity.Builder()
+            .subEntity(link(Relation.ITEM, "http://x/guests/1"))
+            .build();
+        EmbeddedLinkExpander expander = new EmbeddedLinkExpander(resolver, this.executorService);
+
+        //action.
+        Entity expanded = expander.expand(entity, Collections.singleton(this.item), 50, TimeUnit.MILLISECONDS);
+        release.countDown();
+
+        //assert.
+        Assert.assertSame(entity, expanded);
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void expand_resolverFails_outcomeIs_ExecutionException() throws Exception {
+
+        //arrange.
+        EmbeddedLinkResolver resolver = new EmbeddedLinkResolver() {
+            @Override
+            public Map<URI, Entity> resolve(Relation rel, Set<URI> hrefs) throws Exception {
+                throw new IllegalStateException("lookup failed.");
+            }
+        };
+        Entity entity = new Entity.Builder()
+            .subEntity(link(Relation.ITEM, "http://x/guests/1"))
+            .build();
+        EmbeddedLinkExpander expander = new EmbeddedLinkExpander(resolver, this.executorService);
+
+        //action.
+        expander.expand(entity, Collections.singleton(this.item), 5, TimeUnit.SECONDS);
+    }
+
+    @After
+    public void tearDown(){
+        this.executorService.shutdownNow();
+        this.executorService = null;
+        this.resolver = null;
+    }
+
+    private static EmbeddedLinkSubEntity link(String rel, String href) throws URISyntaxException {
+        return new EmbeddedLinkSubEntity.Builder()
+            .rel(rel)
+            .href(new URI(href))
+            .build();
+    }
+}
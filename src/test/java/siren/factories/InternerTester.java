@@ -0,0 +1,147 @@
+package siren.factories;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.Field;
+import siren.FieldType;
+import siren.FieldValue;
+import siren.HttpMethod;
+import siren.Link;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class InternerTester {
+
+    private Interner interner;
+
+    public InternerTester(){}
+
+    @Before
+    public void setup(){
+        this.interner = new Interner();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void intern_nullLink_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.interner.intern((Link)null);
+    }
+
+    @Test
+    public void intern_equalLinks_outcomeIs_firstLinkReturned() throws URISyntaxException {
+
+        //arrange.
+        Link first = help();
+        Link second = help();
+
+        //action.
+        Link internedFirst = this.interner.intern(first);
+        Link internedSecond = this.interner.intern(second);
+
+        //assert.
+        Assert.assertSame(first, internedFirst);
+        Assert.assertSame(first, internedSecond);
+        Assert.assertEquals(1, this.interner.size());
+    }
+
+    @Test
+    public void intern_differentLinks_outcomeIs_eachLinkReturned() throws URISyntaxException {
+
+        //arrange.
+        Link help = help();
+        Link profile = new Link.Builder().rel("profile").href(new URI("http://x/profiles/guest")).build();
+
+        //action.
+        Link internedHelp = this.interner.intern(help);
+        Link internedProfile = this.interner.intern(profile);
+
+        //assert.
+        Assert.assertSame(help, internedHelp);
+        Assert.assertSame(profile, internedProfile);
+        Assert.assertEquals(2, this.interner.size());
+    }
+
+    @Test
+    public void intern_equalActions_outcomeIs_firstActionReturned() throws URISyntaxException {
+
+        //arrange.
+        Action first = deleteGuest();
+
+        //action.
+        this.interner.intern(first);
+        Action interned = this.interner.intern(deleteGuest());
+
+        //assert.
+        Assert.assertSame(first, interned);
+    }
+
+    @Test
+    public void intern_equalFieldsAndFieldValues_outcomeIs_firstInstancesReturned(){
+
+        //arrange.
+        Field<String> field = new Field.Builder<String>().name("firstName").type(FieldType.TEXT).build();
+        FieldValue<String> fieldValue = new FieldValue.Builder<String>().title("Single").value("single").build();
+
+        //action.
+        this.interner.intern(field);
+        this.interner.intern(fieldValue);
+
+        //assert.
+        Assert.assertSame(field, this.interner.intern(new Field.Builder<String>().name("firstName").type(FieldType.TEXT).build()));
+        Assert.assertSame(fieldValue, this.interner.intern(new FieldValue.Builder<String>().title("Single").value("single").build()));
+    }
+
+    @Test
+    public void intern_concurrently_outcomeIs_oneCanonicalLink() throws Exception {
+
+        //arrange.
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Link>> futures = new ArrayList<>();
+
+        //action.
+        try{
+            for(int i = 0; i < 64; i++){
+                futures.add(executor.submit(() -> this.interner.intern(help())));
+            }
+
+            //assert.
+            Link canonical = futures.get(0).get();
+            for(Future<Link> future : futures){
+                Assert.assertSame(canonical, future.get());
+            }
+        }finally{
+            executor.shutdown();
+        }
+    }
+
+    @After
+    public void tearDown(){
+        this.interner = null;
+    }
+
+    private static Link help() throws URISyntaxException {
+        return new Link.Builder().rel("help").href(new URI("http://x/help")).build();
+    }
+
+    private static Action deleteGuest() throws URISyntaxException {
+        return new Action.Builder()
+            .name("delete-guest")
+            .method(HttpMethod.DELETE)
+            .href(new URI("http://x/guests"))
+            .build();
+    }
+}
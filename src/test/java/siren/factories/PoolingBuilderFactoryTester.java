@@ -0,0 +1,103 @@
+package siren.factories;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Entity;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class PoolingBuilderFactoryTester {
+
+    private PoolingBuilderFactory<Entity.Builder> poolingBuilderFactory;
+
+    public PoolingBuilderFactoryTester(){}
+
+    @Before
+    public void setup(){
+        this.poolingBuilderFactory = new PoolingBuilderFactory<>(new EntityBuilderFactory(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_nullBuilderFactory_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new PoolingBuilderFactory<Entity.Builder>(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zeroCapacity_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new PoolingBuilderFactory<>(new EntityBuilderFactory(), 0);
+    }
+
+    @Test
+    public void create_emptyPool_outcomeIs_newBuilderInstance(){
+
+        //action.
+        Entity.Builder builder = this.poolingBuilderFactory.create();
+
+        //assert.
+        Assert.assertNotNull(builder);
+    }
+
+    @Test
+    public void create_builderReleased_outcomeIs_clearedBuilderReused(){
+
+        //arrange.
+        Entity.Builder builder = this.poolingBuilderFactory.create();
+        builder.klass("guest").title("Guest");
+        this.poolingBuilderFactory.release(builder);
+
+        //action.
+        Entity.Builder reused = this.poolingBuilderFactory.create();
+
+        //assert.
+        Assert.assertSame(builder, reused);
+        Entity entity = reused.build();
+        Assert.assertNull(entity.getKlass());
+        Assert.assertNull(entity.getTitle());
+    }
+
+    @Test
+    public void release_poolFull_outcomeIs_builderDiscarded(){
+
+        //arrange.
+        Entity.Builder first = this.poolingBuilderFactory.create();
+        Entity.Builder second = this.poolingBuilderFactory.create();
+
+        //action.
+        this.poolingBuilderFactory.release(first);
+        this.poolingBuilderFactory.release(second);
+
+        //assert.
+        Assert.assertSame(first, this.poolingBuilderFactory.create());
+        Assert.assertNotSame(second, this.poolingBuilderFactory.create());
+    }
+
+    @Test
+    public void create_otherThread_outcomeIs_builderNotShared() throws InterruptedException {
+
+        //arrange.
+        Entity.Builder builder = this.poolingBuilderFactory.create();
+        this.poolingBuilderFactory.release(builder);
+        Entity.Builder[] created = new Entity.Builder[1];
+
+        //action.
+        Thread thread = new Thread(() -> created[0] = this.poolingBuilderFactory.create());
+        thread.start();
+        thread.join();
+
+        //assert.
+        Assert.assertNotSame(builder, created[0]);
+    }
+
+    @After
+    public void tearDown(){
+        this.poolingBuilderFactory = null;
+    }
+}
@@ -0,0 +1,229 @@
+package siren.factories;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.Entity;
+import siren.FieldType;
+import siren.HttpMethod;
+import siren.Link;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenArenaTester {
+
+    private static final URI HREF = URI.create("http://x/guests/1");
+    private static final int REQUESTS = 1000;
+
+    private final Entity.Builder reusedEntity = new Entity.Builder();
+    private final Link.Builder reusedLink = new Link.Builder();
+    private final Action.Builder reusedAction = new Action.Builder();
+    private final siren.Field.Builder<String> reusedField = new siren.Field.Builder<>();
+    private SirenArena sirenArena;
+    private Entity sink;
+
+    public SirenArenaTester(){}
+
+    @Before
+    public void setup(){
+        this.sirenArena = SirenArena.open();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void open_alreadyOpen_outcomeIs_IllegalStateException(){
+
+        //action.
+        SirenArena.open();
+    }
+
+    @Test
+    public void close_outcomeIs_buildersReusedAndCleared() throws URISyntaxException {
+
+        //arrange.
+        Link.Builder builder = this.sirenArena.link();
+        Link link = builder.rel("self").href(HREF).title("Jon").build();
+
+        //action.
+        this.sirenArena.close();
+        this.sirenArena = SirenArena.open();
+        Link.Builder reused = this.sirenArena.link();
+
+        //assert.
+        Assert.assertSame(builder, reused);
+        Assert.assertNull(reused.href(HREF).rel("next").build().getTitle());
+        Assert.assertEquals("Jon", link.getTitle());
+        Assert.assertEquals("self", link.getRel().get(0).toString());
+    }
+
+    @Test
+    public void link_openArena_outcomeIs_distinctBuilders(){
+
+        //action.
+        Link.Builder first = this.sirenArena.link();
+        Link.Builder second = this.sirenArena.link();
+
+        //assert.
+        Assert.assertNotSame(first, second);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void link_closedArena_outcomeIs_IllegalStateException(){
+
+        //arrange.
+        this.sirenArena.close();
+
+        //action.
+        this.sirenArena.link();
+    }
+
+    @Test
+    public void close_moreBuildersThanCapacity_outcomeIs_capacityPooled(){
+
+        //arrange.
+        this.sirenArena.close();
+        this.sirenArena = SirenArena.open(2);
+        Set<Link.Builder> drawn = Collections.newSetFromMap(new IdentityHashMap<>());
+        for(int i = 0; i < 3; i++){
+            drawn.add(this.sirenArena.link());
+        }
+
+        //action.
+        this.sirenArena.close();
+        this.sirenArena = SirenArena.open(2);
+        Link.Builder first = this.sirenArena.link();
+        Link.Builder second = this.sirenArena.link();
+        Link.Builder third = this.sirenArena.link();
+
+        //assert.
+        Assert.assertTrue(drawn.contains(first));
+        Assert.assertTrue(drawn.contains(second));
+        Assert.assertFalse(drawn.contains(third));
+    }
+
+    @Test
+    public void close_steadyState_outcomeIs_aboutOnlyBuiltInstancesAllocated() throws URISyntaxException {
+
+        //arrange.
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean)threadMXBean;
+        Assume.assumeTrue(allocation.isThreadAllocatedMemorySupported() && allocation.isThreadAllocatedMemoryEnabled());
+        this.sirenArena.close();
+        long threadId = Thread.currentThread().getId();
+        for(int i = 0; i < 2000; i++){
+            this.sink = this.requestWithArena();
+            this.sink = this.requestWithReusedBuilders();
+            this.sink = this.requestWithNewBuilders();
+        }
+
+        //action.
+        long start = allocation.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < REQUESTS; i++){
+            this.sink = this.requestWithArena();
+        }
+        long withArena = (allocation.getThreadAllocatedBytes(threadId) - start) / REQUESTS;
+        start = allocation.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < REQUESTS; i++){
+            this.sink = this.requestWithReusedBuilders();
+        }
+        long withReusedBuilders = (allocation.getThreadAllocatedBytes(threadId) - start) / REQUESTS;
+        start = allocation.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < REQUESTS; i++){
+            this.sink = this.requestWithNewBuilders();
+        }
+        long withNewBuilders = (allocation.getThreadAllocatedBytes(threadId) - start) / REQUESTS;
+
+        //assert.
+        Assert.assertTrue(
+            withArena + " bytes per request is more than a quarter over " + withReusedBuilders,
+            withArena * 4 <= withReusedBuilders * 5
+        );
+        Assert.assertTrue(
+            withArena + " bytes per request is not a tenth under " + withNewBuilders,
+            withArena * 10 <= withNewBuilders * 9
+        );
+    }
+
+    @After
+    public void tearDown(){
+        this.sirenArena.close();
+        this.sirenArena = null;
+        this.sink = null;
+    }
+
+    private Entity requestWithArena() throws URISyntaxException {
+        try(SirenArena arena = SirenArena.open()){
+            Entity.Builder entity = arena.entity().klass("guest");
+            for(int i = 0; i < 10; i++){
+                entity.link(arena.link().rel("item").href(HREF).title("Guest").build());
+                entity.action(
+                    arena.action()
+                        .name("edit-guest")
+                        .method(HttpMethod.PUT)
+                        .href(HREF)
+                        .field(arena.<String>field().name("firstName").type(FieldType.TEXT).build())
+                        .field(arena.<String>field().name("lastName").type(FieldType.TEXT).build())
+                        .build()
+                );
+            }
+            return entity.build();
+        }
+    }
+
+    /**
+     * Builds the same instances as {@link #requestWithArena()} with a single builder of each type,
+     * cleared after each instance it builds, which allocates only the instances built.
+     */
+    private Entity requestWithReusedBuilders() throws URISyntaxException {
+        this.reusedEntity.clear();
+        this.reusedEntity.klass("guest");
+        for(int i = 0; i < 10; i++){
+            this.reusedLink.clear();
+            this.reusedEntity.link(this.reusedLink.rel("item").href(HREF).title("Guest").build());
+            this.reusedAction.clear();
+            this.reusedField.clear();
+            siren.Field<String> firstName = this.reusedField.name("firstName").type(FieldType.TEXT).build();
+            this.reusedField.clear();
+            siren.Field<String> lastName = this.reusedField.name("lastName").type(FieldType.TEXT).build();
+            this.reusedEntity.action(
+                this.reusedAction
+                    .name("edit-guest")
+                    .method(HttpMethod.PUT)
+                    .href(HREF)
+                    .field(firstName)
+                    .field(lastName)
+                    .build()
+            );
+        }
+        return this.reusedEntity.build();
+    }
+
+    private Entity requestWithNewBuilders() throws URISyntaxException {
+        Entity.Builder entity = new Entity.Builder().klass("guest");
+        for(int i = 0; i < 10; i++){
+            entity.link(new Link.Builder().rel("item").href(HREF).title("Guest").build());
+            entity.action(
+                new Action.Builder()
+                    .name("edit-guest")
+                    .method(HttpMethod.PUT)
+                    .href(HREF)
+                    .field(new siren.Field.Builder<String>().name("firstName").type(FieldType.TEXT).build())
+                    .field(new siren.Field.Builder<String>().name("lastName").type(FieldType.TEXT).build())
+                    .build()
+            );
+        }
+        return entity.build();
+    }
+}
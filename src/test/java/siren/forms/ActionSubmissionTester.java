@@ -0,0 +1,255 @@
+package siren.forms;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.Field;
+import siren.FieldType;
+import siren.FieldValue;
+import siren.HttpMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ActionSubmissionTester {
+
+    private Action.Builder actionBuilder;
+    private Path file;
+
+    public ActionSubmissionTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException, IOException {
+        this.actionBuilder = new Action.Builder()
+            .name("add-item")
+            .method(HttpMethod.POST)
+            .href(new URI("http://api.x.io/orders/42/items"));
+        this.file = Files.createTempFile("submission", ".txt");
+        Files.write(this.file, "file contents".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_noAction_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new ActionSubmission.Builder().build();
+    }
+
+    @Test
+    public void writeTo_formUrlEncoded_outcomeIs_fieldsThenExtraValuesEncoded() throws IOException {
+
+        //arrange.
+        FieldValue<String> small = new FieldValue.Builder<String>().value("small").build();
+        FieldValue<String> large = new FieldValue.Builder<String>().value("large").selected(true).build();
+        Action action = this.actionBuilder
+            .field(new Field.Builder<String>().name("orderNumber").type(FieldType.HIDDEN).value("42").build())
+            .field(new Field.Builder<Object>().name("size").type(FieldType.RADIO).value(Arrays.asList(small, large)).build())
+            .field(new Field.Builder<String>().name("productCode").type(FieldType.TEXT).build())
+            .build();
+        ActionSubmission submission = new ActionSubmission.Builder()
+            .action(action)
+            .value("productCode", "a&b c")
+            .value("note", "é")
+            .build();
+
+        //action.
+        String body = write(submission);
+
+        //assert.
+        Assert.assertEquals(ActionSubmission.FORM_URL_ENCODED, submission.getContentType());
+        Assert.assertEquals("orderNumber=42&size=large&productCode=a%26b+c&note=%C3%A9", body);
+    }
+
+    @Test
+    public void writeTo_json_outcomeIs_fieldsWrittenAsObject() throws IOException {
+
+        //arrange.
+        Action action = this.actionBuilder
+            .type("application/json")
+            .field(new Field.Builder<Integer>().name("quantity").type(FieldType.NUMBER).value(1).build())
+            .field(new Field.Builder<Object>().name("tags").type(FieldType.TEXT).build())
+            .build();
+        ActionSubmission submission = new ActionSubmission.Builder()
+            .action(action)
+            .value("tags", Arrays.asList("a", "b"))
+            .build();
+
+        //action.
+        String body = write(submission);
+
+        //assert.
+        Assert.assertEquals(ActionSubmission.JSON, submission.getContentType());
+        Assert.assertEquals("{\"quantity\":1,\"tags\":[\"a\",\"b\"]}", body);
+    }
+
+    @Test
+    public void writeTo_multipart_outcomeIs_partsWithFilesStreamed() throws IOException {
+
+        //arrange.
+        Action action = this.actionBuilder
+            .type("multipart/form-data")
+            .field(new Field.Builder<String>().name("title").type(FieldType.TEXT).build())
+            .field(new Field.Builder<Object>().name("attachment").type(FieldType.FILE).build())
+            .field(new Field.Builder<Object>().name("thumbnail").type(FieldType.FILE).build())
+            .build();
+        ActionSubmission submission = new ActionSubmission.Builder()
+            .action(action)
+            .boundary("b0undary")
+            .value("title", "Invoice \"42\"")
+            .value("attachment", this.file)
+            .value("thumbnail", new ByteArrayInputStream(new byte[]{1, 2, 3}))
+            .build();
+
+        //action.
+        String body = write(submission);
+
+        //assert.
+        Assert.assertEquals("multipart/form-data; boundary=b0undary", submission.getContentType());
+        String expected =
+            "--b0undary\r\n" +
+            "Content-Disposition: form-data; name=\"title\"\r\n\r\n" +
+            "Invoice \"42\"\r\n" +
+            "--b0undary\r\n" +
+            "Content-Disposition: form-data; name=\"attachment\"; filename=\"" + this.file.getFileName() + "\"\r\n" +
+            "Content-Type: application/octet-stream\r\n\r\n" +
+            "file contents\r\n" +
+            "--b0undary\r\n" +
+            "Content-Disposition: form-data; name=\"thumbnail\"; filename=\"thumbnail\"\r\n" +
+            "Content-Type: application/octet-stream\r\n\r\n" +
+            "\u0001\u0002\u0003\r\n" +
+            "--b0undary--\r\n";
+        Assert.assertEquals(expected, body);
+    }
+
+    @Test
+    public void writeTo_largeStreamedFile_outcomeIs_copiedInBoundedChunks() throws IOException {
+
+        //arrange.
+        final long size = 64L * 1024 * 1024;
+        InputStream generated = new InputStream() {
+            private long remaining = size;
+
+            @Override
+            public int read() {
+                if(this.remaining == 0) return -1;
+                this.remaining--;
+                return 'x';
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if(this.remaining == 0) return -1;
+                int read = (int)Math.min(length, this.remaining);
+                Arrays.fill(buffer, offset, offset + read, (byte)'x');
+                this.remaining -= read;
+                return read;
+            }
+        };
+        final long[] written = new long[1];
+        final int[] largestWrite = new int[1];
+        OutputStream counting = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written[0]++;
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) {
+                written[0] += length;
+                largestWrite[0] = Math.max(largestWrite[0], length);
+            }
+        };
+        ActionSubmission submission = new ActionSubmission.Builder()
+            .action(this.actionBuilder.type("multipart/form-data").build())
+            .value("upload", generated)
+            .build();
+
+        //action.
+        submission.writeTo(counting);
+
+        //assert.
+        Assert.assertTrue(written[0] > size);
+        Assert.assertTrue(largestWrite[0] <= 8192);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_fileValueWithoutMultipart_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new ActionSubmission.Builder()
+            .action(this.actionBuilder.build())
+            .value("upload", this.file)
+            .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_fileValueWithGetAction_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new ActionSubmission.Builder()
+            .action(this.actionBuilder.method(HttpMethod.GET).build())
+            .value("upload", new ByteArrayInputStream(new byte[]{1, 2, 3}))
+            .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_unsupportedType_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new ActionSubmission.Builder()
+            .action(this.actionBuilder.type("text/plain").build())
+            .build();
+    }
+
+    @Test
+    public void getHref_getAction_outcomeIs_valuesInQueryAndNoBody() throws IOException {
+
+        //arrange.
+        Action action = this.actionBuilder
+            .method(HttpMethod.GET)
+            .field(new Field.Builder<String>().name("q").type(FieldType.SEARCH).build())
+            .build();
+        ActionSubmission submission = new ActionSubmission.Builder()
+            .action(action)
+            .values(Collections.singletonMap("q", "big box"))
+            .build();
+
+        //action.
+        URI href = submission.getHref();
+
+        //assert.
+        Assert.assertEquals("http://api.x.io/orders/42/items?q=big+box", href.toString());
+        Assert.assertFalse(submission.hasBody());
+        Assert.assertNull(submission.getContentType());
+        Assert.assertEquals("", write(submission));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+        this.actionBuilder = null;
+        this.file = null;
+    }
+
+    private static String write(ActionSubmission submission) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        submission.writeTo(outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,101 @@
+package siren.forms;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.Field;
+import siren.FieldType;
+import siren.FieldValue;
+import siren.HttpMethod;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ActionValidatorTester {
+
+    private ActionValidator actionValidator;
+
+    public ActionValidatorTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException {
+        FieldValue<String> standard = new FieldValue.Builder<String>().value("standard").build();
+        FieldValue<String> express = new FieldValue.Builder<String>().value("express").build();
+        Action action = new Action.Builder()
+            .name("place-order")
+            .method(HttpMethod.POST)
+            .href(new URI("http://api.x.io/orders"))
+            .field(new Field.Builder<String>().name("email").type(FieldType.EMAIL).build())
+            .field(new Field.Builder<Integer>().name("quantity").type(FieldType.NUMBER).build())
+            .field(new Field.Builder<Object>().name("shipping").type(FieldType.RADIO).value(Arrays.asList(standard, express)).build())
+            .field(new Field.Builder<String>().name("note").build())
+            .build();
+        this.actionValidator = new ActionValidator(action);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_nullAction_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new ActionValidator(null);
+    }
+
+    @Test
+    public void isValid_fieldValues_outcomeIs_checkedAgainstFieldType(){
+
+        //assert.
+        Assert.assertTrue(this.actionValidator.isValid("email", "jon@x.io"));
+        Assert.assertFalse(this.actionValidator.isValid("email", "jon"));
+        Assert.assertTrue(this.actionValidator.isValid("quantity", "3"));
+        Assert.assertFalse(this.actionValidator.isValid("quantity", "three"));
+        Assert.assertTrue(this.actionValidator.isValid("note", "untyped fields are text"));
+    }
+
+    @Test
+    public void isValid_optionField_outcomeIs_onlyOptionsAccepted(){
+
+        //assert.
+        Assert.assertTrue(this.actionValidator.isValid("shipping", new StringBuilder("express")));
+        Assert.assertFalse(this.actionValidator.isValid("shipping", "overnight"));
+    }
+
+    @Test
+    public void isValid_unknownField_outcomeIs_false(){
+
+        //assert.
+        Assert.assertFalse(this.actionValidator.isValid("coupon", "FREE"));
+        Assert.assertNull(this.actionValidator.getValidator("coupon"));
+    }
+
+    @Test
+    public void invalidFields_values_outcomeIs_invalidNamesInOrder(){
+
+        //arrange.
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("quantity", "-");
+        values.put("email", "jon@x.io");
+        values.put("shipping", "overnight");
+
+        //action.
+        Object invalid = this.actionValidator.invalidFields(values);
+
+        //assert.
+        Assert.assertEquals(Arrays.asList("quantity", "shipping"), invalid);
+        Assert.assertSame(Collections.emptyList(), this.actionValidator.invalidFields(Collections.singletonMap("email", "a@b")));
+    }
+
+    @After
+    public void tearDown(){
+        this.actionValidator = null;
+    }
+}
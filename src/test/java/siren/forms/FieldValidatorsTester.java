@@ -0,0 +1,148 @@
+package siren.forms;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import siren.FieldType;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class FieldValidatorsTester {
+
+    public FieldValidatorsTester(){}
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forType_nullType_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        FieldValidators.forType(null);
+    }
+
+    @Test
+    public void forType_everyType_outcomeIs_validatorProvided(){
+
+        //action & assert.
+        for(FieldType type : FieldType.values()){
+            Assert.assertNotNull(FieldValidators.forType(type));
+        }
+    }
+
+    @Test
+    public void isValid_email_outcomeIs_syntaxChecked(){
+
+        //assert.
+        assertValid(FieldType.EMAIL, "jon@x.io", "first.last+tag@mail.example-site.com", "a@b");
+        assertInvalid(FieldType.EMAIL, "", "jon", "@x.io", "jon@", "jon@x..io", "jon@-x.io", "jon@x.io-", "j n@x.io", "jon@x_y.io");
+    }
+
+    @Test
+    public void isValid_url_outcomeIs_absoluteUrlsAccepted(){
+
+        //assert.
+        assertValid(FieldType.URL, "http://x.io/orders?page=2", "urn:isbn:0451450523", "mailto:jon@x.io");
+        assertInvalid(FieldType.URL, "", "/orders", "x.io", "http:", "1http://x.io", "http://x.io/a b", "http://x.io/<a>");
+    }
+
+    @Test
+    public void isValid_number_outcomeIs_floatingPointNumbersAccepted(){
+
+        //assert.
+        assertValid(FieldType.NUMBER, "0", "-12", "3.25", ".5", "1e10", "-1.5E-3");
+        assertInvalid(FieldType.NUMBER, "", "-", "+1", "1.", "1e", "1.2.3", "abc", " 1", "0x10");
+        assertValid(FieldType.RANGE, "42");
+    }
+
+    @Test
+    public void isValid_dates_outcomeIs_calendarChecked(){
+
+        //assert.
+        assertValid(FieldType.DATE, "2026-10-18", "2024-02-29", "2000-02-29", "12026-01-01");
+        assertInvalid(FieldType.DATE, "", "2026-13-01", "2026-02-29", "1900-02-29", "2026-04-31", "26-10-18", "0000-01-01", "2026-10-18x");
+        assertValid(FieldType.MONTH, "2026-10");
+        assertInvalid(FieldType.MONTH, "2026-00", "2026-1", "2026-10-18");
+        assertValid(FieldType.WEEK, "2026-W01", "2026-W53", "2020-W53");
+        assertInvalid(FieldType.WEEK, "2027-W53", "2026-W00", "2026-W54", "2026-42", "2026-W4");
+    }
+
+    @Test
+    public void isValid_times_outcomeIs_clockChecked(){
+
+        //assert.
+        assertValid(FieldType.TIME, "00:00", "23:59", "10:15:30", "10:15:30.5", "10:15:30.250");
+        assertInvalid(FieldType.TIME, "", "24:00", "10:60", "10:15:61", "10:15:30.", "10:15:30.1234", "1:15");
+        assertValid(FieldType.DATETIME_LOCAL, "2026-10-18T10:15", "2026-10-18 10:15:30");
+        assertInvalid(FieldType.DATETIME_LOCAL, "2026-10-18", "2026-10-18T", "2026-10-18T10:15Z");
+        assertValid(FieldType.DATETIME, "2026-10-18T10:15Z", "2026-10-18T10:15:30.1-04:00");
+        assertInvalid(FieldType.DATETIME, "2026-10-18T10:15", "2026-10-18T10:15+4:00", "2026-10-18T10:15+24:00", "2026-10-18T10:15ZZ");
+    }
+
+    @Test
+    public void isValid_otherTypes_outcomeIs_syntaxChecked(){
+
+        //assert.
+        assertValid(FieldType.COLOR, "#00ff7F");
+        assertInvalid(FieldType.COLOR, "00ff7f", "#00ff7", "#00ff7g", "red");
+        assertValid(FieldType.TEL, "+1 (513) 555-0100", "555.0100");
+        assertInvalid(FieldType.TEL, "", "call me", "1+2", "()");
+        assertValid(FieldType.TEXT, "anything at all");
+        assertInvalid(FieldType.TEXT, "two\nlines");
+        assertValid(FieldType.HIDDEN, "two\nlines");
+    }
+
+    @Test
+    public void isValid_repeatedValidation_outcomeIs_noAllocation(){
+
+        //arrange.
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean)threads;
+        Assume.assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+        String[] emails = {"jon@x.io", "not an email"};
+        String[] dates = {"2026-10-18", "2026-02-30"};
+        long threadId = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+
+        //action.
+        // the first rounds allocate while classes are loaded and methods are profiled and compiled.
+        for(int round = 0; round < 5; round++){
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            int valid = validateAll(emails, dates, 50000);
+            allocated = Math.min(allocated, allocations.getThreadAllocatedBytes(threadId) - before);
+            Assert.assertEquals(50000 * 4, valid);
+        }
+
+        //assert.
+        Assert.assertEquals(0, allocated);
+    }
+
+    private static int validateAll(String[] emails, String[] dates, int iterations){
+        int valid = 0;
+        for(int i = 0; i < iterations; i++){
+            for(String email : emails){
+                valid += FieldValidators.EMAIL.isValid(email) ? 1 : 0;
+            }
+            for(String date : dates){
+                valid += FieldValidators.DATE.isValid(date) ? 1 : 0;
+            }
+            valid += FieldValidators.NUMBER.isValid("-1.5e3") ? 1 : 0;
+            valid += FieldValidators.DATETIME.isValid("2026-10-18T10:15:30Z") ? 1 : 0;
+        }
+        return valid;
+    }
+
+    private static void assertValid(FieldType type, String... values){
+        for(String value : values){
+            Assert.assertTrue(type + " should accept '" + value + "'.", FieldValidators.forType(type).isValid(value));
+        }
+    }
+
+    private static void assertInvalid(FieldType type, String... values){
+        for(String value : values){
+            Assert.assertFalse(type + " should reject '" + value + "'.", FieldValidators.forType(type).isValid(value));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package siren.forms;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.Field;
+import siren.FieldType;
+import siren.FieldValue;
+import siren.HttpMethod;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class FormDecoderTester {
+
+    private Action action;
+    private FormDecoder formDecoder;
+
+    public FormDecoderTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException {
+        FieldValue<String> gift = new FieldValue.Builder<String>().value("gift").build();
+        FieldValue<String> express = new FieldValue.Builder<String>().value("express").build();
+        this.action = new Action.Builder()
+            .name("add-item")
+            .method(HttpMethod.POST)
+            .href(new URI("http://api.x.io/orders/42/items"))
+            .field(new Field.Builder<String>().name("productCode").type(FieldType.TEXT).build())
+            .field(new Field.Builder<Integer>().name("quantity").type(FieldType.NUMBER).build())
+            .field(new Field.Builder<Double>().name("price").type(FieldType.NUMBER).build())
+            .field(new Field.Builder<String>().name("deliver on").type(FieldType.DATE).build())
+            .field(new Field.Builder<String>().name("placedAt").type(FieldType.DATETIME).build())
+            .field(new Field.Builder<String>().name("agree").type(FieldType.CHECKBOX).build())
+            .field(new Field.Builder<Object>().name("options").type(FieldType.CHECKBOX).value(Arrays.asList(gift, express)).build())
+            .field(new Field.Builder<String>().name("déjà").type(FieldType.TEXT).build())
+            .build();
+        this.formDecoder = new FormDecoder(this.action);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_nullAction_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new FormDecoder(null);
+    }
+
+    @Test
+    public void decode_body_outcomeIs_valuesTypedPerField() throws URISyntaxException {
+
+        //arrange.
+        byte[] body = bytes(
+            "productCode=A%26B+1&quantity=3&price=19.99&deliver+on=2026-10-18" +
+            "&placedAt=2026-10-18T10%3A15%3A00Z&agree=on&options=gift&options=express&unknown=1"
+        );
+
+        //action.
+        FormData data = this.formDecoder.decode(body);
+
+        //assert.
+        Assert.assertEquals("A&B 1", data.get("productCode"));
+        Assert.assertEquals(3L, data.get("quantity"));
+        Assert.assertEquals(new BigDecimal("19.99"), data.get("price"));
+        Assert.assertEquals(LocalDate.of(2026, 10, 18), data.get("deliver on"));
+        Assert.assertEquals(OffsetDateTime.parse("2026-10-18T10:15:00Z"), data.get("placedAt"));
+        Assert.assertEquals(Boolean.TRUE, data.get("agree"));
+        Assert.assertEquals(Arrays.asList("gift", "express"), data.get("options"));
+        Assert.assertFalse(data.contains("unknown"));
+    }
+
+    @Test
+    public void decode_percentEncodedName_outcomeIs_nameMatched() throws IOException {
+
+        //arrange.
+        ByteArrayOutputStream submitted = new ByteArrayOutputStream();
+        new ActionSubmission.Builder().action(this.action).value("déjà", "vu").build().writeTo(submitted);
+
+        //action.
+        FormData data = this.formDecoder.decode(submitted.toByteArray());
+
+        //assert.
+        Assert.assertEquals("vu", data.get("déjà"));
+    }
+
+    @Test
+    public void decode_bodyWithinLargerArray_outcomeIs_onlyRangeDecoded(){
+
+        //arrange.
+        byte[] buffer = bytes("xxquantity=7&productCode=abcxx");
+
+        //action.
+        FormData data = this.formDecoder.decode(buffer, 2, buffer.length - 4);
+
+        //assert.
+        Assert.assertEquals(7L, data.get("quantity"));
+        Assert.assertEquals("abc", data.get("productCode"));
+    }
+
+    @Test
+    public void decode_emptyAndMissingValues_outcomeIs_nullValues(){
+
+        //action.
+        FormData data = this.formDecoder.decode(bytes("quantity=&productCode&&"));
+
+        //assert.
+        Assert.assertTrue(data.contains("quantity"));
+        Assert.assertNull(data.get("quantity"));
+        Assert.assertEquals("", data.get("productCode"));
+        Assert.assertNull(data.get("price"));
+        Map<String, Object> values = data.toMap();
+        Assert.assertEquals(2, values.size());
+    }
+
+    @Test
+    public void get_largeNumber_outcomeIs_BigDecimal(){
+
+        //action.
+        FormData data = this.formDecoder.decode(bytes("quantity=-12345678901234567890"));
+
+        //assert.
+        Assert.assertEquals(new BigDecimal("-12345678901234567890"), data.get("quantity"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void get_invalidNumber_outcomeIs_IllegalArgumentException(){
+
+        //arrange.
+        FormData data = this.formDecoder.decode(bytes("quantity=three"));
+
+        //action.
+        data.get("quantity");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_truncatedPercentEncoding_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.formDecoder.decode(bytes("product%2"));
+    }
+
+    @After
+    public void tearDown(){
+        this.action = null;
+        this.formDecoder = null;
+    }
+
+    private static byte[] bytes(String body){
+        return body.getBytes(StandardCharsets.US_ASCII);
+    }
+}
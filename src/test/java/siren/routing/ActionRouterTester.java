@@ -0,0 +1,225 @@
+package siren.routing;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.HttpMethod;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ActionRouterTester {
+
+    private ActionRouter<String> actionRouter;
+
+    public ActionRouterTester(){}
+
+    @Before
+    public void setup(){
+        this.actionRouter = new ActionRouter<>();
+        this.actionRouter.register(HttpMethod.GET, "/orders", "list-orders");
+        this.actionRouter.register(HttpMethod.GET, "/orders/{id}", "get-order");
+        this.actionRouter.register(HttpMethod.GET, "/orders/new", "new-order-form");
+        this.actionRouter.register(HttpMethod.DELETE, "/orders/{id}", "cancel-order");
+        this.actionRouter.register(HttpMethod.GET, "/orders/{orderId}/items/{itemId}", "get-item");
+    }
+
+    @Test
+    public void route_literalPath_outcomeIs_handlerMatched(){
+
+        //action.
+        RouteMatch<String> match = this.actionRouter.route(HttpMethod.GET, "/orders");
+
+        //assert.
+        Assert.assertEquals("list-orders", match.getHandler());
+        Assert.assertEquals(HttpMethod.GET, match.getMethod());
+        Assert.assertTrue(match.getPathVariables().isEmpty());
+        Assert.assertNull(match.getAction());
+    }
+
+    @Test
+    public void route_variablePath_outcomeIs_variablesCaptured(){
+
+        //action.
+        RouteMatch<String> match = this.actionRouter.route(HttpMethod.GET, "/orders/42/items/7");
+
+        //assert.
+        Assert.assertEquals("get-item", match.getHandler());
+        Assert.assertEquals("/orders/{orderId}/items/{itemId}", match.getTemplate());
+        Assert.assertEquals("42", match.getPathVariable("orderId"));
+        Assert.assertEquals("7", match.getPathVariable("itemId"));
+    }
+
+    @Test
+    public void route_literalAndVariable_outcomeIs_literalPreferred(){
+
+        //assert.
+        Assert.assertEquals("new-order-form", this.actionRouter.route(HttpMethod.GET, "/orders/new").getHandler());
+        Assert.assertEquals("get-order", this.actionRouter.route(HttpMethod.GET, "/orders/old").getHandler());
+    }
+
+    @Test
+    public void route_literalBranchDeadEnd_outcomeIs_variableBranchMatched(){
+
+        //action.
+        RouteMatch<String> match = this.actionRouter.route(HttpMethod.GET, "/orders/new/items/1");
+
+        //assert.
+        Assert.assertEquals("get-item", match.getHandler());
+        Assert.assertEquals("new", match.getPathVariable("orderId"));
+    }
+
+    @Test
+    public void route_methodProvided_outcomeIs_routedPerMethod(){
+
+        //assert.
+        Assert.assertEquals("cancel-order", this.actionRouter.route(HttpMethod.DELETE, "/orders/42").getHandler());
+        Assert.assertNull(this.actionRouter.route(HttpMethod.DELETE, "/orders"));
+        Assert.assertNull(this.actionRouter.route(HttpMethod.PUT, "/orders/42"));
+    }
+
+    @Test
+    public void route_unknownPath_outcomeIs_null(){
+
+        //assert.
+        Assert.assertNull(this.actionRouter.route(HttpMethod.GET, "/customers"));
+        Assert.assertNull(this.actionRouter.route(HttpMethod.GET, "/orders/42/items"));
+        Assert.assertNull(this.actionRouter.route(HttpMethod.GET, "/orders/42/items/7/notes"));
+    }
+
+    @Test
+    public void route_malformedPercentEncoding_outcomeIs_noMatch(){
+
+        //assert.
+        Assert.assertNull(this.actionRouter.route(HttpMethod.GET, "/orders/%zz"));
+        Assert.assertNull(this.actionRouter.route(HttpMethod.GET, "/orders/42%"));
+        Assert.assertTrue(this.actionRouter.allowedMethods("/orders/%zz").isEmpty());
+    }
+
+    @Test
+    public void route_encodedAndSlashedPath_outcomeIs_segmentsDecodedAndNormalized() throws URISyntaxException {
+
+        //action.
+        RouteMatch<String> match = this.actionRouter.route(HttpMethod.GET, new URI("http://api.x.io/orders//caf%C3%A9%2F1/?expand=items"));
+
+        //assert.
+        Assert.assertEquals("get-order", match.getHandler());
+        Assert.assertEquals("café/1", match.getPathVariable("id"));
+    }
+
+    @Test
+    public void register_action_outcomeIs_methodAndHrefTemplateUsed() throws URISyntaxException {
+
+        //arrange.
+        Action action = new Action.Builder()
+            .name("update-order")
+            .method(HttpMethod.PUT)
+            .href(new URI("http://api.x.io/orders/%7Bid%7D"))
+            .build();
+
+        //action.
+        this.actionRouter.register(action, "update-order");
+        RouteMatch<String> match = this.actionRouter.route(HttpMethod.PUT, "/orders/42");
+
+        //assert.
+        Assert.assertEquals("update-order", match.getHandler());
+        Assert.assertSame(action, match.getAction());
+        Assert.assertEquals(Collections.singletonMap("id", "42"), match.getPathVariables());
+    }
+
+    @Test
+    public void register_actionWithoutMethod_outcomeIs_routedAsGet() throws URISyntaxException {
+
+        //arrange.
+        Action action = new Action.Builder().name("search").href(new URI("http://api.x.io/search")).build();
+
+        //action.
+        this.actionRouter.register(action, "search");
+
+        //assert.
+        Assert.assertEquals("search", this.actionRouter.route(HttpMethod.GET, "/search").getHandler());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_duplicateRoute_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.actionRouter.register(HttpMethod.GET, "/orders/{orderNumber}", "duplicate");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_malformedVariable_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.actionRouter.register(HttpMethod.GET, "/customers/{id", "malformed");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_repeatedVariable_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.actionRouter.register(HttpMethod.GET, "/customers/{id}/friends/{id}", "repeated");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_nullHandler_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        this.actionRouter.register(HttpMethod.GET, "/customers", null);
+    }
+
+    @Test
+    public void allowedMethods_path_outcomeIs_methodsWithRoutes(){
+
+        //assert.
+        Assert.assertEquals(EnumSet.of(HttpMethod.GET, HttpMethod.DELETE), this.actionRouter.allowedMethods("/orders/42"));
+        Assert.assertTrue(this.actionRouter.allowedMethods("/customers").isEmpty());
+    }
+
+    @Test
+    public void route_concurrentRegistration_outcomeIs_existingRoutesAlwaysMatched() throws InterruptedException {
+
+        //arrange.
+        final AtomicBoolean registering = new AtomicBoolean(true);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while(registering.get()){
+                    RouteMatch<String> match = actionRouter.route(HttpMethod.GET, "/orders/42/items/7");
+                    if(match == null || !"get-item".equals(match.getHandler())){
+                        failure.set("an existing route was not matched during registration.");
+                        return;
+                    }
+                }
+            }
+        });
+
+        //action.
+        reader.start();
+        for(int i = 0; i < 2000; i++){
+            this.actionRouter.register(HttpMethod.GET, "/orders/{orderId}/items/" + i + "/notes", "notes-" + i);
+        }
+        registering.set(false);
+        reader.join();
+
+        //assert.
+        Assert.assertNull(failure.get());
+        Assert.assertEquals("notes-1999", this.actionRouter.route(HttpMethod.GET, "/orders/42/items/1999/notes").getHandler());
+    }
+
+    @After
+    public void tearDown(){
+        this.actionRouter = null;
+    }
+}
@@ -0,0 +1,174 @@
+package siren.serializers;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import siren.Entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class EntityPublisherTester {
+
+    /**
+     * Records the signals received from a publisher, copying each chunk.
+     */
+    private static class RecordingSubscriber implements Subscriber<ByteBuffer> {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final long initialRequest;
+        private Subscription subscription;
+        private int chunks;
+        private int largestChunk;
+        private boolean completed;
+        private Throwable error;
+
+        private RecordingSubscriber(long initialRequest){
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if(this.initialRequest > 0) subscription.request(this.initialRequest);
+        }
+
+        @Override
+        public void onNext(ByteBuffer chunk) {
+            this.chunks++;
+            this.largestChunk = Math.max(this.largestChunk, chunk.remaining());
+            byte[] copy = new byte[chunk.remaining()];
+            chunk.get(copy);
+            this.bytes.write(copy, 0, copy.length);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    private Entity entity;
+    private byte[] expected;
+
+    public EntityPublisherTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException, IOException {
+        this.entity = SirenWriterTester.nestedEntity();
+        this.expected = new SirenWriter().writeAsBytes(this.entity);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_chunkSizeIsZero_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new EntityPublisher(this.entity, new SirenWriter(), 0);
+    }
+
+    @Test
+    public void subscribe_unboundedDemand_outcomeIs_entityPublishedAndCompleted(){
+
+        //arrange.
+        EntityPublisher publisher = new EntityPublisher(this.entity);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        //action.
+        publisher.subscribe(subscriber);
+
+        //assert.
+        Assert.assertTrue(subscriber.completed);
+        Assert.assertNull(subscriber.error);
+        Assert.assertArrayEquals(this.expected, subscriber.bytes.toByteArray());
+    }
+
+    @Test
+    public void subscribe_noDemand_outcomeIs_nothingPublished(){
+
+        //arrange.
+        EntityPublisher publisher = new EntityPublisher(this.entity, new SirenWriter(), 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        //action.
+        publisher.subscribe(subscriber);
+
+        //assert.
+        Assert.assertEquals(0, subscriber.chunks);
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void request_oneChunkAtATime_outcomeIs_boundedChunksPublished(){
+
+        //arrange.
+        final int chunkSize = 16;
+        EntityPublisher publisher = new EntityPublisher(this.entity, new SirenWriter(), chunkSize);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        //action.
+        int requests = 0;
+        while(!subscriber.completed && requests < this.expected.length){
+            subscriber.subscription.request(1);
+            requests++;
+            Assert.assertTrue(subscriber.chunks <= requests);
+        }
+
+        //assert.
+        Assert.assertTrue(subscriber.completed);
+        Assert.assertTrue(subscriber.largestChunk <= chunkSize);
+        Assert.assertArrayEquals(this.expected, subscriber.bytes.toByteArray());
+    }
+
+    @Test
+    public void cancel_outcomeIs_publishingStopped(){
+
+        //arrange.
+        EntityPublisher publisher = new EntityPublisher(this.entity, new SirenWriter(), 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        //action.
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //assert.
+        Assert.assertEquals(1, subscriber.chunks);
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void request_nonPositive_outcomeIs_IllegalArgumentExceptionSignalled(){
+
+        //arrange.
+        EntityPublisher publisher = new EntityPublisher(this.entity);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        //action.
+        subscriber.subscription.request(0);
+
+        //assert.
+        Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @After
+    public void tearDown(){
+        this.entity = null;
+        this.expected = null;
+    }
+}
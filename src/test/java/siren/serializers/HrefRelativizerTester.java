@@ -0,0 +1,85 @@
+package siren.serializers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URI;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class HrefRelativizerTester {
+
+    public HrefRelativizerTester(){}
+
+    @Test
+    public void relativize_hrefUnderBaseDirectory_outcomeIs_relativePath(){
+
+        //arrange.
+        HrefRelativizer relativizer = new HrefRelativizer(URI.create("http://api.x.io/v1/guests/1"));
+
+        //assert.
+        Assert.assertEquals("2", relativizer.relativize(URI.create("http://api.x.io/v1/guests/2")));
+        Assert.assertEquals("1/stays?page=2", relativizer.relativize(URI.create("http://api.x.io/v1/guests/1/stays?page=2")));
+        Assert.assertEquals("./", relativizer.relativize(URI.create("http://api.x.io/v1/guests/")));
+        Assert.assertEquals("./?q=jon", relativizer.relativize(URI.create("http://api.x.io/v1/guests/?q=jon")));
+        Assert.assertEquals("./a:b", relativizer.relativize(URI.create("http://api.x.io/v1/guests/a:b")));
+    }
+
+    @Test
+    public void relativize_hrefOnSameOrigin_outcomeIs_absolutePath(){
+
+        //arrange.
+        HrefRelativizer relativizer = new HrefRelativizer(URI.create("http://api.x.io/v1/guests/1"));
+
+        //assert.
+        Assert.assertEquals("/v1/rooms/12b", relativizer.relativize(URI.create("http://api.x.io/v1/rooms/12b")));
+        Assert.assertEquals("/", relativizer.relativize(URI.create("http://api.x.io/")));
+    }
+
+    @Test
+    public void relativize_hrefNotShortenable_outcomeIs_unchanged(){
+
+        //arrange.
+        HrefRelativizer relativizer = new HrefRelativizer(URI.create("http://api.x.io/v1/guests/1"));
+        String[] hrefs = {
+            "http://api.x.io/v1/guests/1",
+            "https://api.x.io/v1/guests/2",
+            "http://api.x.io:8080/v1/guests/2",
+            "http://api.x.io.evil.io/v1/guests/2",
+            "http://api.x.io",
+            "http://api.x.io/v1/guests/../rooms/1",
+            "http://api.x.io/v1/guests/./2",
+            "mailto:jon@x.io",
+            "guests/3"
+        };
+
+        //assert.
+        for(String href : hrefs){
+            Assert.assertEquals(href, relativizer.relativize(URI.create(href)));
+        }
+    }
+
+    @Test
+    public void relativize_anyHref_outcomeIs_resolvesBackToHref(){
+
+        //arrange.
+        String[] bases = {"http://x.io/a/b/c", "http://x.io/a/b/", "http://x.io/a?x=1", "http://x.io", "http://x.io/", "http://x.io/a/./b"};
+        String[] hrefs = {
+            "http://x.io/a/b/c", "http://x.io/a/b/c/d", "http://x.io/a/b/d?e=f#g", "http://x.io/a/b/", "http://x.io/a/",
+            "http://x.io/", "http://x.io/z", "http://x.io/a/b/c:d", "http://x.io/a/b/?q", "http://x.io/a/b/#f",
+            "http://x.io/a/b/%20c", "http://x.io/a/b/..x", "http://x.io/a/b/.x/y"
+        };
+
+        //assert.
+        for(String base : bases){
+            URI baseUri = URI.create(base);
+            HrefRelativizer relativizer = new HrefRelativizer(baseUri);
+            for(String href : hrefs){
+                String relative = relativizer.relativize(URI.create(href));
+                Assert.assertEquals(base + " + " + relative, URI.create(href), baseUri.resolve(URI.create(relative)));
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package siren.serializers;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Entity;
+import siren.Link;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class PrerenderedEntitiesTester {
+
+    private Path directory;
+    private SirenWriter sirenWriter;
+
+    public PrerenderedEntitiesTester(){}
+
+    @Before
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("siren-prerendered");
+        this.sirenWriter = new SirenWriter();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void render_entityWithoutSelfLink_outcomeIs_IllegalArgumentException() throws IOException {
+
+        //arrange.
+        try(SirenPrerenderer prerenderer = SirenPrerenderer.open(this.directory, this.sirenWriter, false)){
+
+            //action.
+            prerenderer.render(new Entity.Builder().title("Guest").build());
+        }
+    }
+
+    @Test
+    public void transferTo_rendered_outcomeIs_serializedEntity() throws IOException, URISyntaxException {
+
+        //arrange.
+        render(false, 10);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        boolean transferred;
+        try(PrerenderedEntities entities = PrerenderedEntities.open(this.directory)){
+            transferred = entities.transferTo(href(3), Channels.newChannel(outputStream));
+
+            //assert.
+            Assert.assertFalse(entities.isGzipped());
+            Assert.assertEquals(10, entities.size());
+            Assert.assertEquals(outputStream.size(), entities.length(href(3)));
+        }
+        Assert.assertTrue(transferred);
+        Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(guest(3)), outputStream.toByteArray());
+    }
+
+    @Test
+    public void transferTo_notRendered_outcomeIs_nothingTransferred() throws IOException, URISyntaxException {
+
+        //arrange.
+        render(false, 1);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        try(PrerenderedEntities entities = PrerenderedEntities.open(this.directory)){
+            boolean transferred = entities.transferTo(href(2), Channels.newChannel(outputStream));
+
+            //assert.
+            Assert.assertFalse(transferred);
+            Assert.assertFalse(entities.contains(href(2)));
+            Assert.assertEquals(-1, entities.length(href(2)));
+            Assert.assertEquals(0, outputStream.size());
+        }
+    }
+
+    @Test
+    public void transferTo_gzipped_outcomeIs_compressedSerializedEntity() throws IOException, URISyntaxException {
+
+        //arrange.
+        render(true, 10);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        try(PrerenderedEntities entities = PrerenderedEntities.open(this.directory)){
+            entities.transferTo(href(7), Channels.newChannel(outputStream));
+
+            //assert.
+            Assert.assertTrue(entities.isGzipped());
+        }
+        Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(guest(7)), gunzip(outputStream.toByteArray()));
+    }
+
+    @Test
+    public void transferTo_socket_outcomeIs_serializedEntityReceived() throws Exception {
+
+        //arrange.
+        render(false, 100);
+        byte[] expected = this.sirenWriter.writeAsBytes(guest(42));
+        try(ServerSocketChannel server = ServerSocketChannel.open();
+            PrerenderedEntities entities = PrerenderedEntities.open(this.directory)){
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try(SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                SocketChannel accepted = server.accept()){
+
+                //action.
+                entities.transferTo(href(42), accepted);
+
+                //assert.
+                ByteBuffer received = ByteBuffer.allocate(expected.length);
+                while(received.hasRemaining() && client.read(received) >= 0);
+                Assert.assertArrayEquals(expected, received.array());
+            }
+        }
+    }
+
+    @Test
+    public void open_renderedAgain_outcomeIs_previousRenderStillServedUntilReopened() throws IOException, URISyntaxException {
+
+        //arrange.
+        render(false, 5);
+        try(PrerenderedEntities previous = PrerenderedEntities.open(this.directory)){
+
+            //action.
+            try(SirenPrerenderer prerenderer = SirenPrerenderer.open(this.directory, this.sirenWriter, false)){
+                prerenderer.render(guest(100));
+                prerenderer.commit();
+            }
+
+            //assert.
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            Assert.assertTrue(previous.transferTo(href(4), Channels.newChannel(outputStream)));
+            Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(guest(4)), outputStream.toByteArray());
+        }
+        try(PrerenderedEntities current = PrerenderedEntities.open(this.directory)){
+            Assert.assertEquals(1, current.size());
+            Assert.assertTrue(current.contains(href(100)));
+        }
+    }
+
+    @Test
+    public void close_renderFailedBeforeCommit_outcomeIs_previousRenderStillPublished() throws IOException, URISyntaxException {
+
+        //arrange.
+        render(false, 5);
+
+        //action.
+        try(SirenPrerenderer prerenderer = SirenPrerenderer.open(this.directory, this.sirenWriter, false)){
+            prerenderer.render(guest(100));
+            prerenderer.render(new Entity.Builder().title("Guest").build());
+            prerenderer.commit();
+            Assert.fail("The entity without a self link was rendered.");
+        }catch(IllegalArgumentException e){
+            // the render fails partway through.
+        }
+
+        //assert.
+        try(PrerenderedEntities entities = PrerenderedEntities.open(this.directory)){
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            Assert.assertEquals(5, entities.size());
+            Assert.assertFalse(entities.contains(href(100)));
+            Assert.assertTrue(entities.transferTo(href(4), Channels.newChannel(outputStream)));
+            Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(guest(4)), outputStream.toByteArray());
+        }
+        int files = 0;
+        try(DirectoryStream<Path> directory = Files.newDirectoryStream(this.directory)){
+            for(Path file : directory){
+                Assert.assertFalse(file.toString(), file.getFileName().toString().endsWith(".partial"));
+                files++;
+            }
+        }
+        Assert.assertEquals(2, files);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)){
+            for(Path file : files){
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+        this.sirenWriter = null;
+    }
+
+    private void render(boolean gzip, int count) throws IOException, URISyntaxException {
+        try(SirenPrerenderer prerenderer = SirenPrerenderer.open(this.directory, this.sirenWriter, gzip)){
+            for(int i = 0; i < count; i++){
+                prerenderer.render(guest(i));
+            }
+            prerenderer.commit();
+        }
+    }
+
+    /**
+     * Constructs a guest whose self link is {@link #href(int)}.
+     */
+    static Entity guest(int id) throws URISyntaxException {
+        return new Entity.Builder()
+            .klass("guest")
+            .property("id", id)
+            .property("firstName", "Guest " + id)
+            .link(new Link.Builder().rel("self").href(new URI("http://x/guests/" + id)).build())
+            .build();
+    }
+
+    static URI href(int id){
+        return URI.create("http://x/guests/" + id);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try(InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))){
+            byte[] buffer = new byte[4096];
+            int read;
+            while((read = inputStream.read(buffer)) >= 0){
+                outputStream.write(buffer, 0, read);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+package siren.serializers;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.HttpMethod;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class ProjectionTester {
+
+    private SirenWriter sirenWriter;
+
+    public ProjectionTester(){}
+
+    @Before
+    public void setup(){
+        this.sirenWriter = new SirenWriter();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void properties_nullName_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new Projection.Builder().properties("name", null);
+    }
+
+    @Test
+    public void writeAsBytes_emptyProjection_outcomeIs_everyMemberWritten() throws IOException, URISyntaxException {
+
+        //arrange.
+        Projection projection = new Projection.Builder().build();
+        Entity entity = SirenWriterTester.nestedEntity();
+
+        //assert.
+        Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(entity), this.sirenWriter.writeAsBytes(entity, projection));
+    }
+
+    @Test
+    public void writeAsBytes_projection_outcomeIs_omittedMembersSkipped() throws IOException, URISyntaxException {
+
+        //arrange.
+        Projection projection = new Projection.Builder()
+            .properties("firstName", "nights")
+            .omitActions("edit-guest")
+            .omitLinks("self")
+            .omitSubEntities("reservation")
+            .build();
+
+        //action.
+        String json = new String(this.sirenWriter.writeAsBytes(SirenWriterTester.nestedEntity(), projection), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertEquals(
+            "{\"title\":\"Guest\",\"properties\":{\"firstName\":\"Jon\"},\"actions\":[],\"links\":[],"
+                + "\"entities\":[{\"title\":null,\"rel\":[\"http://x/rels/spouse\"],\"href\":\"http://x/guests/2\","
+                + "\"type\":null,\"class\":null}],\"class\":[\"guest\"]}",
+            json
+        );
+    }
+
+    @Test
+    public void writeAsBytes_subEntities_outcomeIs_rulesAppliedAtEveryDepth() throws IOException, URISyntaxException {
+
+        //arrange.
+        Projection projection = new Projection.Builder().properties("firstName", "nights").omitAllActions(true).omitSubEntities("room").build();
+        Entity entity = new Entity.Builder()
+            .property("firstName", "Jon")
+            .action(
+                new Action.Builder()
+                    .name("delete-guest")
+                    .method(HttpMethod.DELETE)
+                    .href(new URI("http://x/guests/1"))
+                    .build()
+            )
+            .subEntity(
+                new EmbeddedRepresentationSubEntity.Builder()
+                    .rel("item")
+                    .property("nights", 3)
+                    .property("rate", 99)
+                    .subEntity(new EmbeddedRepresentationSubEntity.Builder().rel("item").klass("room").build())
+                    .build()
+            )
+            .build();
+
+        //action.
+        String json = new String(this.sirenWriter.writeAsBytes(entity, projection), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertEquals(
+            "{\"title\":null,\"properties\":{\"firstName\":\"Jon\"},\"actions\":null,\"links\":null,"
+                + "\"entities\":[{\"title\":null,\"properties\":{\"nights\":3},\"actions\":null,\"links\":null,"
+                + "\"rel\":[\"item\"],\"entities\":[],\"class\":null}],\"class\":null}",
+            json
+        );
+    }
+
+    @After
+    public void tearDown(){
+        this.sirenWriter = null;
+    }
+}
@@ -0,0 +1,160 @@
+package siren.serializers;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.HttpMethod;
+import siren.Link;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SerializedEntityCacheTester {
+
+    private SerializedEntityCache<String> serializedEntityCache;
+
+    public SerializedEntityCacheTester(){}
+
+    @Before
+    public void setup() throws URISyntaxException {
+        this.serializedEntityCache = new SerializedEntityCache.Builder<String>()
+            .baseUri(new URI("http://api.internal/v1"))
+            .maximumSize(2)
+            .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_noBaseUri_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SerializedEntityCache.Builder<String>().build();
+    }
+
+    @Test
+    public void serialize_entity_outcomeIs_hrefsUnderBaseRecorded() throws IOException, URISyntaxException {
+
+        //action.
+        SerializedEntity serialized = this.serializedEntityCache.serialize(guest("http://api.internal/v1"));
+
+        //assert.
+        Assert.assertEquals(5, serialized.getHrefCount());
+    }
+
+    @Test
+    public void writeTo_tenantBaseUri_outcomeIs_sameAsEntityRenderedForTenant() throws IOException, URISyntaxException {
+
+        //arrange.
+        SerializedEntity serialized = this.serializedEntityCache.serialize(guest("http://api.internal/v1"));
+        URI tenant = new URI("https://acme.example.com/api/v1");
+        byte[] expected = new SirenWriter().writeAsBytes(guest(tenant.toString()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        serialized.writeTo(outputStream, tenant);
+
+        //assert.
+        Assert.assertArrayEquals(expected, outputStream.toByteArray());
+        Assert.assertEquals(expected.length, serialized.length(tenant));
+        Assert.assertArrayEquals(expected, serialized.toByteArray(tenant));
+    }
+
+    @Test
+    public void writeTo_noBaseUri_outcomeIs_canonicalJson() throws IOException, URISyntaxException {
+
+        //arrange.
+        SerializedEntity serialized = this.serializedEntityCache.serialize(guest("http://api.internal/v1"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        serialized.writeTo(outputStream);
+
+        //assert.
+        Assert.assertArrayEquals(new SirenWriter().writeAsBytes(guest("http://api.internal/v1")), outputStream.toByteArray());
+    }
+
+    @Test
+    public void get_sameKey_outcomeIs_serializedOnce() throws IOException, URISyntaxException {
+
+        //arrange.
+        Entity guest = guest("http://api.internal/v1");
+
+        //action.
+        SerializedEntity first = this.serializedEntityCache.get("/guests/1", guest);
+        SerializedEntity second = this.serializedEntityCache.get("/guests/1", new Entity.Builder().build());
+
+        //assert.
+        Assert.assertSame(first, second);
+        Assert.assertSame(first, this.serializedEntityCache.get("/guests/1"));
+    }
+
+    @Test
+    public void get_beyondMaximumSize_outcomeIs_leastRecentlyUsedEvicted() throws IOException {
+
+        //arrange.
+        Entity entity = new Entity.Builder().build();
+        this.serializedEntityCache.get("a", entity);
+        this.serializedEntityCache.get("b", entity);
+        this.serializedEntityCache.get("a");
+
+        //action.
+        this.serializedEntityCache.get("c", entity);
+
+        //assert.
+        Assert.assertEquals(2, this.serializedEntityCache.size());
+        Assert.assertNull(this.serializedEntityCache.get("b"));
+        Assert.assertNotNull(this.serializedEntityCache.get("a"));
+    }
+
+    @Test
+    public void evict_cachedKey_outcomeIs_removed() throws IOException {
+
+        //arrange.
+        this.serializedEntityCache.get("a", new Entity.Builder().build());
+
+        //action.
+        this.serializedEntityCache.evict("a");
+
+        //assert.
+        Assert.assertNull(this.serializedEntityCache.get("a"));
+    }
+
+    @After
+    public void tearDown(){
+        this.serializedEntityCache = null;
+    }
+
+    /**
+     * Constructs a guest rendered under the base provided. Hrefs of other hosts, hrefs that merely share
+     * a prefix with the base and href-like properties are expected to be left alone.
+     */
+    private static Entity guest(String base) throws URISyntaxException {
+        return new Entity.Builder()
+            .klass("guest")
+            .property("website", Collections.singletonMap("href", "http://api.internal/v1/not-a-link"))
+            .action(new Action.Builder().name("edit-guest").method(HttpMethod.PUT).href(new URI(base + "/guests/1")).build())
+            .link(new Link.Builder().rel("self").href(new URI(base + "/guests/1")).build())
+            .link(new Link.Builder().rel("profile").href(new URI("http://schema.org/Person")).build())
+            .link(new Link.Builder().rel("collection").href(new URI("http://api.internal/v10/guests")).build())
+            .link(new Link.Builder().rel("index").href(new URI(base)).build())
+            .subEntities(
+                new EmbeddedLinkSubEntity.Builder().rel("item").href(new URI(base + "/guests/1/stays?page=1")).build(),
+                new EmbeddedRepresentationSubEntity.Builder()
+                    .rel("item")
+                    .link(new Link.Builder().rel("self").href(new URI(base + "/rooms/12b")).build())
+                    .build()
+            )
+            .build();
+    }
+}
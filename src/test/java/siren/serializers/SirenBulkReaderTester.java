@@ -0,0 +1,179 @@
+package siren.serializers;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenBulkReaderTester {
+
+    private Path file;
+    private SirenWriter sirenWriter;
+
+    public SirenBulkReaderTester(){}
+
+    @Before
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("siren-bulk", ".ndjson");
+        this.sirenWriter = new SirenWriter();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelism_zero_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SirenBulkReader.Builder().parallelism(0);
+    }
+
+    @Test
+    public void readAll_ordered_outcomeIs_entitiesInOrderOfFile() throws IOException, URISyntaxException, InterruptedException {
+
+        //arrange.
+        write(200);
+        SirenBulkReader bulkReader = new SirenBulkReader.Builder().parallelism(4).chunkSize(256).ordered(true).build();
+
+        //action.
+        List<Entity> entities = bulkReader.readAll(this.file);
+
+        //assert.
+        Assert.assertEquals(200, entities.size());
+        for(int i = 0; i < 200; i++){
+            Assert.assertEquals(i, ((Number)entities.get(i).getProperties().get("id")).intValue());
+        }
+        Assert.assertEquals(URI.create("http://x/guests/199"), entities.get(199).getLinks().get(0).getHref());
+    }
+
+    @Test
+    public void read_unordered_outcomeIs_eachEntityReadOnce() throws IOException, URISyntaxException, InterruptedException {
+
+        //arrange.
+        write(500);
+        SirenBulkReader bulkReader = new SirenBulkReader.Builder().parallelism(4).chunkSize(256).build();
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        AtomicLong accepted = new AtomicLong();
+
+        //action.
+        long count = bulkReader.read(this.file, entity -> {
+            ids.add(((Number)entity.getProperties().get("id")).intValue());
+            accepted.incrementAndGet();
+        });
+
+        //assert.
+        Assert.assertEquals(500, count);
+        Assert.assertEquals(500, accepted.get());
+        Assert.assertEquals(500, ids.size());
+    }
+
+    @Test
+    public void readAll_linesLongerThanChunkSize_outcomeIs_entitiesRead() throws IOException, URISyntaxException, InterruptedException {
+
+        //arrange.
+        write(20);
+        SirenBulkReader bulkReader = new SirenBulkReader.Builder().parallelism(2).chunkSize(8).ordered(true).build();
+
+        //action.
+        List<Entity> entities = bulkReader.readAll(this.file);
+
+        //assert.
+        Assert.assertEquals(20, entities.size());
+        Assert.assertEquals("Guest 19", entities.get(19).getProperties().get("firstName"));
+    }
+
+    @Test
+    public void readAll_blankLinesAndNoTrailingNewline_outcomeIs_blankLinesSkipped() throws IOException, URISyntaxException, InterruptedException {
+
+        //arrange.
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(this.sirenWriter.writeAsBytes(PrerenderedEntitiesTester.guest(1)));
+        outputStream.write("\n\n  \r\n".getBytes(StandardCharsets.UTF_8));
+        outputStream.write(this.sirenWriter.writeAsBytes(PrerenderedEntitiesTester.guest(2)));
+        Files.write(this.file, outputStream.toByteArray());
+        SirenBulkReader bulkReader = new SirenBulkReader.Builder().parallelism(2).ordered(true).build();
+
+        //action.
+        List<Entity> entities = bulkReader.readAll(this.file);
+
+        //assert.
+        Assert.assertEquals(2, entities.size());
+        Assert.assertEquals("Guest 2", entities.get(1).getProperties().get("firstName"));
+    }
+
+    @Test
+    public void readAll_emptyFile_outcomeIs_noEntities() throws IOException, InterruptedException {
+
+        //arrange.
+        SirenBulkReader bulkReader = new SirenBulkReader.Builder().build();
+
+        //action.
+        List<Entity> entities = bulkReader.readAll(this.file);
+
+        //assert.
+        Assert.assertTrue(entities.isEmpty());
+    }
+
+    @Test
+    public void read_malformedLine_outcomeIs_IOExceptionWithOffsetOfLine() throws IOException, URISyntaxException, InterruptedException {
+
+        //arrange.
+        byte[] line = this.sirenWriter.writeAsBytes(PrerenderedEntitiesTester.guest(1));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for(int i = 0; i < 50; i++){
+            outputStream.write(line);
+            outputStream.write('\n');
+        }
+        long offset = outputStream.size();
+        outputStream.write("[\"guest\"]\n".getBytes(StandardCharsets.UTF_8));
+        outputStream.write(line);
+        Files.write(this.file, outputStream.toByteArray());
+        SirenBulkReader bulkReader = new SirenBulkReader.Builder().parallelism(4).chunkSize(512).build();
+
+        //action.
+        IOException exception = null;
+        try{
+            bulkReader.read(this.file, entity -> {});
+        }catch(IOException e){
+            exception = e;
+        }
+
+        //assert.
+        Assert.assertNotNull(exception);
+        Assert.assertTrue(exception.getMessage(), exception.getMessage().contains("at byte " + offset + " "));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+        this.sirenWriter = null;
+    }
+
+    private void write(int count) throws IOException, URISyntaxException {
+        List<byte[]> lines = new ArrayList<>();
+        for(int i = 0; i < count; i++){
+            lines.add(this.sirenWriter.writeAsBytes(PrerenderedEntitiesTester.guest(i)));
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for(byte[] line : lines){
+            outputStream.write(line);
+            outputStream.write('\n');
+        }
+        Files.write(this.file, outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,285 @@
+package siren.serializers;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Entity;
+import siren.Link;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenOffHeapStoreTester {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private Path directory;
+    private SirenOffHeapStore store;
+
+    public SirenOffHeapStoreTester(){}
+
+    @Before
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("siren-store");
+        this.store = SirenOffHeapStore.open(this.directory, new SirenWriter(), SEGMENT_SIZE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void put_entityWithoutSelfLink_outcomeIs_IllegalArgumentException() throws IOException {
+
+        //action.
+        this.store.put(new Entity.Builder().title("Guest").build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void put_jsonLargerThanSegment_outcomeIs_IllegalArgumentException() throws IOException {
+
+        //action.
+        this.store.put(URI.create("http://x/guests/1"), new byte[SEGMENT_SIZE]);
+    }
+
+    @Test
+    public void get_entityPut_outcomeIs_serializedEntity() throws IOException, URISyntaxException {
+
+        //arrange.
+        Entity entity = new Entity.Builder()
+            .klass("guest")
+            .property("id", 1)
+            .link(new Link.Builder().rel("self").href(new URI("http://x/guests/1")).build())
+            .build();
+        this.store.put(entity);
+
+        //action.
+        ByteBuffer json = this.store.get(URI.create("http://x/guests/1"));
+
+        //assert.
+        Assert.assertArrayEquals(new SirenWriter().writeAsBytes(entity), bytes(json));
+        Assert.assertTrue(json.isReadOnly());
+        Assert.assertNull(this.store.get(URI.create("http://x/guests/2")));
+    }
+
+    @Test
+    public void put_sameHref_outcomeIs_jsonReplaced() throws IOException {
+
+        //arrange.
+        URI href = URI.create("http://x/guests/1");
+        this.store.put(href, utf8("{\"title\":\"Jon\"}"));
+
+        //action.
+        this.store.put(href, utf8("{\"title\":\"Jonathan\"}"));
+
+        //assert.
+        Assert.assertEquals("{\"title\":\"Jonathan\"}", string(this.store.get(href)));
+        Assert.assertEquals(1, this.store.size());
+    }
+
+    @Test
+    public void remove_outcomeIs_entityNoLongerStored() throws IOException {
+
+        //arrange.
+        URI href = URI.create("http://x/guests/1");
+        this.store.put(href, utf8("{}"));
+
+        //action.
+        boolean removed = this.store.remove(href);
+
+        //assert.
+        Assert.assertTrue(removed);
+        Assert.assertFalse(this.store.remove(href));
+        Assert.assertNull(this.store.get(href));
+        Assert.assertEquals(0, this.store.size());
+    }
+
+    @Test
+    public void open_existingSegments_outcomeIs_entitiesReloaded() throws IOException {
+
+        //arrange.
+        for(int i = 0; i < 500; i++){
+            this.store.put(PrerenderedEntitiesTester.href(i), utf8("{\"title\":\"" + i + "\"}"));
+        }
+        this.store.put(PrerenderedEntitiesTester.href(7), utf8("{\"title\":\"seven\"}"));
+        this.store.remove(PrerenderedEntitiesTester.href(8));
+        this.store.close();
+
+        //action.
+        this.store = SirenOffHeapStore.open(this.directory, new SirenWriter(), SEGMENT_SIZE);
+
+        //assert.
+        Assert.assertEquals(499, this.store.size());
+        Assert.assertEquals("{\"title\":\"0\"}", string(this.store.get(PrerenderedEntitiesTester.href(0))));
+        Assert.assertEquals("{\"title\":\"seven\"}", string(this.store.get(PrerenderedEntitiesTester.href(7))));
+        Assert.assertNull(this.store.get(PrerenderedEntitiesTester.href(8)));
+        Assert.assertEquals("{\"title\":\"499\"}", string(this.store.get(PrerenderedEntitiesTester.href(499))));
+    }
+
+    @Test
+    public void put_manyEntities_outcomeIs_indexGrownAndEveryEntityFound() throws IOException {
+
+        //action.
+        for(int i = 0; i < 5000; i++){
+            this.store.put(PrerenderedEntitiesTester.href(i), utf8("{\"title\":\"" + i + "\"}"));
+        }
+
+        //assert.
+        Assert.assertEquals(5000, this.store.size());
+        for(int i = 0; i < 5000; i++){
+            Assert.assertEquals("{\"title\":\"" + i + "\"}", string(this.store.get(PrerenderedEntitiesTester.href(i))));
+        }
+    }
+
+    @Test
+    public void put_repeatedlyRemoved_outcomeIs_indexReusesRemovedSlots() throws IOException {
+
+        //action.
+        for(int i = 0; i < 5000; i++){
+            this.store.put(PrerenderedEntitiesTester.href(i), utf8("{}"));
+            this.store.remove(PrerenderedEntitiesTester.href(i));
+        }
+
+        //assert.
+        Assert.assertEquals(0, this.store.size());
+        Assert.assertNull(this.store.get(PrerenderedEntitiesTester.href(4999)));
+    }
+
+    @Test
+    public void compact_outcomeIs_replacedJsonDiscardedAndEntitiesKept() throws IOException {
+
+        //arrange.
+        for(int round = 0; round < 20; round++){
+            for(int i = 0; i < 50; i++){
+                this.store.put(PrerenderedEntitiesTester.href(i), utf8("{\"title\":\"" + round + "\"}"));
+            }
+        }
+        this.store.remove(PrerenderedEntitiesTester.href(0));
+        ByteBuffer before = this.store.get(PrerenderedEntitiesTester.href(1));
+        long segmentsBefore = countSegments(this.directory);
+
+        //action.
+        this.store.compact();
+
+        //assert.
+        Assert.assertTrue(countSegments(this.directory) < segmentsBefore);
+        Assert.assertEquals(49, this.store.size());
+        Assert.assertNull(this.store.get(PrerenderedEntitiesTester.href(0)));
+        Assert.assertEquals("{\"title\":\"19\"}", string(this.store.get(PrerenderedEntitiesTester.href(49))));
+        Assert.assertEquals("{\"title\":\"19\"}", string(before));
+        this.store.close();
+        this.store = SirenOffHeapStore.open(this.directory, new SirenWriter(), SEGMENT_SIZE);
+        Assert.assertEquals(49, this.store.size());
+        Assert.assertEquals("{\"title\":\"19\"}", string(this.store.get(PrerenderedEntitiesTester.href(1))));
+    }
+
+    @Test
+    public void get_concurrentWrites_outcomeIs_everyReadComplete() throws Exception {
+
+        //arrange.
+        URI href = PrerenderedEntitiesTester.href(0);
+        this.store.put(href, utf8("{\"title\":\"0\"}"));
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            for(int i = 0; i < 20000 && failure.get() == null; i++){
+                ByteBuffer buffer = this.store.get(href);
+                String json = buffer != null ? string(buffer) : null;
+                if(json == null || !json.startsWith("{\"title\":\"") || !json.endsWith("\"}")) failure.set(String.valueOf(json));
+            }
+        });
+
+        //action.
+        reader.start();
+        for(int i = 1; i < 2000; i++){
+            this.store.put(href, utf8("{\"title\":\"" + i + "\"}"));
+            this.store.put(PrerenderedEntitiesTester.href(i), utf8("{}"));
+        }
+        reader.join();
+
+        //assert.
+        Assert.assertNull(failure.get());
+    }
+
+    @Test
+    public void get_concurrentReplacements_outcomeIs_storedHrefNeverMissing() throws Exception {
+
+        //arrange.
+        int hrefs = 16;
+        for(int i = 0; i < hrefs; i++){
+            this.store.put(PrerenderedEntitiesTester.href(i), utf8("{\"title\":\"0\"}"));
+        }
+        AtomicReference<String> failure = new AtomicReference<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread[] readers = new Thread[3];
+        for(int r = 0; r < readers.length; r++){
+            readers[r] = new Thread(() -> {
+                for(int i = 0; writing.get() && failure.get() == null; i++){
+                    URI href = PrerenderedEntitiesTester.href(i % hrefs);
+                    ByteBuffer buffer = this.store.get(href);
+                    if(buffer == null) failure.set(href + " was missing.");
+                }
+            });
+            readers[r].start();
+        }
+
+        //action.
+        for(int i = 1; i < 3000; i++){
+            this.store.put(PrerenderedEntitiesTester.href(i % hrefs), utf8("{\"title\":\"" + i + "\"}"));
+            this.store.put(PrerenderedEntitiesTester.href(hrefs + i), utf8("{}"));
+            if(i % 3 == 0) this.store.remove(PrerenderedEntitiesTester.href(hrefs + i - 1));
+        }
+        writing.set(false);
+        for(Thread reader : readers){
+            reader.join();
+        }
+
+        //assert.
+        Assert.assertNull(failure.get());
+        Assert.assertEquals("{\"title\":\"2999\"}", string(this.store.get(PrerenderedEntitiesTester.href(2999 % hrefs))));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.store.close();
+        this.store = null;
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)){
+            for(Path file : files){
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    private static byte[] utf8(String json){
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer){
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static String string(ByteBuffer buffer){
+        return new String(bytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static long countSegments(Path directory) throws IOException {
+        long count = 0;
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.segment")){
+            for(Path ignored : files){
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,278 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.EntityBase;
+import siren.FieldType;
+import siren.HttpMethod;
+import siren.Relation;
+import siren.factories.Interner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenReaderTester {
+
+    private SirenReader sirenReader;
+    private SirenWriter sirenWriter;
+
+    public SirenReaderTester(){}
+
+    @Before
+    public void setup(){
+        this.sirenReader = new SirenReader();
+        this.sirenWriter = new SirenWriter();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void read_nullJson_outcomeIs_IllegalArgumentException() throws IOException {
+
+        //action.
+        this.sirenReader.read((byte[])null);
+    }
+
+    @Test
+    public void read_writtenEntity_outcomeIs_sameEntityRead() throws IOException, URISyntaxException {
+
+        //arrange.
+        byte[] json = this.sirenWriter.writeAsBytes(SirenWriterTester.nestedEntity());
+
+        //action.
+        Entity entity = this.sirenReader.read(new ByteArrayInputStream(json));
+
+        //assert.
+        Assert.assertArrayEquals(json, this.sirenWriter.writeAsBytes(entity));
+        Assert.assertTrue(entity.getEntities().get(0) instanceof EmbeddedLinkSubEntity);
+        Assert.assertTrue(entity.getEntities().get(1) instanceof EmbeddedRepresentationSubEntity);
+    }
+
+    @Test
+    public void read_sirenDocument_outcomeIs_omittedMembersAndInputTypesAccepted() throws IOException {
+
+        //arrange.
+        String json =
+            "{" +
+                "\"class\":[\"order\"]," +
+                "\"properties\":{\"orderNumber\":42,\"status\":\"pending\"}," +
+                "\"entities\":[{\"class\":[\"items\"],\"rel\":[\"http://x.io/rels/order-items\"],\"href\":\"http://x.io/orders/42/items\"}]," +
+                "\"actions\":[{\"name\":\"add-item\",\"method\":\"post\",\"href\":\"http://x.io/orders/42/items\"," +
+                    "\"fields\":[{\"name\":\"quantity\",\"type\":\"number\"}]}]," +
+                "\"links\":[{\"rel\":\"self\",\"href\":\"http://x.io/orders/42\"}]," +
+                "\"unknown\":{\"ignored\":[1,2,3]}" +
+            "}";
+
+        //action.
+        Entity entity = this.sirenReader.read(json.getBytes(StandardCharsets.UTF_8));
+
+        //assert.
+        Assert.assertEquals(42, entity.getProperties().get("orderNumber"));
+        Action action = entity.getActions().get(0);
+        Assert.assertEquals(HttpMethod.POST, action.getMethod());
+        Assert.assertEquals(FieldType.NUMBER, action.getFields().get(0).getType());
+        Assert.assertEquals(Relation.SELF, entity.getLinks().get(0).getRel().get(0).toString());
+        EmbeddedLinkSubEntity items = (EmbeddedLinkSubEntity)entity.getEntities().get(0);
+        Assert.assertTrue(items.getRel().get(0).isExtension());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void read_rootIsNotObject_outcomeIs_JsonParseException() throws IOException {
+
+        //action.
+        this.sirenReader.read("[]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void read_linkWithoutHref_outcomeIs_JsonParseException() throws IOException {
+
+        //action.
+        this.sirenReader.read("{\"links\":[{\"rel\":[\"self\"]}]}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_hrefsRelativeToSelf_outcomeIs_hrefsResolved() throws IOException, URISyntaxException {
+
+        //arrange.
+        byte[] expected = this.sirenWriter.writeAsBytes(SirenWriterTester.nestedEntity());
+        byte[] json = new SirenWriter.Builder().relativeToSelf(true).build().writeAsBytes(SirenWriterTester.nestedEntity());
+        SirenReader sirenReader = new SirenReader.Builder().resolveAgainstSelf(true).build();
+
+        //action.
+        Entity entity = sirenReader.read(json);
+
+        //assert.
+        Assert.assertTrue(json.length < expected.length);
+        Assert.assertArrayEquals(expected, this.sirenWriter.writeAsBytes(entity));
+    }
+
+    @Test
+    public void read_hrefsRelativeToBaseUri_outcomeIs_hrefsResolved() throws IOException, URISyntaxException {
+
+        //arrange.
+        URI baseUri = new URI("http://x/");
+        byte[] expected = this.sirenWriter.writeAsBytes(SirenWriterTester.nestedEntity());
+        byte[] json = new SirenWriter.Builder().baseUri(baseUri).build().writeAsBytes(SirenWriterTester.nestedEntity());
+
+        //action.
+        Entity entity = new SirenReader.Builder().baseUri(baseUri).build().read(json);
+
+        //assert.
+        Assert.assertArrayEquals(expected, this.sirenWriter.writeAsBytes(entity));
+    }
+
+    @Test
+    public void read_selfLinkAfterSubEntities_outcomeIs_earlierHrefsResolved() throws IOException, URISyntaxException {
+
+        //arrange.
+        String json =
+            "{" +
+                "\"entities\":[{\"rel\":[\"item\"],\"href\":\"items/1\"}," +
+                    "{\"rel\":[\"item\"],\"links\":[{\"rel\":[\"self\"],\"href\":\"items/2\"}]}]," +
+                "\"actions\":[{\"name\":\"add-item\",\"href\":\"items\"}]," +
+                "\"links\":[{\"rel\":[\"next\"],\"href\":\"43\"},{\"rel\":[\"self\"],\"href\":\"http://x.io/orders/42\"}," +
+                    "{\"rel\":[\"up\"],\"href\":\"/orders\"}]" +
+            "}";
+        SirenReader sirenReader = new SirenReader.Builder().resolveAgainstSelf(true).build();
+
+        //action.
+        Entity entity = sirenReader.read(json.getBytes(StandardCharsets.UTF_8));
+
+        //assert.
+        Assert.assertEquals(new URI("http://x.io/orders/items/1"), ((EmbeddedLinkSubEntity)entity.getEntities().get(0)).getHref());
+        Entity second = (Entity)entity.getEntities().get(1);
+        Assert.assertEquals(new URI("http://x.io/orders/items/2"), second.getLinks().get(0).getHref());
+        Assert.assertEquals(new URI("http://x.io/orders/items"), entity.getActions().get(0).getHref());
+        Assert.assertEquals(new URI("http://x.io/orders/43"), entity.getLinks().get(0).getHref());
+        Assert.assertEquals(new URI("http://x.io/orders"), entity.getLinks().get(2).getHref());
+    }
+
+    @Test
+    public void read_relativeHrefsWithoutBase_outcomeIs_hrefsLeftRelative() throws IOException, URISyntaxException {
+
+        //action.
+        Entity entity = this.sirenReader.read("{\"links\":[{\"rel\":[\"next\"],\"href\":\"43\"}]}".getBytes(StandardCharsets.UTF_8));
+
+        //assert.
+        Assert.assertEquals(new URI("43"), entity.getLinks().get(0).getHref());
+    }
+
+    @Test
+    public void read_interner_outcomeIs_equalLinksAndActionsShared() throws IOException {
+
+        //arrange.
+        String item = "{\"rel\":[\"item\"],\"links\":[{\"rel\":[\"help\"],\"href\":\"http://x/help\"}],"
+            + "\"actions\":[{\"name\":\"delete-guest\",\"method\":\"DELETE\",\"href\":\"http://x/guests\"}]}";
+        byte[] json = ("{\"entities\":[" + item + "," + item + "]}").getBytes(StandardCharsets.UTF_8);
+        SirenReader sirenReader = new SirenReader.Builder().interner(new Interner()).build();
+
+        //action.
+        Entity entity = sirenReader.read(json);
+
+        //assert.
+        Entity first = (Entity)entity.getEntities().get(0);
+        Entity second = (Entity)entity.getEntities().get(1);
+        Assert.assertSame(first.getLinks().get(0), second.getLinks().get(0));
+        Assert.assertSame(first.getActions().get(0), second.getActions().get(0));
+    }
+
+    @Test
+    public void read_symbolTable_outcomeIs_classesAndRelationsSharedAcrossDocuments() throws IOException {
+
+        //arrange.
+        byte[] json = ("{\"class\":[\"guest\"],\"entities\":[{\"class\":[\"reservation\"],\"rel\":[\"item\"]}],"
+            + "\"links\":[{\"rel\":[\"self\",\"http://x/rels/guest\"],\"href\":\"http://x/guests/1\"}]}").getBytes(StandardCharsets.UTF_8);
+        SirenReader sirenReader = new SirenReader.Builder().symbolTable(new SymbolTable()).build();
+
+        //action.
+        Entity first = sirenReader.read(json);
+        Entity second = sirenReader.read(new ByteArrayInputStream(json));
+
+        //assert.
+        Assert.assertEquals(first, second);
+        Assert.assertSame(first.getKlass().get(0), second.getKlass().get(0));
+        Assert.assertSame(first.getLinks().get(0).getRel().get(0), second.getLinks().get(0).getRel().get(0));
+        Assert.assertSame(first.getLinks().get(0).getRel().get(1), second.getLinks().get(0).getRel().get(1));
+        EmbeddedRepresentationSubEntity firstItem = (EmbeddedRepresentationSubEntity)first.getEntities().get(0);
+        EmbeddedRepresentationSubEntity secondItem = (EmbeddedRepresentationSubEntity)second.getEntities().get(0);
+        Assert.assertSame(firstItem.getKlass().get(0), secondItem.getKlass().get(0));
+        Assert.assertSame(firstItem.getRel().get(0), secondItem.getRel().get(0));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void read_symbolTable_invalidRelation_outcomeIs_JsonParseException() throws IOException {
+
+        //arrange.
+        SirenReader sirenReader = new SirenReader.Builder().symbolTable(new SymbolTable()).build();
+
+        //action.
+        sirenReader.read("{\"links\":[{\"rel\":[\"not a uri\"],\"href\":\"http://x/\"}]}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_deeplyNestedEntity_outcomeIs_everyLevelRead() throws IOException, URISyntaxException {
+
+        //arrange.
+        int depth = 100000;
+        byte[] json = this.sirenWriter.writeAsBytes(SirenWriterTester.deepEntity(depth));
+
+        //action.
+        Entity entity = this.sirenReader.read(json);
+
+        //assert.
+        int levels = 0;
+        Entity level = entity;
+        while(level.getEntities() != null){
+            level = (Entity)level.getEntities().get(0);
+            levels++;
+        }
+        Assert.assertEquals(depth, levels);
+        Assert.assertEquals(new URI("http://x/nodes/" + depth), level.getLinks().get(0).getHref());
+        Assert.assertArrayEquals(json, this.sirenWriter.writeAsBytes(entity));
+    }
+
+    @Test
+    public void read_deeplyNestedRelativeHref_outcomeIs_hrefResolved() throws IOException, URISyntaxException {
+
+        //arrange.
+        int depth = 100000;
+        StringBuilder json = new StringBuilder("{\"entities\":[");
+        for(int level = 1; level < depth; level++){
+            json.append("{\"rel\":[\"item\"],\"entities\":[");
+        }
+        json.append("{\"rel\":[\"item\"],\"href\":\"nodes/").append(depth).append("\"}");
+        for(int level = 1; level < depth; level++){
+            json.append("]}");
+        }
+        json.append("],\"links\":[{\"rel\":[\"self\"],\"href\":\"http://x/\"}]}");
+        SirenReader sirenReader = new SirenReader.Builder().resolveAgainstSelf(true).build();
+
+        //action.
+        Entity entity = sirenReader.read(json.toString().getBytes(StandardCharsets.UTF_8));
+
+        //assert.
+        EntityBase level = entity;
+        while(level instanceof Entity){
+            level = ((Entity)level).getEntities().get(0);
+        }
+        Assert.assertEquals(new URI("http://x/nodes/" + depth), ((EmbeddedLinkSubEntity)level).getHref());
+    }
+
+    @After
+    public void tearDown(){
+        this.sirenReader = null;
+        this.sirenWriter = null;
+    }
+}
@@ -0,0 +1,177 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.Assert;
+import org.junit.Test;
+import siren.Entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenSequenceWriterTester {
+
+    private final SirenWriter sirenWriter = new SirenWriter();
+
+    public SirenSequenceWriterTester(){}
+
+    @Test
+    public void writeAll_ndjson_outcomeIs_readBackInOrder() throws IOException, InterruptedException {
+
+        //arrange.
+        Path file = Files.createTempFile("siren-sequence", ".ndjson");
+
+        //action.
+        long written;
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(channel, this.sirenWriter, SirenSequenceWriter.Format.NDJSON)){
+            written = sequenceWriter.writeAll(guests(300));
+        }
+
+        //assert.
+        try{
+            List<Entity> entities = new SirenBulkReader.Builder().parallelism(2).chunkSize(1024).ordered(true).build().readAll(file);
+            Assert.assertEquals(300, written);
+            Assert.assertEquals(300, entities.size());
+            Assert.assertEquals("Guest 299", entities.get(299).getProperties().get("firstName"));
+            Assert.assertEquals(300, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void writeAll_jsonArray_outcomeIs_arrayOfEntities() throws IOException, URISyntaxException {
+
+        //arrange.
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        try(SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(
+            Channels.newChannel(outputStream), this.sirenWriter, SirenSequenceWriter.Format.JSON_ARRAY)){
+            sequenceWriter.writeAll(guests(5).iterator());
+        }
+
+        //assert.
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode array = objectMapper.readTree(outputStream.toByteArray());
+        Assert.assertTrue(array.isArray());
+        Assert.assertEquals(5, array.size());
+        Assert.assertEquals(objectMapper.readTree(this.sirenWriter.writeAsBytes(PrerenderedEntitiesTester.guest(3))), array.get(3));
+    }
+
+    @Test
+    public void close_noEntities_outcomeIs_emptySequence() throws IOException {
+
+        //arrange.
+        ByteArrayOutputStream array = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        //action.
+        SirenSequenceWriter.open(Channels.newChannel(array), this.sirenWriter, SirenSequenceWriter.Format.JSON_ARRAY).close();
+        SirenSequenceWriter.open(Channels.newChannel(ndjson), this.sirenWriter, SirenSequenceWriter.Format.NDJSON).close();
+
+        //assert.
+        Assert.assertEquals("[]", new String(array.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(0, ndjson.size());
+    }
+
+    @Test
+    public void write_flushThresholdReached_outcomeIs_bytesWrittenToChannelBeforeClose() throws IOException, URISyntaxException {
+
+        //arrange.
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        List<Integer> writes = new ArrayList<>();
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) throws IOException {
+                writes.add(source.remaining());
+                return target.write(source);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {}
+        };
+
+        //action.
+        SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(channel, this.sirenWriter, SirenSequenceWriter.Format.NDJSON, 256);
+        for(int i = 0; i < 100; i++){
+            sequenceWriter.write(PrerenderedEntitiesTester.guest(i));
+        }
+        int writtenBeforeClose = outputStream.size();
+        sequenceWriter.close();
+
+        //assert.
+        Assert.assertTrue(writtenBeforeClose > 0);
+        for(int write : writes){
+            Assert.assertTrue(write <= 256);
+        }
+        Assert.assertEquals(100, sequenceWriter.count());
+        Assert.assertEquals(100, new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    public void write_ndjsonWithIndentingMapper_outcomeIs_entityPerLine() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter indentingWriter = new SirenWriter(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //action.
+        try(SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(
+            Channels.newChannel(outputStream), indentingWriter, SirenSequenceWriter.Format.NDJSON)){
+            sequenceWriter.write(PrerenderedEntitiesTester.guest(1)).write(PrerenderedEntitiesTester.guest(2));
+        }
+
+        //assert.
+        String[] lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(2, lines.length);
+        Assert.assertEquals("Guest 2", new SirenReader().read(lines[1].getBytes(StandardCharsets.UTF_8)).getProperties().get("firstName"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void write_closed_outcomeIs_IllegalStateException() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenSequenceWriter sequenceWriter = SirenSequenceWriter.open(
+            Channels.newChannel(new ByteArrayOutputStream()), this.sirenWriter, SirenSequenceWriter.Format.NDJSON);
+        sequenceWriter.close();
+
+        //action.
+        sequenceWriter.write(PrerenderedEntitiesTester.guest(1));
+    }
+
+    private static Stream<Entity> guests(int count){
+        return IntStream.range(0, count).mapToObj(id -> {
+            try{
+                return PrerenderedEntitiesTester.guest(id);
+            }catch(URISyntaxException e){
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
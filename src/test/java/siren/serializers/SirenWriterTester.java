@@ -0,0 +1,289 @@
+package siren.serializers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import siren.Action;
+import siren.EmbeddedLinkSubEntity;
+import siren.EmbeddedRepresentationSubEntity;
+import siren.Entity;
+import siren.Field;
+import siren.FieldType;
+import siren.HttpMethod;
+import siren.Link;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SirenWriterTester {
+
+    private ObjectMapper objectMapper;
+    private SirenWriter sirenWriter;
+
+    public SirenWriterTester(){}
+
+    @Before
+    public void setup(){
+        this.objectMapper = new ObjectMapper();
+        this.sirenWriter = new SirenWriter(this.objectMapper);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_nullObjectMapper_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SirenWriter(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void write_nullEntity_outcomeIs_IllegalArgumentException() throws IOException {
+
+        //action.
+        this.sirenWriter.writeAsBytes(null);
+    }
+
+    @Test
+    public void write_emptyEntity_outcomeIs_sameAsObjectMapper() throws IOException {
+
+        //arrange.
+        Entity entity = new Entity.Builder().build();
+
+        //action.
+        byte[] actual = this.sirenWriter.writeAsBytes(entity);
+
+        //assert.
+        Assert.assertEquals(
+            this.objectMapper.writeValueAsString(entity),
+            new String(actual, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    public void write_nestedEntity_outcomeIs_sameAsObjectMapper() throws IOException, URISyntaxException {
+
+        //arrange.
+        Entity entity = nestedEntity();
+
+        //action.
+        byte[] actual = this.sirenWriter.writeAsBytes(entity);
+
+        //assert.
+        Assert.assertEquals(
+            this.objectMapper.writeValueAsString(entity),
+            new String(actual, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    public void write_embeddedLinkSubEntity_outcomeIs_sameAsObjectMapper() throws IOException, URISyntaxException {
+
+        //arrange.
+        EmbeddedLinkSubEntity subEntity = new EmbeddedLinkSubEntity.Builder()
+            .klass("guest")
+            .rel("item")
+            .href(new URI("http://x/guests/2"))
+            .type("application/vnd.siren+json")
+            .build();
+
+        //action.
+        byte[] actual = this.sirenWriter.writeAsBytes(subEntity);
+
+        //assert.
+        Assert.assertEquals(
+            this.objectMapper.writeValueAsString(subEntity),
+            new String(actual, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    public void write_relativeToSelf_outcomeIs_hrefsRelativeToSelfLink() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter sirenWriter = new SirenWriter.Builder().relativeToSelf(true).build();
+
+        //action.
+        String json = new String(sirenWriter.writeAsBytes(nestedEntity()), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertTrue(json, json.contains("\"href\":\"http://x/guests/1\""));
+        Assert.assertTrue(json, json.contains("\"href\":\"2\""));
+        Assert.assertTrue(json, json.contains("\"href\":\"/reservations/7\""));
+    }
+
+    @Test
+    public void write_baseUri_outcomeIs_hrefsRelativeToBaseUri() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter sirenWriter = new SirenWriter.Builder().baseUri(new URI("http://x/")).build();
+
+        //action.
+        String json = new String(sirenWriter.writeAsBytes(nestedEntity()), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertFalse(json, json.contains("http://x/guests"));
+        Assert.assertTrue(json, json.contains("\"href\":\"guests/1\""));
+        Assert.assertTrue(json, json.contains("\"href\":\"reservations/7\""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void baseUri_relativeUri_outcomeIs_IllegalArgumentException() throws URISyntaxException {
+
+        //action.
+        new SirenWriter.Builder().baseUri(new URI("/guests"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxDepth_negative_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SirenWriter.Builder().maxDepth(-1);
+    }
+
+    @Test
+    public void write_maxDepth_outcomeIs_deeperRepresentationsWrittenAsLinks() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter sirenWriter = new SirenWriter.Builder().maxDepth(0).build();
+
+        //action.
+        String json = new String(sirenWriter.writeAsBytes(nestedEntity()), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertTrue(json, json.contains(
+            "{\"title\":null,\"rel\":[\"item\"],\"href\":\"http://x/reservations/7\",\"type\":null,\"class\":[\"reservation\"]}"
+        ));
+        Assert.assertFalse(json, json.contains("nights"));
+    }
+
+    @Test
+    public void write_maxDepth_noSelfLink_outcomeIs_representationWrittenInFull() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter sirenWriter = new SirenWriter.Builder().maxDepth(1).build();
+
+        //action.
+        byte[] actual = sirenWriter.writeAsBytes(nestedEntity());
+
+        //assert.
+        Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(nestedEntity()), actual);
+    }
+
+    @Test
+    public void write_maxBytesSpent_outcomeIs_representationsWrittenAsLinks() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter sirenWriter = new SirenWriter.Builder().maxBytes(0).build();
+
+        //action.
+        String json = new String(sirenWriter.writeAsBytes(nestedEntity()), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertTrue(json, json.contains("\"href\":\"http://x/reservations/7\",\"type\":null,\"class\":[\"reservation\"]}"));
+        Assert.assertFalse(json, json.contains("nights"));
+    }
+
+    @Test
+    public void write_maxBytesNotSpent_outcomeIs_sameAsUnbounded() throws IOException, URISyntaxException {
+
+        //arrange.
+        SirenWriter sirenWriter = new SirenWriter.Builder().maxBytes(1 << 16).build();
+
+        //action.
+        byte[] actual = sirenWriter.writeAsBytes(nestedEntity());
+
+        //assert.
+        Assert.assertArrayEquals(this.sirenWriter.writeAsBytes(nestedEntity()), actual);
+    }
+
+    @Test
+    public void write_deeplyNestedEntity_outcomeIs_everyLevelWritten() throws IOException, URISyntaxException {
+
+        //arrange.
+        int depth = 100000;
+        Entity entity = deepEntity(depth);
+
+        //action.
+        String json = new String(this.sirenWriter.writeAsBytes(entity), StandardCharsets.UTF_8);
+
+        //assert.
+        Assert.assertEquals(depth, json.split("\"rel\":\\[\"item\"\\]", -1).length - 1);
+        Assert.assertTrue(json.contains("\"href\":\"http://x/nodes/" + depth + "\""));
+        Assert.assertTrue(json.endsWith("\"class\":null}],\"class\":null}"));
+    }
+
+    @After
+    public void tearDown(){
+        this.sirenWriter = null;
+        this.objectMapper = null;
+    }
+
+    static Entity nestedEntity() throws URISyntaxException {
+        Field<String> firstName = new Field.Builder<String>()
+            .name("firstName")
+            .type(FieldType.TEXT)
+            .title("First Name")
+            .value("Jon")
+            .build();
+        Action edit = new Action.Builder()
+            .name("edit-guest")
+            .title("Edit Guest")
+            .method(HttpMethod.PUT)
+            .href(new URI("http://x/guests/1"))
+            .field(firstName)
+            .klass("guest")
+            .build();
+        Link self = new Link.Builder()
+            .rel("self")
+            .href(new URI("http://x/guests/1"))
+            .title("Jon")
+            .build();
+        EmbeddedLinkSubEntity spouse = new EmbeddedLinkSubEntity.Builder()
+            .rel("http://x/rels/spouse")
+            .href(new URI("http://x/guests/2"))
+            .build();
+        EmbeddedRepresentationSubEntity reservation = new EmbeddedRepresentationSubEntity.Builder()
+            .klass("reservation")
+            .rel("item")
+            .property("nights", 3)
+            .link(new Link.Builder().rel("self").href(new URI("http://x/reservations/7")).build())
+            .subEntity(
+                new EmbeddedRepresentationSubEntity.Builder()
+                    .rel("item")
+                    .title("Room")
+                    .property("number", "12b")
+                    .build()
+            )
+            .build();
+        return new Entity.Builder()
+            .klass("guest")
+            .title("Guest")
+            .property("firstName", "Jon")
+            .property("lastName", "Freer")
+            .action(edit)
+            .link(self)
+            .subEntities(spouse, reservation)
+            .build();
+    }
+
+    static Entity deepEntity(int depth) throws URISyntaxException {
+        EmbeddedRepresentationSubEntity subEntity = new EmbeddedRepresentationSubEntity.Builder()
+            .rel("item")
+            .link(new Link.Builder().rel("self").href(new URI("http://x/nodes/" + depth)).build())
+            .build();
+        for(int level = depth - 1; level > 0; level--){
+            subEntity = new EmbeddedRepresentationSubEntity.Builder()
+                .rel("item")
+                .subEntity(subEntity)
+                .build();
+        }
+        return new Entity.Builder().subEntity(subEntity).build();
+    }
+}
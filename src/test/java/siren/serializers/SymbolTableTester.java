@@ -0,0 +1,100 @@
+package siren.serializers;
+
+import org.junit.Assert;
+import org.junit.Test;
+import siren.Relation;
+
+import java.net.URISyntaxException;
+import java.util.Arrays;
+
+/**
+ * @author jonfreer
+ * @since 10/18/26
+ */
+public class SymbolTableTester {
+
+    public SymbolTableTester(){}
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_capacityZero_outcomeIs_IllegalArgumentException(){
+
+        //action.
+        new SymbolTable(0);
+    }
+
+    @Test
+    public void string_sameCharacters_outcomeIs_sameInstance(){
+
+        //arrange.
+        SymbolTable symbolTable = new SymbolTable();
+        char[] first = "[\"guest\"]".toCharArray();
+        char[] second = "guest".toCharArray();
+
+        //action.
+        String string = symbolTable.string(first, 2, 5);
+
+        //assert.
+        Assert.assertEquals("guest", string);
+        Assert.assertSame(string, symbolTable.string(second, 0, 5));
+        Assert.assertNotSame(string, symbolTable.string("guests".toCharArray(), 0, 6));
+    }
+
+    @Test
+    public void relation_sameCharacters_outcomeIs_sameInstance() throws URISyntaxException {
+
+        //arrange.
+        SymbolTable symbolTable = new SymbolTable();
+
+        //action.
+        Relation self = symbolTable.relation("self".toCharArray(), 0, 4);
+        Relation extension = symbolTable.relation("http://x/rels/guest".toCharArray(), 0, 19);
+
+        //assert.
+        Assert.assertEquals(new Relation("self"), self);
+        Assert.assertFalse(self.isExtension());
+        Assert.assertTrue(extension.isExtension());
+        Assert.assertSame(self, symbolTable.relation("self".toCharArray(), 0, 4));
+        Assert.assertSame(extension, symbolTable.relation("http://x/rels/guest".toCharArray(), 0, 19));
+        Assert.assertSame(self.toString(), symbolTable.string("self".toCharArray(), 0, 4));
+    }
+
+    @Test(expected = URISyntaxException.class)
+    public void relation_neitherRegisteredNorUri_outcomeIs_URISyntaxException() throws URISyntaxException {
+
+        //action.
+        new SymbolTable().relation("not a uri".toCharArray(), 0, 9);
+    }
+
+    @Test
+    public void string_moreTokensThanCapacity_outcomeIs_equalStrings(){
+
+        //arrange.
+        SymbolTable symbolTable = new SymbolTable(2);
+
+        //action.
+        //assert.
+        for(int round = 0; round < 3; round++){
+            for(int i = 0; i < 100; i++){
+                String token = "token-" + i;
+                Assert.assertEquals(token, symbolTable.string(token.toCharArray(), 0, token.length()));
+            }
+        }
+    }
+
+    @Test
+    public void string_longerThanMaximumLength_outcomeIs_notShared(){
+
+        //arrange.
+        SymbolTable symbolTable = new SymbolTable();
+        char[] chars = new char[SymbolTable.MAXIMUM_LENGTH + 1];
+        Arrays.fill(chars, 'a');
+
+        //action.
+        String first = symbolTable.string(chars, 0, chars.length);
+        String second = symbolTable.string(chars, 0, chars.length);
+
+        //assert.
+        Assert.assertEquals(first, second);
+        Assert.assertNotSame(first, second);
+    }
+}